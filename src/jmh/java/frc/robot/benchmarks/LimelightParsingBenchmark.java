@@ -0,0 +1,118 @@
+package frc.robot.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import frc.robot.helpers.LimelightHelper;
+import frc.robot.helpers.LimelightHelper.LimelightResults;
+import frc.robot.helpers.LimelightHelper.PoseEstimate;
+import frc.robot.helpers.LimelightResultsDecoder;
+
+/**
+ * The benchmark for the Limelight parsing done by
+ * {@code LimelightHelper.getBotPoseEstimate} and
+ * {@code LimelightHelper.getLatestResults}, and for the
+ * streaming {@link LimelightResultsDecoder}.
+ * <br></br>
+ * Parses recorded Limelight data directly, so that only the
+ * parsing is measured and not the NetworkTables read.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LimelightParsingBenchmark {
+    /**
+     * A Limelight JSON dump with two fiducial targets and one detector target.
+     */
+    private static final String JSON =
+        "{\"Results\":{"
+        + "\"pID\":0.0,\"tl\":18.2,\"cl\":11.4,\"ts\":1234567.8,\"ts_rio\":42.5,\"v\":1,"
+        + "\"botpose\":[-4.12,1.33,0.0,0.0,0.0,176.4],"
+        + "\"botpose_wpired\":[12.15,2.77,0.0,0.0,0.0,-3.6],"
+        + "\"botpose_wpiblue\":[4.15,5.43,0.0,0.0,0.0,176.4],"
+        + "\"botpose_tagcount\":2,\"botpose_span\":0.57,"
+        + "\"botpose_avgdist\":2.31,\"botpose_avgarea\":0.42,"
+        + "\"t6c_rs\":[0.23,0.0,0.43,0.0,15.0,0.0],"
+        + "\"Fiducial\":["
+        + "{\"fID\":7,\"fam\":\"36H11\","
+        + "\"t6c_ts\":[0.1,0.2,2.3,0.0,4.0,0.0],\"t6r_fs\":[4.15,5.43,0.0,0.0,0.0,176.4],"
+        + "\"t6r_ts\":[0.1,0.0,2.2,0.0,3.0,0.0],\"t6t_cs\":[-0.1,-0.2,2.3,0.0,-4.0,0.0],"
+        + "\"t6t_rs\":[2.5,0.1,1.2,0.0,-4.0,0.0],"
+        + "\"ta\":0.45,\"tx\":-3.2,\"txp\":301.5,\"ty\":5.1,\"typ\":180.2,\"ts\":0.0},"
+        + "{\"fID\":8,\"fam\":\"36H11\","
+        + "\"t6c_ts\":[0.6,0.2,2.4,0.0,5.0,0.0],\"t6r_fs\":[4.14,5.44,0.0,0.0,0.0,176.5],"
+        + "\"t6r_ts\":[0.6,0.0,2.3,0.0,4.0,0.0],\"t6t_cs\":[-0.6,-0.2,2.4,0.0,-5.0,0.0],"
+        + "\"t6t_rs\":[2.6,0.6,1.2,0.0,-5.0,0.0],"
+        + "\"ta\":0.39,\"tx\":8.7,\"txp\":402.1,\"ty\":5.3,\"typ\":178.9,\"ts\":0.0}],"
+        + "\"Detector\":["
+        + "{\"class\":\"note\",\"classID\":0,\"conf\":0.91,"
+        + "\"ta\":1.2,\"tx\":2.4,\"txp\":340.0,\"ty\":-12.1,\"typ\":290.3}],"
+        + "\"Retro\":[],\"Classifier\":[],\"Barcode\":[]}}";
+
+    /**
+     * A Limelight botpose array with two raw fiducials.
+     */
+    private static final double[] BOT_POSE = new double[] {
+        4.15, 5.43, 0.0, 0.0, 0.0, 176.4,
+        29.6, 2.0, 0.57, 2.31, 0.42,
+        7.0, -3.2, 5.1, 0.45, 2.35, 2.60, 0.08,
+        8.0, 8.7, 5.3, 0.39, 2.48, 2.71, 0.11};
+
+    /**
+     * The time that the botpose entry last changed, in microseconds.
+     */
+    private static final long BOT_POSE_LAST_CHANGE = 42_500_000L;
+
+    /**
+     * The streaming decoder for the Limelight JSON dump.
+     */
+    private final LimelightResultsDecoder resultsDecoder = new LimelightResultsDecoder();
+
+    /**
+     * Sets up the benchmark state by parsing once, so that
+     * the JSON object mapper is created outside of the
+     * measured iterations.
+     */
+    @Setup
+    public void setup() {
+        LimelightHelper.parseLatestResults(JSON);
+    }
+
+    /**
+     * Benchmarks parsing a Limelight JSON dump.
+     *
+     * @return The parsed Limelight results.
+     */
+    @Benchmark
+    public LimelightResults parseLatestResults() {
+        return LimelightHelper.parseLatestResults(JSON);
+    }
+
+    /**
+     * Benchmarks decoding a Limelight JSON dump with
+     * the streaming decoder.
+     *
+     * @return Whether or not the dump was decoded.
+     */
+    @Benchmark
+    public boolean decodeLatestResults() {
+        return resultsDecoder.decode(JSON);
+    }
+
+    /**
+     * Benchmarks parsing a Limelight botpose array.
+     *
+     * @return The parsed pose estimate.
+     */
+    @Benchmark
+    public PoseEstimate parseBotPoseEstimate() {
+        return LimelightHelper.parseBotPoseEstimate(BOT_POSE, BOT_POSE_LAST_CHANGE);
+    }
+}
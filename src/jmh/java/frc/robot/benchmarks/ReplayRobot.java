@@ -0,0 +1,87 @@
+package frc.robot.benchmarks;
+
+import edu.wpi.first.hal.HAL;
+import frc.robot.Constants.IOConstants;
+import frc.robot.io.IOInputs;
+import frc.robot.io.ReplaySource;
+import frc.robot.io.SwerveModuleIO.SwerveModuleIOInputs;
+import frc.robot.subsystems.Swerve;
+import frc.robot.subsystems.SwerveModule;
+
+/**
+ * The class for the replay robot used by the benchmarks.
+ * <br></br>
+ * Builds the real subsystems with their replay IO layers, so that the
+ * benchmarks run the production code against inputs that are put into
+ * the {@link ReplaySource} instead of the robot hardware or the physics
+ * simulation, which would add its own work and allocations to every op.
+ */
+final class ReplayRobot {
+    /**
+     * The constructor for the {@link ReplayRobot} class.
+     */
+    private ReplayRobot() {}
+
+    /**
+     * Initializes the simulated HAL and selects the replay IO mode.
+     * This must be called before any subsystem is created, as the IO
+     * mode is read once when the IO constants are first used.
+     */
+    static void start() {
+        System.setProperty(IOConstants.REPLAY_LOG_PROPERTY, "");
+
+        HAL.initialize(500, 0);
+    }
+
+    /**
+     * Gets the swerve drive subsystem, built with the replay IO layers.
+     *
+     * @return The swerve drive subsystem.
+     */
+    static Swerve getSwerve() {
+        start();
+
+        return Swerve.getInstance();
+    }
+
+    /**
+     * Puts the given inputs into the {@link ReplaySource}
+     * under the given name.
+     *
+     * @param name The name that the replay IO layer reads the inputs from.
+     * @param inputs The inputs.
+     */
+    static void putInputs(String name, IOInputs inputs) {
+        double[] values = new double[inputs.getLength()];
+
+        inputs.toArray(values);
+
+        ReplaySource.getInstance().put(name, values);
+    }
+
+    /**
+     * Puts the given sensor readings into the {@link ReplaySource}
+     * for the given swerve module and updates its inputs.
+     *
+     * @param swerveModule The swerve module.
+     * @param driveMotorLinearPosition The drive motor linear position, in m.
+     * @param driveMotorLinearVelocity The drive motor linear velocity, in m/s.
+     * @param steerEncoderAngle The steer encoder angle, in radians.
+     */
+    static void putSwerveModuleInputs(
+            SwerveModule swerveModule,
+            double driveMotorLinearPosition,
+            double driveMotorLinearVelocity,
+            double steerEncoderAngle) {
+        SwerveModuleIOInputs inputs = new SwerveModuleIOInputs();
+
+        inputs.driveMotorLinearPosition = driveMotorLinearPosition;
+        inputs.driveMotorLinearVelocity = driveMotorLinearVelocity;
+        inputs.steerEncoderAngle = steerEncoderAngle;
+        inputs.steerEncoderRawAngle = steerEncoderAngle;
+
+        putInputs(swerveModule.getName(), inputs);
+
+        swerveModule.updateInputs();
+    }
+}
@@ -0,0 +1,187 @@
+package frc.robot.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.sun.management.ThreadMXBean;
+
+import edu.wpi.first.math.kinematics.ChassisSpeeds;
+import frc.robot.Constants.SwerveConstants;
+import frc.robot.io.ReplaySource;
+import frc.robot.io.SwerveModuleIO.SwerveModuleIOInputs;
+import frc.robot.subsystems.Swerve;
+import frc.robot.subsystems.SwerveModule;
+
+/**
+ * The benchmark for the allocations of the swerve drive subsystem.
+ * <br></br>
+ * Runs the real swerve drive subsystem with its replay IO layers. The
+ * swerve module sensor readings change every loop, cycling through
+ * inputs that are put into the replay source up front, so that every
+ * angle, position, and velocity is new each loop, the same as on the
+ * robot. Run it with the gc profiler to see the allocations per op.
+ * <br></br>
+ * Each loop reads the swerve module inputs, the chassis speeds, and
+ * the swerve module speeds, angles, and positions, and then drives
+ * both field relative and robot relative. The loop must not allocate
+ * at all, and this is checked at the end of the trial, failing the run
+ * if it does. The swerve drive position estimator is not part of the
+ * loop, as it allocates its poses inside WPILib.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SwerveAllocationBenchmark {
+    /**
+     * The number of loops that the allocation check runs.
+     */
+    private static final int CHECK_LOOPS = 100_000;
+
+    /**
+     * The number of loops that the sensor readings
+     * and the joystick inputs cycle through.
+     */
+    private static final int INPUT_PERIOD = 1024;
+
+    /**
+     * The swerve drive subsystem.
+     */
+    private Swerve swerve;
+
+    /**
+     * The swerve modules of the swerve drive subsystem.
+     */
+    private SwerveModule[] swerveModules;
+
+    /**
+     * The flattened swerve module inputs of each loop, by loop
+     * and then by swerve module.
+     */
+    private double[][][] inputValues;
+
+    /**
+     * The loop counter used to vary the inputs.
+     */
+    private int loop;
+
+    /**
+     * Sets up the benchmark state.
+     */
+    @Setup
+    public void setup() {
+        swerve = ReplayRobot.getSwerve();
+        swerveModules = swerve.getSwerveModules();
+
+        SwerveModuleIOInputs inputs = new SwerveModuleIOInputs();
+
+        inputValues = new double[INPUT_PERIOD][swerveModules.length][inputs.getLength()];
+
+        for (int i = 0; i < INPUT_PERIOD; i++) {
+            for (int j = 0; j < swerveModules.length; j++) {
+                inputs.driveMotorLinearPosition = 0.02 * i + 1.5 * j;
+                inputs.driveMotorLinearVelocity = 2.0 * Math.sin(i * 0.01 + j);
+                inputs.steerEncoderAngle = Math.PI + Math.PI * Math.cos(i * 0.013 + j);
+                inputs.steerEncoderRawAngle = inputs.steerEncoderAngle;
+
+                inputs.toArray(inputValues[i][j]);
+            }
+        }
+
+        loop = 0;
+    }
+
+    /**
+     * Gets the next joystick input on the interval [-1, 1].
+     *
+     * @param phase The phase offset of the input.
+     *
+     * @return The next joystick input.
+     */
+    private double getInput(int phase) {
+        return Math.sin(2.0 * Math.PI * ((loop + phase) % INPUT_PERIOD) / INPUT_PERIOD);
+    }
+
+    /**
+     * Runs one loop, which updates the swerve module inputs with new
+     * sensor readings, reads the swerve drive state the way the
+     * subsystems and commands do every loop, and then drives.
+     *
+     * @param blackhole The blackhole that consumes the results.
+     */
+    private void runLoop(Blackhole blackhole) {
+        loop++;
+
+        ReplaySource replaySource = ReplaySource.getInstance();
+
+        for (int i = 0; i < swerveModules.length; i++) {
+            replaySource.put(swerveModules[i].getName(), inputValues[loop % INPUT_PERIOD][i]);
+
+            swerveModules[i].updateInputs();
+        }
+
+        ChassisSpeeds chassisSpeeds = swerve.getChassisSpeeds();
+
+        blackhole.consume(chassisSpeeds.vxMetersPerSecond);
+        blackhole.consume(chassisSpeeds.vyMetersPerSecond);
+        blackhole.consume(chassisSpeeds.omegaRadiansPerSecond);
+
+        for (SwerveModule swerveModule : swerveModules) {
+            blackhole.consume(swerveModule.getDriveMotorLinearVelocity());
+            blackhole.consume(swerveModule.getDriveMotorLinearPosition());
+            blackhole.consume(swerveModule.getSteerEncoderAngle());
+        }
+
+        swerve.drive(getInput(0), getInput(256), getInput(512));
+
+        swerve.driveRobotRelative(
+            getInput(128) * SwerveConstants.MAX_VELOCITY,
+            getInput(384) * SwerveConstants.MAX_VELOCITY,
+            getInput(640) * SwerveConstants.MAX_ROTATIONAL_VELOCITY);
+    }
+
+    /**
+     * Benchmarks one loop.
+     *
+     * @param blackhole The blackhole that consumes the results.
+     */
+    @Benchmark
+    public void stateAndDriveLoop(Blackhole blackhole) {
+        runLoop(blackhole);
+    }
+
+    /**
+     * Checks that the loop does not allocate once it has been
+     * compiled, which it has been by the end of the trial.
+     *
+     * @param blackhole The blackhole that consumes the results.
+     */
+    @TearDown(Level.Trial)
+    public void checkLoopAllocations(Blackhole blackhole) {
+        ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        long startBytes = threadBean.getCurrentThreadAllocatedBytes();
+
+        for (int i = 0; i < CHECK_LOOPS; i++) {
+            runLoop(blackhole);
+        }
+
+        long allocatedBytes = threadBean.getCurrentThreadAllocatedBytes() - startBytes;
+
+        if (allocatedBytes > 0) {
+            throw new IllegalStateException(
+                "The swerve state and drive loop allocated " + allocatedBytes
+                    + " bytes over " + CHECK_LOOPS + " loops");
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package frc.robot.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import frc.robot.Constants.SwerveConstants;
+import frc.robot.subsystems.Swerve;
+import frc.robot.subsystems.SwerveModule;
+
+/**
+ * The benchmark for {@link Swerve#drive(double, double, double)}.
+ * <br></br>
+ * Runs the real swerve drive subsystem with its replay IO layers, so
+ * that each op is the kinematics, the swerve module optimization, and
+ * the swerve module feedforward and PID control that run every loop
+ * while driving, without the motor outputs, which need the robot
+ * hardware.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SwerveDriveBenchmark {
+    /**
+     * The number of loops that the joystick inputs sweep through.
+     */
+    private static final int INPUT_PERIOD = 1024;
+
+    /**
+     * The swerve drive subsystem.
+     */
+    private Swerve swerve;
+
+    /**
+     * The loop counter used to vary the joystick inputs.
+     */
+    private int loop;
+
+    /**
+     * Sets up the benchmark state.
+     */
+    @Setup
+    public void setup() {
+        swerve = ReplayRobot.getSwerve();
+
+        SwerveModule[] swerveModules = swerve.getSwerveModules();
+
+        for (int i = 0; i < swerveModules.length; i++) {
+            ReplayRobot.putSwerveModuleInputs(swerveModules[i], 0.0, 1.0, 0.1 + 1.6 * i);
+        }
+
+        loop = 0;
+    }
+
+    /**
+     * Gets the next joystick input on the interval [-1, 1].
+     *
+     * @param phase The phase offset of the input.
+     *
+     * @return The next joystick input.
+     */
+    private double getInput(int phase) {
+        return Math.sin(2.0 * Math.PI * ((loop + phase) % INPUT_PERIOD) / INPUT_PERIOD);
+    }
+
+    /**
+     * Benchmarks one field relative drive loop.
+     */
+    @Benchmark
+    public void drive() {
+        loop++;
+
+        swerve.drive(getInput(0), getInput(256), getInput(512));
+    }
+
+    /**
+     * Benchmarks one robot relative drive loop, which is
+     * how the commands that control the robot heading drive.
+     */
+    @Benchmark
+    public void driveRobotRelative() {
+        loop++;
+
+        swerve.driveRobotRelative(
+            getInput(0) * SwerveConstants.MAX_VELOCITY,
+            getInput(256) * SwerveConstants.MAX_VELOCITY,
+            getInput(512) * SwerveConstants.MAX_ROTATIONAL_VELOCITY);
+    }
+}
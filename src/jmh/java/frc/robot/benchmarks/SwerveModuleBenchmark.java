@@ -0,0 +1,85 @@
+package frc.robot.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import frc.robot.io.ReplaySource;
+import frc.robot.io.SwerveModuleIO.SwerveModuleIOInputs;
+import frc.robot.subsystems.SwerveModule;
+
+/**
+ * The benchmark for {@link SwerveModule#setState(double, double)}.
+ * <br></br>
+ * Runs the front left swerve module of the real swerve drive subsystem
+ * with its replay IO layer. The sensor readings cycle through inputs
+ * that are put into the replay source up front, so that the controllers
+ * see a changing error without the benchmark allocating.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SwerveModuleBenchmark {
+    /**
+     * The number of loops that the sensor readings cycle through.
+     */
+    private static final int INPUT_PERIOD = 1024;
+
+    /**
+     * The swerve module.
+     */
+    private SwerveModule swerveModule;
+
+    /**
+     * The flattened swerve module inputs of each loop.
+     */
+    private double[][] inputValues;
+
+    /**
+     * The loop counter used to vary the target state.
+     */
+    private int loop;
+
+    /**
+     * Sets up the benchmark state.
+     */
+    @Setup
+    public void setup() {
+        swerveModule = ReplayRobot.getSwerve().getSwerveModule(0);
+
+        SwerveModuleIOInputs inputs = new SwerveModuleIOInputs();
+
+        inputValues = new double[INPUT_PERIOD][inputs.getLength()];
+
+        for (int i = 0; i < INPUT_PERIOD; i++) {
+            inputs.driveMotorLinearVelocity = 2.0 * Math.sin(i * 0.01 - 0.1);
+            inputs.steerEncoderAngle = Math.PI + Math.PI * Math.cos(i * 0.013 - 0.1);
+            inputs.steerEncoderRawAngle = inputs.steerEncoderAngle;
+
+            inputs.toArray(inputValues[i]);
+        }
+
+        loop = 0;
+    }
+
+    /**
+     * Benchmarks one loop of updating the swerve module
+     * inputs and setting the swerve module state.
+     */
+    @Benchmark
+    public void setState() {
+        loop++;
+
+        ReplaySource.getInstance().put(swerveModule.getName(), inputValues[loop % INPUT_PERIOD]);
+
+        swerveModule.updateInputs();
+
+        swerveModule.setState(2.0 * Math.sin(loop * 0.01), Math.PI * Math.cos(loop * 0.013));
+    }
+}
@@ -0,0 +1,115 @@
+package frc.robot.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.pathplanner.lib.path.GoalEndState;
+import com.pathplanner.lib.path.PathConstraints;
+import com.pathplanner.lib.path.PathPlannerPath;
+import com.pathplanner.lib.path.PathPlannerTrajectory;
+
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Rotation2d;
+import edu.wpi.first.math.kinematics.ChassisSpeeds;
+import edu.wpi.first.wpilibj.simulation.SimHooks;
+import frc.robot.Constants.SwerveConstants;
+import frc.robot.commands.TrajectoryFollower;
+
+/**
+ * The benchmark for the trajectory work done by
+ * {@code AutoCommands.followPathAuto}.
+ * <br></br>
+ * Measures generating the trajectory from a path, which is done
+ * when the command is initialized, and one loop of the real
+ * {@link TrajectoryFollower}, which is done every loop while the
+ * command is executing. The follower drives the real swerve drive
+ * subsystem with its replay IO layers, and the robot clock is paused
+ * and stepped by one loop period each op, so that the follower moves
+ * along the trajectory at the same rate as on the robot.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TrajectorySamplingBenchmark {
+    /**
+     * The loop period, in seconds.
+     */
+    private static final double LOOP_PERIOD = 0.02;
+
+    /**
+     * The path that is followed.
+     */
+    private PathPlannerPath path;
+
+    /**
+     * The trajectory generated from the path.
+     */
+    private PathPlannerTrajectory trajectory;
+
+    /**
+     * The trajectory follower, which follows the trajectory.
+     */
+    private TrajectoryFollower trajectoryFollower;
+
+    /**
+     * Sets up the benchmark state.
+     */
+    @Setup
+    public void setup() {
+        path = new PathPlannerPath(
+            PathPlannerPath.bezierFromPoses(List.of(
+                new Pose2d(1.4, 5.55, Rotation2d.fromDegrees(0.0)),
+                new Pose2d(2.9, 7.0, Rotation2d.fromDegrees(0.0)),
+                new Pose2d(8.3, 7.45, Rotation2d.fromDegrees(0.0)))),
+            new PathConstraints(
+                3.0,
+                3.0,
+                SwerveConstants.MAX_ROTATIONAL_VELOCITY,
+                SwerveConstants.MAX_ROTATIONAL_ACCELERATION),
+            new GoalEndState(0.0, Rotation2d.fromDegrees(0.0)));
+
+        trajectory = path.getTrajectory(new ChassisSpeeds(), new Rotation2d());
+
+        ReplayRobot.start();
+
+        SimHooks.pauseTiming();
+
+        trajectoryFollower = new TrajectoryFollower(() -> trajectory);
+        trajectoryFollower.initialize();
+    }
+
+    /**
+     * Benchmarks generating the trajectory from the path.
+     *
+     * @return The generated trajectory.
+     */
+    @Benchmark
+    public PathPlannerTrajectory generateTrajectory() {
+        return path.getTrajectory(new ChassisSpeeds(), new Rotation2d());
+    }
+
+    /**
+     * Benchmarks one loop of the trajectory follower, which samples
+     * the trajectory, calculates the holonomic drive control, and
+     * drives the swerve drive subsystem. The follower starts over
+     * once it reaches the end of the trajectory.
+     */
+    @Benchmark
+    public void followLoop() {
+        SimHooks.stepTiming(LOOP_PERIOD);
+
+        if (trajectoryFollower.isFinished()) {
+            trajectoryFollower.initialize();
+        }
+
+        trajectoryFollower.execute();
+    }
+}
@@ -4,6 +4,8 @@ import org.photonvision.PhotonPoseEstimator.PoseStrategy;
 
 import edu.wpi.first.apriltag.AprilTagFieldLayout;
 import edu.wpi.first.apriltag.AprilTagFields;
+import edu.wpi.first.math.Matrix;
+import edu.wpi.first.math.VecBuilder;
 import edu.wpi.first.math.geometry.Pose2d;
 import edu.wpi.first.math.geometry.Rotation2d;
 import edu.wpi.first.math.geometry.Rotation3d;
@@ -11,14 +13,19 @@ import edu.wpi.first.math.geometry.Transform3d;
 import edu.wpi.first.math.geometry.Translation2d;
 import edu.wpi.first.math.geometry.Translation3d;
 import edu.wpi.first.math.kinematics.SwerveDriveKinematics;
+import edu.wpi.first.math.numbers.N1;
+import edu.wpi.first.math.numbers.N3;
 import edu.wpi.first.math.util.Units;
+import edu.wpi.first.wpilibj.RobotBase;
 
 public final class Constants {
     public static final class SwerveModuleConstants {
         public static final double WHEEL_DIAMETER = Units.inchesToMeters(4.0); // m
+        public static final double WHEEL_RADIUS = WHEEL_DIAMETER / 2.0; // m
         public static final double WHEEL_CIRCUMFERENCE = Math.PI * WHEEL_DIAMETER; // m
 
         public static final double DRIVE_GEAR_RATIO = 6.75 / 1.0;
+        public static final double STEER_GEAR_RATIO = 150.0 / 7.0;
 
         public static final double DRIVE_MOTOR_REVOLUTIONS_TO_METERS = 
             WHEEL_CIRCUMFERENCE / DRIVE_GEAR_RATIO; // m / rot
@@ -28,8 +35,9 @@ public final class Constants {
 
         public static final double DRIVE_MOTOR_VELOCITY_DEADBAND = 0.2; // m/s
 
-        public static final double STEER_MOTOR_MAX_VELOCITY = 30.0 * Math.PI; // rad/s
-        public static final double STEER_MOTOR_MAX_ACCELERATION = 60.0 * Math.PI; // rad/s^2
+        // Simulation constants.
+        public static final double SIM_DRIVE_MOTOR_KA = 0.3; // V / m/s^2
+        public static final double SIM_STEER_MOMENT_OF_INERTIA = 0.004; // kg * m^2
     }
 
     public static final class SwerveConstants {
@@ -37,13 +45,15 @@ public final class Constants {
 
         public static final double WHEEL_BASE = Units.inchesToMeters(20.5); // m
 
+        public static final Translation2d[] MODULE_LOCATIONS = 
+            new Translation2d[]{
+                new Translation2d(WHEEL_BASE / 2, TRACK_WIDTH / 2), 
+                new Translation2d(WHEEL_BASE / 2, -TRACK_WIDTH / 2), 
+                new Translation2d(-WHEEL_BASE / 2, TRACK_WIDTH / 2),
+                new Translation2d(-WHEEL_BASE / 2, -TRACK_WIDTH / 2)};
+
         public static final SwerveDriveKinematics SWERVE_DRIVE_KINEMATICS = 
-            new SwerveDriveKinematics(
-                new Translation2d[]{
-                    new Translation2d(WHEEL_BASE / 2, TRACK_WIDTH / 2), 
-                    new Translation2d(WHEEL_BASE / 2, -TRACK_WIDTH / 2), 
-                    new Translation2d(-WHEEL_BASE / 2, TRACK_WIDTH / 2),
-                    new Translation2d(-WHEEL_BASE / 2, -TRACK_WIDTH / 2)});
+            new SwerveDriveKinematics(MODULE_LOCATIONS);
         
         public static final int FRONT_LEFT_DRIVE_MOTOR_ID = 1;
         public static final int FRONT_RIGHT_DRIVE_MOTOR_ID = 3;
@@ -148,6 +158,11 @@ public final class Constants {
         public static final double ACQUIRE_NOTE_TIMEOUT = 5.0; // s
 
         public static final double NOTE_DIMENSIONS_DEADBAND = 0.0; // px^2
+
+        public static final double ODOMETRY_FREQUENCY = 250.0; // Hz
+        public static final int ODOMETRY_BUFFER_SIZE = 32; // samples
+
+        public static final double POSE_HISTORY_DURATION = 1.5; // s
     }
 
     public static final class IntakeConstants {
@@ -162,11 +177,53 @@ public final class Constants {
         public static final int RIGHT_SHOOTER_MOTOR_ID = 15;
 
         public static final int SHOOTER_LIMIT_SWITCH_ID = 0;
+        public static final double SHOOTER_LIMIT_SWITCH_DEBOUNCE_TIME = 0.01; // s
 
         public static final double LIFT_MOTOR_VOLTAGE = 9.0; // V
         public static final double SHOOTER_MOTOR_VOLTAGE = 12.0; // V
 
-        public static final double SHOOTER_VELOCITY = 1500.0; // RPM
+        public static final double SHOOTER_SPEAKER_VELOCITY = 4500.0; // RPM
+        public static final double SHOOTER_VELOCITY_TOLERANCE = 150.0; // RPM
+
+        // The velocity control gains below are untuned placeholders, not SysId results.
+        // Until they are characterized, the shooter runs at full voltage and is ready
+        // once the slower shooter motor is above the shooter ready velocity.
+        public static final boolean IS_SHOOTER_VELOCITY_CONTROL_TUNED = false;
+        public static final double SHOOTER_READY_VELOCITY = 1500.0; // RPM
+
+        public static final double SHOOTER_KS = 0.1; // V
+        public static final double SHOOTER_KV = 0.0021; // V / RPM
+        public static final double SHOOTER_KA = 0.0004; // V / (RPM / s)
+
+        public static final double SHOOTER_KP = 0.0005; // V / RPM
+        public static final double SHOOTER_KI = 0.0;
+        public static final double SHOOTER_KD = 0.0;
+
+        public static final double SHOOTER_FEED_LEAD_TIME = 0.1; // s
+        public static final double SHOOTER_SPIN_UP_TIMEOUT = 2.0; // s
+        public static final double SHOOTER_FEED_TIME = 0.4; // s
+
+        public static final double SHOOTER_VELOCITY_DIP = 300.0; // RPM
+        public static final double SHOOTER_VELOCITY_DIP_HOLD_TIME = 0.15; // s
+        public static final double SHOOTER_NOTE_EXIT_TIME = 0.1; // s
+
+        public static final double SIM_NOTE_FEED_TIME = 0.1; // s
+
+        // Shot map constants.
+        public static final String SHOT_MAP_FILE_NAME = "shotmap.csv";
+
+        public static final Translation2d BLUE_SPEAKER_POSITION = new Translation2d(0.0, 5.55); // m
+
+        public static final double AIM_HEADING_TOLERANCE = 3.0 * (Math.PI / 180.0); // rad
+
+        // The most time to aim for before feeding the note anyway.
+        public static final double AIM_TIMEOUT = 1.5; // s
+
+        // Moving shot constants.
+        public static final double NOTE_AVERAGE_VELOCITY = 12.0; // m/s
+
+        public static final int MOVING_SHOT_MAX_ITERATIONS = 5;
+        public static final double MOVING_SHOT_CONVERGENCE_TOLERANCE = 0.01; // m
     }
 
     public static final class ClimbConstants {
@@ -175,14 +232,18 @@ public final class Constants {
 
         public static final int LEFT_CLIMB_LIMIT_SWITCH_ID = 2;
         public static final int RIGHT_CLIMB_LIMIT_SWITCH_ID = 1;
+        public static final double CLIMB_LIMIT_SWITCH_DEBOUNCE_TIME = 0.01; // s
 
         public static final double CLIMB_MOTOR_VOLTAGE = 11.0; // V
+
+        public static final double SIM_TRAVEL_TIME = 2.0; // s
     }
 
     public static final class AmpConstants {
         public static final int AMP_MOTOR_ID = 18;
 
         public static final int AMP_LIMIT_SWITCH_ID = 3;
+        public static final double AMP_LIMIT_SWITCH_DEBOUNCE_TIME = 0.0; // s
 
         public static final double AMP_MOTOR_VOLTAGE = 4.0; // V
 
@@ -197,6 +258,8 @@ public final class Constants {
         }
 
         public static final double AMP_POSITION_DELAY = 0.1; // s
+
+        public static final double SIM_TRAVEL_TIME = 0.5; // s
     }
 
     public static final class ApriltagConstants {
@@ -256,6 +319,38 @@ public final class Constants {
 
         public static final AprilTagFieldLayout FIELD_LAYOUT = 
             AprilTagFields.k2024Crescendo.loadAprilTagLayoutField();
+
+        public static final double VISION_THREAD_FREQUENCY = 50.0; // Hz
+
+        public static final Matrix<N3, N1> SINGLE_TAG_STD_DEVS = 
+            VecBuilder.fill(4.0, 4.0, 8.0); // m, m, rad
+        public static final Matrix<N3, N1> MULTI_TAG_STD_DEVS = 
+            VecBuilder.fill(0.5, 0.5, 1.0); // m, m, rad
+
+        public static final double DISTANCE_STD_DEV_SCALE = 1.0 / 30.0; // 1 / m^2
+        public static final double AMBIGUITY_STD_DEV_SCALE = 10.0;
+
+        public static final double MAX_SINGLE_TAG_DISTANCE = 4.0; // m
+        public static final double MAX_SINGLE_TAG_AMBIGUITY = 0.2;
+
+        public static enum VISION_REJECTION_REASON {
+            LOW_QUALITY,
+            OUT_OF_FIELD,
+            IMPLAUSIBLE_HEIGHT,
+            IMPLAUSIBLE_TILT,
+            TOO_OLD,
+            ODOMETRY_DISAGREEMENT
+        }
+
+        public static final double FIELD_BOUNDS_MARGIN = 0.5; // m
+        public static final double MAX_POSE_HEIGHT = 0.5; // m
+        public static final double MAX_POSE_TILT = 10.0 * (Math.PI / 180.0); // rad
+
+        public static final double ODOMETRY_DISAGREEMENT_THRESHOLD = 1.0; // m
+        public static final double ODOMETRY_DISAGREEMENT_SPEED_SCALE = 0.5; // m / m/s
+
+        // The number of disagreeing measurements in a row after which the estimate is assumed wrong.
+        public static final int MAX_CONSECUTIVE_DISAGREEMENTS = 10;
     }
 
     public static final class LimelightConstants {
@@ -264,6 +359,30 @@ public final class Constants {
         public static final double LIMELIGHT_ANGLE = 15.0 * (Math.PI / 180.0); // rad
         public static final double LIMELIGHT_HEIGHT = 0.43; // m
         public static final double LIMELIGHT_OFFSET_FROM_CENTER = 0.23; // m
+
+        public static final int FRAME_QUEUE_DEPTH = 20; // frames
+        public static final int MAX_DETECTOR_TARGETS = 16; // targets
+    }
+
+    public static final class NoteMapConstants {
+        public static final int MAX_TRACKS = 8;
+
+        public static final double MIN_DETECTION_CONFIDENCE = 0.5;
+
+        public static final double MERGE_DISTANCE = 0.5; // m
+        public static final double POSITION_SMOOTHING = 0.3;
+
+        public static final double INITIAL_CONFIDENCE = 0.4;
+        public static final double CONFIDENCE_GAIN = 0.2;
+        public static final double MAX_CONFIDENCE = 1.0;
+        public static final double CONFIDENCE_DECAY_RATE = 0.25; // 1/s
+        public static final double MIN_CONFIDENCE = 0.1;
+
+        public static final double REACHABLE_CONFIDENCE = 0.5;
+        public static final double MAX_REACHABLE_DISTANCE = 4.0; // m
+
+        // The distance from the robot that an intaken note is dropped from.
+        public static final double INTAKEN_NOTE_DISTANCE = 1.0; // m
     }
 
     public static final class AutoConstants {
@@ -319,6 +438,12 @@ public final class Constants {
 
         // Pathplanner commands.
         public static final String INTAKE_NOTE_COMMAND = "Intake Note Command";
+
+        public static final double INTAKE_SETTLE_TIMEOUT = 1.0; // s
+
+        // Trajectory cache constants.
+        public static final String PATHS_DIRECTORY = "pathplanner/paths";
+        public static final String PATH_FILE_EXTENSION = ".path";
         
         public static final Pose2d SUBWOOFER_CENTER_POSE =
             new Pose2d(1.32, 5.52, new Rotation2d());
@@ -393,4 +518,56 @@ public final class Constants {
         public static final int BUTTON_11 = 11;
         public static final int BUTTON_12 = 12;
     }
+
+    public static final class DigitalInputConstants {
+        public static final int MAX_INPUTS = 10;
+
+        public static final double SAMPLE_FREQUENCY = 500.0; // Hz
+    }
+
+    public static final class LoopTimerConstants {
+        public static final String TABLE_NAME = "Loop Timing";
+
+        public static final int WINDOW_SIZE = 250; // samples
+
+        public static final double PUBLISH_PERIOD = 0.5; // s
+    }
+
+    public static final class DashboardConstants {
+        public static final String TABLE_NAME = "SmartDashboard";
+
+        // The minimum time between publishes of each dashboard value.
+        public static final double LIMIT_SWITCH_PUBLISH_PERIOD = 0.1; // s
+        public static final double CAMERA_CONNECTED_PUBLISH_PERIOD = 0.5; // s
+        public static final double FIELD_POSE_PUBLISH_PERIOD = 0.1; // s
+    }
+
+    public static final class IOConstants {
+        public static enum IO_MODE {
+            REAL,
+            SIM,
+            REPLAY
+        }
+
+        public static final String REPLAY_LOG_PROPERTY = "replayLog";
+
+        // The log entries that the inputs and loop timestamps are recorded to.
+        public static final String INPUTS_LOG_PREFIX = "/Inputs/";
+        public static final String OUTPUTS_LOG_PREFIX = "/Outputs/";
+        public static final String LOOP_TIMESTAMP_LOG_ENTRY = "/LoopTimestamp";
+        public static final String DRIVER_STATION_INPUTS_NAME = "DriverStation";
+
+        // The suffix added to the name of a replayed log for the replay output log.
+        public static final String REPLAY_OUTPUT_LOG_SUFFIX = "_replayed";
+
+        // The number of joystick axes and POVs recorded for each joystick port.
+        public static final int MAX_JOYSTICK_AXES = 12;
+        public static final int MAX_JOYSTICK_POVS = 12;
+
+        public static final IO_MODE MODE = RobotBase.isReal()
+            ? IO_MODE.REAL
+            : System.getProperty(REPLAY_LOG_PROPERTY) != null
+                ? IO_MODE.REPLAY
+                : IO_MODE.SIM;
+    }
 }
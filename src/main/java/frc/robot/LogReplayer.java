@@ -0,0 +1,228 @@
+package frc.robot;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import edu.wpi.first.hal.AllianceStationID;
+import edu.wpi.first.util.datalog.DataLogReader;
+import edu.wpi.first.util.datalog.DataLogRecord;
+import edu.wpi.first.util.datalog.DataLogRecord.StartRecordData;
+import edu.wpi.first.wpilibj.DataLogManager;
+import edu.wpi.first.wpilibj.DriverStation;
+import edu.wpi.first.wpilibj.Timer;
+import edu.wpi.first.wpilibj.simulation.DriverStationSim;
+import edu.wpi.first.wpilibj.simulation.SimHooks;
+import frc.robot.Constants.IOConstants;
+import frc.robot.io.DriverStationInputs;
+import frc.robot.io.ReplaySource;
+
+/**
+ * The class for the log replayer.
+ * <br></br>
+ * Replays a log recorded by the {@link frc.robot.io.InputRecorder}
+ * through the robot program. The robot loop is not run by the timed
+ * robot notifier, but directly by the log replayer, once for each
+ * recorded loop and as fast as possible. Before each loop, the robot
+ * clock is stepped to the recorded loop timestamp, the recorded driver
+ * station inputs are fed into the simulated driver station, and the
+ * recorded inputs of every IO layer are put into the {@link ReplaySource},
+ * where the replay IO layers read them from. Since the replay IO layers
+ * never touch the hardware, the replay is deterministic, and the inputs
+ * and outputs of the replayed program are recorded to a new log next
+ * to the replayed log.
+ */
+final class LogReplayer {
+    /**
+     * The robot program to replay the log through.
+     */
+    private final Robot robot;
+
+    /**
+     * The path of the log to replay.
+     */
+    private final String logPath;
+
+    /**
+     * The replayed driver station inputs.
+     */
+    private final DriverStationInputs driverStationInputs = new DriverStationInputs();
+
+    /**
+     * The constructor for the {@link LogReplayer} class.
+     *
+     * @param robot The robot program to replay the log through.
+     * @param logPath The path of the log to replay.
+     */
+    LogReplayer(Robot robot, String logPath) {
+        this.robot = robot;
+        this.logPath = logPath;
+    }
+
+    /**
+     * Replays the log through the robot program. This initializes
+     * the robot program and then runs one robot loop for each
+     * loop recorded in the log.
+     */
+    void run() {
+        DataLogReader reader;
+
+        try {
+            reader = new DataLogReader(logPath);
+        } catch (IOException exception) {
+            DriverStation.reportError(
+                "Could not open the replay log " + logPath + ": " + exception.getMessage(),
+                false);
+
+            return;
+        }
+
+        if (!reader.isValid()) {
+            DriverStation.reportError("The replay log " + logPath + " is not a valid log", false);
+
+            return;
+        }
+
+        /*
+         * Record the replayed program to a new log next to the
+         * replayed log, which must be started before the robot
+         * program is initialized so that it is not started with
+         * the default log location instead.
+         */
+        File logFile = new File(logPath).getAbsoluteFile();
+        String logName = logFile.getName();
+
+        if (logName.endsWith(".wpilog")) {
+            logName = logName.substring(0, logName.length() - ".wpilog".length());
+        }
+
+        DataLogManager.start(
+            logFile.getParent(),
+            logName + IOConstants.REPLAY_OUTPUT_LOG_SUFFIX + ".wpilog");
+
+        /*
+         * Pause the robot clock so that it only moves
+         * when it is stepped to a recorded loop timestamp.
+         */
+        SimHooks.pauseTiming();
+
+        robot.robotInit();
+
+        Map<Integer, String> entryNames = new HashMap<>();
+
+        double loopTimestamp = Double.NaN;
+        int loopCount = 0;
+
+        for (DataLogRecord record : reader) {
+            if (record.isStart()) {
+                StartRecordData startData = record.getStartData();
+
+                entryNames.put(startData.entry, startData.name);
+
+                continue;
+            }
+
+            if (record.isControl()) {
+                continue;
+            }
+
+            String entryName = entryNames.get(record.getEntry());
+
+            if (entryName == null) {
+                continue;
+            }
+
+            if (entryName.equals(IOConstants.LOOP_TIMESTAMP_LOG_ENTRY)) {
+                /*
+                 * The loop timestamp is recorded at the start of
+                 * each loop, so every input of the previous loop
+                 * has been read once the next loop timestamp is.
+                 */
+                if (!Double.isNaN(loopTimestamp)) {
+                    runLoop(loopTimestamp);
+                    loopCount++;
+                }
+
+                loopTimestamp = record.getDouble();
+            } else if (entryName.startsWith(IOConstants.INPUTS_LOG_PREFIX)) {
+                ReplaySource.getInstance().put(
+                    entryName.substring(IOConstants.INPUTS_LOG_PREFIX.length()),
+                    record.getDoubleArray());
+            }
+        }
+
+        if (!Double.isNaN(loopTimestamp)) {
+            runLoop(loopTimestamp);
+            loopCount++;
+        }
+
+        DataLogManager.log("Replayed " + loopCount + " loops from " + logPath);
+
+        DataLogManager.getLog().flush();
+    }
+
+    /**
+     * Runs one robot loop with the inputs that have been put into
+     * the {@link ReplaySource} at the given loop timestamp, and then
+     * clears them, so that an input that is missing from the next
+     * recorded loop is not replayed from this loop.
+     *
+     * @param loopTimestamp The recorded loop timestamp, in seconds.
+     */
+    private void runLoop(double loopTimestamp) {
+        double timeStep = loopTimestamp - Timer.getFPGATimestamp();
+
+        if (timeStep > 0.0) {
+            SimHooks.stepTiming(timeStep);
+        }
+
+        if (ReplaySource.getInstance().read(
+                IOConstants.DRIVER_STATION_INPUTS_NAME,
+                driverStationInputs)) {
+            applyDriverStationInputs();
+        }
+
+        robot.runLoop();
+
+        ReplaySource.getInstance().clear();
+    }
+
+    /**
+     * Feeds the replayed driver station inputs into
+     * the simulated driver station.
+     */
+    private void applyDriverStationInputs() {
+        DriverStationSim.setEnabled(driverStationInputs.isEnabled);
+        DriverStationSim.setAutonomous(driverStationInputs.isAutonomous);
+        DriverStationSim.setTest(driverStationInputs.isTest);
+        DriverStationSim.setEStop(driverStationInputs.isEStopped);
+        DriverStationSim.setFmsAttached(driverStationInputs.isFMSAttached);
+        DriverStationSim.setDsAttached(driverStationInputs.isDSAttached);
+        DriverStationSim.setMatchTime(driverStationInputs.matchTime);
+        DriverStationSim.setAllianceStationId(
+            AllianceStationID.values()[driverStationInputs.allianceStation]);
+
+        for (int port = 0; port < DriverStation.kJoystickPorts; port++) {
+            DriverStationSim.setJoystickAxisCount(port, driverStationInputs.axisCounts[port]);
+
+            for (int axis = 0; axis < driverStationInputs.axisCounts[port]; axis++) {
+                DriverStationSim.setJoystickAxis(
+                    port, axis, driverStationInputs.axes[port][axis]);
+            }
+
+            DriverStationSim.setJoystickButtonCount(
+                port, driverStationInputs.buttonCounts[port]);
+            DriverStationSim.setJoystickButtons(port, driverStationInputs.buttons[port]);
+
+            DriverStationSim.setJoystickPOVCount(port, driverStationInputs.povCounts[port]);
+
+            for (int pov = 0; pov < driverStationInputs.povCounts[port]; pov++) {
+                DriverStationSim.setJoystickPOV(
+                    port, pov, driverStationInputs.povs[port][pov]);
+            }
+        }
+
+        DriverStationSim.notifyNewData();
+    }
+}
@@ -4,6 +4,8 @@
 
 package frc.robot;
 
+import edu.wpi.first.wpilibj.DataLogManager;
+import edu.wpi.first.wpilibj.RobotBase;
 import edu.wpi.first.wpilibj.TimedRobot;
 import edu.wpi.first.wpilibj.smartdashboard.Field2d;
 import edu.wpi.first.wpilibj.smartdashboard.SendableChooser;
@@ -16,8 +18,19 @@ import edu.wpi.first.wpilibj2.command.sysid.SysIdRoutine.Config;
 import edu.wpi.first.wpilibj2.command.sysid.SysIdRoutine.Mechanism;
 import frc.robot.subsystems.*;
 import frc.robot.Constants.AutoConstants;
+import frc.robot.Constants.DashboardConstants;
+import frc.robot.Constants.IOConstants;
+import frc.robot.Constants.IOConstants.IO_MODE;
 import frc.robot.commands.AutoCommands;
 import frc.robot.commands.ShooterCommands;
+import frc.robot.helpers.DashboardPublisher;
+import frc.robot.helpers.DigitalInputService;
+import frc.robot.helpers.LimelightClient;
+import frc.robot.helpers.LoopTimer;
+import frc.robot.helpers.ShotMap;
+import frc.robot.helpers.TrajectoryCache;
+import frc.robot.io.InputRecorder;
+import frc.robot.io.SimulationStepper;
 
 /**
  * The VM is configured to automatically run this class, and to call the functions corresponding to
@@ -32,6 +45,14 @@ public class Robot extends TimedRobot {
 
   private final Field2d field = new Field2d();
 
+  private final DashboardPublisher.FieldObjectEntry robotPoseEntry = 
+    DashboardPublisher.getInstance().createFieldObjectEntry(
+      field.getRobotObject(), 
+      DashboardConstants.FIELD_POSE_PUBLISH_PERIOD);
+
+  private final LoopTimer.Channel robotPeriodicChannel = 
+    LoopTimer.getInstance().getChannel("Robot Periodic");
+
   public static final SysIdRoutine sysIDDriveRoutine = new SysIdRoutine(
     new Config(), 
     new Mechanism(
@@ -42,23 +63,61 @@ public class Robot extends TimedRobot {
     )
   );
 
+  /**
+   * Starts the robot program. When a log is being replayed, this replays the log through the
+   * robot program as fast as possible instead of running the robot loop on the robot clock.
+   */
+  @Override
+  public void startCompetition() {
+    if (IOConstants.MODE != IO_MODE.REPLAY) {
+      super.startCompetition();
+
+      return;
+    }
+
+    new LogReplayer(this, System.getProperty(IOConstants.REPLAY_LOG_PROPERTY)).run();
+
+    // The replay has finished, so the robot program is expected to exit.
+    RobotBase.suppressExitWarning(true);
+  }
+
+  /**
+   * Runs one iteration of the robot loop. This is how the log replayer runs the robot loop, once
+   * for each loop recorded in the log.
+   */
+  void runLoop() {
+    loopFunc();
+  }
+
   /**
    * This function is run when the robot is first started up and should be used for any
    * initialization code.
    */
   @Override
   public void robotInit() {
+    /*
+     * Record the inputs of every loop so that the log can be
+     * replayed. In replay, the log replayer has already started
+     * the data log manager with the replay output log.
+     */
+    DataLogManager.start();
+
+    InputRecorder.getInstance().start(DataLogManager.getLog());
+
     for (SwerveModule swerveModule : Swerve.getInstance().getSwerveModules()) {
-      swerveModule.getSteerPIDController().reset(
-        swerveModule.getSteerEncoderAngle());
+      swerveModule.getSteerPIDController().reset();
     }
     
     Swerve.getInstance().resetGyro();
 
     RobotContainer.registerSubsystems();
 
+    TrajectoryCache.getInstance().preload();
+
+    ShotMap.getInstance().load();
+
     RobotContainer.registerButtons();
-    
+
     autoChooser.setDefaultOption(
       AutoConstants.DO_NOTHING_AUTO_KEY, 
       new InstantCommand());
@@ -173,7 +232,7 @@ public class Robot extends TimedRobot {
     
     // SmartDashboard.putNumber("Angle Setpoint", 0.0);
 
-    // ProfiledPIDController steerPIDController =
+    // PIDController steerPIDController =
     //   swerveModule.getSteerPIDController();
 
     // SmartDashboard.putNumber("kP", steerPIDController.getP());
@@ -190,9 +249,23 @@ public class Robot extends TimedRobot {
    */
   @Override
   public void robotPeriodic() {
+    robotPeriodicChannel.start();
+
+    InputRecorder.getInstance().startLoop();
+
+    DigitalInputService.getInstance().update();
+
+    LimelightClient.getInstance().update();
+
     CommandScheduler.getInstance().run();
 
-    field.setRobotPose(Swerve.getInstance().getRobotPose());
+    robotPoseEntry.set(Swerve.getInstance().getRobotPose());
+
+    DashboardPublisher.getInstance().update();
+
+    robotPeriodicChannel.stop();
+
+    LoopTimer.getInstance().publish();
 
     // Auto PID test code.
 
@@ -313,7 +386,7 @@ public class Robot extends TimedRobot {
     //   SwerveModule swerveModule = Swerve.getInstance().getSwerveModule(
     //     (int) SmartDashboard.getNumber("Swerve Module ID", 0.0));
 
-    //   ProfiledPIDController steerPIDController =
+    //   PIDController steerPIDController =
     //     swerveModule.getSteerPIDController();
 
     //   steerPIDController.setP(
@@ -363,5 +436,8 @@ public class Robot extends TimedRobot {
 
   /** This function is called periodically whilst in simulation. */
   @Override
-  public void simulationPeriodic() {}
+  public void simulationPeriodic() {
+    /* Step the simulated IO layers once per loop, after the subsystems have set their voltages. */
+    SimulationStepper.getInstance().step();
+  }
 }
@@ -322,6 +322,42 @@ public final class RobotContainer {
         runDriveToPointOfInterestButton.onFalse(
             SwerveCommands.getStopSwerveCommand());
         
+        /*
+         * Create the run shoot on the move button on the X button
+         * of the driver controller.
+         */
+        JoystickButton runShootOnTheMoveButton = 
+            new JoystickButton(
+                driverController, 
+                ControllerConstants.BUTTON_X);
+        
+        /*
+         * While the run shoot on the move button is pressed,
+         * run the shoot on the move command, which lets the
+         * driver keep driving with the left stick.
+         */
+        runShootOnTheMoveButton.whileTrue(
+            ShooterCommands.getShootOnTheMoveCommand(
+                () -> { 
+                    return Math.abs(driverController.getLeftY()) 
+                            >= ControllerConstants.ANALOG_INPUT_DEADBAND
+                        ? -driverController.getLeftY()
+                        : 0.0;
+                },
+                () -> {
+                    return Math.abs(driverController.getLeftX()) 
+                            >= ControllerConstants.ANALOG_INPUT_DEADBAND
+                        ? -driverController.getLeftX()
+                        : 0.0;
+                }));
+
+        /*
+         * When the run shoot on the move button is released,
+         * run the stop shoot note command.
+         */
+        runShootOnTheMoveButton.onFalse(
+            ShooterCommands.getStopShootNoteCommand());
+        
         /*
          * Create the run lock wheels button on the B button
          * of the manipulator controller.
@@ -378,7 +414,14 @@ public final class RobotContainer {
             LeftClimb.getInstance(),
             RightClimb.getInstance(),
             Amp.getInstance(),
-            Apriltag.getInstance());
+            Apriltag.getInstance(),
+            NoteMap.getInstance());
+
+        /*
+         * Register the telemetry subsystem last, so that it records
+         * the values from after every other subsystem has run.
+         */
+        commandScheduler.registerSubsystem(Telemetry.getInstance());
 
         // Register the intake not command with the path planner commands.
         NamedCommands.registerCommand(
@@ -0,0 +1,157 @@
+package frc.robot.commands;
+
+import edu.wpi.first.math.MathUtil;
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Translation2d;
+import edu.wpi.first.wpilibj.Timer;
+import frc.robot.Constants.ShooterConstants;
+import frc.robot.helpers.ShotMap;
+import frc.robot.subsystems.Shooter;
+import frc.robot.subsystems.Swerve;
+
+/**
+ * The command for aiming at the speaker and shooting a note from
+ * where the robot currently is.
+ * <br></br>
+ * Rotates the robot so that the shooter faces the speaker with the
+ * swerve drive theta controller, while spinning the shooter up to the
+ * shooter velocity from the shot map for the distance to the speaker.
+ * Once the robot is aimed and the shooter is predicted to be ready,
+ * the lift feeds the note until it has been shot, or for at most the
+ * feed time from the shot map. If the aim timeout passes first, then
+ * the note is still fed if the shooter is ready, as the shot is only
+ * off by the heading, and if not, then the command ends without
+ * feeding, so that the note is never fed into shooter motors that
+ * are not up to speed.
+ */
+public final class AimAndShoot extends TimedCommand {
+    /**
+     * The time that the command started aiming, in seconds.
+     */
+    private double aimStartTime = 0.0;
+
+    /**
+     * Whether or not the aim timeout passed
+     * with the shooter not ready to feed.
+     */
+    private boolean isAimTimedOut = false;
+
+    /**
+     * The time that the lift started feeding the note, in
+     * seconds, or NaN if the lift has not started feeding.
+     */
+    private double feedStartTime = Double.NaN;
+
+    /**
+     * The most time to run the lift for to feed the note, in seconds.
+     */
+    private double feedTime = 0.0;
+
+    /**
+     * The constructor for the {@link AimAndShoot} class.
+     */
+    public AimAndShoot() {
+        addRequirements(Swerve.getInstance(), Shooter.getInstance());
+    }
+
+    @Override
+    public void initialize() {
+        feedStartTime = Double.NaN;
+        isAimTimedOut = false;
+        aimStartTime = Timer.getFPGATimestamp();
+
+        // Reset the swerve drive theta controller to the current robot heading.
+        Swerve.getInstance().getHolonomicDriveController()
+            .getThetaController()
+            .reset(Swerve.getInstance().getRobotPose().getRotation().getRadians());
+    }
+
+    @Override
+    protected void timedExecute() {
+        Pose2d robotPose = Swerve.getInstance().getRobotPose();
+
+        Translation2d speakerPosition = ShotMap.getSpeakerPosition();
+
+        /*
+         * Get the heading that points the shooter at the speaker,
+         * which is the heading from the speaker to the robot since
+         * the shooter is on the back of the robot.
+         */
+        double desiredHeading = Math.atan2(
+            robotPose.getY() - speakerPosition.getY(),
+            robotPose.getX() - speakerPosition.getX());
+
+        double robotHeading = robotPose.getRotation().getRadians();
+
+        // Set the swerve drive subsystem to rotate towards the speaker.
+        Swerve.getInstance().driveRobotRelative(
+            0.0,
+            0.0,
+            Swerve.getInstance().getHolonomicDriveController()
+                .getThetaController()
+                .calculate(robotHeading, desiredHeading));
+
+        // Once the lift has started feeding, keep the shot as it is.
+        if (!Double.isNaN(feedStartTime)) {
+            return;
+        }
+
+        double distance = robotPose.getTranslation().getDistance(speakerPosition);
+
+        Shooter.getInstance().setShooterVelocity(
+            ShotMap.getInstance().getShooterVelocity(distance));
+
+        boolean isShooterReady = Shooter.getInstance().isShooterReadyToFeed();
+
+        boolean isAimTimeoutPassed = 
+            Timer.getFPGATimestamp() - aimStartTime >= ShooterConstants.AIM_TIMEOUT;
+
+        /*
+         * If the aim timeout has passed and the shooter is still
+         * not predicted to be ready, then give up on the shot
+         * instead of feeding the note into the shooter.
+         */
+        if (isAimTimeoutPassed && !isShooterReady) {
+            isAimTimedOut = true;
+
+            return;
+        }
+
+        /*
+         * If the shooter is predicted to be ready by the time the
+         * lift has fed the note into the shooter, and the robot is
+         * aimed at the speaker or the aim timeout has passed, then
+         * start feeding the note.
+         */
+        if (isShooterReady
+                && (isAimTimeoutPassed
+                    || Math.abs(MathUtil.angleModulus(desiredHeading - robotHeading))
+                        <= ShooterConstants.AIM_HEADING_TOLERANCE)) {
+            feedTime = ShotMap.getInstance().getFeedTime(distance);
+            feedStartTime = Timer.getFPGATimestamp();
+
+            Shooter.getInstance().feedNote();
+        }
+    }
+
+    @Override
+    public void end(boolean interrupted) {
+        Swerve.getInstance().stop();
+
+        Shooter.getInstance().stopShooter();
+        Shooter.getInstance().stopLift();
+    }
+
+    @Override
+    public boolean isFinished() {
+        /*
+         * Finish once the note has been shot, or once the feed
+         * time has passed if it is never seen leaving, or once the
+         * aim timeout has passed without the shooter being ready.
+         */
+        return isAimTimedOut
+            || !Double.isNaN(feedStartTime)
+                && (Shooter.getInstance().isNoteShot()
+                    || Timer.getFPGATimestamp() - feedStartTime >= feedTime);
+    }
+}
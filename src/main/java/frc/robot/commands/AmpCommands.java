@@ -20,9 +20,11 @@ public final class AmpCommands {
      * @return The run amp forwards command.
      */
     public static Command getRunAmpForwardsCommand() {
-        return new InstantCommand(
-            () -> Amp.getInstance().runAmpForwards(),
-            Amp.getInstance());
+        return TimedCommand.timed(
+            "RunAmpForwards",
+            new InstantCommand(
+                () -> Amp.getInstance().runAmpForwards(),
+                Amp.getInstance()));
     }
 
     /**
@@ -32,9 +34,11 @@ public final class AmpCommands {
      * @return The run amp backwards command.
      */
     public static Command getRunAmpBackwardsCommand() {
-        return new InstantCommand(
-            () -> Amp.getInstance().runAmpBackwards(),
-            Amp.getInstance());
+        return TimedCommand.timed(
+            "RunAmpBackwards",
+            new InstantCommand(
+                () -> Amp.getInstance().runAmpBackwards(),
+                Amp.getInstance()));
     }
 
     /**
@@ -44,9 +48,11 @@ public final class AmpCommands {
      * @return The stop amp command.
      */
     public static Command getStopAmpCommand() {
-        return new InstantCommand(
-            () -> Amp.getInstance().stopAmp(),
-            Amp.getInstance());
+        return TimedCommand.timed(
+            "StopAmp",
+            new InstantCommand(
+                () -> Amp.getInstance().stopAmp(),
+                Amp.getInstance()));
     }
 
     /**
@@ -59,16 +65,18 @@ public final class AmpCommands {
      * @return The amp receive command.
      */
     public static Command getAmpReceiveCommand() {
-        return new FunctionalCommand(
-            () -> Amp.getInstance().setAmpMovementDirection(
-                    AMP_MOVEMENT_DIRECTION.TOWARDS_RECEIVE_POSITION),
-            () -> Amp.getInstance().runAmpBackwards(), 
-            (isFinished) -> Amp.getInstance().stopAmp(), 
-            () -> Amp.getInstance().isAmpLimitSwitchAtPosition(
-                    AMP_POSITION.RECEIVE_POSITION)
-                && Amp.getInstance().isAmpLimitSwitchAtMagnet(), 
-            Amp.getInstance())
-                .andThen(new WaitCommand(AmpConstants.AMP_POSITION_DELAY));
+        return TimedCommand.timed(
+            "AmpReceive",
+            new FunctionalCommand(
+                () -> Amp.getInstance().setAmpMovementDirection(
+                        AMP_MOVEMENT_DIRECTION.TOWARDS_RECEIVE_POSITION),
+                () -> Amp.getInstance().runAmpBackwards(), 
+                (isFinished) -> Amp.getInstance().stopAmp(), 
+                () -> Amp.getInstance().isAmpLimitSwitchAtPosition(
+                        AMP_POSITION.RECEIVE_POSITION)
+                    && Amp.getInstance().isAmpLimitSwitchAtMagnet(), 
+                Amp.getInstance())
+                    .andThen(new WaitCommand(AmpConstants.AMP_POSITION_DELAY)));
     }
 
     /**
@@ -81,15 +89,17 @@ public final class AmpCommands {
      * @return The amp drop command.
      */
     public static Command getAmpDropCommand() {
-        return new FunctionalCommand(
-            () -> Amp.getInstance().setAmpMovementDirection(
-                AMP_MOVEMENT_DIRECTION.TOWARDS_DROP_POSITION), 
-            () -> Amp.getInstance().runAmpForwards(), 
-            (isFinished) -> Amp.getInstance().stopAmp(), 
-            () -> Amp.getInstance().isAmpLimitSwitchAtPosition(
-                    AMP_POSITION.DROP_POSITION)
-                && Amp.getInstance().isAmpLimitSwitchAtMagnet(), 
-            Amp.getInstance())
-                .andThen(new WaitCommand(AmpConstants.AMP_POSITION_DELAY));
+        return TimedCommand.timed(
+            "AmpDrop",
+            new FunctionalCommand(
+                () -> Amp.getInstance().setAmpMovementDirection(
+                    AMP_MOVEMENT_DIRECTION.TOWARDS_DROP_POSITION), 
+                () -> Amp.getInstance().runAmpForwards(), 
+                (isFinished) -> Amp.getInstance().stopAmp(), 
+                () -> Amp.getInstance().isAmpLimitSwitchAtPosition(
+                        AMP_POSITION.DROP_POSITION)
+                    && Amp.getInstance().isAmpLimitSwitchAtMagnet(), 
+                Amp.getInstance())
+                    .andThen(new WaitCommand(AmpConstants.AMP_POSITION_DELAY)));
     }
 }
\ No newline at end of file
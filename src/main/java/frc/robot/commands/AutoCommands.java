@@ -1,30 +1,26 @@
 package frc.robot.commands;
 
 import java.util.Arrays;
-import java.util.List;
 import java.util.Optional;
 
 import com.pathplanner.lib.path.GoalEndState;
 import com.pathplanner.lib.path.PathConstraints;
 import com.pathplanner.lib.path.PathPlannerPath;
 import com.pathplanner.lib.path.PathPlannerTrajectory;
-import com.pathplanner.lib.path.PathPlannerTrajectory.State;
 
-import edu.wpi.first.math.Pair;
 import edu.wpi.first.math.geometry.Pose2d;
 import edu.wpi.first.math.geometry.Rotation2d;
 import edu.wpi.first.math.geometry.Translation2d;
-import edu.wpi.first.math.kinematics.ChassisSpeeds;
-import edu.wpi.first.math.kinematics.SwerveModuleState;
 import edu.wpi.first.wpilibj.DriverStation;
-import edu.wpi.first.wpilibj.Timer;
 import edu.wpi.first.wpilibj.DriverStation.Alliance;
 import edu.wpi.first.wpilibj2.command.Command;
-import edu.wpi.first.wpilibj2.command.FunctionalCommand;
+import edu.wpi.first.wpilibj2.command.ConditionalCommand;
 import edu.wpi.first.wpilibj2.command.InstantCommand;
 import edu.wpi.first.wpilibj2.command.SequentialCommandGroup;
 import frc.robot.Constants.AutoConstants;
-import frc.robot.Constants.SwerveConstants;
+import frc.robot.helpers.ShotMap;
+import frc.robot.helpers.TrajectoryCache;
+import frc.robot.subsystems.NoteMap;
 import frc.robot.subsystems.Shooter;
 import frc.robot.subsystems.Swerve;
 
@@ -32,108 +28,6 @@ import frc.robot.subsystems.Swerve;
  * The class for the auto commands.
  */
 public final class AutoCommands {
-    /**
-     * The current autonomous path planner trajectory.
-     */
-    private static PathPlannerTrajectory trajectory = null;
-
-    /**
-     * The current autonomous path planner event commands.
-     */
-    private static List<Pair<Double, Command>> eventCommands = null;
-
-    /**
-     * The current autonomous time.
-     */
-    private static double currTime = 0.0;
-
-    /**
-     * The current autonomous end time.
-     */
-    private static double endTime = 0.0;
-
-    /**
-     * Sets the current autonomous path planner trajectory 
-     * to the given path planner trajectory.
-     * 
-     * @param trajectory The path planner trajectory
-     * to set the current autonomous path planner
-     * trajectory to.
-     */
-    public static void setTrajectory(PathPlannerTrajectory trajectory) {
-        AutoCommands.trajectory = trajectory;
-    }
-
-    /**
-     * Sets the current autonomous event commands
-     * to the given event commands.
-     * 
-     * @param eventCommands The event commands
-     * to set the current autonomous event
-     * commands to.
-     */
-    public static void setEventCommands(List<Pair<Double, Command>> eventCommands) {
-        AutoCommands.eventCommands = eventCommands;
-    }
-
-    /**
-     * Sets the current autonomous time to the
-     * given time.
-     * 
-     * @param currTime The time to set the current
-     * autonomous time to.
-     */
-    public static void setCurrTime(double currTime) {
-        AutoCommands.currTime = currTime;
-    }
-
-    /**
-     * Sets the current autonomous end time to
-     * the given time.
-     * 
-     * @param endTime The time to set the current
-     * autonomous end time to.
-     */
-    public static void setEndTime(double endTime) {
-        AutoCommands.endTime = endTime;
-    }
-
-    /**
-     * Gets the current autonomous path planner trajectory.
-     * 
-     * @return The current autonomous path planner trajectory.
-     */
-    public static PathPlannerTrajectory getTrajectory() {
-        return AutoCommands.trajectory;
-    }
-
-    /**
-     * Gets the current autonomous path planner event commands.
-     * 
-     * @return The current autonomous path planner event commands.
-     */
-    public static List<Pair<Double, Command>> getEventCommands() {
-        return AutoCommands.eventCommands;
-    }
-
-    /**
-     * Gets the current autonomous time.
-     * 
-     * @return The current autonomous time.
-     */
-    public static double getCurrTime() {
-        return AutoCommands.currTime;
-    }
-
-    /**
-     * Gets the current autonomous end time.
-     * 
-     * @return The current autonomous end time.
-     */
-    public static double getEndTime() {
-        return AutoCommands.endTime;
-    }
-
     /**
      * Gets an auto command that follows the path corresponding to the given
      * path file name.
@@ -144,7 +38,7 @@ public final class AutoCommands {
      * path file name.
      */
     public static Command followPathAuto(String pathFile) {
-        return new FunctionalCommand(
+        return new TrajectoryFollower(
             () -> {
                 // Get the current alliance from driver station.
                 Optional<Alliance> driverStationAlliance = DriverStation.getAlliance();
@@ -161,156 +55,22 @@ public final class AutoCommands {
                     ? driverStationAlliance.get()
                     : Alliance.Blue;
 
-                // Create the path.
-                PathPlannerPath path = null;
-
-                /*
-                 * If the path file exists, then set the path,
-                 * to the path from the path file, and if not,
-                 * then print the stack trace of the error and
-                 * throw the error.
-                 */
-                try {
-                    path = PathPlannerPath.fromPathFile(pathFile);
-                } catch (Exception e) {
-                    e.printStackTrace();
-
-                    throw e;
-                }
-
                 /*
-                 * If the alliance is the red alliance, 
-                 * then flip the path, and if not,
-                 * then keep the path as is.
+                 * Get the trajectory for the alliance from the trajectory
+                 * cache, which has already been flipped for the red alliance.
                  */
-                path = alliance == Alliance.Red
-                    ? path.flipPath()
-                    : path;
+                PathPlannerTrajectory trajectory =
+                    TrajectoryCache.getInstance().getTrajectory(pathFile, alliance);
 
                 /*
                  * Reset the swerve drive pose estimator to be at the
-                 * first point on the path.
+                 * first point on the trajectory.
                  */
                 Swerve.getInstance().resetPoseEstimator(
-                    path.getPreviewStartingHolonomicPose());
-
-                /*
-                 * Reset the theta controller of the swerve drive
-                 * holonomic drive controller to be at the rotation
-                 * of the first point on the path.
-                 */
-                Swerve.getInstance()
-                    .getHolonomicDriveController()
-                    .getThetaController()
-                        .reset(
-                            path.getPreviewStartingHolonomicPose()
-                                .getRotation()
-                                .getRadians());
-
-                // Set the trajectory from the path.
-                AutoCommands.setTrajectory(
-                    path.getTrajectory(
-                        Swerve.getInstance().getChassisSpeeds(), 
-                        Swerve.getInstance().getRobotPose().getRotation()));
-
-                // Get the event commands for the trajectory.
-                AutoCommands.setEventCommands(
-                    AutoCommands.getTrajectory().getEventCommands());
-
-                // Set the current time.
-                AutoCommands.setCurrTime(Timer.getFPGATimestamp());
-
-                // Set the end time.
-                AutoCommands.setEndTime(
-                    AutoCommands.getCurrTime() 
-                    + AutoCommands.getTrajectory().getTotalTimeSeconds());
-            },
-            () -> {
-                // Get the trajectory.
-                PathPlannerTrajectory trajectory = AutoCommands.getTrajectory();
-
-                // Get the event commands.
-                List<Pair<Double, Command>> eventCommands = AutoCommands.getEventCommands();
+                    trajectory.getInitialTargetHolonomicPose());
 
-                // Get the current time.
-                double currTime = AutoCommands.getCurrTime();
-
-                // Get the end time.
-                double endTime = AutoCommands.getEndTime();
-
-                /*
-                 * Get the trajectory state at the current time
-                 * along the path.
-                 */
-                State trajectoryState = trajectory.sample(
-                    trajectory.getTotalTimeSeconds() - (endTime - currTime));
-
-                // Get the trajectory state velocity and translation.
-                double trajectoryStateDesiredVelocity = trajectoryState.velocityMps;
-                Translation2d trajectoryStateTranslation = trajectoryState.positionMeters;
-
-                /*
-                 * Get the trajectory state rotation and heading.
-                 * 
-                 * In PathPlannerLib, heading is the rotation of the
-                 * state, while target holonomic rotation is the 
-                 * desired heading.
-                 */
-                Rotation2d trajectoryStateRotation = 
-                    trajectoryState.heading;
-                
-                Rotation2d trajectoryStateDesiredHeading = 
-                    trajectoryState.targetHolonomicRotation;
-
-                /*
-                 * Get the chassis speeds as calculated by the 
-                 * swerve subsystem holonomic drive controller.
-                 */
-                ChassisSpeeds chassisSpeeds = 
-                    Swerve.getInstance()
-                        .getHolonomicDriveController()
-                        .calculate(
-                            Swerve.getInstance().getRobotPose(), 
-                            new Pose2d(
-                                trajectoryStateTranslation, 
-                                trajectoryStateRotation), 
-                            trajectoryStateDesiredVelocity, 
-                            trajectoryStateDesiredHeading);
-
-                /*
-                 * Get the swerve module states as calculated by the 
-                 * swerve drive kinematics given the chassis speeds.
-                 */
-                SwerveModuleState[] swerveModuleStates = 
-                    SwerveConstants.SWERVE_DRIVE_KINEMATICS
-                        .toSwerveModuleStates(chassisSpeeds);
-
-                // Set the swerve subsystem to drive at the swerve module states.
-                Swerve.getInstance().setSwerveModuleStates(swerveModuleStates);
-                   
-                /*
-                 * If the frontmost event command is triggered, then schedule it
-                 * with the command scheduler and remove it from the front
-                 * of the event commands list.
-                 */
-                if (eventCommands.size() != 0 
-                        && eventCommands.get(0).getFirst() 
-                            <= trajectoryState.timeSeconds) {
-                    // CommandScheduler.getInstance().schedule(
-                    //     eventCommands.remove(0).getSecond());
-                }
-
-                // Update the current time.
-                AutoCommands.setCurrTime(Timer.getFPGATimestamp());
-            },
-            (isFinished) -> {
-                // Set the swerve subsystem to stop after the path has finished.
-                Swerve.getInstance().setSwerveModuleStates(
-                    SwerveConstants.SWERVE_DRIVE_KINEMATICS.toSwerveModuleStates(
-                        new ChassisSpeeds()));
-            },
-            () -> AutoCommands.getCurrTime() > AutoCommands.getEndTime(),
-            Swerve.getInstance());
+                return trajectory;
+            });
     }
 
     /**
@@ -394,10 +154,7 @@ public final class AutoCommands {
             ),
             ShooterCommands.getShootNoteCommand(),
             SwerveCommands.getTrackAndAcquireNoteCommand(),
-            getDriveToPoseCommand(AutoConstants.SUBWOOFER_CENTER_POSE)
-                .alongWith(ShooterCommands.getIntakeNoteCommand()
-                    .withTimeout(2.0)),
-            ShooterCommands.getShootNoteCommand());
+            getScoreNoteFromHereCommand());
     }
 
     /**
@@ -455,10 +212,7 @@ public final class AutoCommands {
             ShooterCommands.getShootNoteCommand(),
             followPathAuto(AutoConstants.TOP_NOTE_PATH),
             SwerveCommands.getTrackAndAcquireNoteCommand(),
-            getDriveToPoseCommand(AutoConstants.SUBWOOFER_CENTER_POSE)
-                .alongWith(ShooterCommands.getIntakeNoteCommand()
-                    .withTimeout(2.0)),
-            ShooterCommands.getShootNoteCommand());
+            getScoreNoteFromHereCommand());
     }
 
     /**
@@ -516,10 +270,7 @@ public final class AutoCommands {
             ShooterCommands.getShootNoteCommand(),
             followPathAuto(AutoConstants.BOTTOM_NOTE_PATH),
             SwerveCommands.getTrackAndAcquireNoteCommand(),
-            getDriveToPoseCommand(AutoConstants.SUBWOOFER_CENTER_POSE)
-                .alongWith(ShooterCommands.getIntakeNoteCommand()
-                    .withTimeout(2.0)),
-            ShooterCommands.getShootNoteCommand());
+            getScoreNoteFromHereCommand());
     }
 
     /**
@@ -572,23 +323,20 @@ public final class AutoCommands {
                 },
                 Swerve.getInstance()),
             ShooterCommands.getShootNoteCommand(),
-            SwerveCommands.getTrackAndAcquireNoteCommand(),
+            getAcquireNearestNoteCommand(),
             getDriveToPoseCommand(AutoConstants.SUBWOOFER_CENTER_POSE)
                 .alongWith(ShooterCommands.getIntakeNoteCommand()
                     .withTimeout(2.0)),
             ShooterCommands.getShootNoteCommand(),
             followPathAuto(AutoConstants.TOP_NOTE_PATH),
-            SwerveCommands.getTrackAndAcquireNoteCommand(),
+            getAcquireNearestNoteCommand(),
             getDriveToPoseCommand(AutoConstants.SUBWOOFER_CENTER_POSE)
                 .alongWith(ShooterCommands.getIntakeNoteCommand()
                     .withTimeout(2.0)),
             ShooterCommands.getShootNoteCommand(),
             followPathAuto(AutoConstants.BOTTOM_NOTE_PATH),
-            SwerveCommands.getTrackAndAcquireNoteCommand(),
-            getDriveToPoseCommand(AutoConstants.SUBWOOFER_CENTER_POSE)
-                .alongWith(ShooterCommands.getIntakeNoteCommand()
-                    .withTimeout(2.0)),
-            ShooterCommands.getShootNoteCommand());
+            getAcquireNearestNoteCommand(),
+            getScoreNoteFromHereCommand());
     }
 
     /**
@@ -603,7 +351,7 @@ public final class AutoCommands {
      * @return The drive to point of interest command.
      */
     public static Command getDriveToPointOfInterestCommand() {
-        return new FunctionalCommand(
+        return new TrajectoryFollower(
             () -> {
                 // Get the current alliance from driver station.
                 Optional<Alliance> driverStationAlliance = DriverStation.getAlliance();
@@ -696,116 +444,11 @@ public final class AutoCommands {
                             true));
                 }
 
-                /*
-                 * Reset the theta controller of the swerve drive
-                 * holonomic drive controller to be at the rotation
-                 * of the current robot pose.
-                 */
-                Swerve.getInstance()
-                    .getHolonomicDriveController()
-                    .getThetaController()
-                        .reset(robotPose.getRotation().getRadians());
-                
-                // Set the trajectory from the path.
-                AutoCommands.setTrajectory(
-                    path.getTrajectory(
-                        Swerve.getInstance().getChassisSpeeds(),
-                        robotPose.getRotation())); 
-
-                // Get the event commands for the trajectory.
-                AutoCommands.setEventCommands(
-                    AutoCommands.getTrajectory().getEventCommands());
-
-                // Set the current time.
-                AutoCommands.setCurrTime(Timer.getFPGATimestamp());
-
-                // Set the end time.
-                AutoCommands.setEndTime(
-                    AutoCommands.getCurrTime() 
-                    + AutoCommands.getTrajectory().getTotalTimeSeconds());
-            }, 
-            () -> {
-                // Get the trajectory.
-                PathPlannerTrajectory trajectory = AutoCommands.getTrajectory();
-
-                // Get the event commands.
-                List<Pair<Double, Command>> eventCommands = AutoCommands.getEventCommands();
-
-                // Get the current time.
-                double currTime = AutoCommands.getCurrTime();
-
-                // Get the end time.
-                double endTime = AutoCommands.getEndTime();
-                
-                /*
-                 * Get the trajectory state at the current time
-                 * along the path.
-                 */
-                State trajectoryState = trajectory.sample(
-                    trajectory.getTotalTimeSeconds() - (endTime - currTime));
-
-                // Get the trajectory state velocity and translation.
-                double trajectoryStateDesiredVelocity = trajectoryState.velocityMps;
-                Translation2d trajectoryStateTranslation = trajectoryState.positionMeters;
-
-                /*
-                 * Get the trajectory state rotation and heading.
-                 * 
-                 * In PathPlannerLib, heading is the rotation of the
-                 * state, while target holonomic rotation is the 
-                 * desired heading.
-                 */
-                Rotation2d trajectoryStateRotation = 
-                    trajectoryState.heading;
-
-                Rotation2d trajectoryStateDesiredHeading = 
-                    trajectoryState.targetHolonomicRotation;
-
-                /*
-                 * Get the chassis speeds as calculated by the 
-                 * swerve subsystem holonomic drive controller.
-                 */
-                ChassisSpeeds chassisSpeeds = 
-                    Swerve.getInstance().getHolonomicDriveController().calculate(
-                        Swerve.getInstance().getRobotPose(), 
-                        new Pose2d(trajectoryStateTranslation, trajectoryStateRotation),
-                        trajectoryStateDesiredVelocity, 
-                        trajectoryStateDesiredHeading);
-
-                /*
-                 * Get the swerve module states as calculated by the 
-                 * swerve drive kinematics given the chassis speeds.
-                 */
-                SwerveModuleState[] swerveModuleStates = 
-                    SwerveConstants.SWERVE_DRIVE_KINEMATICS.toSwerveModuleStates(
-                        chassisSpeeds);
-
-                // Set the swerve subsystem to drive at the swerve module states.
-                Swerve.getInstance().setSwerveModuleStates(swerveModuleStates);
-                   
-                /*
-                 * If the frontmost event command is triggered, then schedule it
-                 * with the command scheduler and remove it from the front
-                 * of the event commands list.
-                 */
-                if (eventCommands.size() != 0 
-                        && eventCommands.get(0).getFirst() 
-                            <= trajectoryState.timeSeconds) {
-                    // CommandScheduler.getInstance().schedule(
-                    //     eventCommands.remove(0).getSecond());
-                }
-
-                // Update the current time.
-                AutoCommands.setCurrTime(Timer.getFPGATimestamp());
-            },
-            (isFinished) -> {
-                // Set the swerve subsystem to stop after the path has finished.
-                Swerve.getInstance().setSwerveModuleStates(
-                    SwerveConstants.SWERVE_DRIVE_KINEMATICS.toSwerveModuleStates(
-                        new ChassisSpeeds()));
-            },
-            () -> AutoCommands.getCurrTime() > AutoCommands.getEndTime(),
-            Swerve.getInstance());
+                // Create the trajectory from the path.
+                return path.getTrajectory(
+                    Swerve.getInstance().getChassisSpeeds(),
+                    robotPose.getRotation());
+            });
     }
 
     /**
@@ -820,7 +463,7 @@ public final class AutoCommands {
      * alliance.
      */
     public static Command getDriveToPoseCommand(Pose2d pose) {
-        return new FunctionalCommand(
+        return new TrajectoryFollower(
             () -> {
                 // Get the current alliance from driver station.
                 Optional<Alliance> driverStationAlliance = DriverStation.getAlliance();
@@ -868,116 +511,118 @@ public final class AutoCommands {
                         endPose.getRotation(), 
                         true));
                 
-                /*
-                 * Reset the theta controller of the swerve drive
-                 * holonomic drive controller to be at the rotation
-                 * of the current robot pose.
-                 */
-                Swerve.getInstance()
-                    .getHolonomicDriveController()
-                    .getThetaController()
-                        .reset(robotPose.getRotation().getRadians());
-                
-                // Set the trajectory from the path.
-                AutoCommands.setTrajectory(
-                    path.getTrajectory(
-                        Swerve.getInstance().getChassisSpeeds(), 
-                        robotPose.getRotation())); 
-
-                // Get the event commands for the trajectory.
-                AutoCommands.setEventCommands(
-                    AutoCommands.getTrajectory().getEventCommands());
-
-                // Set the current time.
-                AutoCommands.setCurrTime(Timer.getFPGATimestamp());
-
-                // Set the end time.
-                AutoCommands.setEndTime(
-                    AutoCommands.getCurrTime() 
-                    + AutoCommands.getTrajectory().getTotalTimeSeconds());
-            },
-            () -> {
-                // Get the trajectory.
-                PathPlannerTrajectory trajectory = AutoCommands.getTrajectory();
-
-                // Get the event commands.
-                List<Pair<Double, Command>> eventCommands = AutoCommands.getEventCommands();
-
-                // Get the current time.
-                double currTime = AutoCommands.getCurrTime();
+                // Create the trajectory from the path.
+                return path.getTrajectory(
+                    Swerve.getInstance().getChassisSpeeds(), 
+                    robotPose.getRotation());
+            });
+    }
 
-                // Get the end time.
-                double endTime = AutoCommands.getEndTime();
-                
-                /*
-                 * Get the trajectory state at the current time
-                 * along the path.
-                 */
-                State trajectoryState = trajectory.sample(
-                    trajectory.getTotalTimeSeconds() - (endTime - currTime));
+    /**
+     * Gets the score note from here command, which
+     * finishes intaking the note and then aims and
+     * shoots it from where the robot currently is if
+     * the robot is within the shot map range of the
+     * speaker. If not, then the robot drives back to
+     * subwoofer center while intaking the note and
+     * shoots it from there.
+     * 
+     * @return The score note from here command.
+     */
+    public static Command getScoreNoteFromHereCommand() {
+        return new ConditionalCommand(
+            new SequentialCommandGroup(
+                ShooterCommands.getIntakeNoteCommand()
+                    .withTimeout(AutoConstants.INTAKE_SETTLE_TIMEOUT),
+                ShooterCommands.getAimAndShootCommand()),
+            new SequentialCommandGroup(
+                getDriveToPoseCommand(AutoConstants.SUBWOOFER_CENTER_POSE)
+                    .alongWith(ShooterCommands.getIntakeNoteCommand()
+                        .withTimeout(2.0)),
+                ShooterCommands.getShootNoteCommand()),
+            () -> ShotMap.getInstance().isInRange(
+                ShotMap.getDistanceToSpeaker(
+                    Swerve.getInstance().getRobotPose().getTranslation())));
+    }
 
-                // Get the trajectory state velocity and translation.
-                double trajectoryStateDesiredVelocity = trajectoryState.velocityMps;
-                Translation2d trajectoryStateTranslation = trajectoryState.positionMeters;
+    /**
+     * Gets the acquire nearest note command, which drives
+     * to the nearest reachable note in the note map with
+     * the intake running. If the note map does not have
+     * a reachable note, then the command will instead
+     * track and acquire a note in front of the robot.
+     * 
+     * @return The acquire nearest note command.
+     */
+    public static Command getAcquireNearestNoteCommand() {
+        return new ConditionalCommand(
+            getDriveToNearestNoteCommand()
+                .raceWith(ShooterCommands.getIntakeNoteCommand()),
+            SwerveCommands.getTrackAndAcquireNoteCommand(),
+            () -> NoteMap.getInstance()
+                .getNearestNote(Swerve.getInstance().getRobotPose().getTranslation())
+                .isPresent());
+    }
 
-                /*
-                 * Get the trajectory state rotation and heading.
-                 * 
-                 * In PathPlannerLib, heading is the rotation of the
-                 * state, while target holonomic rotation is the 
-                 * desired heading.
-                 */
-                Rotation2d trajectoryStateRotation = 
-                    trajectoryState.heading;
-                
-                Rotation2d trajectoryStateDesiredHeading = 
-                    trajectoryState.targetHolonomicRotation;
+    /**
+     * Gets the drive to nearest note command, which
+     * drives the robot over the nearest reachable note
+     * in the note map while facing the note. If there
+     * is no reachable note when the command starts,
+     * then the command finishes right away without
+     * moving the robot.
+     * 
+     * @return The drive to nearest note command.
+     */
+    public static Command getDriveToNearestNoteCommand() {
+        return new ConditionalCommand(
+            new TrajectoryFollower(
+                () -> {
+                    // Get the current robot pose.
+                    Pose2d robotPose = Swerve.getInstance().getRobotPose();
 
-                /*
-                 * Get the chassis speeds as calculated by the 
-                 * swerve subsystem holonomic drive controller.
-                 */
-                ChassisSpeeds chassisSpeeds = 
-                    Swerve.getInstance().getHolonomicDriveController().calculate(
-                        Swerve.getInstance().getRobotPose(), 
-                        new Pose2d(trajectoryStateTranslation, trajectoryStateRotation), 
-                        trajectoryStateDesiredVelocity, 
-                        trajectoryStateDesiredHeading);
+                    /*
+                     * Get the nearest reachable note, which is already
+                     * in field coordinates, so it is not flipped for
+                     * the red alliance. There is a reachable note, as
+                     * this is only created right after that is checked.
+                     */
+                    Translation2d notePosition = NoteMap.getInstance()
+                        .getNearestNote(robotPose.getTranslation())
+                        .get();
 
-                /*
-                 * Get the swerve module states as calculated by the 
-                 * swerve drive kinematics given the chassis speeds.
-                 */
-                SwerveModuleState[] swerveModuleStates = 
-                    SwerveConstants.SWERVE_DRIVE_KINEMATICS.toSwerveModuleStates(
-                        chassisSpeeds);
+                    // Get the heading from the robot to the note.
+                    Rotation2d noteHeading = 
+                        notePosition.minus(robotPose.getTranslation()).getAngle();
 
-                // Set the swerve subsystem to drive at the swerve module states.
-                Swerve.getInstance().setSwerveModuleStates(swerveModuleStates);
-                   
-                /*
-                 * If the frontmost event command is triggered, then schedule it
-                 * with the command scheduler and remove it from the front
-                 * of the event commands list.
-                 */
-                if (eventCommands.size() != 0 
-                        && eventCommands.get(0).getFirst() 
-                            <= trajectoryState.timeSeconds) {
-                    // CommandScheduler.getInstance().schedule(
-                    //     eventCommands.remove(0).getSecond());
-                }
+                    /*
+                     * Create the path as a path that drives
+                     * straight from the current robot position
+                     * over the note while facing the note.
+                     */
+                    PathPlannerPath path = new PathPlannerPath(
+                        PathPlannerPath.bezierFromPoses(
+                            new Pose2d(robotPose.getTranslation(), noteHeading),
+                            new Pose2d(notePosition, noteHeading)), 
+                        new PathConstraints(
+                            AutoConstants.MAX_VELOCITY, 
+                            AutoConstants.MAX_ACCELERATION, 
+                            AutoConstants.MAX_ROTATIONAL_VELOCITY, 
+                            AutoConstants.MAX_ROTATIONAL_ACCELERATION),
+                        new GoalEndState(
+                            0.0, 
+                            noteHeading, 
+                            true));
 
-                // Update the current time.
-                AutoCommands.setCurrTime(Timer.getFPGATimestamp());
-            },
-            (isFinished) -> {
-                // Set the swerve subsystem to stop after the path has finished.
-                Swerve.getInstance().setSwerveModuleStates(
-                    SwerveConstants.SWERVE_DRIVE_KINEMATICS.toSwerveModuleStates(
-                        new ChassisSpeeds()));
-            },
-            () -> AutoCommands.getCurrTime() > AutoCommands.getEndTime(),
-            Swerve.getInstance());
+                    // Create the trajectory from the path.
+                    return path.getTrajectory(
+                        Swerve.getInstance().getChassisSpeeds(), 
+                        robotPose.getRotation());
+                }),
+            new InstantCommand(),
+            () -> NoteMap.getInstance()
+                .getNearestNote(Swerve.getInstance().getRobotPose().getTranslation())
+                .isPresent());
     }
 
     /**
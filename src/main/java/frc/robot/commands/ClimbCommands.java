@@ -23,12 +23,14 @@ public class ClimbCommands {
      * @return The run left climb up command.
      */
     public static Command getRunLeftClimbUpCommand() {
-        return new FunctionalCommand(
-            () -> {}, 
-            () -> LeftClimb.getInstance().runLeftClimbUp(), 
-            (isFinished) -> LeftClimb.getInstance().stopLeftClimb(), 
-            () -> LeftClimb.getInstance().isLeftClimbLimitSwitchAtMagnet(), 
-            LeftClimb.getInstance());
+        return TimedCommand.timed(
+            "RunLeftClimbUp",
+            new FunctionalCommand(
+                () -> {}, 
+                () -> LeftClimb.getInstance().runLeftClimbUp(), 
+                (isFinished) -> LeftClimb.getInstance().stopLeftClimb(), 
+                () -> LeftClimb.getInstance().isLeftClimbLimitSwitchAtMagnet(), 
+                LeftClimb.getInstance()));
     }
 
     /**
@@ -43,12 +45,14 @@ public class ClimbCommands {
      * @return The run right climb up command.
      */
     public static Command getRunRightClimbUpCommand() {
-        return new FunctionalCommand(
-            () -> {}, 
-            () -> RightClimb.getInstance().runRightClimbUp(), 
-            (isFinished) -> RightClimb.getInstance().stopRightClimb(), 
-            () -> RightClimb.getInstance().isRightClimbLimitSwitchAtMagnet(),
-            RightClimb.getInstance());
+        return TimedCommand.timed(
+            "RunRightClimbUp",
+            new FunctionalCommand(
+                () -> {}, 
+                () -> RightClimb.getInstance().runRightClimbUp(), 
+                (isFinished) -> RightClimb.getInstance().stopRightClimb(), 
+                () -> RightClimb.getInstance().isRightClimbLimitSwitchAtMagnet(),
+                RightClimb.getInstance()));
     }
 
     /**
@@ -58,9 +62,11 @@ public class ClimbCommands {
      * @return The run climb up command.
      */
     public static Command getRunClimbUpCommand() {
-        return new ParallelCommandGroup(
-            getRunLeftClimbUpCommand(),
-            getRunRightClimbUpCommand());
+        return TimedCommand.timed(
+            "RunClimbUp",
+            new ParallelCommandGroup(
+                getRunLeftClimbUpCommand(),
+                getRunRightClimbUpCommand()));
     }
     
     /**
@@ -70,13 +76,15 @@ public class ClimbCommands {
      * @return The run climb down command.
      */
     public static Command getRunClimbDownCommand() {
-        return new InstantCommand(
-            () -> { 
-                LeftClimb.getInstance().runLeftClimbDown();
-                RightClimb.getInstance().runRightClimbDown();
-            },
-            LeftClimb.getInstance(),
-            RightClimb.getInstance());
+        return TimedCommand.timed(
+            "RunClimbDown",
+            new InstantCommand(
+                () -> { 
+                    LeftClimb.getInstance().runLeftClimbDown();
+                    RightClimb.getInstance().runRightClimbDown();
+                },
+                LeftClimb.getInstance(),
+                RightClimb.getInstance()));
     }
 
     /**
@@ -85,12 +93,14 @@ public class ClimbCommands {
      * @return The stop climb command.
      */
     public static Command getStopClimbCommand() {
-        return new InstantCommand(
-            () -> {
-                LeftClimb.getInstance().stopLeftClimb();
-                RightClimb.getInstance().stopRightClimb();
-            },
-            LeftClimb.getInstance(),
-            RightClimb.getInstance());
+        return TimedCommand.timed(
+            "StopClimb",
+            new InstantCommand(
+                () -> {
+                    LeftClimb.getInstance().stopLeftClimb();
+                    RightClimb.getInstance().stopRightClimb();
+                },
+                LeftClimb.getInstance(),
+                RightClimb.getInstance()));
     }
 }
\ No newline at end of file
@@ -16,9 +16,11 @@ public final class IntakeCommands {
      * @return The run intake forwards command.
      */
     public static Command getRunIntakeForwardsCommand() {
-        return new InstantCommand(
-            () -> Intake.getInstance().runIntakeForwards(), 
-            Intake.getInstance());
+        return TimedCommand.timed(
+            "RunIntakeForwards",
+            new InstantCommand(
+                () -> Intake.getInstance().runIntakeForwards(), 
+                Intake.getInstance()));
     }
 
     /**
@@ -28,9 +30,11 @@ public final class IntakeCommands {
      * @return The run intake backwards command.
      */
     public static Command getRunIntakeBackwardsCommand() {
-        return new InstantCommand(
-            () -> Intake.getInstance().runIntakeBackwards(),
-            Intake.getInstance());
+        return TimedCommand.timed(
+            "RunIntakeBackwards",
+            new InstantCommand(
+                () -> Intake.getInstance().runIntakeBackwards(),
+                Intake.getInstance()));
     }
 
     /**
@@ -40,8 +44,10 @@ public final class IntakeCommands {
      * @return The stop intake command.
      */
     public static Command getStopIntakeCommand() {
-        return new InstantCommand(
-            () -> Intake.getInstance().stopIntake(),
-            Intake.getInstance());
+        return TimedCommand.timed(
+            "StopIntake",
+            new InstantCommand(
+                () -> Intake.getInstance().stopIntake(),
+                Intake.getInstance()));
     }
 }
\ No newline at end of file
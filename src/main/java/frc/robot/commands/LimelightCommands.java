@@ -16,8 +16,10 @@ public class LimelightCommands {
      * @return The run lift forwards command.
      */
     public static Command getStartFlashLimelightCommand() {
-        return new InstantCommand(
-            () -> LimelightHelper.setLEDMode_ForceBlink(LimelightConstants.LIMELIGHT_NAME));
+        return TimedCommand.timed(
+            "StartFlashLimelight",
+            new InstantCommand(
+                () -> LimelightHelper.setLEDMode_ForceBlink(LimelightConstants.LIMELIGHT_NAME)));
     }
 
     /**
@@ -27,7 +29,9 @@ public class LimelightCommands {
      * @return The run lift backwards command.
      */
     public static Command getStopFlashLimelightCommand() {
-        return new InstantCommand(
-            () -> LimelightHelper.setLEDMode_ForceOff(LimelightConstants.LIMELIGHT_NAME));
+        return TimedCommand.timed(
+            "StopFlashLimelight",
+            new InstantCommand(
+                () -> LimelightHelper.setLEDMode_ForceOff(LimelightConstants.LIMELIGHT_NAME)));
     }
 }
@@ -0,0 +1,142 @@
+package frc.robot.commands;
+
+import java.util.Optional;
+
+import edu.wpi.first.math.MathUtil;
+import edu.wpi.first.math.controller.ProfiledPIDController;
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Translation2d;
+import frc.robot.Constants.SwerveConstants;
+import frc.robot.helpers.LimelightClient;
+import frc.robot.helpers.LimelightFrame;
+import frc.robot.helpers.NoteProjection;
+import frc.robot.subsystems.Swerve;
+
+/**
+ * The command for rotating the robot to point at a note in front of it.
+ * <br></br>
+ * Each new note detector frame is projected onto the field from the
+ * robot pose at the time that the frame was captured, which is looked
+ * up in the swerve drive pose history, so that the note detector
+ * latency does not make the robot overshoot. The robot heading is then
+ * driven to point at that fixed field position with the swerve drive
+ * theta controller, which converges in one motion instead of chasing
+ * each new frame.
+ */
+public final class NoteTracker extends TimedCommand {
+    /**
+     * The position of the note on the field, or null if
+     * no note has been projected onto the field yet.
+     */
+    private Translation2d notePosition = null;
+
+    /**
+     * The error between the robot heading and the heading
+     * that points at the note, in radians.
+     */
+    private double headingError = Double.POSITIVE_INFINITY;
+
+    /**
+     * The constructor for the {@link NoteTracker} class.
+     */
+    public NoteTracker() {
+        addRequirements(Swerve.getInstance());
+    }
+
+    @Override
+    public void initialize() {
+        notePosition = null;
+        headingError = Double.POSITIVE_INFINITY;
+
+        // Reset the swerve drive theta controller to the current robot heading.
+        Swerve.getInstance().getHolonomicDriveController()
+            .getThetaController()
+            .reset(Swerve.getInstance().getRobotPose().getRotation().getRadians());
+    }
+
+    @Override
+    protected void timedExecute() {
+        LimelightClient limelightClient = LimelightClient.getInstance();
+
+        /*
+         * If the note detector read a new frame that can see
+         * a note, then project the note onto the field.
+         */
+        if (limelightClient.getFrameCount() > 0) {
+            LimelightFrame frame = 
+                limelightClient.getFrame(limelightClient.getFrameCount() - 1);
+
+            if (frame.hasTarget()) {
+                updateNotePosition(frame);
+            }
+        }
+
+        // If no note has been seen yet, then wait for one.
+        if (notePosition == null) {
+            return;
+        }
+
+        Pose2d robotPose = Swerve.getInstance().getRobotPose();
+
+        // Get the heading that points the robot at the note.
+        double desiredHeading = Math.atan2(
+            notePosition.getY() - robotPose.getY(),
+            notePosition.getX() - robotPose.getX());
+
+        double robotHeading = robotPose.getRotation().getRadians();
+
+        headingError = MathUtil.angleModulus(desiredHeading - robotHeading);
+
+        ProfiledPIDController thetaController =
+            Swerve.getInstance().getHolonomicDriveController().getThetaController();
+
+        // Set the swerve drive subsystem to rotate towards the note.
+        Swerve.getInstance().driveRobotRelative(
+            0.0,
+            0.0,
+            thetaController.calculate(robotHeading, desiredHeading));
+    }
+
+    @Override
+    public void end(boolean interrupted) {
+        /*
+         * Set the swerve drive subsystem to stop after the robot
+         * has rotated to point towards the note.
+         */
+        Swerve.getInstance().stop();
+    }
+
+    @Override
+    public boolean isFinished() {
+        /*
+         * Finish once the robot is pointing at the note, or if the
+         * note detector has not seen a note to point at.
+         */
+        if (notePosition == null) {
+            return !LimelightClient.getInstance().hasTarget();
+        }
+
+        return Math.abs(headingError)
+            <= SwerveConstants.TRACK_NOTE_OFFSET_DEADBAND * (Math.PI / 180.0);
+    }
+
+    /**
+     * Projects the given note detector frame onto the field from
+     * the robot pose at the time that the frame was captured.
+     *
+     * @param frame The note detector frame, which has a note in it.
+     */
+    private void updateNotePosition(LimelightFrame frame) {
+        Optional<Pose2d> captureRobotPose =
+            Swerve.getInstance().getRobotPoseAt(frame.getCaptureTimestamp());
+
+        if (captureRobotPose.isEmpty()) {
+            return;
+        }
+
+        notePosition = NoteProjection.getFieldNotePosition(
+            captureRobotPose.get(),
+            frame.getTX(),
+            frame.getTY());
+    }
+}
@@ -0,0 +1,166 @@
+package frc.robot.commands;
+
+import java.util.function.DoubleSupplier;
+
+import edu.wpi.first.math.MathUtil;
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Translation2d;
+import edu.wpi.first.math.kinematics.ChassisSpeeds;
+import edu.wpi.first.wpilibj.Timer;
+import frc.robot.Constants.ShooterConstants;
+import frc.robot.helpers.MovingShotSolver;
+import frc.robot.helpers.ShotMap;
+import frc.robot.subsystems.Shooter;
+import frc.robot.subsystems.Swerve;
+
+/**
+ * The command for shooting a note at the speaker while the driver
+ * keeps driving the robot.
+ * <br></br>
+ * The driver keeps control of the robot translation, while the robot
+ * heading is driven with the swerve drive theta controller to the
+ * heading setpoint of the moving shot solver, which aims at a virtual
+ * target that makes up for the robot velocity. The shooter is spun up
+ * to the shooter velocity of the solved shot every loop. Once the shot
+ * is solved, in range, aimed, and the shooter is predicted to be
+ * ready, the lift feeds the note until it has been shot, or for at
+ * most the feed time from the shot map.
+ */
+public final class ShootOnTheMove extends TimedCommand {
+    /**
+     * The function that returns the x velocity factor.
+     */
+    private final DoubleSupplier getX;
+
+    /**
+     * The function that returns the y velocity factor.
+     */
+    private final DoubleSupplier getY;
+
+    /**
+     * The solver for the shot at the speaker.
+     */
+    private final MovingShotSolver movingShotSolver =
+        new MovingShotSolver(ShotMap.getInstance());
+
+    /**
+     * The time that the lift started feeding the note, in
+     * seconds, or NaN if the lift has not started feeding.
+     */
+    private double feedStartTime = Double.NaN;
+
+    /**
+     * The most time to run the lift for to feed the note, in seconds.
+     */
+    private double feedTime = 0.0;
+
+    /**
+     * The constructor for the {@link ShootOnTheMove} class.
+     *
+     * @param getX The function that returns the x velocity factor.
+     * @param getY The function that returns the y velocity factor.
+     */
+    public ShootOnTheMove(DoubleSupplier getX, DoubleSupplier getY) {
+        this.getX = getX;
+        this.getY = getY;
+
+        addRequirements(Swerve.getInstance(), Shooter.getInstance());
+    }
+
+    @Override
+    public void initialize() {
+        feedStartTime = Double.NaN;
+
+        // Reset the swerve drive theta controller to the current robot heading.
+        Swerve.getInstance().getHolonomicDriveController()
+            .getThetaController()
+            .reset(Swerve.getInstance().getRobotPose().getRotation().getRadians());
+    }
+
+    @Override
+    protected void timedExecute() {
+        Pose2d robotPose = Swerve.getInstance().getRobotPose();
+        ChassisSpeeds chassisSpeeds = Swerve.getInstance().getChassisSpeeds();
+
+        double robotHeading = robotPose.getRotation().getRadians();
+
+        /*
+         * Rotate the robot relative velocities by the robot
+         * heading to get the field relative velocities.
+         */
+        double cos = robotPose.getRotation().getCos();
+        double sin = robotPose.getRotation().getSin();
+
+        double fieldXVelocity = chassisSpeeds.vxMetersPerSecond * cos
+            - chassisSpeeds.vyMetersPerSecond * sin;
+        double fieldYVelocity = chassisSpeeds.vxMetersPerSecond * sin
+            + chassisSpeeds.vyMetersPerSecond * cos;
+
+        Translation2d speakerPosition = ShotMap.getSpeakerPosition();
+
+        movingShotSolver.solve(
+            robotPose.getX(),
+            robotPose.getY(),
+            fieldXVelocity,
+            fieldYVelocity,
+            speakerPosition.getX(),
+            speakerPosition.getY());
+
+        double headingSetpoint = movingShotSolver.getHeadingSetpoint();
+
+        /*
+         * Set the swerve drive subsystem to drive with the driver
+         * translation while rotating towards the virtual target.
+         */
+        Swerve.getInstance().driveWithRotationalVelocity(
+            getX.getAsDouble(),
+            getY.getAsDouble(),
+            Swerve.getInstance().getHolonomicDriveController()
+                .getThetaController()
+                .calculate(robotHeading, headingSetpoint));
+
+        /*
+         * Once the lift has started feeding, keep the shooter
+         * velocity as it is, as changing it while the note is
+         * being fed would change the shot.
+         */
+        if (!Double.isNaN(feedStartTime)) {
+            return;
+        }
+
+        Shooter.getInstance().setShooterVelocity(movingShotSolver.getShooterVelocity());
+
+        /*
+         * If the shot is solved, in range, and aimed, and the shooter
+         * is predicted to be ready by the time the lift has fed the
+         * note into the shooter, then start feeding the note.
+         */
+        if (movingShotSolver.isConverged()
+                && ShotMap.getInstance().isInRange(movingShotSolver.getDistance())
+                && Math.abs(MathUtil.angleModulus(headingSetpoint - robotHeading))
+                    <= ShooterConstants.AIM_HEADING_TOLERANCE
+                && Shooter.getInstance().isShooterReadyToFeed()) {
+            feedTime = ShotMap.getInstance().getFeedTime(movingShotSolver.getDistance());
+            feedStartTime = Timer.getFPGATimestamp();
+
+            Shooter.getInstance().feedNote();
+        }
+    }
+
+    @Override
+    public void end(boolean interrupted) {
+        Shooter.getInstance().stopShooter();
+        Shooter.getInstance().stopLift();
+    }
+
+    @Override
+    public boolean isFinished() {
+        /*
+         * Finish once the note has been shot, or once the feed
+         * time has passed if it is never seen leaving.
+         */
+        return !Double.isNaN(feedStartTime)
+            && (Shooter.getInstance().isNoteShot()
+                || Timer.getFPGATimestamp() - feedStartTime >= feedTime);
+    }
+}
@@ -1,11 +1,14 @@
 package frc.robot.commands;
 
+import java.util.function.DoubleSupplier;
+
 import edu.wpi.first.wpilibj2.command.Command;
+import edu.wpi.first.wpilibj2.command.ConditionalCommand;
 import edu.wpi.first.wpilibj2.command.FunctionalCommand;
 import edu.wpi.first.wpilibj2.command.InstantCommand;
 import edu.wpi.first.wpilibj2.command.SequentialCommandGroup;
-import edu.wpi.first.wpilibj2.command.WaitCommand;
 import edu.wpi.first.wpilibj2.command.WaitUntilCommand;
+import frc.robot.Constants.ShooterConstants;
 import frc.robot.subsystems.Intake;
 import frc.robot.subsystems.Shooter;
 
@@ -20,9 +23,11 @@ public class ShooterCommands {
      * @return The run lift forwards command.
      */
     public static Command getRunLiftForwardsCommand() {
-        return new InstantCommand(
-            () -> Shooter.getInstance().runLiftForwards(),
-            Shooter.getInstance());
+        return TimedCommand.timed(
+            "RunLiftForwards",
+            new InstantCommand(
+                () -> Shooter.getInstance().runLiftForwards(),
+                Shooter.getInstance()));
     }
 
     /**
@@ -32,9 +37,11 @@ public class ShooterCommands {
      * @return The run lift backwards command.
      */
     public static Command getRunLiftBackwardsCommmand() {
-        return new InstantCommand(
-            () -> Shooter.getInstance().runLiftBackwards(), 
-            Shooter.getInstance());
+        return TimedCommand.timed(
+            "RunLiftBackwards",
+            new InstantCommand(
+                () -> Shooter.getInstance().runLiftBackwards(), 
+                Shooter.getInstance()));
     }
 
     /**
@@ -44,9 +51,11 @@ public class ShooterCommands {
      * @return The stop lift command.
      */
     public static Command getStopLiftCommand() {
-        return new InstantCommand(
-            () -> Shooter.getInstance().stopLift(),
-            Shooter.getInstance());
+        return TimedCommand.timed(
+            "StopLift",
+            new InstantCommand(
+                () -> Shooter.getInstance().stopLift(),
+                Shooter.getInstance()));
     }
 
     /**
@@ -56,9 +65,11 @@ public class ShooterCommands {
      * @return The run shooter forwards command.
      */
     public static Command getRunShooterForwardsCommand() {
-        return new InstantCommand(
-            () -> Shooter.getInstance().runShooterForwards(),
-            Shooter.getInstance());
+        return TimedCommand.timed(
+            "RunShooterForwards",
+            new InstantCommand(
+                () -> Shooter.getInstance().runShooterForwards(),
+                Shooter.getInstance()));
     }
 
     /**
@@ -68,9 +79,11 @@ public class ShooterCommands {
      * @return The run shooter backwards command.
      */
     public static Command getRunShooterBackwardsCommand() {
-        return new InstantCommand(
-            () -> Shooter.getInstance().runShooterBackwards(),
-            Shooter.getInstance());
+        return TimedCommand.timed(
+            "RunShooterBackwards",
+            new InstantCommand(
+                () -> Shooter.getInstance().runShooterBackwards(),
+                Shooter.getInstance()));
     }
 
     /**
@@ -80,24 +93,28 @@ public class ShooterCommands {
      * @return The stop shooter command.
      */
     public static Command getStopShooterCommand() {
-        return new InstantCommand(
-            () -> Shooter.getInstance().stopShooter(),
-            Shooter.getInstance());
+        return TimedCommand.timed(
+            "StopShooter",
+            new InstantCommand(
+                () -> Shooter.getInstance().stopShooter(),
+                Shooter.getInstance()));
     }
 
     /**
      * Gets the run shooter and lift forwards command, which runs
-     * the shooter and lift forwards.
+     * the shooter forwards and feeds a note with the lift.
      * 
      * @return The run shooter and lift forwards command.
      */
     public static Command getRunShooterAndLiftForwardsCommand() {
-        return new InstantCommand(
-            () -> {
-                Shooter.getInstance().runShooterForwards();
-                Shooter.getInstance().runLiftForwards();
-            },
-            Shooter.getInstance());
+        return TimedCommand.timed(
+            "RunShooterAndLiftForwards",
+            new InstantCommand(
+                () -> {
+                    Shooter.getInstance().runShooterForwards();
+                    Shooter.getInstance().feedNote();
+                },
+                Shooter.getInstance()));
     }
 
     /**
@@ -107,16 +124,65 @@ public class ShooterCommands {
      * @return The shoot note command.
      */
     public static Command getShootNoteCommand() {
-        return new SequentialCommandGroup(
-            getRunShooterForwardsCommand(),
-            new WaitUntilCommand(
-                () -> Shooter.getInstance().isShooterReady()),
-            getRunShooterAndLiftForwardsCommand(),
-            // new WaitUntilCommand(
-            //     () -> !Shooter.getInstance().isLimitSwitchPressed()),
-            new WaitCommand(0.4),
-            getStopShooterCommand(),
-            getStopLiftCommand());
+        return TimedCommand.timed(
+            "ShootNote",
+            new SequentialCommandGroup(
+                getRunShooterForwardsCommand(),
+                /*
+                 * Wait until the shooter is predicted to be ready by the
+                 * time the lift has fed the note into the shooter, or
+                 * until the spin up timeout has passed, so that a shooter
+                 * that never gets ready cannot hold up an auto forever.
+                 */
+                new WaitUntilCommand(
+                    () -> Shooter.getInstance().isShooterReadyToFeed())
+                    .withTimeout(ShooterConstants.SHOOTER_SPIN_UP_TIMEOUT),
+                /*
+                 * Only feed the note if the shooter is ready, so that the
+                 * note is never fed into shooter motors that are not up to
+                 * speed after the spin up timeout.
+                 */
+                new ConditionalCommand(
+                    new SequentialCommandGroup(
+                        getRunShooterAndLiftForwardsCommand(),
+                        /*
+                         * Wait until the note has been shot, or until the
+                         * feed time has passed if it is never seen leaving.
+                         */
+                        new WaitUntilCommand(
+                            () -> Shooter.getInstance().isNoteShot())
+                            .withTimeout(ShooterConstants.SHOOTER_FEED_TIME)),
+                    new InstantCommand(),
+                    () -> Shooter.getInstance().isShooterReadyToFeed()),
+                getStopShooterCommand(),
+                getStopLiftCommand()));
+    }
+
+    /**
+     * Gets the aim and shoot command, which aims
+     * at the speaker and shoots a note from where
+     * the robot currently is, using the shot map
+     * for the distance to the speaker.
+     * 
+     * @return The aim and shoot command.
+     */
+    public static Command getAimAndShootCommand() {
+        return new AimAndShoot();
+    }
+
+    /**
+     * Gets the shoot on the move command given functions
+     * that return the x and y velocity factors for the
+     * driver to keep driving with while the robot aims
+     * at the speaker and shoots a note.
+     * 
+     * @param getX The function that returns the x velocity factor.
+     * @param getY The function that returns the y velocity factor.
+     * 
+     * @return The shoot on the move command.
+     */
+    public static Command getShootOnTheMoveCommand(DoubleSupplier getX, DoubleSupplier getY) {
+        return new ShootOnTheMove(getX, getY);
     }
 
     /**
@@ -128,12 +194,14 @@ public class ShooterCommands {
      * @return The stop shoot note command.
      */
     public static Command getStopShootNoteCommand() {
-        return new InstantCommand(
-            () -> {
-                Shooter.getInstance().stopShooter();
-                Shooter.getInstance().stopLift();
-            },
-            Shooter.getInstance());
+        return TimedCommand.timed(
+            "StopShootNote",
+            new InstantCommand(
+                () -> {
+                    Shooter.getInstance().stopShooter();
+                    Shooter.getInstance().stopLift();
+                },
+                Shooter.getInstance()));
     }
 
     /**
@@ -143,13 +211,15 @@ public class ShooterCommands {
      * @return The eject note command.
      */
     public static Command getEjectNoteCommand() {
-        return new InstantCommand(
-            () -> {
-                Intake.getInstance().runIntakeBackwards();
-                Shooter.getInstance().runLiftBackwards();
-            },
-            Intake.getInstance(),
-            Shooter.getInstance());
+        return TimedCommand.timed(
+            "EjectNote",
+            new InstantCommand(
+                () -> {
+                    Intake.getInstance().runIntakeBackwards();
+                    Shooter.getInstance().runLiftBackwards();
+                },
+                Intake.getInstance(),
+                Shooter.getInstance()));
     }
 
     /**
@@ -159,13 +229,15 @@ public class ShooterCommands {
      * @return The stop eject note command.
      */
     public static Command getStopEjectNoteCommand() {
-        return new InstantCommand(
-            () -> {
-                Intake.getInstance().stopIntake();
-                Shooter.getInstance().stopLift();
-            },
-            Intake.getInstance(),
-            Shooter.getInstance());
+        return TimedCommand.timed(
+            "StopEjectNote",
+            new InstantCommand(
+                () -> {
+                    Intake.getInstance().stopIntake();
+                    Shooter.getInstance().stopLift();
+                },
+                Intake.getInstance(),
+                Shooter.getInstance()));
     }
 
     /**
@@ -176,19 +248,21 @@ public class ShooterCommands {
      * @return The intake note command.
      */
     public static Command getIntakeNoteCommand() {
-        return new FunctionalCommand(
-            () -> {},
-            () -> {
-                Intake.getInstance().runIntakeForwards();
-                Shooter.getInstance().runLiftForwards();
-            },
-            (isFinished) -> {
-                Intake.getInstance().stopIntake();
-                Shooter.getInstance().stopLift();
-            },
-            () -> Shooter.getInstance().isLimitSwitchPressed(),
-            Intake.getInstance(),
-            Shooter.getInstance());
+        return TimedCommand.timed(
+            "IntakeNote",
+            new FunctionalCommand(
+                () -> {},
+                () -> {
+                    Intake.getInstance().runIntakeForwards();
+                    Shooter.getInstance().runLiftForwards();
+                },
+                (isFinished) -> {
+                    Intake.getInstance().stopIntake();
+                    Shooter.getInstance().stopLift();
+                },
+                () -> Shooter.getInstance().isLimitSwitchPressed(),
+                Intake.getInstance(),
+                Shooter.getInstance()));
     }
 
     /**
@@ -199,12 +273,14 @@ public class ShooterCommands {
      * @return The stop intake note command.
      */
     public static Command stopIntakeNoteCommand() {
-        return new InstantCommand(
-            () -> {
-                Intake.getInstance().stopIntake();
-                Shooter.getInstance().stopLift();
-            },
-            Intake.getInstance(),
-            Shooter.getInstance());
+        return TimedCommand.timed(
+            "StopIntakeNote",
+            new InstantCommand(
+                () -> {
+                    Intake.getInstance().stopIntake();
+                    Shooter.getInstance().stopLift();
+                },
+                Intake.getInstance(),
+                Shooter.getInstance()));
     }
 }
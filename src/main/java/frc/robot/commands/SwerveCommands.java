@@ -2,16 +2,13 @@ package frc.robot.commands;
 
 import java.util.function.DoubleSupplier;
 
-import edu.wpi.first.math.kinematics.ChassisSpeeds;
 import edu.wpi.first.wpilibj2.command.Command;
 import edu.wpi.first.wpilibj2.command.FunctionalCommand;
 import edu.wpi.first.wpilibj2.command.InstantCommand;
 import edu.wpi.first.wpilibj2.command.RunCommand;
 import edu.wpi.first.wpilibj2.command.SequentialCommandGroup;
-import edu.wpi.first.math.MathUtil;
-import frc.robot.Constants.LimelightConstants;
 import frc.robot.Constants.SwerveConstants;
-import frc.robot.helpers.LimelightHelper;
+import frc.robot.helpers.LimelightClient;
 import frc.robot.subsystems.Intake;
 import frc.robot.subsystems.Shooter;
 import frc.robot.subsystems.Swerve;
@@ -20,91 +17,6 @@ import frc.robot.subsystems.Swerve;
  * The class for the swerve commands.
  */
 public final class SwerveCommands {
-    /**
-     * The current previous note detector delta x.
-     */
-    private static double prevNoteDetectorDeltaX = 0.0;
-
-    /**
-     * The current previous note detector latency.
-     */
-    private static double prevNoteDetectorLatency = 0.0;
-
-    /**
-     * The current expected note detector delta x.
-     * This is the current note detector delta x that
-     * the note detector is expected to be at
-     * after adjusting for latency.
-     */
-    private static double expectedNoteDetectorDeltaX = 0.0;
-
-    private static double robotDeltaX = 0.0;
-
-    /**
-     * Sets the current previous note detector delta x.
-     * 
-     * @param prevNoteDetectorDeltaX The current previous
-     * note detector delta x.
-     */
-    public static void setPrevNoteDetectorDeltaX(double prevNoteDetectorDeltaX) {
-        SwerveCommands.prevNoteDetectorDeltaX = prevNoteDetectorDeltaX;
-    }
-
-    /**
-     * Sets the current previous note detector latency.
-     * 
-     * @param prevNoteDetectorLatency The current previous
-     * note detector latency.
-     */
-    public static void setPrevNoteDetectorLatency(double prevNoteDetectorLatency) {
-        SwerveCommands.prevNoteDetectorLatency = prevNoteDetectorLatency;
-    }
-
-    /**
-     * Sets the current expected note detector delta x.
-     * 
-     * @param expectedNoteDetectorDeltaX The current
-     * expected note detector delta x.
-     */
-    public static void setExpectedNoteDetectorDeltaX(double expectedNoteDetectorDeltaX) {
-        SwerveCommands.expectedNoteDetectorDeltaX = expectedNoteDetectorDeltaX;
-    }
-
-    public static void setRobotDeltaX(double robotDeltaX) {
-        SwerveCommands.robotDeltaX = robotDeltaX;
-    }
-
-    /**
-     * Gets the current previous note detector delta x.
-     * 
-     * @return The current previous note detector delta x.
-     */
-    public static double getPrevNoteDetectorDeltaX() {
-        return SwerveCommands.prevNoteDetectorDeltaX;
-    }
-
-    /**
-     * Gets the current previous note detector latency.
-     * 
-     * @return The current previous note detector latency.
-     */
-    public static double getPrevNoteDetectorLatency() {
-        return SwerveCommands.prevNoteDetectorLatency;
-    }
-
-    /**
-     * Gets the current expected note detector delta x.
-     * 
-     * @return The current expected note detector delta x.
-     */
-    public static double getExpectedNoteDetectorDeltaX() {
-        return SwerveCommands.expectedNoteDetectorDeltaX;
-    }
-
-    public static double getRobotDeltaX() {
-        return SwerveCommands.robotDeltaX;
-    }
-
     /**
      * Gets the default drive command given functions
      * that return the x, y, and rotation velocity factors 
@@ -120,13 +32,15 @@ public final class SwerveCommands {
             DoubleSupplier getX, 
             DoubleSupplier getY, 
             DoubleSupplier getRotation) {
-        return new InstantCommand(
-            () -> Swerve.getInstance().drive(
-                getX.getAsDouble(), 
-                getY.getAsDouble(), 
-                getRotation.getAsDouble()
-            ),
-            Swerve.getInstance());
+        return TimedCommand.timed(
+            "DefaultDrive",
+            new InstantCommand(
+                () -> Swerve.getInstance().drive(
+                    getX.getAsDouble(), 
+                    getY.getAsDouble(), 
+                    getRotation.getAsDouble()
+                ),
+                Swerve.getInstance()));
     }
 
     /**
@@ -137,13 +51,13 @@ public final class SwerveCommands {
      * @return The stop swerve command.
      */
     public static Command getStopSwerveCommand() {
-        return new InstantCommand(
-            () -> {
-                Swerve.getInstance().setSwerveModuleStates(
-                    SwerveConstants.SWERVE_DRIVE_KINEMATICS.toSwerveModuleStates(
-                        new ChassisSpeeds()));
-            },
-            Swerve.getInstance());
+        return TimedCommand.timed(
+            "StopSwerve",
+            new InstantCommand(
+                () -> {
+                    Swerve.getInstance().stop();
+                },
+                Swerve.getInstance()));
     }
 
     /**
@@ -157,219 +71,7 @@ public final class SwerveCommands {
      * @return The track note command.
      */
     public static Command getTrackNoteCommand() {
-        return new FunctionalCommand(
-            () -> {
-                // Get the note detector delta x.
-                double deltaX = 
-                    LimelightHelper.getTX(LimelightConstants.LIMELIGHT_NAME);
-
-                // Get the note detector latency.
-                double latency =
-                    LimelightHelper.getLatency_Capture(
-                        LimelightConstants.LIMELIGHT_NAME)
-                    + LimelightHelper.getLatency_Pipeline(
-                        LimelightConstants.LIMELIGHT_NAME);
-
-                /*
-                 * Set the current previous note detector delta x
-                 * to the current note detector delta x.
-                 */
-                setPrevNoteDetectorDeltaX(deltaX);
-
-                /*
-                 * Set the current previous note detector latency
-                 * to the current note detector latency.
-                 */
-                setPrevNoteDetectorLatency(latency);
-
-                /*
-                 * Set the current expected note detector delta x
-                 * to the current note detector delta x.
-                 */
-                setExpectedNoteDetectorDeltaX(deltaX);
-
-                // double distToNote =
-                //     Math.tan(LimelightConstants.LIMELIGHT_ANGLE + deltaY)
-                //         * LimelightConstants.LIMELIGHT_HEIGHT;
-                
-                // double xOffsetFromNote = 
-                //     (Math.sin(Math.abs(deltaX)) * distToNote)
-                //         / Math.sin((Math.PI / 2.0) - Math.abs(deltaX));
-                
-                // double robotDeltaX = 
-                //     Math.signum(deltaX) 
-                //         * Math.atan(
-                //             xOffsetFromNote
-                //                 / (LimelightConstants.LIMELIGHT_OFFSET_FROM_CENTER
-                //                     + distToNote));
-
-                // setRobotDeltaX(robotDeltaX);
-
-                // setExpectedNoteDetectorDeltaX(
-                //     LimelightHelper.getTX(LimelightConstants.LIMELIGHT_NAME));
-            },
-            () -> {
-                // // Get the note detector delta x.
-                // double deltaX = 
-                //     LimelightHelper.getTX(LimelightConstants.LIMELIGHT_NAME)
-                //         * (Math.PI / 180.0);
-
-                // // Get the note detector delta y.
-                // double deltaY =
-                //     Math.abs(
-                //         LimelightHelper.getTY(LimelightConstants.LIMELIGHT_NAME)
-                //             * (Math.PI / 180.0));
-                
-                // double distToNote =
-                //     Math.tan(LimelightConstants.LIMELIGHT_ANGLE + deltaY)
-                //         * LimelightConstants.LIMELIGHT_HEIGHT;
-                
-                // double xOffsetFromNote = 
-                //     (Math.sin(Math.abs(deltaX)) * distToNote)
-                //         / Math.sin((Math.PI / 2.0) - Math.abs(deltaX));
-                
-                // double robotDeltaX = 
-                //     Math.signum(deltaX) 
-                //         * Math.atan(
-                //             xOffsetFromNote
-                //                 / (LimelightConstants.LIMELIGHT_OFFSET_FROM_CENTER
-                //                     + distToNote));
-
-                // setRobotDeltaX(robotDeltaX);
-
-                // setExpectedNoteDetectorDeltaX(
-                //     LimelightHelper.getTX(LimelightConstants.LIMELIGHT_NAME));
-
-                // Get the note detector delta x.
-                double deltaX = 
-                    LimelightHelper.getTX(LimelightConstants.LIMELIGHT_NAME);
-
-                // Get the note detector latency.
-                double latency =
-                    LimelightHelper.getLatency_Capture(
-                        LimelightConstants.LIMELIGHT_NAME)
-                    + LimelightHelper.getLatency_Pipeline(
-                        LimelightConstants.LIMELIGHT_NAME);
-
-                // Create the expected delta x.
-                double expectedDeltaX = 0.0;
-                
-                /*
-                 * If the current previous note detector latency
-                 * equals zero, then set the expected delta x 
-                 * to the current note detector delta x, and if not, 
-                 * then calculate the expected delta x normally.
-                 * This check is done in order to prevent a
-                 * scenario wherein calculating the expected
-                 * delta x the current previous note detector
-                 * latency equals zero and is divided by in
-                 * calculating the delta x rate of change.
-                 */
-                if (getPrevNoteDetectorLatency() == 0) {
-                    expectedDeltaX = deltaX;
-                } else {
-                    /*
-                     * Get the delta x rate of change, which
-                     * is approximately how fast the note
-                     * detector delta x is changing at
-                     * the current moment of time. Uses
-                     * the current previous note detector
-                     * latency due to that being the
-                     * difference in time between
-                     * the current note detector delta x
-                     * and the current previous note detector
-                     * delta x.
-                     */
-                    double deltaXRateOfChange = 
-                        (deltaX - getPrevNoteDetectorDeltaX())
-                            / getPrevNoteDetectorLatency();
-                    
-                    /*
-                     * Get the expected delta x, which multiplies
-                     * the delta x rate of change by the current
-                     * latency in order to get the approximate 
-                     * change in delta x from the current note detector
-                     * delta x to the actual delta x, which is
-                     * then added to the current note detector
-                     * delta x to get the expected delta x.
-                     */
-                    expectedDeltaX = deltaX + (deltaXRateOfChange * latency);
-                }
-
-                /*
-                 * Set the current previous note detector delta x
-                 * to the current note detector delta x.
-                 */
-                setPrevNoteDetectorDeltaX(deltaX);
-
-                /*
-                 * Set the current previous note detector latency
-                 * to the current note detector latency.
-                 */
-                setPrevNoteDetectorLatency(latency);
-
-                /*
-                 * Set the current expected note detector delta x
-                 * to the calculated expected note detector delta x.
-                 */
-                setExpectedNoteDetectorDeltaX(expectedDeltaX);
-
-                /*
-                 * Set the swerve drive subsystem to rotate
-                 * towards the note. The rotational velocity
-                 * to set the swerve drive subsystem to
-                 * is made to scale quadratically with the 
-                 * expected delta x and is also clamped to a 
-                 * rotational velocity range. This calculated 
-                 * rotational velocity is then set to rotate 
-                 * the robot towards the note, which is done by 
-                 * multiplying it by the opposite sign of the 
-                 * sign of the expected delta x.
-                 */
-                Swerve.getInstance().setSwerveModuleStates(
-                    SwerveConstants.SWERVE_DRIVE_KINEMATICS.toSwerveModuleStates(
-                        new ChassisSpeeds(
-                            0.0,
-                            0.0,
-                            -Math.signum(expectedDeltaX)
-                                * MathUtil.clamp(
-                                    Math.pow(expectedDeltaX, 2.0)
-                                        * SwerveConstants.TRACK_NOTE_ROTATIONAL_VELOCITY,
-                                    SwerveConstants.TRACK_NOTE_SLOW_ROTATIONAL_VELOCITY,
-                                    SwerveConstants.TRACK_NOTE_ROTATIONAL_VELOCITY))));
-                
-                // double robotAngle =
-                //     Swerve.getInstance().getRobotPose()
-                //         .getRotation()
-                //         .getRadians();
-
-                // double desiredRobotAngle = 
-                //     robotAngle - getRobotDeltaX();
-                
-                // Swerve.getInstance().setSwerveModuleStates(
-                //     SwerveConstants.SWERVE_DRIVE_KINEMATICS.toSwerveModuleStates(
-                //         new ChassisSpeeds(
-                //             0.0,
-                //             0.0,
-                //             Swerve.getInstance().getHolonomicDriveController()
-                //                 .getThetaController()
-                //                 .calculate(
-                //                     robotAngle,
-                //                     desiredRobotAngle))));
-            },
-            (isFinished) -> {
-                /*
-                 * Set the swerve drive subsystem to stop after the robot
-                 * has rotated to point towards the note.
-                 */
-                Swerve.getInstance().setSwerveModuleStates(
-                    SwerveConstants.SWERVE_DRIVE_KINEMATICS.toSwerveModuleStates(
-                        new ChassisSpeeds()));
-            },
-            () -> Math.abs(getExpectedNoteDetectorDeltaX()) 
-                    <= SwerveConstants.TRACK_NOTE_OFFSET_DEADBAND
-                || !LimelightHelper.getTV(LimelightConstants.LIMELIGHT_NAME),
-            Swerve.getInstance());
+        return new NoteTracker();
     }
 
     /**
@@ -382,39 +84,37 @@ public final class SwerveCommands {
      * @return The acquire note command.
      */
     public static Command getAcquireNoteCommand() {
-        return new SequentialCommandGroup(
-            new FunctionalCommand(
-            () -> {}, 
-            () -> {
-                // Run the intake forwards and the lift forwards.
-                Intake.getInstance().runIntakeForwards();
-                Shooter.getInstance().runLiftForwards();
+        return TimedCommand.timed(
+            "AcquireNote",
+            new SequentialCommandGroup(
+                new FunctionalCommand(
+                () -> {}, 
+                () -> {
+                    // Run the intake forwards and the lift forwards.
+                    Intake.getInstance().runIntakeForwards();
+                    Shooter.getInstance().runLiftForwards();
 
-                /*
-                 * Set the swerve drive subsystem to drive forward
-                 * at the acquire note linear velocity.
-                 */
-                Swerve.getInstance().setSwerveModuleStates(
-                    SwerveConstants.SWERVE_DRIVE_KINEMATICS.toSwerveModuleStates(
-                        new ChassisSpeeds(
-                            SwerveConstants.ACQUIRE_NOTE_LINEAR_VELOCITY, 
-                            0.0, 
-                            0.0)));                
-            }, 
-            (isFinished) -> {
-                /*
-                 * Set the swerve drive subsystem to stop after
-                 * the note has been acquired.
-                 */
-                Swerve.getInstance().setSwerveModuleStates(
-                    SwerveConstants.SWERVE_DRIVE_KINEMATICS.toSwerveModuleStates(
-                        new ChassisSpeeds()));
-            }, 
-            () -> !LimelightHelper.getTV(LimelightConstants.LIMELIGHT_NAME),
-            Intake.getInstance(),
-            Shooter.getInstance(),
-            Swerve.getInstance())
-                .withTimeout(SwerveConstants.ACQUIRE_NOTE_TIMEOUT));
+                    /*
+                     * Set the swerve drive subsystem to drive forward
+                     * at the acquire note linear velocity.
+                     */
+                    Swerve.getInstance().driveRobotRelative(
+                        SwerveConstants.ACQUIRE_NOTE_LINEAR_VELOCITY, 
+                        0.0, 
+                        0.0);                
+                }, 
+                (isFinished) -> {
+                    /*
+                     * Set the swerve drive subsystem to stop after
+                     * the note has been acquired.
+                     */
+                    Swerve.getInstance().stop();
+                }, 
+                () -> !LimelightClient.getInstance().hasTarget(),
+                Intake.getInstance(),
+                Shooter.getInstance(),
+                Swerve.getInstance())
+                    .withTimeout(SwerveConstants.ACQUIRE_NOTE_TIMEOUT)));
     }
 
     /**
@@ -431,12 +131,14 @@ public final class SwerveCommands {
      * @return The track and acquire note command.
      */
     public static Command getTrackAndAcquireNoteCommand() {
-        return new SequentialCommandGroup(
-            getTrackNoteCommand(),
-            getAcquireNoteCommand())
-                .onlyIf(
-                    () -> 
-                        LimelightHelper.getTV(LimelightConstants.LIMELIGHT_NAME));
+        return TimedCommand.timed(
+            "TrackAndAcquireNote",
+            new SequentialCommandGroup(
+                getTrackNoteCommand(),
+                getAcquireNoteCommand())
+                    .onlyIf(
+                        () -> 
+                            LimelightClient.getInstance().hasTarget()));
     }
 
     /**
@@ -450,18 +152,18 @@ public final class SwerveCommands {
      * @return The stop track and acquire note command.
      */
     public static Command getStopTrackAndAcquireNoteCommand() {
-        return new InstantCommand(
-            () -> {
-                Intake.getInstance().stopIntake();
-                Shooter.getInstance().stopLift();
+        return TimedCommand.timed(
+            "StopTrackAndAcquireNote",
+            new InstantCommand(
+                () -> {
+                    Intake.getInstance().stopIntake();
+                    Shooter.getInstance().stopLift();
 
-                Swerve.getInstance().setSwerveModuleStates(
-                    SwerveConstants.SWERVE_DRIVE_KINEMATICS.toSwerveModuleStates(
-                        new ChassisSpeeds()));
-            },
-            Intake.getInstance(),
-            Shooter.getInstance(),
-            Swerve.getInstance());
+                    Swerve.getInstance().stop();
+                },
+                Intake.getInstance(),
+                Shooter.getInstance(),
+                Swerve.getInstance()));
     }
 
     /**
@@ -478,16 +180,18 @@ public final class SwerveCommands {
      * @return The lock wheels command.
      */
     public static Command getLockWheelsCommand() {
-        return new RunCommand(
-            () -> {
-                Swerve.getInstance().setSwerveModuleAngles(
-                    new double[]{
-                        (7.0 * Math.PI) / 4.0,
-                        Math.PI / 4.0,
-                        (5.0 * Math.PI) / 4.0,
-                        (3.0 * Math.PI) / 4.0});
-            },
-            Swerve.getInstance());
+        return TimedCommand.timed(
+            "LockWheels",
+            new RunCommand(
+                () -> {
+                    Swerve.getInstance().setSwerveModuleAngles(
+                        new double[]{
+                            (7.0 * Math.PI) / 4.0,
+                            Math.PI / 4.0,
+                            (5.0 * Math.PI) / 4.0,
+                            (3.0 * Math.PI) / 4.0});
+                },
+                Swerve.getInstance()));
     }
 
     /**
@@ -502,9 +206,11 @@ public final class SwerveCommands {
      * @return The set slow mode command.
      */
     public static Command getSetSlowModeCommand(boolean isActive) {
-        return new InstantCommand(
-            () -> Swerve.getInstance().setSlowMode(isActive),
-            Swerve.getInstance());
+        return TimedCommand.timed(
+            "SetSlowMode",
+            new InstantCommand(
+                () -> Swerve.getInstance().setSlowMode(isActive),
+                Swerve.getInstance()));
     }
 
     /**
@@ -514,8 +220,10 @@ public final class SwerveCommands {
      * @return The toggle robot relative mode command.
      */
     public static Command getToggleRobotRelativeModeCommand() {
-        return new InstantCommand(
-            () -> Swerve.getInstance().toggleRobotRelativeMode(),
-            Swerve.getInstance());
+        return TimedCommand.timed(
+            "ToggleRobotRelativeMode",
+            new InstantCommand(
+                () -> Swerve.getInstance().toggleRobotRelativeMode(),
+                Swerve.getInstance()));
     }
 }
@@ -0,0 +1,111 @@
+package frc.robot.commands;
+
+import edu.wpi.first.wpilibj2.command.Command;
+import edu.wpi.first.wpilibj2.command.WrapperCommand;
+import frc.robot.helpers.LoopTimer;
+
+/**
+ * The base class for a command whose execute method is timed
+ * by the {@link LoopTimer}.
+ * <br></br>
+ * Commands override {@link #timedExecute()} instead of
+ * {@link #execute()}, and the time it takes is recorded under
+ * the class name of the command, so that every instance of a
+ * command class shares one channel. Commands that are built
+ * from the WPILib command classes in the command factories are
+ * timed by wrapping them with {@link #timed(String, Command)}
+ * instead, under the name of the factory that builds them.
+ */
+public abstract class TimedCommand extends Command {
+    /**
+     * The loop timer channel for the command execute method.
+     */
+    private final LoopTimer.Channel executeChannel =
+        LoopTimer.getInstance().getChannel("Commands/" + getClass().getSimpleName());
+
+    /**
+     * Wraps the given command so that it is timed by the
+     * {@link LoopTimer} under the given name.
+     *
+     * @param name The name that the command is timed under.
+     * @param command The command to time.
+     *
+     * @return The timed command.
+     */
+    public static Command timed(String name, Command command) {
+        return new TimedWrapperCommand(name, command);
+    }
+
+    /**
+     * The execute method for the command. This method is run
+     * by the command scheduler every 20 ms while the command is
+     * scheduled, and it times {@link #timedExecute()}.
+     */
+    @Override
+    public final void execute() {
+        executeChannel.start();
+
+        timedExecute();
+
+        executeChannel.stop();
+    }
+
+    /**
+     * The timed execute method for the command. This method is
+     * run by {@link #execute()} every 20 ms.
+     */
+    protected void timedExecute() {}
+
+    /**
+     * The class for a command that times the command that it wraps.
+     * <br></br>
+     * The initialize, execute, and end methods of the wrapped command
+     * are each timed, as the commands built in the command factories,
+     * such as instant commands, can do their work in any of them.
+     */
+    private static final class TimedWrapperCommand extends WrapperCommand {
+        /**
+         * The loop timer channel for the wrapped command.
+         */
+        private final LoopTimer.Channel channel;
+
+        /**
+         * The constructor for the {@link TimedWrapperCommand} class.
+         *
+         * @param name The name that the command is timed under.
+         * @param command The command to time.
+         */
+        private TimedWrapperCommand(String name, Command command) {
+            super(command);
+
+            channel = LoopTimer.getInstance().getChannel("Commands/" + name);
+        }
+
+        @Override
+        public void initialize() {
+            channel.start();
+
+            super.initialize();
+
+            channel.stop();
+        }
+
+        @Override
+        public void execute() {
+            channel.start();
+
+            super.execute();
+
+            channel.stop();
+        }
+
+        @Override
+        public void end(boolean interrupted) {
+            channel.start();
+
+            super.end(interrupted);
+
+            channel.stop();
+        }
+    }
+}
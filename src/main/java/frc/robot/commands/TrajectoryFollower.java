@@ -0,0 +1,324 @@
+package frc.robot.commands;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.pathplanner.lib.path.PathPlannerTrajectory;
+import com.pathplanner.lib.path.PathPlannerTrajectory.State;
+
+import edu.wpi.first.math.MathUtil;
+import edu.wpi.first.math.Pair;
+import edu.wpi.first.math.controller.HolonomicDriveController;
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.wpilibj.Timer;
+import edu.wpi.first.wpilibj2.command.Command;
+import edu.wpi.first.wpilibj2.command.CommandScheduler;
+import frc.robot.subsystems.Swerve;
+
+/**
+ * The command for following a path planner trajectory with
+ * the swerve drive subsystem.
+ * <br></br>
+ * Each instance holds its own trajectory, start time, and
+ * sampling cursor, so that multiple followers never share state.
+ * The trajectory is sampled by walking a cursor forwards through
+ * the trajectory states and interpolating on primitive doubles,
+ * and the holonomic drive control is done on primitive doubles,
+ * so that following the trajectory does not allocate every loop.
+ * <br></br>
+ * The event marker commands of the trajectory are scheduled once
+ * the time along the trajectory reaches their marker time, so that
+ * they run alongside the path instead of after it.
+ */
+public final class TrajectoryFollower extends TimedCommand {
+    /**
+     * The function that creates the trajectory to follow. This is
+     * called when the command is initialized, so that the trajectory
+     * can start from the robot pose at that time.
+     */
+    private final Supplier<PathPlannerTrajectory> trajectorySupplier;
+
+    /**
+     * The trajectory being followed.
+     */
+    private PathPlannerTrajectory trajectory = null;
+
+    /**
+     * The states of the trajectory being followed.
+     */
+    private List<State> trajectoryStates = null;
+
+    /**
+     * The time that the command started following the trajectory.
+     */
+    private double startTime = 0.0;
+
+    /**
+     * The index of the trajectory state at or before the
+     * current time along the trajectory.
+     */
+    private int cursor = 0;
+
+    /**
+     * The event marker commands of the trajectory being followed,
+     * sorted by the time along the trajectory that they are
+     * scheduled at, in seconds.
+     */
+    private final List<Pair<Double, Command>> eventCommands = new ArrayList<>();
+
+    /**
+     * The index of the next event marker command to be scheduled.
+     */
+    private int eventCursor = 0;
+
+    /**
+     * The sampled x position, in meters.
+     */
+    private double sampleX = 0.0;
+
+    /**
+     * The sampled y position, in meters.
+     */
+    private double sampleY = 0.0;
+
+    /**
+     * The sampled heading of the direction of travel, in radians.
+     */
+    private double sampleHeading = 0.0;
+
+    /**
+     * The sampled velocity, in m/s.
+     */
+    private double sampleVelocity = 0.0;
+
+    /**
+     * The sampled target holonomic rotation, in radians.
+     */
+    private double sampleHolonomicRotation = 0.0;
+
+    /**
+     * The constructor for the {@link TrajectoryFollower} class.
+     *
+     * @param trajectorySupplier The function that creates the
+     * trajectory to follow when the command is initialized.
+     */
+    public TrajectoryFollower(Supplier<PathPlannerTrajectory> trajectorySupplier) {
+        this.trajectorySupplier = trajectorySupplier;
+
+        addRequirements(Swerve.getInstance());
+    }
+
+    /**
+     * Gets the trajectory being followed.
+     *
+     * @return The trajectory being followed, or null if
+     * the command has not been initialized.
+     */
+    public PathPlannerTrajectory getTrajectory() {
+        return trajectory;
+    }
+
+    /**
+     * Gets the time along the trajectory.
+     *
+     * @return The time along the trajectory, in seconds.
+     */
+    public double getElapsedTime() {
+        return Timer.getFPGATimestamp() - startTime;
+    }
+
+    @Override
+    public void initialize() {
+        // Create the trajectory to follow.
+        trajectory = trajectorySupplier.get();
+        trajectoryStates = trajectory.getStates();
+
+        cursor = 0;
+
+        /*
+         * Copy the event marker commands of the trajectory and sort
+         * them by time, so that they can be scheduled in order by
+         * walking a cursor forwards through them.
+         */
+        eventCommands.clear();
+        eventCommands.addAll(trajectory.getEventCommands());
+        eventCommands.sort(Comparator.comparingDouble(Pair::getFirst));
+
+        eventCursor = 0;
+
+        /*
+         * Reset the swerve drive holonomic drive controllers
+         * to the current robot pose.
+         */
+        HolonomicDriveController swerveController =
+            Swerve.getInstance().getHolonomicDriveController();
+
+        swerveController.getXController().reset();
+        swerveController.getYController().reset();
+        swerveController.getThetaController().reset(
+            Swerve.getInstance().getRobotPose().getRotation().getRadians());
+
+        // Set the start time.
+        startTime = Timer.getFPGATimestamp();
+    }
+
+    @Override
+    protected void timedExecute() {
+        double elapsedTime = getElapsedTime();
+
+        // Schedule the event marker commands that are now due.
+        scheduleEventCommands(elapsedTime);
+
+        // Sample the trajectory at the current time along it.
+        sample(elapsedTime);
+
+        HolonomicDriveController swerveController =
+            Swerve.getInstance().getHolonomicDriveController();
+
+        Pose2d robotPose = Swerve.getInstance().getRobotPose();
+
+        /*
+         * Calculate the field relative velocities as the trajectory
+         * velocity feedforward plus the x and y controller feedback,
+         * and the rotational velocity from the theta controller, which
+         * is the same calculation as the holonomic drive controller.
+         */
+        double xVelocity = sampleVelocity * Math.cos(sampleHeading)
+            + swerveController.getXController().calculate(robotPose.getX(), sampleX);
+        double yVelocity = sampleVelocity * Math.sin(sampleHeading)
+            + swerveController.getYController().calculate(robotPose.getY(), sampleY);
+        double rotationalVelocity = swerveController.getThetaController().calculate(
+            robotPose.getRotation().getRadians(),
+            sampleHolonomicRotation);
+
+        /*
+         * Rotate the field relative velocities by the negative
+         * of the current robot angle to get the robot
+         * relative velocities.
+         */
+        double cos = robotPose.getRotation().getCos();
+        double sin = robotPose.getRotation().getSin();
+
+        Swerve.getInstance().driveRobotRelative(
+            xVelocity * cos + yVelocity * sin,
+            -xVelocity * sin + yVelocity * cos,
+            rotationalVelocity);
+    }
+
+    @Override
+    public void end(boolean interrupted) {
+        /*
+         * If the path finished, then schedule any event marker
+         * commands at the very end of the path that were not
+         * yet due on the last loop.
+         */
+        if (!interrupted) {
+            scheduleEventCommands(Double.POSITIVE_INFINITY);
+        }
+
+        // Set the swerve subsystem to stop after the path has finished.
+        Swerve.getInstance().stop();
+    }
+
+    @Override
+    public boolean isFinished() {
+        return getElapsedTime() > trajectory.getTotalTimeSeconds();
+    }
+
+    /**
+     * Schedules every event marker command whose time is at or
+     * before the given time and that has not been scheduled yet.
+     *
+     * @param time The time along the trajectory, in seconds.
+     */
+    private void scheduleEventCommands(double time) {
+        while (eventCursor < eventCommands.size()
+                && eventCommands.get(eventCursor).getFirst() <= time) {
+            CommandScheduler.getInstance().schedule(
+                eventCommands.get(eventCursor).getSecond());
+
+            eventCursor++;
+        }
+    }
+
+    /**
+     * Samples the trajectory at the given time into the sample fields.
+     * <br></br>
+     * The cursor only ever moves forwards, so that each call is
+     * amortized constant time, and the trajectory states are
+     * interpolated in the same way as {@code PathPlannerTrajectory.sample}.
+     *
+     * @param time The time along the trajectory, in seconds.
+     */
+    private void sample(double time) {
+        int lastIndex = trajectoryStates.size() - 1;
+
+        /*
+         * Move the cursor forwards to the last trajectory
+         * state at or before the time.
+         */
+        while (cursor < lastIndex
+                && trajectoryStates.get(cursor + 1).timeSeconds <= time) {
+            cursor++;
+        }
+
+        State start = trajectoryStates.get(cursor);
+
+        /*
+         * If the time is before the start or after the end of the
+         * trajectory, then hold the nearest trajectory state.
+         */
+        if (cursor == lastIndex || time <= start.timeSeconds) {
+            setSample(start, start, 0.0);
+
+            return;
+        }
+
+        State end = trajectoryStates.get(cursor + 1);
+
+        setSample(
+            start,
+            end,
+            (time - start.timeSeconds) / (end.timeSeconds - start.timeSeconds));
+    }
+
+    /**
+     * Sets the sample fields by interpolating between
+     * the given trajectory states.
+     *
+     * @param start The trajectory state to interpolate from.
+     * @param end The trajectory state to interpolate to.
+     * @param t The interpolation fraction, on the interval [0, 1].
+     */
+    private void setSample(State start, State end, double t) {
+        sampleX = MathUtil.interpolate(
+            start.positionMeters.getX(), end.positionMeters.getX(), t);
+        sampleY = MathUtil.interpolate(
+            start.positionMeters.getY(), end.positionMeters.getY(), t);
+        sampleVelocity = MathUtil.interpolate(
+            start.velocityMps, end.velocityMps, t);
+
+        sampleHeading = interpolateAngle(
+            start.heading.getRadians(), end.heading.getRadians(), t);
+        sampleHolonomicRotation = interpolateAngle(
+            start.targetHolonomicRotation.getRadians(),
+            end.targetHolonomicRotation.getRadians(),
+            t);
+    }
+
+    /**
+     * Interpolates between two angles along the shorter
+     * direction, which matches {@code Rotation2d.interpolate}.
+     *
+     * @param start The angle to interpolate from, in radians.
+     * @param end The angle to interpolate to, in radians.
+     * @param t The interpolation fraction, on the interval [0, 1].
+     *
+     * @return The interpolated angle, in radians.
+     */
+    private static double interpolateAngle(double start, double end, double t) {
+        return MathUtil.angleModulus(start + MathUtil.angleModulus(end - start) * t);
+    }
+}
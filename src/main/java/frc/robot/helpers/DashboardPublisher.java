@@ -0,0 +1,283 @@
+package frc.robot.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.networktables.BooleanPublisher;
+import edu.wpi.first.networktables.NetworkTable;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.wpilibj.Timer;
+import edu.wpi.first.wpilibj.smartdashboard.FieldObject2d;
+import frc.robot.Constants.DashboardConstants;
+
+/**
+ * The class for the dashboard publisher.
+ * <br></br>
+ * Publishes values to the dashboard through entries that hold a cached
+ * typed publisher, so that publishing a value does not look up or build
+ * the key. Each entry only publishes its value when it changes, and at
+ * most once per publish period, which keeps the main loop time and the
+ * radio bandwidth down. A change that is held back by the publish period
+ * is published by {@link #update()} once the publish period has passed,
+ * so the dashboard always ends up showing the latest value.
+ */
+public final class DashboardPublisher {
+    /**
+     * The instance of the {@link DashboardPublisher} class.
+     */
+    private static DashboardPublisher dashboardPublisher = null;
+
+    /**
+     * The NetworkTables table that the values are published to.
+     */
+    private final NetworkTable table =
+        NetworkTableInstance.getDefault().getTable(DashboardConstants.TABLE_NAME);
+
+    /**
+     * The entries, which are checked for held back changes every loop.
+     */
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * Gets the instance of the {@link DashboardPublisher} class.
+     *
+     * @return The instance of the {@link DashboardPublisher} class.
+     */
+    public static DashboardPublisher getInstance() {
+        if (dashboardPublisher == null) {
+            dashboardPublisher = new DashboardPublisher();
+        }
+
+        return dashboardPublisher;
+    }
+
+    /**
+     * The constructor for the {@link DashboardPublisher} class.
+     */
+    private DashboardPublisher() {}
+
+    /**
+     * Creates an entry that publishes a boolean to the dashboard.
+     *
+     * @param name The name of the value on the dashboard.
+     * @param publishPeriod The minimum time between publishes, in seconds.
+     * @param initialValue The value to publish right away.
+     *
+     * @return The entry.
+     */
+    public BooleanEntry createBooleanEntry(String name, double publishPeriod, boolean initialValue) {
+        BooleanEntry entry = new BooleanEntry(name, publishPeriod, initialValue);
+
+        entries.add(entry);
+
+        return entry;
+    }
+
+    /**
+     * Creates an entry that publishes the pose of an object on a field
+     * on the dashboard.
+     *
+     * @param fieldObject The object on the field.
+     * @param publishPeriod The minimum time between publishes, in seconds.
+     *
+     * @return The entry.
+     */
+    public FieldObjectEntry createFieldObjectEntry(FieldObject2d fieldObject, double publishPeriod) {
+        FieldObjectEntry entry = new FieldObjectEntry(fieldObject, publishPeriod);
+
+        entries.add(entry);
+
+        return entry;
+    }
+
+    /**
+     * Publishes the held back changes of every entry whose
+     * publish period has passed. This is called every loop.
+     */
+    public void update() {
+        double timestamp = Timer.getFPGATimestamp();
+
+        for (int i = 0; i < entries.size(); i++) {
+            entries.get(i).update(timestamp);
+        }
+    }
+
+    /**
+     * The base class for a dashboard entry, which publishes
+     * one value when it changes, at a limited rate.
+     */
+    public abstract class Entry {
+        /**
+         * The minimum time between publishes, in seconds.
+         */
+        private final double publishPeriod;
+
+        /**
+         * The time that the value was last published, in seconds.
+         */
+        private double lastPublishTime = Double.NEGATIVE_INFINITY;
+
+        /**
+         * Whether or not the value has changed since it was last published.
+         */
+        private boolean isPending = false;
+
+        /**
+         * The constructor for the {@link Entry} class.
+         *
+         * @param publishPeriod The minimum time between publishes, in seconds.
+         */
+        private Entry(double publishPeriod) {
+            this.publishPeriod = publishPeriod;
+        }
+
+        /**
+         * Publishes the value.
+         */
+        protected abstract void publish();
+
+        /**
+         * Sets whether or not the value differs from the published value,
+         * and publishes it right away if it does and the publish period
+         * has passed.
+         *
+         * @param hasChanged Whether or not the value differs
+         * from the published value.
+         */
+        protected final void setChanged(boolean hasChanged) {
+            isPending = hasChanged;
+
+            if (isPending) {
+                update(Timer.getFPGATimestamp());
+            }
+        }
+
+        /**
+         * Publishes the value if it has changed and
+         * the publish period has passed.
+         *
+         * @param timestamp The current time, in seconds.
+         */
+        private void update(double timestamp) {
+            if (!isPending || timestamp - lastPublishTime < publishPeriod) {
+                return;
+            }
+
+            publish();
+
+            isPending = false;
+            lastPublishTime = timestamp;
+        }
+    }
+
+    /**
+     * The class for a dashboard entry that publishes a boolean.
+     */
+    public final class BooleanEntry extends Entry {
+        /**
+         * The publisher for the value.
+         */
+        private final BooleanPublisher publisher;
+
+        /**
+         * The latest value.
+         */
+        private boolean value;
+
+        /**
+         * The value that was last published.
+         */
+        private boolean publishedValue;
+
+        /**
+         * The constructor for the {@link BooleanEntry} class.
+         *
+         * @param name The name of the value on the dashboard.
+         * @param publishPeriod The minimum time between publishes, in seconds.
+         * @param initialValue The value to publish right away.
+         */
+        private BooleanEntry(String name, double publishPeriod, boolean initialValue) {
+            super(publishPeriod);
+
+            publisher = table.getBooleanTopic(name).publish();
+
+            value = initialValue;
+            publishedValue = initialValue;
+
+            publisher.set(initialValue);
+        }
+
+        /**
+         * Sets the value, which is published if it changed.
+         *
+         * @param value The value.
+         */
+        public void set(boolean value) {
+            this.value = value;
+
+            setChanged(value != publishedValue);
+        }
+
+        @Override
+        protected void publish() {
+            publisher.set(value);
+
+            publishedValue = value;
+        }
+    }
+
+    /**
+     * The class for a dashboard entry that publishes
+     * the pose of an object on a field.
+     */
+    public final class FieldObjectEntry extends Entry {
+        /**
+         * The object on the field.
+         */
+        private final FieldObject2d fieldObject;
+
+        /**
+         * The latest pose.
+         */
+        private Pose2d pose;
+
+        /**
+         * The pose that was last published.
+         */
+        private Pose2d publishedPose;
+
+        /**
+         * The constructor for the {@link FieldObjectEntry} class.
+         *
+         * @param fieldObject The object on the field.
+         * @param publishPeriod The minimum time between publishes, in seconds.
+         */
+        private FieldObjectEntry(FieldObject2d fieldObject, double publishPeriod) {
+            super(publishPeriod);
+
+            this.fieldObject = fieldObject;
+
+            pose = fieldObject.getPose();
+            publishedPose = pose;
+        }
+
+        /**
+         * Sets the pose, which is published if it changed.
+         *
+         * @param pose The pose.
+         */
+        public void set(Pose2d pose) {
+            this.pose = pose;
+
+            setChanged(!pose.equals(publishedPose));
+        }
+
+        @Override
+        protected void publish() {
+            fieldObject.setPose(pose);
+
+            publishedPose = pose;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package frc.robot.helpers;
+
+import edu.wpi.first.wpilibj.DigitalInput;
+import edu.wpi.first.wpilibj2.command.button.Trigger;
+
+/**
+ * The class for a digital input that is sampled by the
+ * {@link DigitalInputService}.
+ * <br></br>
+ * The digital input is read and debounced on the digital input service
+ * thread, and the edges that it sees are latched with their FPGA
+ * timestamps until the next loop, so that a pulse shorter than a loop
+ * is still seen. The state and edges returned by the getters are only
+ * updated once per loop, by {@link DigitalInputService#update()}, so
+ * they stay the same for the whole loop.
+ */
+public final class DebouncedInput {
+    /**
+     * The digital input.
+     */
+    private final DigitalInput digitalInput;
+
+    /**
+     * Whether or not the digital input is active when it reads low.
+     */
+    private final boolean isInverted;
+
+    /**
+     * The time that the digital input must hold a new state
+     * for before the new state is accepted, in seconds.
+     */
+    private final double debounceTime;
+
+    /**
+     * The last state read from the digital input on the
+     * digital input service thread.
+     */
+    private boolean sampledState;
+
+    /**
+     * The time that the digital input last changed to the
+     * last state read from it, in seconds.
+     */
+    private double sampledStateTime;
+
+    /**
+     * The debounced state on the digital input service thread.
+     */
+    private boolean debouncedState;
+
+    /**
+     * Whether or not a rising edge was seen on the digital
+     * input service thread since the last loop.
+     */
+    private boolean hasPendingRise = false;
+
+    /**
+     * Whether or not a falling edge was seen on the digital
+     * input service thread since the last loop.
+     */
+    private boolean hasPendingFall = false;
+
+    /**
+     * The time of the latest rising edge seen on the digital
+     * input service thread, in seconds.
+     */
+    private double pendingRiseTimestamp = Double.NaN;
+
+    /**
+     * The time of the latest falling edge seen on the digital
+     * input service thread, in seconds.
+     */
+    private double pendingFallTimestamp = Double.NaN;
+
+    /**
+     * The debounced state this loop.
+     */
+    private boolean isActive;
+
+    /**
+     * Whether or not a rising edge was seen since the last loop.
+     */
+    private boolean hasRisen = false;
+
+    /**
+     * Whether or not a falling edge was seen since the last loop.
+     */
+    private boolean hasFallen = false;
+
+    /**
+     * The time of the latest rising edge, in seconds.
+     */
+    private double riseTimestamp = Double.NaN;
+
+    /**
+     * The time of the latest falling edge, in seconds.
+     */
+    private double fallTimestamp = Double.NaN;
+
+    /**
+     * The constructor for the {@link DebouncedInput} class.
+     *
+     * @param channel The DIO channel of the digital input.
+     * @param isInverted Whether or not the digital input
+     * is active when it reads low.
+     * @param debounceTime The time that the digital input must hold
+     * a new state for before the new state is accepted, in seconds.
+     * @param timestamp The current time, in seconds.
+     */
+    DebouncedInput(int channel, boolean isInverted, double debounceTime, double timestamp) {
+        this.digitalInput = new DigitalInput(channel);
+        this.isInverted = isInverted;
+        this.debounceTime = debounceTime;
+
+        sampledState = read();
+        sampledStateTime = timestamp;
+        debouncedState = sampledState;
+        isActive = sampledState;
+    }
+
+    /**
+     * Reads the digital input.
+     *
+     * @return Whether or not the digital input is active.
+     */
+    boolean read() {
+        return digitalInput.get() != isInverted;
+    }
+
+    /**
+     * Debounces the given state read from the digital input, and
+     * latches an edge if the debounced state changes. This is run
+     * on the digital input service thread with its lock held.
+     *
+     * @param state The state read from the digital input.
+     * @param timestamp The time that the state was read, in seconds.
+     */
+    void sample(boolean state, double timestamp) {
+        if (state != sampledState) {
+            sampledState = state;
+            sampledStateTime = timestamp;
+        }
+
+        if (sampledState == debouncedState
+                || timestamp - sampledStateTime < debounceTime) {
+            return;
+        }
+
+        debouncedState = sampledState;
+
+        /*
+         * Latch the edge at the time that the digital input
+         * changed, instead of when the change was accepted.
+         */
+        if (debouncedState) {
+            hasPendingRise = true;
+            pendingRiseTimestamp = sampledStateTime;
+        } else {
+            hasPendingFall = true;
+            pendingFallTimestamp = sampledStateTime;
+        }
+    }
+
+    /**
+     * Copies the debounced state and the edges latched since the last
+     * loop into the state for this loop, and clears the latched edges.
+     * This is run on the main thread with the digital input service
+     * lock held.
+     */
+    void latch() {
+        isActive = debouncedState;
+
+        hasRisen = hasPendingRise;
+        hasFallen = hasPendingFall;
+
+        riseTimestamp = pendingRiseTimestamp;
+        fallTimestamp = pendingFallTimestamp;
+
+        hasPendingRise = false;
+        hasPendingFall = false;
+    }
+
+    /**
+     * Gets whether or not the digital input is active this loop.
+     *
+     * @return Whether or not the digital input is active.
+     */
+    public boolean isActive() {
+        return isActive;
+    }
+
+    /**
+     * Gets whether or not the digital input became
+     * active since the last loop.
+     *
+     * @return Whether or not there was a rising edge since the last loop.
+     */
+    public boolean hasRisen() {
+        return hasRisen;
+    }
+
+    /**
+     * Gets whether or not the digital input became
+     * inactive since the last loop.
+     *
+     * @return Whether or not there was a falling edge since the last loop.
+     */
+    public boolean hasFallen() {
+        return hasFallen;
+    }
+
+    /**
+     * Gets the time that the digital input last became active.
+     *
+     * @return The FPGA timestamp of the latest rising edge, in
+     * seconds, or NaN if there has not been a rising edge.
+     */
+    public double getRiseTimestamp() {
+        return riseTimestamp;
+    }
+
+    /**
+     * Gets the time that the digital input last became inactive.
+     *
+     * @return The FPGA timestamp of the latest falling edge, in
+     * seconds, or NaN if there has not been a falling edge.
+     */
+    public double getFallTimestamp() {
+        return fallTimestamp;
+    }
+
+    /**
+     * Gets a trigger that is true while the digital input is active.
+     *
+     * @return The active trigger.
+     */
+    public Trigger getActiveTrigger() {
+        return new Trigger(this::isActive);
+    }
+
+    /**
+     * Gets a trigger that is true for the loop after
+     * the digital input becomes active.
+     *
+     * @return The rising edge trigger.
+     */
+    public Trigger getRisingEdgeTrigger() {
+        return new Trigger(this::hasRisen);
+    }
+
+    /**
+     * Gets a trigger that is true for the loop after
+     * the digital input becomes inactive.
+     *
+     * @return The falling edge trigger.
+     */
+    public Trigger getFallingEdgeTrigger() {
+        return new Trigger(this::hasFallen);
+    }
+}
@@ -0,0 +1,160 @@
+package frc.robot.helpers;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import edu.wpi.first.wpilibj.Notifier;
+import edu.wpi.first.wpilibj.Timer;
+import frc.robot.Constants.DigitalInputConstants;
+
+/**
+ * The class for the digital input service.
+ * <br></br>
+ * Reads every registered digital input once per sample at the sample
+ * frequency, which is independent of the 20 ms main robot loop, and
+ * debounces them and latches their edges on its own thread. Once per
+ * loop, {@link #update()} hands the debounced states and the latched
+ * edges to the main thread, so that every reader sees the same state
+ * for the whole loop without reading the digital inputs again.
+ */
+public final class DigitalInputService {
+    /**
+     * The instance of the {@link DigitalInputService} class.
+     */
+    private static DigitalInputService digitalInputService = null;
+
+    /**
+     * The registered digital inputs.
+     */
+    private final DebouncedInput[] inputs =
+        new DebouncedInput[DigitalInputConstants.MAX_INPUTS];
+
+    /**
+     * The number of registered digital inputs.
+     */
+    private int inputCount = 0;
+
+    /**
+     * The scratch states that a sample is read into
+     * before the lock is acquired.
+     */
+    private final boolean[] sampledStates =
+        new boolean[DigitalInputConstants.MAX_INPUTS];
+
+    /**
+     * The lock that protects the digital input states.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * The notifier that runs the digital input service thread.
+     */
+    private final Notifier notifier = new Notifier(this::sample);
+
+    /**
+     * Gets the instance of the {@link DigitalInputService} class.
+     *
+     * @return The instance of the {@link DigitalInputService} class.
+     */
+    public static DigitalInputService getInstance() {
+        if (digitalInputService == null) {
+            digitalInputService = new DigitalInputService();
+        }
+
+        return digitalInputService;
+    }
+
+    /**
+     * The constructor for the {@link DigitalInputService} class,
+     * which starts the digital input service thread.
+     */
+    private DigitalInputService() {
+        notifier.setName("Digital Input Service");
+        notifier.startPeriodic(1.0 / DigitalInputConstants.SAMPLE_FREQUENCY);
+    }
+
+    /**
+     * Registers a digital input to be sampled.
+     *
+     * @param channel The DIO channel of the digital input.
+     * @param isInverted Whether or not the digital input
+     * is active when it reads low.
+     * @param debounceTime The time that the digital input must hold
+     * a new state for before the new state is accepted, in seconds.
+     *
+     * @return The registered digital input.
+     */
+    public DebouncedInput register(int channel, boolean isInverted, double debounceTime) {
+        DebouncedInput input = new DebouncedInput(
+            channel,
+            isInverted,
+            debounceTime,
+            Timer.getFPGATimestamp());
+
+        lock.lock();
+
+        try {
+            inputs[inputCount++] = input;
+        } finally {
+            lock.unlock();
+        }
+
+        return input;
+    }
+
+    /**
+     * Takes one sample of every registered digital input.
+     */
+    private void sample() {
+        /*
+         * Get the number of registered digital inputs, which
+         * only grows, so the inputs below it can be read
+         * before the lock is acquired.
+         */
+        lock.lock();
+
+        int count;
+
+        try {
+            count = inputCount;
+        } finally {
+            lock.unlock();
+        }
+
+        /*
+         * Read the digital inputs before acquiring the lock
+         * so that the main thread is never blocked on a read.
+         */
+        for (int i = 0; i < count; i++) {
+            sampledStates[i] = inputs[i].read();
+        }
+
+        double timestamp = Timer.getFPGATimestamp();
+
+        lock.lock();
+
+        try {
+            for (int i = 0; i < count; i++) {
+                inputs[i].sample(sampledStates[i], timestamp);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Hands the debounced states and the edges latched since the last
+     * loop to the main thread. This should be run once per loop, before
+     * the command scheduler runs.
+     */
+    public void update() {
+        lock.lock();
+
+        try {
+            for (int i = 0; i < inputCount; i++) {
+                inputs[i].latch();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
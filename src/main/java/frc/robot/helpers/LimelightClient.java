@@ -0,0 +1,239 @@
+package frc.robot.helpers;
+
+import frc.robot.Constants.IOConstants;
+import frc.robot.Constants.LimelightConstants;
+import frc.robot.io.InputRecorder;
+import frc.robot.io.LimelightIO;
+import frc.robot.io.LimelightIO.LimelightIOInputs;
+import frc.robot.io.LimelightIONetworkTables;
+import frc.robot.io.LimelightIOReplay;
+import frc.robot.io.LimelightIOSim;
+
+/**
+ * The class for a limelight client.
+ * <br></br>
+ * Once per loop, {@link #update()} reads the frames and the detector
+ * results published since the last loop through the limelight IO layer,
+ * records them, and holds them in frames that are preallocated and
+ * reused, so that the limelight is read the same way in replay as on
+ * the robot.
+ */
+public final class LimelightClient {
+    /**
+     * The instance of the {@link LimelightClient} class
+     * for the front limelight.
+     */
+    private static LimelightClient limelightClient = null;
+
+    /**
+     * The limelight IO layer.
+     */
+    private final LimelightIO io;
+
+    /**
+     * The limelight inputs from the current loop.
+     */
+    private final LimelightIOInputs inputs = new LimelightIOInputs();
+
+    /**
+     * The name that the limelight inputs are recorded under.
+     */
+    private final String inputsName;
+
+    /**
+     * The frames read during the last update, oldest first.
+     */
+    private final LimelightFrame[] frames =
+        new LimelightFrame[LimelightConstants.FRAME_QUEUE_DEPTH];
+
+    /**
+     * The latest frame that has been read.
+     */
+    private final LimelightFrame latestFrame = new LimelightFrame();
+
+    /**
+     * Gets the instance of the {@link LimelightClient} class
+     * for the front limelight.
+     *
+     * @return The instance of the {@link LimelightClient} class
+     * for the front limelight.
+     */
+    public static LimelightClient getInstance() {
+        if (limelightClient == null) {
+            limelightClient = new LimelightClient(LimelightConstants.LIMELIGHT_NAME);
+        }
+
+        return limelightClient;
+    }
+
+    /**
+     * The constructor for the {@link LimelightClient} class.
+     *
+     * @param limelightName The name of the limelight.
+     */
+    public LimelightClient(String limelightName) {
+        inputsName = "Limelight/" + limelightName;
+
+        io = createLimelightIO(limelightName, inputsName);
+
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = new LimelightFrame();
+        }
+    }
+
+    /**
+     * Creates the IO layer of a limelight for the current IO mode.
+     *
+     * @param limelightName The name of the limelight.
+     * @param inputsName The name that the limelight inputs are recorded under.
+     *
+     * @return The limelight IO layer.
+     */
+    private static LimelightIO createLimelightIO(String limelightName, String inputsName) {
+        switch (IOConstants.MODE) {
+            case REAL:
+                return new LimelightIONetworkTables(limelightName);
+            case SIM:
+                return new LimelightIOSim();
+            default:
+                return new LimelightIOReplay(inputsName);
+        }
+    }
+
+    /**
+     * Reads every frame and the detector results published since
+     * the last update. This should be called once per loop, before
+     * the frames are used.
+     */
+    public void update() {
+        io.updateInputs(inputs);
+
+        InputRecorder.getInstance().recordInputs(inputsName, inputs);
+
+        for (int i = 0; i < inputs.frameCount; i++) {
+            frames[i].set(
+                inputs.frameHasTargets[i],
+                inputs.frameTXs[i],
+                inputs.frameTYs[i],
+                inputs.frameCaptureTimestamps[i]);
+        }
+
+        if (inputs.frameCount > 0) {
+            LimelightFrame newestFrame = frames[inputs.frameCount - 1];
+
+            latestFrame.set(
+                newestFrame.hasTarget(),
+                newestFrame.getTX(),
+                newestFrame.getTY(),
+                newestFrame.getCaptureTimestamp());
+        }
+    }
+
+    /**
+     * Gets the number of frames read during the last update.
+     *
+     * @return The number of frames read during the last update.
+     */
+    public int getFrameCount() {
+        return inputs.frameCount;
+    }
+
+    /**
+     * Gets a frame read during the last update.
+     *
+     * @param index The index of the frame, where 0 is the oldest
+     * frame read during the last update.
+     *
+     * @return The frame.
+     */
+    public LimelightFrame getFrame(int index) {
+        return frames[index];
+    }
+
+    /**
+     * Gets the latest frame that has been read, which may be
+     * from before the last update if no frames were read.
+     *
+     * @return The latest frame that has been read.
+     */
+    public LimelightFrame getLatestFrame() {
+        return latestFrame;
+    }
+
+    /**
+     * Gets whether or not the limelight had a valid
+     * target in the latest frame that has been read.
+     *
+     * @return Whether or not the limelight has a valid target.
+     */
+    public boolean hasTarget() {
+        return latestFrame.hasTarget();
+    }
+
+    /**
+     * Gets whether or not the limelight published detector
+     * results since the update before the last update.
+     *
+     * @return Whether or not there are new detector results.
+     */
+    public boolean hasDetectorResults() {
+        return inputs.hasDetectorResults;
+    }
+
+    /**
+     * Gets the time that the latest detector results were captured,
+     * which is on the same timebase as
+     * {@link edu.wpi.first.wpilibj.Timer#getFPGATimestamp()}.
+     *
+     * @return The time that the latest detector results
+     * were captured, in seconds.
+     */
+    public double getDetectorCaptureTimestamp() {
+        return inputs.detectorCaptureTimestamp;
+    }
+
+    /**
+     * Gets the number of detector targets in the latest detector results.
+     *
+     * @return The number of detector targets.
+     */
+    public int getDetectorTargetCount() {
+        return inputs.detectorTargetCount;
+    }
+
+    /**
+     * Gets the horizontal angle to a detector target
+     * in the latest detector results.
+     *
+     * @param index The index of the detector target.
+     *
+     * @return The horizontal angle to the detector target, in degrees.
+     */
+    public double getDetectorTargetTX(int index) {
+        return inputs.detectorTXs[index];
+    }
+
+    /**
+     * Gets the vertical angle to a detector target
+     * in the latest detector results.
+     *
+     * @param index The index of the detector target.
+     *
+     * @return The vertical angle to the detector target, in degrees.
+     */
+    public double getDetectorTargetTY(int index) {
+        return inputs.detectorTYs[index];
+    }
+
+    /**
+     * Gets the confidence of a detector target
+     * in the latest detector results.
+     *
+     * @param index The index of the detector target.
+     *
+     * @return The confidence of the detector target.
+     */
+    public double getDetectorTargetConfidence(int index) {
+        return inputs.detectorConfidences[index];
+    }
+}
@@ -0,0 +1,82 @@
+package frc.robot.helpers;
+
+/**
+ * The class for a single frame of limelight targeting data.
+ * <br></br>
+ * The frames are owned and reused by the {@link LimelightClient},
+ * so a frame should only be read during the loop that it was
+ * read in, and should not be held on to.
+ */
+public final class LimelightFrame {
+    /**
+     * Whether or not the limelight had a valid target.
+     */
+    private boolean hasTarget = false;
+
+    /**
+     * The horizontal angle to the target, in degrees.
+     */
+    private double tx = 0.0;
+
+    /**
+     * The vertical angle to the target, in degrees.
+     */
+    private double ty = 0.0;
+
+    /**
+     * The time that the frame was captured, in seconds.
+     */
+    private double captureTimestamp = 0.0;
+
+    /**
+     * Sets the targeting data of the frame.
+     *
+     * @param hasTarget Whether or not the limelight had a valid target.
+     * @param tx The horizontal angle to the target, in degrees.
+     * @param ty The vertical angle to the target, in degrees.
+     * @param captureTimestamp The time that the frame was captured, in seconds.
+     */
+    void set(boolean hasTarget, double tx, double ty, double captureTimestamp) {
+        this.hasTarget = hasTarget;
+        this.tx = tx;
+        this.ty = ty;
+        this.captureTimestamp = captureTimestamp;
+    }
+
+    /**
+     * Gets whether or not the limelight had a valid target.
+     *
+     * @return Whether or not the limelight had a valid target.
+     */
+    public boolean hasTarget() {
+        return hasTarget;
+    }
+
+    /**
+     * Gets the horizontal angle to the target.
+     *
+     * @return The horizontal angle to the target, in degrees.
+     */
+    public double getTX() {
+        return tx;
+    }
+
+    /**
+     * Gets the vertical angle to the target.
+     *
+     * @return The vertical angle to the target, in degrees.
+     */
+    public double getTY() {
+        return ty;
+    }
+
+    /**
+     * Gets the time that the frame was captured, which is on the same
+     * timebase as {@link edu.wpi.first.wpilibj.Timer#getFPGATimestamp()}.
+     *
+     * @return The time that the frame was captured, in seconds.
+     */
+    public double getCaptureTimestamp() {
+        return captureTimestamp;
+    }
+}
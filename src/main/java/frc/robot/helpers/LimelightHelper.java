@@ -479,6 +479,18 @@ public class LimelightHelper {
     private static PoseEstimate getBotPoseEstimate(String limelightName, String entryName) {
         var poseEntry = LimelightHelper.getLimelightNTTableEntry(limelightName, entryName);
         var poseArray = poseEntry.getDoubleArray(new double[0]);
+        return parseBotPoseEstimate(poseArray, poseEntry.getLastChange());
+    }
+
+    /**
+     * Parses a botpose array published by the Limelight into a pose estimate.
+     * This is split out from the NetworkTables read so that it can be benchmarked.
+     *
+     * @param poseArray The botpose array.
+     * @param lastChangeMicros The time the botpose entry last changed, in microseconds.
+     * @return The pose estimate.
+     */
+    public static PoseEstimate parseBotPoseEstimate(double[] poseArray, long lastChangeMicros) {
         var pose = toPose2D(poseArray);
         double latency = extractBotPoseEntry(poseArray,6);
         int tagCount = (int)extractBotPoseEntry(poseArray,7);
@@ -486,7 +498,7 @@ public class LimelightHelper {
         double tagDist = extractBotPoseEntry(poseArray,9);
         double tagArea = extractBotPoseEntry(poseArray,10);
         //getlastchange() in microseconds, ll latency in milliseconds
-        var timestamp = (poseEntry.getLastChange() / 1000000.0) - (latency/1000.0);
+        var timestamp = (lastChangeMicros / 1000000.0) - (latency/1000.0);
 
 
         RawFiducial[] rawFiducials = new RawFiducial[tagCount];
@@ -967,6 +979,17 @@ public class LimelightHelper {
      * Parses Limelight's JSON results dump into a LimelightResults Object
      */
     public static LimelightResults getLatestResults(String limelightName) {
+        return parseLatestResults(getJSONDump(limelightName));
+    }
+
+    /**
+     * Parses a Limelight JSON dump into Limelight results.
+     * This is split out from the NetworkTables read so that it can be benchmarked.
+     *
+     * @param json The Limelight JSON dump.
+     * @return The Limelight results.
+     */
+    public static LimelightResults parseLatestResults(String json) {
 
         long start = System.nanoTime();
         LimelightHelper.LimelightResults results = new LimelightHelper.LimelightResults();
@@ -975,7 +998,7 @@ public class LimelightHelper {
         }
 
         try {
-            results = mapper.readValue(getJSONDump(limelightName), LimelightResults.class);
+            results = mapper.readValue(json, LimelightResults.class);
         } catch (JsonProcessingException e) {
             results.error = "lljson error: " + e.getMessage();
         }
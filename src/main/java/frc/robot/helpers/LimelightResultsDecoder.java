@@ -0,0 +1,258 @@
+package frc.robot.helpers;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import frc.robot.Constants.LimelightConstants;
+import frc.robot.helpers.LimelightHelper.LimelightTarget_Detector;
+import frc.robot.helpers.LimelightHelper.Results;
+
+/**
+ * The class for decoding limelight JSON results dumps.
+ * <br></br>
+ * Walks the JSON results dump with a streaming Jackson parser instead
+ * of building the whole object graph with databind, like
+ * {@link LimelightHelper#getLatestResults(String)} does. Only the
+ * result header and the detector targets are decoded, into a results
+ * object and a pool of detector targets that are reused for every
+ * dump, and every other field is skipped without being decoded.
+ */
+public final class LimelightResultsDecoder {
+    /**
+     * The JSON factory that creates the streaming parsers.
+     */
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    /**
+     * The results header, which is reused for every dump.
+     */
+    private final Results results = new Results();
+
+    /**
+     * The detector targets, which are reused for every dump.
+     */
+    private final LimelightTarget_Detector[] detectorTargets =
+        new LimelightTarget_Detector[LimelightConstants.MAX_DETECTOR_TARGETS];
+
+    /**
+     * The number of detector targets in the last decoded dump.
+     */
+    private int detectorTargetCount = 0;
+
+    /**
+     * The constructor for the {@link LimelightResultsDecoder} class.
+     */
+    public LimelightResultsDecoder() {
+        for (int i = 0; i < detectorTargets.length; i++) {
+            detectorTargets[i] = new LimelightTarget_Detector();
+        }
+    }
+
+    /**
+     * Decodes the given JSON results dump into the results
+     * header and the detector targets.
+     *
+     * @param json The JSON results dump.
+     *
+     * @return Whether or not the JSON results dump was decoded.
+     */
+    public boolean decode(String json) {
+        /*
+         * Reset everything that is decoded, so that a field missing
+         * from this dump is not left over from the dump before it.
+         */
+        results.pipelineID = 0.0;
+        results.latency_pipeline = 0.0;
+        results.latency_capture = 0.0;
+        results.timestamp_LIMELIGHT_publish = 0.0;
+        results.timestamp_RIOFPGA_capture = 0.0;
+        results.valid = false;
+
+        detectorTargetCount = 0;
+
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+
+                JsonToken token = parser.nextToken();
+
+                if (fieldName.equals("Results") && token == JsonToken.START_OBJECT) {
+                    decodeResults(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            detectorTargetCount = 0;
+
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the results header of the last decoded dump. Only the
+     * pipeline, latency, timestamp, and valid fields are decoded.
+     *
+     * @return The results header of the last decoded dump.
+     */
+    public Results getResults() {
+        return results;
+    }
+
+    /**
+     * Gets the number of detector targets in the last decoded dump,
+     * which is at most the max number of detector targets.
+     *
+     * @return The number of detector targets in the last decoded dump.
+     */
+    public int getDetectorTargetCount() {
+        return detectorTargetCount;
+    }
+
+    /**
+     * Gets a detector target of the last decoded dump. The class name
+     * of the detector target is not decoded.
+     *
+     * @param index The index of the detector target.
+     *
+     * @return The detector target.
+     */
+    public LimelightTarget_Detector getDetectorTarget(int index) {
+        return detectorTargets[index];
+    }
+
+    /**
+     * Decodes the results object, which the parser is at the start of.
+     *
+     * @param parser The streaming parser.
+     *
+     * @throws IOException If the JSON results dump could not be parsed.
+     */
+    private void decodeResults(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+
+            JsonToken token = parser.nextToken();
+
+            switch (fieldName) {
+                case "pID":
+                    results.pipelineID = parser.getValueAsDouble();
+                    break;
+                case "tl":
+                    results.latency_pipeline = parser.getValueAsDouble();
+                    break;
+                case "cl":
+                    results.latency_capture = parser.getValueAsDouble();
+                    break;
+                case "ts":
+                    results.timestamp_LIMELIGHT_publish = parser.getValueAsDouble();
+                    break;
+                case "ts_rio":
+                    results.timestamp_RIOFPGA_capture = parser.getValueAsDouble();
+                    break;
+                case "v":
+                    results.valid = token == JsonToken.VALUE_TRUE
+                        || (token.isNumeric() && parser.getDoubleValue() != 0.0);
+                    break;
+                case "Detector":
+                    decodeDetectorTargets(parser, token);
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Decodes the detector targets array, which the parser is at the
+     * start of. Any detector targets past the max number of detector
+     * targets are skipped.
+     *
+     * @param parser The streaming parser.
+     * @param token The current token of the parser.
+     *
+     * @throws IOException If the JSON results dump could not be parsed.
+     */
+    private void decodeDetectorTargets(JsonParser parser, JsonToken token) throws IOException {
+        if (token != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+
+            return;
+        }
+
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            if (detectorTargetCount == detectorTargets.length) {
+                parser.skipChildren();
+
+                continue;
+            }
+
+            decodeDetectorTarget(parser, detectorTargets[detectorTargetCount++]);
+        }
+    }
+
+    /**
+     * Decodes a detector target object, which the parser is at the
+     * start of, into the given detector target.
+     *
+     * @param parser The streaming parser.
+     * @param target The detector target to decode into.
+     *
+     * @throws IOException If the JSON results dump could not be parsed.
+     */
+    private static void decodeDetectorTarget(
+            JsonParser parser,
+            LimelightTarget_Detector target) throws IOException {
+        target.className = null;
+        target.classID = 0.0;
+        target.confidence = 0.0;
+        target.ta = 0.0;
+        target.tx = 0.0;
+        target.tx_pixels = 0.0;
+        target.ty = 0.0;
+        target.ty_pixels = 0.0;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "classID":
+                    target.classID = parser.getValueAsDouble();
+                    break;
+                case "conf":
+                    target.confidence = parser.getValueAsDouble();
+                    break;
+                case "ta":
+                    target.ta = parser.getValueAsDouble();
+                    break;
+                case "tx":
+                    target.tx = parser.getValueAsDouble();
+                    break;
+                case "txp":
+                    target.tx_pixels = parser.getValueAsDouble();
+                    break;
+                case "ty":
+                    target.ty = parser.getValueAsDouble();
+                    break;
+                case "typ":
+                    target.ty_pixels = parser.getValueAsDouble();
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package frc.robot.helpers;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import edu.wpi.first.networktables.DoublePublisher;
+import edu.wpi.first.networktables.NetworkTable;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import frc.robot.Constants.LoopTimerConstants;
+
+/**
+ * The class for the loop timer.
+ * <br></br>
+ * Records the wall-clock time taken by each timed section of the robot
+ * loop, which are the subsystem periodic methods, the running commands,
+ * and the robot periodic method as a whole. The channels are keyed by
+ * name, and the subsystems and commands name their channels after their
+ * class, or after the command factory that builds them, so there is at
+ * most one channel for each timed class or command factory no matter how
+ * many commands are created. Each section keeps a rolling
+ * window of samples in a preallocated ring buffer, and its p50, p99, and
+ * max are published to NetworkTables at a throttled rate.
+ */
+public final class LoopTimer {
+    /**
+     * The instance of the {@link LoopTimer} class.
+     */
+    private static LoopTimer loopTimer = null;
+
+    /**
+     * The NetworkTables table that the timings are published to.
+     */
+    private final NetworkTable table =
+        NetworkTableInstance.getDefault().getTable(LoopTimerConstants.TABLE_NAME);
+
+    /**
+     * The channels, by name.
+     */
+    private final Map<String, Channel> channels = new HashMap<>();
+
+    /**
+     * The time that the timings were last published, in nanoseconds.
+     */
+    private long lastPublishNanos = System.nanoTime();
+
+    /**
+     * Gets the instance of the {@link LoopTimer} class.
+     *
+     * @return The instance of the {@link LoopTimer} class.
+     */
+    public static LoopTimer getInstance() {
+        if (loopTimer == null) {
+            loopTimer = new LoopTimer();
+        }
+
+        return loopTimer;
+    }
+
+    /**
+     * The constructor for the {@link LoopTimer} class.
+     */
+    private LoopTimer() {}
+
+    /**
+     * Gets the channel with the given name, creating it
+     * the first time that it is requested.
+     *
+     * @param name The name of the channel.
+     *
+     * @return The channel with the given name.
+     */
+    public Channel getChannel(String name) {
+        Channel channel = channels.get(name);
+
+        if (channel == null) {
+            channel = new Channel(name);
+            channels.put(name, channel);
+        }
+
+        return channel;
+    }
+
+    /**
+     * Publishes the timings of every channel to NetworkTables if
+     * the publish period has passed since they were last published.
+     */
+    public void publish() {
+        long nanos = System.nanoTime();
+
+        if ((nanos - lastPublishNanos) * 1e-9 < LoopTimerConstants.PUBLISH_PERIOD) {
+            return;
+        }
+
+        lastPublishNanos = nanos;
+
+        for (Channel channel : channels.values()) {
+            channel.publish();
+        }
+    }
+
+    /**
+     * The class for a loop timer channel, which records the
+     * time taken by one timed section of the robot loop.
+     */
+    public final class Channel {
+        /**
+         * The rolling window of samples, in milliseconds.
+         */
+        private final double[] samples = new double[LoopTimerConstants.WINDOW_SIZE];
+
+        /**
+         * The scratch array that the samples are sorted in
+         * to find the percentiles.
+         */
+        private final double[] sortedSamples = new double[LoopTimerConstants.WINDOW_SIZE];
+
+        /**
+         * The index that the next sample is written to.
+         */
+        private int next = 0;
+
+        /**
+         * The number of samples in the rolling window.
+         */
+        private int count = 0;
+
+        /**
+         * The time that the current timed section started, in nanoseconds.
+         */
+        private long startNanos = 0;
+
+        /**
+         * The publisher for the p50 time, in milliseconds.
+         */
+        private final DoublePublisher p50Publisher;
+
+        /**
+         * The publisher for the p99 time, in milliseconds.
+         */
+        private final DoublePublisher p99Publisher;
+
+        /**
+         * The publisher for the max time, in milliseconds.
+         */
+        private final DoublePublisher maxPublisher;
+
+        /**
+         * The constructor for the {@link Channel} class.
+         *
+         * @param name The name of the channel.
+         */
+        private Channel(String name) {
+            p50Publisher = table.getDoubleTopic(name + "/p50 (ms)").publish();
+            p99Publisher = table.getDoubleTopic(name + "/p99 (ms)").publish();
+            maxPublisher = table.getDoubleTopic(name + "/Max (ms)").publish();
+        }
+
+        /**
+         * Starts timing the section.
+         */
+        public void start() {
+            startNanos = System.nanoTime();
+        }
+
+        /**
+         * Stops timing the section and records the
+         * time taken since {@link #start()}.
+         */
+        public void stop() {
+            record(System.nanoTime() - startNanos);
+        }
+
+        /**
+         * Records a sample into the rolling window, overwriting
+         * the oldest sample if the window is full.
+         *
+         * @param nanos The time taken, in nanoseconds.
+         */
+        private void record(long nanos) {
+            samples[next] = nanos * 1e-6;
+
+            next = (next + 1) % samples.length;
+
+            if (count < samples.length) {
+                count++;
+            }
+        }
+
+        /**
+         * Publishes the p50, p99, and max of the rolling window.
+         */
+        private void publish() {
+            if (count == 0) {
+                return;
+            }
+
+            System.arraycopy(samples, 0, sortedSamples, 0, count);
+            Arrays.sort(sortedSamples, 0, count);
+
+            p50Publisher.set(sortedSamples[(int) Math.ceil(0.50 * count) - 1]);
+            p99Publisher.set(sortedSamples[(int) Math.ceil(0.99 * count) - 1]);
+            maxPublisher.set(sortedSamples[count - 1]);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package frc.robot.helpers;
+
+import frc.robot.Constants.ShooterConstants;
+
+/**
+ * The class for solving shots at the speaker while the robot is moving.
+ * <br></br>
+ * A note shot from a moving robot keeps the velocity of the robot, so
+ * it lands where the robot velocity carries it over its time of flight.
+ * To make up for this, the shot is aimed at a virtual target, which is
+ * the speaker offset by the negative of the robot field velocity times
+ * the time of flight. Since the time of flight depends on the distance
+ * to the virtual target, the virtual target is found by iterating until
+ * the distance converges.
+ * <br></br>
+ * The solver only takes and gives primitives and does not allocate, so
+ * it is safe to run every loop.
+ */
+public final class MovingShotSolver {
+    /**
+     * The shot map that the shots are looked up in.
+     */
+    private final ShotMap shotMap;
+
+    /**
+     * The heading that points the shooter at the virtual
+     * target of the last solved shot, in radians.
+     */
+    private double headingSetpoint = 0.0;
+
+    /**
+     * The shooter velocity of the last solved shot, in RPM.
+     */
+    private double shooterVelocity = 0.0;
+
+    /**
+     * The distance to the virtual target of the last solved shot, in meters.
+     */
+    private double distance = 0.0;
+
+    /**
+     * Whether or not the distance to the virtual target
+     * converged in the last solved shot.
+     */
+    private boolean isConverged = false;
+
+    /**
+     * The constructor for the {@link MovingShotSolver} class.
+     *
+     * @param shotMap The shot map that the shots are looked up in.
+     */
+    public MovingShotSolver(ShotMap shotMap) {
+        this.shotMap = shotMap;
+    }
+
+    /**
+     * Solves the shot at the speaker from the given robot position
+     * and field velocity.
+     *
+     * @param robotX The x position of the robot on the field, in meters.
+     * @param robotY The y position of the robot on the field, in meters.
+     * @param fieldXVelocity The x velocity of the robot on the field, in m/s.
+     * @param fieldYVelocity The y velocity of the robot on the field, in m/s.
+     * @param speakerX The x position of the speaker on the field, in meters.
+     * @param speakerY The y position of the speaker on the field, in meters.
+     */
+    public void solve(
+            double robotX,
+            double robotY,
+            double fieldXVelocity,
+            double fieldYVelocity,
+            double speakerX,
+            double speakerY) {
+        double targetX = speakerX;
+        double targetY = speakerY;
+
+        distance = Math.hypot(robotX - targetX, robotY - targetY);
+        isConverged = false;
+
+        /*
+         * Move the virtual target against the robot velocity by the
+         * time of flight to the current virtual target, until the
+         * distance to the virtual target stops changing.
+         */
+        for (int i = 0; i < ShooterConstants.MOVING_SHOT_MAX_ITERATIONS; i++) {
+            double timeOfFlight = shotMap.getTimeOfFlight(distance);
+
+            targetX = speakerX - fieldXVelocity * timeOfFlight;
+            targetY = speakerY - fieldYVelocity * timeOfFlight;
+
+            double nextDistance = Math.hypot(robotX - targetX, robotY - targetY);
+
+            isConverged = Math.abs(nextDistance - distance)
+                <= ShooterConstants.MOVING_SHOT_CONVERGENCE_TOLERANCE;
+
+            distance = nextDistance;
+
+            if (isConverged) {
+                break;
+            }
+        }
+
+        /*
+         * Get the heading that points the shooter at the virtual
+         * target, which is the heading from the virtual target to
+         * the robot since the shooter is on the back of the robot.
+         */
+        headingSetpoint = Math.atan2(robotY - targetY, robotX - targetX);
+
+        shooterVelocity = shotMap.getShooterVelocity(distance);
+    }
+
+    /**
+     * Gets the heading that points the shooter at the
+     * virtual target of the last solved shot.
+     *
+     * @return The heading setpoint, in radians.
+     */
+    public double getHeadingSetpoint() {
+        return headingSetpoint;
+    }
+
+    /**
+     * Gets the shooter velocity of the last solved shot.
+     *
+     * @return The shooter velocity, in RPM.
+     */
+    public double getShooterVelocity() {
+        return shooterVelocity;
+    }
+
+    /**
+     * Gets the distance to the virtual target of the last solved shot.
+     *
+     * @return The distance to the virtual target, in meters.
+     */
+    public double getDistance() {
+        return distance;
+    }
+
+    /**
+     * Gets whether or not the distance to the virtual target
+     * converged in the last solved shot. A shot that did not
+     * converge should not be taken.
+     *
+     * @return Whether or not the last solved shot converged.
+     */
+    public boolean isConverged() {
+        return isConverged;
+    }
+}
@@ -0,0 +1,82 @@
+package frc.robot.helpers;
+
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Rotation2d;
+import edu.wpi.first.math.geometry.Transform2d;
+import edu.wpi.first.math.geometry.Translation2d;
+import frc.robot.Constants.LimelightConstants;
+
+/**
+ * The class for projecting note detections onto the field.
+ * <br></br>
+ * Converts the note detector angles of a note on the floor into
+ * the position of the note relative to the robot, using the height,
+ * angle, and offset of the note detector, and then into the
+ * position of the note on the field from the robot pose at the
+ * time that the note detector frame was captured.
+ */
+public final class NoteProjection {
+    /**
+     * The constructor for the {@link NoteProjection} class.
+     */
+    private NoteProjection() {}
+
+    /**
+     * Gets the position of a note relative to the robot from
+     * the note detector angles of the note.
+     *
+     * @param deltaX The note detector horizontal angle to the note,
+     * in degrees, which is positive when the note is to the right.
+     * @param deltaY The note detector vertical angle to the note,
+     * in degrees.
+     *
+     * @return The position of the note relative to the robot,
+     * in meters, with x forwards and y to the left.
+     */
+    public static Translation2d getRobotRelativeNotePosition(double deltaX, double deltaY) {
+        double deltaXRadians = deltaX * (Math.PI / 180.0);
+        double deltaYRadians = Math.abs(deltaY * (Math.PI / 180.0));
+
+        // Get the forwards distance from the note detector to the note.
+        double distToNote =
+            Math.tan(LimelightConstants.LIMELIGHT_ANGLE + deltaYRadians)
+                * LimelightConstants.LIMELIGHT_HEIGHT;
+
+        /*
+         * Get the sideways offset of the note from the note
+         * detector, which is negated since the note detector
+         * angle is positive to the right and the robot y
+         * axis is positive to the left.
+         */
+        double xOffsetFromNote = -Math.tan(deltaXRadians) * distToNote;
+
+        return new Translation2d(
+            LimelightConstants.LIMELIGHT_OFFSET_FROM_CENTER + distToNote,
+            xOffsetFromNote);
+    }
+
+    /**
+     * Gets the position of a note on the field from the note
+     * detector angles of the note and the robot pose at the
+     * time that the note detector frame was captured.
+     *
+     * @param robotPose The robot pose at the time that the
+     * note detector frame was captured.
+     * @param deltaX The note detector horizontal angle to the note,
+     * in degrees, which is positive when the note is to the right.
+     * @param deltaY The note detector vertical angle to the note,
+     * in degrees.
+     *
+     * @return The position of the note on the field, in meters.
+     */
+    public static Translation2d getFieldNotePosition(
+            Pose2d robotPose,
+            double deltaX,
+            double deltaY) {
+        return robotPose.transformBy(
+            new Transform2d(
+                getRobotRelativeNotePosition(deltaX, deltaY),
+                new Rotation2d()))
+            .getTranslation();
+    }
+}
@@ -0,0 +1,318 @@
+package frc.robot.helpers;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import edu.wpi.first.math.geometry.Translation2d;
+import edu.wpi.first.wpilibj.DriverStation;
+import edu.wpi.first.wpilibj.DriverStation.Alliance;
+import edu.wpi.first.wpilibj.Filesystem;
+import frc.robot.Constants.AutoConstants;
+import frc.robot.Constants.ShooterConstants;
+
+/**
+ * The class for the shot map.
+ * <br></br>
+ * Holds the shooter velocity, the feed time, and the note time of
+ * flight for each distance from the speaker, which are interpolated
+ * between the distances in the shot map file in the deploy directory.
+ * Each line of the shot map file is a distance in meters, a shooter
+ * velocity in RPM, a feed time in seconds, and optionally a time of
+ * flight in seconds, separated by commas. If the time of flight is
+ * left out, then it is estimated from the average note velocity. Lines
+ * that do not start with a number, such as comments and headers, are
+ * skipped.
+ * <br></br>
+ * The entries are held in primitive arrays sorted by distance and
+ * looked up with a binary search, so that looking up a shot does not
+ * allocate and is safe to do many times every loop.
+ */
+public final class ShotMap {
+    /**
+     * The instance of the {@link ShotMap} class.
+     */
+    private static ShotMap shotMap = null;
+
+    /**
+     * The distances from the speaker of the entries, in meters,
+     * sorted from nearest to farthest.
+     */
+    private double[] distances = new double[1];
+
+    /**
+     * The shooter velocities of the entries, in RPM.
+     */
+    private double[] shooterVelocities = new double[1];
+
+    /**
+     * The feed times of the entries, in seconds.
+     */
+    private double[] feedTimes = new double[1];
+
+    /**
+     * The note times of flight of the entries, in seconds.
+     */
+    private double[] timesOfFlight = new double[1];
+
+    /**
+     * The number of entries in the shot map.
+     */
+    private int entryCount = 0;
+
+    /**
+     * Gets the instance of the {@link ShotMap} class.
+     *
+     * @return The instance of the {@link ShotMap} class.
+     */
+    public static ShotMap getInstance() {
+        if (shotMap == null) {
+            shotMap = new ShotMap();
+        }
+
+        return shotMap;
+    }
+
+    /**
+     * The constructor for the {@link ShotMap} class. Until the shot
+     * map file is loaded, the shot map only has the subwoofer shot.
+     */
+    private ShotMap() {
+        putSubwooferShot();
+    }
+
+    /**
+     * Puts the subwoofer shot into the shot map, which is the
+     * speaker shooter velocity and feed time at zero distance.
+     */
+    private void putSubwooferShot() {
+        put(0.0, ShooterConstants.SHOOTER_SPEAKER_VELOCITY, ShooterConstants.SHOOTER_FEED_TIME, 0.0);
+    }
+
+    /**
+     * Puts an entry into the shot map, keeping the entries sorted by
+     * distance. If there is already an entry at the distance, then it
+     * is replaced. The entry arrays must have room for the entry.
+     *
+     * @param distance The distance from the speaker, in meters.
+     * @param shooterVelocity The shooter velocity, in RPM.
+     * @param feedTime The feed time, in seconds.
+     * @param timeOfFlight The note time of flight, in seconds.
+     */
+    private void put(double distance, double shooterVelocity, double feedTime, double timeOfFlight) {
+        int index = Arrays.binarySearch(distances, 0, entryCount, distance);
+
+        /*
+         * If there is no entry at the distance, then shift the
+         * farther entries over to make room for the entry.
+         */
+        if (index < 0) {
+            index = -(index + 1);
+
+            int shiftCount = entryCount - index;
+
+            System.arraycopy(distances, index, distances, index + 1, shiftCount);
+            System.arraycopy(shooterVelocities, index, shooterVelocities, index + 1, shiftCount);
+            System.arraycopy(feedTimes, index, feedTimes, index + 1, shiftCount);
+            System.arraycopy(timesOfFlight, index, timesOfFlight, index + 1, shiftCount);
+
+            entryCount++;
+        }
+
+        distances[index] = distance;
+        shooterVelocities[index] = shooterVelocity;
+        feedTimes[index] = feedTime;
+        timesOfFlight[index] = timeOfFlight;
+    }
+
+    /**
+     * Loads the shot map file from the deploy directory. If the shot
+     * map file cannot be read, then the shot map is left as it is.
+     */
+    public void load() {
+        File shotMapFile = new File(
+            Filesystem.getDeployDirectory(),
+            ShooterConstants.SHOT_MAP_FILE_NAME);
+
+        List<String> lines = null;
+
+        try {
+            lines = Files.readAllLines(shotMapFile.toPath());
+        } catch (IOException e) {
+            e.printStackTrace();
+
+            return;
+        }
+
+        /*
+         * Make room for an entry on every line of the shot map
+         * file, plus the subwoofer shot if there are no entries.
+         */
+        int capacity = lines.size() + 1;
+
+        distances = new double[capacity];
+        shooterVelocities = new double[capacity];
+        feedTimes = new double[capacity];
+        timesOfFlight = new double[capacity];
+
+        entryCount = 0;
+
+        for (String line : lines) {
+            String[] values = line.split(",");
+
+            if (values.length < 3) {
+                continue;
+            }
+
+            /*
+             * Parse the line as a shot map entry, and if it is
+             * not a shot map entry, then skip it.
+             */
+            try {
+                double distance = Double.parseDouble(values[0].trim());
+                double shooterVelocity = Double.parseDouble(values[1].trim());
+                double feedTime = Double.parseDouble(values[2].trim());
+
+                /*
+                 * If the line has a time of flight, then use it, and if
+                 * not, then estimate it from the average note velocity.
+                 */
+                double timeOfFlight = values.length > 3
+                    ? Double.parseDouble(values[3].trim())
+                    : distance / ShooterConstants.NOTE_AVERAGE_VELOCITY;
+
+                put(distance, shooterVelocity, feedTime, timeOfFlight);
+            } catch (NumberFormatException e) {
+                continue;
+            }
+        }
+
+        // If the shot map file has no entries, then keep the subwoofer shot.
+        if (entryCount == 0) {
+            System.out.println(
+                "Shot map file "
+                    + shotMapFile.getPath()
+                    + " has no entries!");
+
+            putSubwooferShot();
+        }
+    }
+
+    /**
+     * Gets the position of the speaker of the current alliance.
+     *
+     * @return The position of the speaker of the current alliance.
+     */
+    public static Translation2d getSpeakerPosition() {
+        /*
+         * If the alliance is the red alliance, then flip the
+         * speaker position to the red alliance side, and
+         * if not, then keep the speaker position the same.
+         */
+        return DriverStation.getAlliance().orElse(Alliance.Blue) == Alliance.Red
+            ? new Translation2d(
+                AutoConstants.FIELD_LENGTH - ShooterConstants.BLUE_SPEAKER_POSITION.getX(),
+                ShooterConstants.BLUE_SPEAKER_POSITION.getY())
+            : ShooterConstants.BLUE_SPEAKER_POSITION;
+    }
+
+    /**
+     * Gets the distance from the given robot position to the
+     * speaker of the current alliance.
+     *
+     * @param robotPosition The robot position.
+     *
+     * @return The distance to the speaker, in meters.
+     */
+    public static double getDistanceToSpeaker(Translation2d robotPosition) {
+        return robotPosition.getDistance(getSpeakerPosition());
+    }
+
+    /**
+     * Gets whether or not the given distance from the speaker
+     * is within the distances of the shot map.
+     *
+     * @param distance The distance from the speaker, in meters.
+     *
+     * @return Whether or not the distance is within the shot map.
+     */
+    public boolean isInRange(double distance) {
+        return distance <= distances[entryCount - 1];
+    }
+
+    /**
+     * Gets the shooter velocity to shoot with from the given
+     * distance from the speaker.
+     *
+     * @param distance The distance from the speaker, in meters.
+     *
+     * @return The shooter velocity, in RPM.
+     */
+    public double getShooterVelocity(double distance) {
+        return interpolate(shooterVelocities, distance);
+    }
+
+    /**
+     * Gets the time to run the lift for to feed the note
+     * into the shooter from the given distance from the speaker.
+     *
+     * @param distance The distance from the speaker, in meters.
+     *
+     * @return The feed time, in seconds.
+     */
+    public double getFeedTime(double distance) {
+        return interpolate(feedTimes, distance);
+    }
+
+    /**
+     * Gets the time that the note takes to reach the speaker
+     * after leaving the shooter from the given distance from
+     * the speaker.
+     *
+     * @param distance The distance from the speaker, in meters.
+     *
+     * @return The note time of flight, in seconds.
+     */
+    public double getTimeOfFlight(double distance) {
+        return interpolate(timesOfFlight, distance);
+    }
+
+    /**
+     * Linearly interpolates the given entry values at the given
+     * distance. Distances outside of the shot map are clamped to
+     * the nearest and farthest entries.
+     *
+     * @param values The entry values to interpolate.
+     * @param distance The distance from the speaker, in meters.
+     *
+     * @return The interpolated value.
+     */
+    private double interpolate(double[] values, double distance) {
+        int index = Arrays.binarySearch(distances, 0, entryCount, distance);
+
+        // If there is an entry at the distance, then use it.
+        if (index >= 0) {
+            return values[index];
+        }
+
+        // Get the index of the first entry farther than the distance.
+        int upperIndex = -(index + 1);
+
+        if (upperIndex == 0) {
+            return values[0];
+        }
+
+        if (upperIndex == entryCount) {
+            return values[entryCount - 1];
+        }
+
+        int lowerIndex = upperIndex - 1;
+
+        double t = (distance - distances[lowerIndex])
+            / (distances[upperIndex] - distances[lowerIndex]);
+
+        return values[lowerIndex] + (values[upperIndex] - values[lowerIndex]) * t;
+    }
+}
@@ -0,0 +1,262 @@
+package frc.robot.helpers;
+
+import org.ejml.simple.SimpleMatrix;
+
+import edu.wpi.first.math.MathUtil;
+import edu.wpi.first.math.geometry.Translation2d;
+
+/**
+ * The class for an allocation-free swerve drive kinematics solver.
+ * <br></br>
+ * Performs the same inverse and forward kinematics as
+ * {@link edu.wpi.first.math.kinematics.SwerveDriveKinematics}, but works
+ * on primitive doubles and writes its results into buffers that are
+ * allocated once and reused across calls, so that it can be run
+ * every loop without creating garbage.
+ */
+public final class SwerveKinematicsSolver {
+    /**
+     * The x coordinates of the swerve modules relative to the robot center, in meters.
+     */
+    private final double[] moduleX;
+
+    /**
+     * The y coordinates of the swerve modules relative to the robot center, in meters.
+     */
+    private final double[] moduleY;
+
+    /**
+     * The forward kinematics matrix, which is the pseudo-inverse of the
+     * inverse kinematics matrix, stored row by row.
+     */
+    private final double[][] forwardKinematics;
+
+    /**
+     * The swerve module speeds from the last inverse kinematics solve, in m/s.
+     */
+    private final double[] moduleSpeeds;
+
+    /**
+     * The swerve module angles from the last inverse kinematics solve, in radians.
+     */
+    private final double[] moduleAngles;
+
+    /**
+     * The x velocity from the last forward kinematics solve, in m/s.
+     */
+    private double chassisXVelocity = 0.0;
+
+    /**
+     * The y velocity from the last forward kinematics solve, in m/s.
+     */
+    private double chassisYVelocity = 0.0;
+
+    /**
+     * The rotational velocity from the last forward kinematics solve, in rad/s.
+     */
+    private double chassisRotationalVelocity = 0.0;
+
+    /**
+     * The constructor for the {@link SwerveKinematicsSolver} class.
+     *
+     * @param moduleLocations The locations of the swerve modules
+     * relative to the robot center.
+     */
+    public SwerveKinematicsSolver(Translation2d[] moduleLocations) {
+        int moduleCount = moduleLocations.length;
+
+        moduleX = new double[moduleCount];
+        moduleY = new double[moduleCount];
+
+        moduleSpeeds = new double[moduleCount];
+        moduleAngles = new double[moduleCount];
+
+        /*
+         * Build the inverse kinematics matrix, where each swerve module
+         * contributes the rows [1, 0, -y] and [0, 1, x], and then take its
+         * pseudo-inverse once so that forward kinematics is only a
+         * matrix multiplication.
+         */
+        SimpleMatrix inverseKinematics = new SimpleMatrix(moduleCount * 2, 3);
+
+        for (int i = 0; i < moduleCount; i++) {
+            moduleX[i] = moduleLocations[i].getX();
+            moduleY[i] = moduleLocations[i].getY();
+
+            inverseKinematics.setRow(i * 2, 0, 1.0, 0.0, -moduleY[i]);
+            inverseKinematics.setRow(i * 2 + 1, 0, 0.0, 1.0, moduleX[i]);
+        }
+
+        SimpleMatrix pseudoInverse = inverseKinematics.pseudoInverse();
+
+        forwardKinematics = new double[3][moduleCount * 2];
+
+        for (int row = 0; row < 3; row++) {
+            for (int column = 0; column < moduleCount * 2; column++) {
+                forwardKinematics[row][column] = pseudoInverse.get(row, column);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of swerve modules.
+     *
+     * @return The number of swerve modules.
+     */
+    public int getModuleCount() {
+        return moduleSpeeds.length;
+    }
+
+    /**
+     * Solves for the swerve module speeds and angles that drive the robot
+     * at the given robot relative velocities. The results are read with
+     * {@link #getModuleSpeed(int)} and {@link #getModuleAngle(int)}.
+     * <br></br>
+     * If all of the velocities are zero, then the swerve module speeds are
+     * set to zero and the swerve module angles are kept at their previous
+     * values, which matches {@code SwerveDriveKinematics.toSwerveModuleStates}.
+     *
+     * @param xVelocity The robot relative x velocity, in m/s.
+     * @param yVelocity The robot relative y velocity, in m/s.
+     * @param rotationalVelocity The rotational velocity, in rad/s.
+     */
+    public void toSwerveModuleStates(
+            double xVelocity,
+            double yVelocity,
+            double rotationalVelocity) {
+        if (xVelocity == 0.0 && yVelocity == 0.0 && rotationalVelocity == 0.0) {
+            for (int i = 0; i < moduleSpeeds.length; i++) {
+                moduleSpeeds[i] = 0.0;
+            }
+
+            return;
+        }
+
+        for (int i = 0; i < moduleSpeeds.length; i++) {
+            /*
+             * The velocity of each swerve module is the robot velocity
+             * plus the tangential velocity from rotating about the
+             * robot center.
+             */
+            double moduleXVelocity = xVelocity - rotationalVelocity * moduleY[i];
+            double moduleYVelocity = yVelocity + rotationalVelocity * moduleX[i];
+
+            moduleSpeeds[i] = Math.hypot(moduleXVelocity, moduleYVelocity);
+            moduleAngles[i] = Math.atan2(moduleYVelocity, moduleXVelocity);
+        }
+    }
+
+    /**
+     * Gets the swerve module speed from the last inverse kinematics solve.
+     *
+     * @param index The index of the swerve module.
+     *
+     * @return The swerve module speed, in m/s.
+     */
+    public double getModuleSpeed(int index) {
+        return moduleSpeeds[index];
+    }
+
+    /**
+     * Gets the swerve module angle from the last inverse kinematics solve.
+     *
+     * @param index The index of the swerve module.
+     *
+     * @return The swerve module angle, in radians, on the interval (-π, π].
+     */
+    public double getModuleAngle(int index) {
+        return moduleAngles[index];
+    }
+
+    /**
+     * Solves for the robot relative velocities from the given swerve module
+     * speeds and angles. The results are read with {@link #getChassisXVelocity()},
+     * {@link #getChassisYVelocity()}, and {@link #getChassisRotationalVelocity()}.
+     *
+     * @param speeds The swerve module speeds, in m/s.
+     * @param angles The swerve module angles, in radians.
+     */
+    public void toChassisSpeeds(double[] speeds, double[] angles) {
+        double xVelocity = 0.0;
+        double yVelocity = 0.0;
+        double rotationalVelocity = 0.0;
+
+        for (int i = 0; i < moduleSpeeds.length; i++) {
+            double moduleXVelocity = speeds[i] * Math.cos(angles[i]);
+            double moduleYVelocity = speeds[i] * Math.sin(angles[i]);
+
+            xVelocity += forwardKinematics[0][i * 2] * moduleXVelocity
+                + forwardKinematics[0][i * 2 + 1] * moduleYVelocity;
+            yVelocity += forwardKinematics[1][i * 2] * moduleXVelocity
+                + forwardKinematics[1][i * 2 + 1] * moduleYVelocity;
+            rotationalVelocity += forwardKinematics[2][i * 2] * moduleXVelocity
+                + forwardKinematics[2][i * 2 + 1] * moduleYVelocity;
+        }
+
+        chassisXVelocity = xVelocity;
+        chassisYVelocity = yVelocity;
+        chassisRotationalVelocity = rotationalVelocity;
+    }
+
+    /**
+     * Gets the robot relative x velocity from the last forward kinematics solve.
+     *
+     * @return The robot relative x velocity, in m/s.
+     */
+    public double getChassisXVelocity() {
+        return chassisXVelocity;
+    }
+
+    /**
+     * Gets the robot relative y velocity from the last forward kinematics solve.
+     *
+     * @return The robot relative y velocity, in m/s.
+     */
+    public double getChassisYVelocity() {
+        return chassisYVelocity;
+    }
+
+    /**
+     * Gets the rotational velocity from the last forward kinematics solve.
+     *
+     * @return The rotational velocity, in rad/s.
+     */
+    public double getChassisRotationalVelocity() {
+        return chassisRotationalVelocity;
+    }
+
+    /**
+     * Optimizes a swerve module target angle against the current swerve
+     * module angle so that the swerve module never has to turn more than
+     * π/2 radians, which matches {@code SwerveModuleState.optimize}. If the
+     * target angle is flipped, then the swerve module speed must be reversed,
+     * which is checked with {@link #isOptimizedAngleFlipped(double, double)}.
+     *
+     * @param targetAngle The swerve module target angle, in radians.
+     * @param currentAngle The current swerve module angle, in radians.
+     *
+     * @return The optimized swerve module target angle, in radians, on
+     * the interval [0, 2π).
+     */
+    public static double optimizeModuleAngle(double targetAngle, double currentAngle) {
+        if (isOptimizedAngleFlipped(targetAngle, currentAngle)) {
+            targetAngle += Math.PI;
+        }
+
+        return MathUtil.inputModulus(targetAngle, 0.0, 2.0 * Math.PI);
+    }
+
+    /**
+     * Gets whether or not optimizing the given swerve module target angle
+     * flips it by π radians, in which case the swerve module speed
+     * must be reversed.
+     *
+     * @param targetAngle The swerve module target angle, in radians.
+     * @param currentAngle The current swerve module angle, in radians.
+     *
+     * @return Whether or not the optimized target angle is flipped.
+     */
+    public static boolean isOptimizedAngleFlipped(double targetAngle, double currentAngle) {
+        return Math.abs(MathUtil.angleModulus(targetAngle - currentAngle)) > Math.PI / 2.0;
+    }
+}
@@ -0,0 +1,160 @@
+package frc.robot.helpers;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.pathplanner.lib.path.PathPlannerPath;
+import com.pathplanner.lib.path.PathPlannerTrajectory;
+
+import edu.wpi.first.math.kinematics.ChassisSpeeds;
+import edu.wpi.first.wpilibj.DriverStation.Alliance;
+import edu.wpi.first.wpilibj.Filesystem;
+import frc.robot.Constants.AutoConstants;
+
+/**
+ * The class for the trajectory cache.
+ * <br></br>
+ * Loads every path planner path in the deploy directory and generates
+ * the trajectory for both alliances ahead of time, so that the path
+ * file parsing and trajectory generation are not done at the start of
+ * autonomous. The trajectories are generated starting at rest at the
+ * starting pose of the path, which is where the path following
+ * commands reset the robot pose to.
+ */
+public final class TrajectoryCache {
+    /**
+     * The instance of the {@link TrajectoryCache} class.
+     */
+    private static TrajectoryCache trajectoryCache = null;
+
+    /**
+     * The trajectories for each alliance, by path file name.
+     * The trajectories are indexed by the alliance ordinal.
+     */
+    private final Map<String, PathPlannerTrajectory[]> trajectories = new HashMap<>();
+
+    /**
+     * Gets the instance of the {@link TrajectoryCache} class.
+     *
+     * @return The instance of the {@link TrajectoryCache} class.
+     */
+    public static TrajectoryCache getInstance() {
+        if (trajectoryCache == null) {
+            trajectoryCache = new TrajectoryCache();
+        }
+
+        return trajectoryCache;
+    }
+
+    /**
+     * The constructor for the {@link TrajectoryCache} class.
+     */
+    private TrajectoryCache() {}
+
+    /**
+     * Loads every path in the deploy directory and generates its
+     * trajectories for both alliances.
+     * <br></br>
+     * This should be called after the path planner named commands are
+     * registered, since the event marker commands of each trajectory
+     * are looked up when the trajectory is generated.
+     */
+    public void preload() {
+        File pathsDirectory = new File(
+            Filesystem.getDeployDirectory(),
+            AutoConstants.PATHS_DIRECTORY);
+
+        File[] pathFiles = pathsDirectory.listFiles();
+
+        if (pathFiles == null) {
+            System.out.println(
+                "Path directory "
+                    + pathsDirectory.getPath()
+                    + " could not be read!");
+
+            return;
+        }
+
+        for (File pathFile : pathFiles) {
+            String fileName = pathFile.getName();
+
+            if (!fileName.endsWith(AutoConstants.PATH_FILE_EXTENSION)) {
+                continue;
+            }
+
+            String pathName = fileName.substring(
+                0,
+                fileName.length() - AutoConstants.PATH_FILE_EXTENSION.length());
+
+            /*
+             * Skip any path that fails to load, so that one bad
+             * path file does not stop the other paths from loading.
+             */
+            try {
+                trajectories.put(pathName, generateTrajectories(pathName));
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Gets the trajectory of the given path for the given alliance.
+     * <br></br>
+     * If the path was not preloaded, then its trajectories are
+     * generated now and cached for the next time.
+     *
+     * @param pathName The path file name.
+     * @param alliance The alliance.
+     *
+     * @return The trajectory of the path for the alliance.
+     */
+    public PathPlannerTrajectory getTrajectory(String pathName, Alliance alliance) {
+        PathPlannerTrajectory[] allianceTrajectories = trajectories.get(pathName);
+
+        if (allianceTrajectories == null) {
+            System.out.println(
+                "Path "
+                    + pathName
+                    + " was not preloaded, generating its trajectory now!");
+
+            allianceTrajectories = generateTrajectories(pathName);
+
+            trajectories.put(pathName, allianceTrajectories);
+        }
+
+        return allianceTrajectories[alliance.ordinal()];
+    }
+
+    /**
+     * Loads the given path and generates its trajectory for each alliance,
+     * starting at rest at the starting pose of the path.
+     *
+     * @param pathName The path file name.
+     *
+     * @return The trajectories of the path, indexed by the alliance ordinal.
+     */
+    private static PathPlannerTrajectory[] generateTrajectories(String pathName) {
+        PathPlannerPath bluePath = PathPlannerPath.fromPathFile(pathName);
+
+        PathPlannerTrajectory[] allianceTrajectories =
+            new PathPlannerTrajectory[Alliance.values().length];
+
+        for (Alliance alliance : Alliance.values()) {
+            /*
+             * The paths are drawn for the blue alliance,
+             * so flip the path for the red alliance.
+             */
+            PathPlannerPath path = alliance == Alliance.Red
+                ? bluePath.flipPath()
+                : bluePath;
+
+            allianceTrajectories[alliance.ordinal()] = path.getTrajectory(
+                new ChassisSpeeds(),
+                path.getPreviewStartingHolonomicPose().getRotation());
+        }
+
+        return allianceTrajectories;
+    }
+}
@@ -0,0 +1,68 @@
+package frc.robot.io;
+
+/**
+ * The interface for the hardware IO layer of the amp.
+ */
+public interface AmpIO {
+    /**
+     * The class for the inputs of the amp.
+     */
+    final class AmpIOInputs implements IOInputs {
+        /**
+         * The voltage applied to the amp motor, in volts.
+         */
+        public double ampVoltage = 0.0;
+
+        /**
+         * Whether or not the amp limit switch is at a magnet.
+         */
+        public boolean isLimitSwitchAtMagnet = false;
+
+        /**
+         * Whether or not the amp limit switch reached a magnet
+         * since the last loop, which also catches magnets that
+         * the amp limit switch passed between loops.
+         */
+        public boolean hasLimitSwitchReachedMagnet = false;
+
+        /**
+         * The output current of the amp motor, in amps.
+         */
+        public double ampCurrent = 0.0;
+
+        @Override
+        public int getLength() {
+            return 4;
+        }
+
+        @Override
+        public void toArray(double[] values) {
+            values[0] = ampVoltage;
+            values[1] = isLimitSwitchAtMagnet ? 1.0 : 0.0;
+            values[2] = hasLimitSwitchReachedMagnet ? 1.0 : 0.0;
+            values[3] = ampCurrent;
+        }
+
+        @Override
+        public void fromArray(double[] values) {
+            ampVoltage = values[0];
+            isLimitSwitchAtMagnet = values[1] != 0.0;
+            hasLimitSwitchReachedMagnet = values[2] != 0.0;
+            ampCurrent = values[3];
+        }
+    }
+
+    /**
+     * Updates the given inputs from the amp hardware.
+     *
+     * @param inputs The inputs to update.
+     */
+    default void updateInputs(AmpIOInputs inputs) {}
+
+    /**
+     * Sets the amp motor to the given voltage.
+     *
+     * @param voltage The voltage to set the amp motor to, in volts.
+     */
+    default void setAmpVoltage(double voltage) {}
+}
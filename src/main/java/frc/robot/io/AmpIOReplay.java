@@ -0,0 +1,27 @@
+package frc.robot.io;
+
+/**
+ * The class for the replayed IO layer of the amp, which reads
+ * the amp inputs recorded in a log from the {@link ReplaySource}
+ * and ignores every output.
+ */
+public final class AmpIOReplay implements AmpIO {
+    /**
+     * The name that the amp inputs are recorded under.
+     */
+    private final String name;
+
+    /**
+     * The constructor for the {@link AmpIOReplay} class.
+     *
+     * @param name The name that the amp inputs are recorded under.
+     */
+    public AmpIOReplay(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public void updateInputs(AmpIOInputs inputs) {
+        ReplaySource.getInstance().read(name, inputs);
+    }
+}
@@ -0,0 +1,70 @@
+package frc.robot.io;
+
+import edu.wpi.first.math.MathUtil;
+import frc.robot.Constants.AmpConstants;
+
+/**
+ * The class for the simulated IO layer of the amp.
+ * <br></br>
+ * The amp is modeled as travelling between the receive position and
+ * the drop position in the travel time while the amp motor is run,
+ * forwards towards the drop position and backwards towards the
+ * receive position, and stopping at either end, stepped forward once
+ * per loop by the {@link SimulationStepper}. The amp limit switch
+ * is at a magnet at both ends. The amp starts at the receive position.
+ */
+public final class AmpIOSim implements AmpIO, SimulatedIO {
+    /**
+     * The voltage last set on the amp motor, in volts.
+     */
+    private double ampVoltage = 0.0;
+
+    /**
+     * The simulated amp position, as the time that it has travelled
+     * from the receive position, in seconds.
+     */
+    private double position = 0.0;
+
+    /**
+     * Whether or not the amp limit switch is at a magnet.
+     */
+    private boolean isLimitSwitchAtMagnet = true;
+
+    /**
+     * Whether or not the amp limit switch reached a magnet in the last step.
+     */
+    private boolean hasLimitSwitchReachedMagnet = false;
+
+    /**
+     * The constructor for the {@link AmpIOSim} class.
+     */
+    public AmpIOSim() {
+        SimulationStepper.getInstance().register(this);
+    }
+
+    @Override
+    public void step(double timeStep) {
+        position = MathUtil.clamp(
+            position + Math.signum(ampVoltage) * timeStep,
+            0.0,
+            AmpConstants.SIM_TRAVEL_TIME);
+
+        boolean wasLimitSwitchAtMagnet = isLimitSwitchAtMagnet;
+
+        isLimitSwitchAtMagnet = 
+            position <= 0.0 || position >= AmpConstants.SIM_TRAVEL_TIME;
+        hasLimitSwitchReachedMagnet = isLimitSwitchAtMagnet && !wasLimitSwitchAtMagnet;
+    }
+
+    @Override
+    public void updateInputs(AmpIOInputs inputs) {
+        inputs.ampVoltage = ampVoltage;
+        inputs.isLimitSwitchAtMagnet = isLimitSwitchAtMagnet;
+        inputs.hasLimitSwitchReachedMagnet = hasLimitSwitchReachedMagnet;
+    }
+
+    @Override
+    public void setAmpVoltage(double voltage) {
+        ampVoltage = voltage;
+    }
+}
@@ -0,0 +1,43 @@
+package frc.robot.io;
+
+import com.revrobotics.CANSparkMax;
+import com.revrobotics.CANSparkLowLevel.MotorType;
+
+import frc.robot.Constants.AmpConstants;
+import frc.robot.helpers.DebouncedInput;
+import frc.robot.helpers.DigitalInputService;
+
+/**
+ * The class for the hardware IO layer of the amp, with a SPARK MAX
+ * amp motor and an amp limit switch that is sampled by the
+ * {@link DigitalInputService}.
+ */
+public final class AmpIOSparkMax implements AmpIO {
+    /**
+     * The amp motor.
+     */
+    private final CANSparkMax ampMotor = 
+        new CANSparkMax(AmpConstants.AMP_MOTOR_ID, MotorType.kBrushless);
+
+    /**
+     * The amp limit switch, which is active at a magnet.
+     */
+    private final DebouncedInput ampLimitSwitch = 
+        DigitalInputService.getInstance().register(
+            AmpConstants.AMP_LIMIT_SWITCH_ID, 
+            true, 
+            AmpConstants.AMP_LIMIT_SWITCH_DEBOUNCE_TIME);
+
+    @Override
+    public void updateInputs(AmpIOInputs inputs) {
+        inputs.ampVoltage = ampMotor.getAppliedOutput() * ampMotor.getBusVoltage();
+        inputs.ampCurrent = ampMotor.getOutputCurrent();
+        inputs.isLimitSwitchAtMagnet = ampLimitSwitch.isActive();
+        inputs.hasLimitSwitchReachedMagnet = ampLimitSwitch.hasRisen();
+    }
+
+    @Override
+    public void setAmpVoltage(double voltage) {
+        ampMotor.setVoltage(voltage);
+    }
+}
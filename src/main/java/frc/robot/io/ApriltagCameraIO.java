@@ -0,0 +1,119 @@
+package frc.robot.io;
+
+/**
+ * The interface for the hardware IO layer of an apriltag camera.
+ */
+public interface ApriltagCameraIO {
+    /**
+     * The class for the inputs of an apriltag camera, which hold
+     * the latest vision measurement taken since the last loop.
+     */
+    final class ApriltagCameraIOInputs implements IOInputs {
+        /**
+         * Whether or not the camera is connected.
+         */
+        public boolean isConnected = false;
+
+        /**
+         * Whether or not there is a new vision measurement since
+         * the last loop. If not, then the rest of the inputs are
+         * left from the last vision measurement.
+         */
+        public boolean hasMeasurement = false;
+
+        /**
+         * The x position of the estimated robot pose, in meters.
+         */
+        public double x = 0.0;
+
+        /**
+         * The y position of the estimated robot pose, in meters.
+         */
+        public double y = 0.0;
+
+        /**
+         * The z position of the estimated robot pose, in meters.
+         */
+        public double z = 0.0;
+
+        /**
+         * The roll of the estimated robot pose, in radians.
+         */
+        public double roll = 0.0;
+
+        /**
+         * The pitch of the estimated robot pose, in radians.
+         */
+        public double pitch = 0.0;
+
+        /**
+         * The yaw of the estimated robot pose, in radians.
+         */
+        public double yaw = 0.0;
+
+        /**
+         * The timestamp of the estimated robot pose, in seconds.
+         */
+        public double timestampSeconds = 0.0;
+
+        /**
+         * The number of tags used to estimate the robot pose.
+         */
+        public int tagCount = 0;
+
+        /**
+         * The average distance from the camera to the tags, in meters.
+         */
+        public double averageTagDistance = 0.0;
+
+        /**
+         * The largest pose ambiguity of the tags.
+         */
+        public double maxAmbiguity = 0.0;
+
+        @Override
+        public int getLength() {
+            return 12;
+        }
+
+        @Override
+        public void toArray(double[] values) {
+            values[0] = isConnected ? 1.0 : 0.0;
+            values[1] = hasMeasurement ? 1.0 : 0.0;
+            values[2] = x;
+            values[3] = y;
+            values[4] = z;
+            values[5] = roll;
+            values[6] = pitch;
+            values[7] = yaw;
+            values[8] = timestampSeconds;
+            values[9] = tagCount;
+            values[10] = averageTagDistance;
+            values[11] = maxAmbiguity;
+        }
+
+        @Override
+        public void fromArray(double[] values) {
+            isConnected = values[0] != 0.0;
+            hasMeasurement = values[1] != 0.0;
+            x = values[2];
+            y = values[3];
+            z = values[4];
+            roll = values[5];
+            pitch = values[6];
+            yaw = values[7];
+            timestampSeconds = values[8];
+            tagCount = (int) values[9];
+            averageTagDistance = values[10];
+            maxAmbiguity = values[11];
+        }
+    }
+
+    /**
+     * Updates the given inputs with the latest vision
+     * measurement taken since the last loop.
+     *
+     * @param inputs The inputs to update.
+     */
+    default void updateInputs(ApriltagCameraIOInputs inputs) {}
+}
@@ -0,0 +1,56 @@
+package frc.robot.io;
+
+import edu.wpi.first.math.geometry.Pose3d;
+import frc.robot.Constants.ApriltagConstants.ApriltagCameraConfig;
+import frc.robot.subsystems.ApriltagCamera;
+import frc.robot.subsystems.VisionMeasurement;
+
+/**
+ * The class for the hardware IO layer of a PhotonVision apriltag
+ * camera, which estimates the robot pose on the worker thread of
+ * an {@link ApriltagCamera}.
+ */
+public final class ApriltagCameraIOPhoton implements ApriltagCameraIO {
+    /**
+     * The apriltag camera.
+     */
+    private final ApriltagCamera camera;
+
+    /**
+     * The constructor for the {@link ApriltagCameraIOPhoton} class,
+     * which starts estimating the robot pose from the camera.
+     *
+     * @param config The configuration of the camera.
+     */
+    public ApriltagCameraIOPhoton(ApriltagCameraConfig config) {
+        camera = new ApriltagCamera(config);
+
+        camera.start();
+    }
+
+    @Override
+    public void updateInputs(ApriltagCameraIOInputs inputs) {
+        inputs.isConnected = camera.isConnected();
+
+        VisionMeasurement measurement = camera.pollVisionMeasurement();
+
+        inputs.hasMeasurement = measurement != null;
+
+        if (measurement == null) {
+            return;
+        }
+
+        Pose3d pose = measurement.getPose();
+
+        inputs.x = pose.getX();
+        inputs.y = pose.getY();
+        inputs.z = pose.getZ();
+        inputs.roll = pose.getRotation().getX();
+        inputs.pitch = pose.getRotation().getY();
+        inputs.yaw = pose.getRotation().getZ();
+        inputs.timestampSeconds = measurement.getTimestampSeconds();
+        inputs.tagCount = measurement.getTagCount();
+        inputs.averageTagDistance = measurement.getAverageTagDistance();
+        inputs.maxAmbiguity = measurement.getMaxAmbiguity();
+    }
+}
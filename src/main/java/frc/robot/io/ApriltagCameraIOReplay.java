@@ -0,0 +1,34 @@
+package frc.robot.io;
+
+/**
+ * The class for the replayed IO layer of an apriltag camera, which
+ * reads the camera inputs recorded in a log from the
+ * {@link ReplaySource}.
+ */
+public final class ApriltagCameraIOReplay implements ApriltagCameraIO {
+    /**
+     * The name that the camera inputs are recorded under.
+     */
+    private final String name;
+
+    /**
+     * The constructor for the {@link ApriltagCameraIOReplay} class.
+     *
+     * @param name The name that the camera inputs are recorded under.
+     */
+    public ApriltagCameraIOReplay(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public void updateInputs(ApriltagCameraIOInputs inputs) {
+        /*
+         * Clear the vision measurement from the last loop first,
+         * so that a vision measurement is only fused once, even
+         * if there are no recorded inputs for this loop.
+         */
+        inputs.hasMeasurement = false;
+
+        ReplaySource.getInstance().read(name, inputs);
+    }
+}
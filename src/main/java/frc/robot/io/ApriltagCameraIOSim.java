@@ -0,0 +1,15 @@
+package frc.robot.io;
+
+/**
+ * The class for the simulated IO layer of an apriltag camera. The
+ * cameras are not simulated, so the camera is reported as not being
+ * connected and never has a vision measurement, and the simulated
+ * robot pose comes from odometry alone.
+ */
+public final class ApriltagCameraIOSim implements ApriltagCameraIO {
+    @Override
+    public void updateInputs(ApriltagCameraIOInputs inputs) {
+        inputs.isConnected = false;
+        inputs.hasMeasurement = false;
+    }
+}
@@ -0,0 +1,60 @@
+package frc.robot.io;
+
+/**
+ * The interface for the hardware IO layer of a climb,
+ * which is shared by the left and right climbs.
+ */
+public interface ClimbIO {
+    /**
+     * The class for the inputs of a climb.
+     */
+    final class ClimbIOInputs implements IOInputs {
+        /**
+         * The voltage applied to the climb motor, in volts.
+         */
+        public double climbVoltage = 0.0;
+
+        /**
+         * Whether or not the climb limit switch is at a magnet.
+         */
+        public boolean isLimitSwitchAtMagnet = false;
+
+        /**
+         * The output current of the climb motor, in amps.
+         */
+        public double climbCurrent = 0.0;
+
+        @Override
+        public int getLength() {
+            return 3;
+        }
+
+        @Override
+        public void toArray(double[] values) {
+            values[0] = climbVoltage;
+            values[1] = isLimitSwitchAtMagnet ? 1.0 : 0.0;
+            values[2] = climbCurrent;
+        }
+
+        @Override
+        public void fromArray(double[] values) {
+            climbVoltage = values[0];
+            isLimitSwitchAtMagnet = values[1] != 0.0;
+            climbCurrent = values[2];
+        }
+    }
+
+    /**
+     * Updates the given inputs from the climb hardware.
+     *
+     * @param inputs The inputs to update.
+     */
+    default void updateInputs(ClimbIOInputs inputs) {}
+
+    /**
+     * Sets the climb motor to the given voltage.
+     *
+     * @param voltage The voltage to set the climb motor to, in volts.
+     */
+    default void setClimbVoltage(double voltage) {}
+}
@@ -0,0 +1,27 @@
+package frc.robot.io;
+
+/**
+ * The class for the replayed IO layer of a climb, which reads
+ * the climb inputs recorded in a log from the {@link ReplaySource}
+ * and ignores every output.
+ */
+public final class ClimbIOReplay implements ClimbIO {
+    /**
+     * The name that the climb inputs are recorded under.
+     */
+    private final String name;
+
+    /**
+     * The constructor for the {@link ClimbIOReplay} class.
+     *
+     * @param name The name that the climb inputs are recorded under.
+     */
+    public ClimbIOReplay(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public void updateInputs(ClimbIOInputs inputs) {
+        ReplaySource.getInstance().read(name, inputs);
+    }
+}
@@ -0,0 +1,52 @@
+package frc.robot.io;
+
+import edu.wpi.first.math.MathUtil;
+import frc.robot.Constants.ClimbConstants;
+
+/**
+ * The class for the simulated IO layer of a climb.
+ * <br></br>
+ * The climb is modeled as travelling between the bottom and the top
+ * in the travel time while the climb motor is run, and stopping at
+ * either end, stepped forward once per loop by the
+ * {@link SimulationStepper}. The climb limit switch is at a magnet at the top. The
+ * climb starts at the bottom.
+ */
+public final class ClimbIOSim implements ClimbIO, SimulatedIO {
+    /**
+     * The voltage last set on the climb motor, in volts.
+     */
+    private double climbVoltage = 0.0;
+
+    /**
+     * The simulated climb position, as the time that it has
+     * travelled up from the bottom, in seconds.
+     */
+    private double position = 0.0;
+
+    /**
+     * The constructor for the {@link ClimbIOSim} class.
+     */
+    public ClimbIOSim() {
+        SimulationStepper.getInstance().register(this);
+    }
+
+    @Override
+    public void step(double timeStep) {
+        position = MathUtil.clamp(
+            position + Math.signum(climbVoltage) * timeStep,
+            0.0,
+            ClimbConstants.SIM_TRAVEL_TIME);
+    }
+
+    @Override
+    public void updateInputs(ClimbIOInputs inputs) {
+        inputs.climbVoltage = climbVoltage;
+        inputs.isLimitSwitchAtMagnet = position >= ClimbConstants.SIM_TRAVEL_TIME;
+    }
+
+    @Override
+    public void setClimbVoltage(double voltage) {
+        climbVoltage = voltage;
+    }
+}
@@ -0,0 +1,52 @@
+package frc.robot.io;
+
+import com.revrobotics.CANSparkMax;
+import com.revrobotics.CANSparkLowLevel.MotorType;
+
+import frc.robot.Constants.ClimbConstants;
+import frc.robot.helpers.DebouncedInput;
+import frc.robot.helpers.DigitalInputService;
+
+/**
+ * The class for the hardware IO layer of a climb, with a brushed
+ * SPARK MAX climb motor and a climb limit switch that is sampled
+ * by the {@link DigitalInputService}.
+ */
+public final class ClimbIOSparkMax implements ClimbIO {
+    /**
+     * The climb motor.
+     */
+    private final CANSparkMax climbMotor;
+
+    /**
+     * The climb limit switch.
+     */
+    private final DebouncedInput climbLimitSwitch;
+
+    /**
+     * The constructor for the {@link ClimbIOSparkMax} class.
+     *
+     * @param climbMotorID The climb motor ID.
+     * @param climbLimitSwitchID The DIO channel of the climb limit switch.
+     */
+    public ClimbIOSparkMax(int climbMotorID, int climbLimitSwitchID) {
+        climbMotor = new CANSparkMax(climbMotorID, MotorType.kBrushed);
+
+        climbLimitSwitch = DigitalInputService.getInstance().register(
+            climbLimitSwitchID, 
+            true, 
+            ClimbConstants.CLIMB_LIMIT_SWITCH_DEBOUNCE_TIME);
+    }
+
+    @Override
+    public void updateInputs(ClimbIOInputs inputs) {
+        inputs.climbVoltage = climbMotor.getAppliedOutput() * climbMotor.getBusVoltage();
+        inputs.climbCurrent = climbMotor.getOutputCurrent();
+        inputs.isLimitSwitchAtMagnet = climbLimitSwitch.isActive();
+    }
+
+    @Override
+    public void setClimbVoltage(double voltage) {
+        climbMotor.setVoltage(voltage);
+    }
+}
@@ -0,0 +1,202 @@
+package frc.robot.io;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import edu.wpi.first.wpilibj.DriverStation;
+import edu.wpi.first.wpilibj.DriverStation.Alliance;
+import frc.robot.Constants.IOConstants;
+
+/**
+ * The class for the driver station inputs.
+ * <br></br>
+ * Holds everything that the robot program reads from the driver
+ * station in one loop, which is the robot mode, the alliance station,
+ * the match time, and the axes, buttons, and POVs of every joystick
+ * port. These are recorded every loop so that the driver station can
+ * be fed back in from the log in replay.
+ */
+public final class DriverStationInputs implements IOInputs {
+    /**
+     * Whether or not the robot is enabled.
+     */
+    public boolean isEnabled = false;
+
+    /**
+     * Whether or not the robot is in autonomous mode.
+     */
+    public boolean isAutonomous = false;
+
+    /**
+     * Whether or not the robot is in test mode.
+     */
+    public boolean isTest = false;
+
+    /**
+     * Whether or not the robot is emergency stopped.
+     */
+    public boolean isEStopped = false;
+
+    /**
+     * Whether or not the field management system is attached.
+     */
+    public boolean isFMSAttached = false;
+
+    /**
+     * Whether or not the driver station is attached.
+     */
+    public boolean isDSAttached = false;
+
+    /**
+     * The alliance station of the robot, which is 0 if it is unknown,
+     * 1 to 3 for the red alliance, and 4 to 6 for the blue alliance.
+     */
+    public int allianceStation = 0;
+
+    /**
+     * The approximate match time, in seconds.
+     */
+    public double matchTime = 0.0;
+
+    /**
+     * The number of axes of each joystick.
+     */
+    public final int[] axisCounts = new int[DriverStation.kJoystickPorts];
+
+    /**
+     * The values of the axes of each joystick.
+     */
+    public final double[][] axes =
+        new double[DriverStation.kJoystickPorts][IOConstants.MAX_JOYSTICK_AXES];
+
+    /**
+     * The number of buttons of each joystick.
+     */
+    public final int[] buttonCounts = new int[DriverStation.kJoystickPorts];
+
+    /**
+     * The states of the buttons of each joystick, as a bitmask
+     * with the first button in the least significant bit.
+     */
+    public final int[] buttons = new int[DriverStation.kJoystickPorts];
+
+    /**
+     * The number of POVs of each joystick.
+     */
+    public final int[] povCounts = new int[DriverStation.kJoystickPorts];
+
+    /**
+     * The values of the POVs of each joystick, in degrees,
+     * or -1 if the POV is not pressed.
+     */
+    public final int[][] povs =
+        new int[DriverStation.kJoystickPorts][IOConstants.MAX_JOYSTICK_POVS];
+
+    /**
+     * Updates the inputs from the driver station.
+     */
+    public void update() {
+        isEnabled = DriverStation.isEnabled();
+        isAutonomous = DriverStation.isAutonomous();
+        isTest = DriverStation.isTest();
+        isEStopped = DriverStation.isEStopped();
+        isFMSAttached = DriverStation.isFMSAttached();
+        isDSAttached = DriverStation.isDSAttached();
+        matchTime = DriverStation.getMatchTime();
+
+        Optional<Alliance> alliance = DriverStation.getAlliance();
+        OptionalInt location = DriverStation.getLocation();
+
+        if (alliance.isPresent() && location.isPresent()) {
+            allianceStation = (alliance.get() == Alliance.Red ? 0 : 3)
+                + location.getAsInt();
+        } else {
+            allianceStation = 0;
+        }
+
+        for (int port = 0; port < DriverStation.kJoystickPorts; port++) {
+            axisCounts[port] = Math.min(
+                DriverStation.getStickAxisCount(port),
+                IOConstants.MAX_JOYSTICK_AXES);
+
+            for (int axis = 0; axis < axisCounts[port]; axis++) {
+                axes[port][axis] = DriverStation.getStickAxis(port, axis);
+            }
+
+            buttonCounts[port] = DriverStation.getStickButtonCount(port);
+            buttons[port] = DriverStation.getStickButtons(port);
+
+            povCounts[port] = Math.min(
+                DriverStation.getStickPOVCount(port),
+                IOConstants.MAX_JOYSTICK_POVS);
+
+            for (int pov = 0; pov < povCounts[port]; pov++) {
+                povs[port][pov] = DriverStation.getStickPOV(port, pov);
+            }
+        }
+    }
+
+    @Override
+    public int getLength() {
+        return 8 + DriverStation.kJoystickPorts
+            * (4 + IOConstants.MAX_JOYSTICK_AXES + IOConstants.MAX_JOYSTICK_POVS);
+    }
+
+    @Override
+    public void toArray(double[] values) {
+        values[0] = isEnabled ? 1.0 : 0.0;
+        values[1] = isAutonomous ? 1.0 : 0.0;
+        values[2] = isTest ? 1.0 : 0.0;
+        values[3] = isEStopped ? 1.0 : 0.0;
+        values[4] = isFMSAttached ? 1.0 : 0.0;
+        values[5] = isDSAttached ? 1.0 : 0.0;
+        values[6] = allianceStation;
+        values[7] = matchTime;
+
+        int index = 8;
+
+        for (int port = 0; port < DriverStation.kJoystickPorts; port++) {
+            values[index++] = axisCounts[port];
+            values[index++] = buttonCounts[port];
+            values[index++] = buttons[port];
+            values[index++] = povCounts[port];
+
+            for (int axis = 0; axis < IOConstants.MAX_JOYSTICK_AXES; axis++) {
+                values[index++] = axes[port][axis];
+            }
+
+            for (int pov = 0; pov < IOConstants.MAX_JOYSTICK_POVS; pov++) {
+                values[index++] = povs[port][pov];
+            }
+        }
+    }
+
+    @Override
+    public void fromArray(double[] values) {
+        isEnabled = values[0] != 0.0;
+        isAutonomous = values[1] != 0.0;
+        isTest = values[2] != 0.0;
+        isEStopped = values[3] != 0.0;
+        isFMSAttached = values[4] != 0.0;
+        isDSAttached = values[5] != 0.0;
+        allianceStation = (int) values[6];
+        matchTime = values[7];
+
+        int index = 8;
+
+        for (int port = 0; port < DriverStation.kJoystickPorts; port++) {
+            axisCounts[port] = (int) values[index++];
+            buttonCounts[port] = (int) values[index++];
+            buttons[port] = (int) values[index++];
+            povCounts[port] = (int) values[index++];
+
+            for (int axis = 0; axis < IOConstants.MAX_JOYSTICK_AXES; axis++) {
+                axes[port][axis] = values[index++];
+            }
+
+            for (int pov = 0; pov < IOConstants.MAX_JOYSTICK_POVS; pov++) {
+                povs[port][pov] = (int) values[index++];
+            }
+        }
+    }
+}
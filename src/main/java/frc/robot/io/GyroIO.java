@@ -0,0 +1,70 @@
+package frc.robot.io;
+
+/**
+ * The interface for the hardware IO layer of the robot's gyroscope.
+ */
+public interface GyroIO {
+    /**
+     * The class for the inputs of the robot's gyroscope.
+     */
+    final class GyroIOInputs implements IOInputs {
+        /**
+         * Whether or not the gyroscope is connected.
+         */
+        public boolean isConnected = false;
+
+        /**
+         * The accumulated yaw of the robot, in radians,
+         * with counterclockwise being positive.
+         */
+        public double yaw = 0.0;
+
+        /**
+         * The yaw velocity of the robot, in rad/s,
+         * with counterclockwise being positive.
+         */
+        public double yawVelocity = 0.0;
+
+        @Override
+        public int getLength() {
+            return 3;
+        }
+
+        @Override
+        public void toArray(double[] values) {
+            values[0] = isConnected ? 1.0 : 0.0;
+            values[1] = yaw;
+            values[2] = yawVelocity;
+        }
+
+        @Override
+        public void fromArray(double[] values) {
+            isConnected = values[0] != 0.0;
+            yaw = values[1];
+            yawVelocity = values[2];
+        }
+    }
+
+    /**
+     * Updates the given inputs from the gyroscope.
+     *
+     * @param inputs The inputs to update.
+     */
+    default void updateInputs(GyroIOInputs inputs) {}
+
+    /**
+     * Gets the current accumulated yaw of the robot for the odometry
+     * thread. This must be safe to call from the odometry thread.
+     *
+     * @return The accumulated yaw of the robot, in radians,
+     * with counterclockwise being positive.
+     */
+    default double getOdometryYaw() {
+        return 0.0;
+    }
+
+    /**
+     * Resets the yaw of the gyroscope to zero.
+     */
+    default void reset() {}
+}
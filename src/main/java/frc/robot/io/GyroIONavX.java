@@ -0,0 +1,37 @@
+package frc.robot.io;
+
+import com.kauailabs.navx.frc.AHRS;
+
+import edu.wpi.first.wpilibj.SPI;
+
+/**
+ * The class for the hardware IO layer of a NavX gyroscope.
+ */
+public final class GyroIONavX implements GyroIO {
+    /**
+     * The robot's gyroscope.
+     */
+    private final AHRS gyro = new AHRS(SPI.Port.kMXP);
+
+    @Override
+    public void updateInputs(GyroIOInputs inputs) {
+        inputs.isConnected = gyro.isConnected();
+
+        /*
+         * The NavX is clockwise positive, so negate the
+         * yaw and yaw velocity to be counterclockwise positive.
+         */
+        inputs.yaw = Math.toRadians(-gyro.getAngle());
+        inputs.yawVelocity = Math.toRadians(-gyro.getRate());
+    }
+
+    @Override
+    public double getOdometryYaw() {
+        return Math.toRadians(-gyro.getAngle());
+    }
+
+    @Override
+    public void reset() {
+        gyro.reset();
+    }
+}
@@ -0,0 +1,27 @@
+package frc.robot.io;
+
+/**
+ * The class for the replayed IO layer of the robot's gyroscope, which
+ * reads the gyroscope inputs recorded in a log from the
+ * {@link ReplaySource}.
+ */
+public final class GyroIOReplay implements GyroIO {
+    /**
+     * The name that the gyroscope inputs are recorded under.
+     */
+    private final String name;
+
+    /**
+     * The constructor for the {@link GyroIOReplay} class.
+     *
+     * @param name The name that the gyroscope inputs are recorded under.
+     */
+    public GyroIOReplay(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public void updateInputs(GyroIOInputs inputs) {
+        ReplaySource.getInstance().read(name, inputs);
+    }
+}
@@ -0,0 +1,63 @@
+package frc.robot.io;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * The class for the simulated IO layer of the robot's gyroscope.
+ * <br></br>
+ * The yaw is simulated by integrating the rotational velocity of
+ * the robot over each step of the {@link SimulationStepper}.
+ */
+public final class GyroIOSim implements GyroIO, SimulatedIO {
+    /**
+     * The function that returns the rotational velocity
+     * of the robot, in rad/s.
+     */
+    private final DoubleSupplier rotationalVelocitySupplier;
+
+    /**
+     * The rotational velocity of the robot in the last step, in rad/s.
+     */
+    private double yawVelocity = 0.0;
+
+    /**
+     * The simulated yaw, in radians, which is written on
+     * the main thread and read by the odometry thread.
+     */
+    private volatile double yaw = 0.0;
+
+    /**
+     * The constructor for the {@link GyroIOSim} class.
+     *
+     * @param rotationalVelocitySupplier The function that returns
+     * the rotational velocity of the robot, in rad/s.
+     */
+    public GyroIOSim(DoubleSupplier rotationalVelocitySupplier) {
+        this.rotationalVelocitySupplier = rotationalVelocitySupplier;
+
+        SimulationStepper.getInstance().register(this);
+    }
+
+    @Override
+    public void step(double timeStep) {
+        yawVelocity = rotationalVelocitySupplier.getAsDouble();
+        yaw += yawVelocity * timeStep;
+    }
+
+    @Override
+    public void updateInputs(GyroIOInputs inputs) {
+        inputs.isConnected = true;
+        inputs.yaw = yaw;
+        inputs.yawVelocity = yawVelocity;
+    }
+
+    @Override
+    public double getOdometryYaw() {
+        return yaw;
+    }
+
+    @Override
+    public void reset() {
+        yaw = 0.0;
+    }
+}
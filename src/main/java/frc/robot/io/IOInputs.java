@@ -0,0 +1,35 @@
+package frc.robot.io;
+
+/**
+ * The interface for the inputs of a hardware IO layer.
+ * <br></br>
+ * The inputs are everything that a subsystem reads from its hardware
+ * in one loop. They are read once per loop by the IO layer and then
+ * only read from the inputs for the rest of the loop. The inputs can
+ * be flattened into an array of values, so that they can be recorded
+ * to a log and fed back in from the log in replay.
+ */
+public interface IOInputs {
+    /**
+     * Gets the number of values that the inputs are flattened into.
+     *
+     * @return The number of values.
+     */
+    int getLength();
+
+    /**
+     * Flattens the inputs into the given values.
+     *
+     * @param values The values to flatten the inputs into, which
+     * must hold at least {@link #getLength()} values.
+     */
+    void toArray(double[] values);
+
+    /**
+     * Sets the inputs from the given flattened values.
+     *
+     * @param values The flattened values, which must hold
+     * at least {@link #getLength()} values.
+     */
+    void fromArray(double[] values);
+}
@@ -0,0 +1,177 @@
+package frc.robot.io;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import edu.wpi.first.util.datalog.DataLog;
+import edu.wpi.first.util.datalog.DoubleArrayLogEntry;
+import edu.wpi.first.util.datalog.DoubleLogEntry;
+import edu.wpi.first.wpilibj.RobotController;
+import frc.robot.Constants.IOConstants;
+
+/**
+ * The class for the input recorder.
+ * <br></br>
+ * Records the timestamp of each loop, the driver station inputs, and
+ * the inputs of every IO layer to a log, so that the log can be replayed
+ * through the replay IO layers. Everything recorded in a loop is given
+ * the timestamp of the start of the loop, and the loop timestamp is
+ * always recorded first, so that the replay can group the recorded
+ * values by loop.
+ */
+public final class InputRecorder {
+    /**
+     * The instance of the {@link InputRecorder} class.
+     */
+    private static InputRecorder inputRecorder = null;
+
+    /**
+     * The log that is recorded to, or null if recording has not started.
+     */
+    private DataLog log = null;
+
+    /**
+     * The log entry for the loop timestamps.
+     */
+    private DoubleLogEntry loopTimestampEntry = null;
+
+    /**
+     * The input channels, by the name that the inputs are recorded under.
+     */
+    private final Map<String, Channel> inputChannels = new HashMap<>();
+
+    /**
+     * The driver station inputs.
+     */
+    private final DriverStationInputs driverStationInputs = new DriverStationInputs();
+
+    /**
+     * The timestamp of the start of the current loop, in microseconds.
+     */
+    private long loopTimestamp = 0;
+
+    /**
+     * Gets the instance of the {@link InputRecorder} class.
+     *
+     * @return The instance of the {@link InputRecorder} class.
+     */
+    public static InputRecorder getInstance() {
+        if (inputRecorder == null) {
+            inputRecorder = new InputRecorder();
+        }
+
+        return inputRecorder;
+    }
+
+    /**
+     * The constructor for the {@link InputRecorder} class.
+     */
+    private InputRecorder() {}
+
+    /**
+     * Starts recording to the given log. Nothing is
+     * recorded until this is called.
+     *
+     * @param log The log to record to.
+     */
+    public void start(DataLog log) {
+        this.log = log;
+
+        loopTimestampEntry = new DoubleLogEntry(log, IOConstants.LOOP_TIMESTAMP_LOG_ENTRY);
+    }
+
+    /**
+     * Starts a new loop. This records the loop timestamp and the driver
+     * station inputs, and must be called at the start of every loop,
+     * before any inputs are recorded.
+     */
+    public void startLoop() {
+        if (log == null) {
+            return;
+        }
+
+        loopTimestamp = RobotController.getFPGATime();
+
+        loopTimestampEntry.append(loopTimestamp / 1e6, loopTimestamp);
+
+        driverStationInputs.update();
+
+        recordInputs(IOConstants.DRIVER_STATION_INPUTS_NAME, driverStationInputs);
+    }
+
+    /**
+     * Records the given inputs under the given name
+     * with the timestamp of the current loop.
+     *
+     * @param name The name to record the inputs under, which must
+     * be the name that the replay IO layer reads the inputs from.
+     * @param inputs The inputs to record.
+     */
+    public void recordInputs(String name, IOInputs inputs) {
+        if (log == null) {
+            return;
+        }
+
+        Channel channel = inputChannels.get(name);
+
+        if (channel == null) {
+            channel = new Channel(IOConstants.INPUTS_LOG_PREFIX + name);
+            inputChannels.put(name, channel);
+        }
+
+        double[] values = channel.getValues(inputs.getLength());
+
+        inputs.toArray(values);
+
+        channel.entry.append(values, loopTimestamp);
+    }
+
+    /**
+     * The class for a recorded channel, which is one log entry
+     * together with the arrays that its values are flattened into.
+     */
+    private final class Channel {
+        /**
+         * The log entry of the channel.
+         */
+        private final DoubleArrayLogEntry entry;
+
+        /**
+         * The arrays that the values are flattened into, by length.
+         * Some inputs, such as the odometry samples, change length
+         * from loop to loop, so one array is kept for each length
+         * so that recording does not allocate once every length
+         * has been seen.
+         */
+        private double[][] values = new double[0][];
+
+        /**
+         * The constructor for the {@link Channel} class.
+         *
+         * @param entryName The name of the log entry.
+         */
+        private Channel(String entryName) {
+            entry = new DoubleArrayLogEntry(log, entryName);
+        }
+
+        /**
+         * Gets the array to flatten values of the given length into.
+         *
+         * @param length The number of values.
+         *
+         * @return The array of the given length.
+         */
+        private double[] getValues(int length) {
+            if (length >= values.length) {
+                values = Arrays.copyOf(values, length + 1);
+            }
+
+            if (values[length] == null) {
+                values[length] = new double[length];
+            }
+
+            return values[length];
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package frc.robot.io;
+
+/**
+ * The interface for the hardware IO layer of the intake.
+ */
+public interface IntakeIO {
+    /**
+     * The class for the inputs of the intake.
+     */
+    final class IntakeIOInputs implements IOInputs {
+        /**
+         * The voltage applied to the intake motor, in volts.
+         */
+        public double intakeVoltage = 0.0;
+
+        /**
+         * The output current of the intake motor, in amps.
+         */
+        public double intakeCurrent = 0.0;
+
+        @Override
+        public int getLength() {
+            return 2;
+        }
+
+        @Override
+        public void toArray(double[] values) {
+            values[0] = intakeVoltage;
+            values[1] = intakeCurrent;
+        }
+
+        @Override
+        public void fromArray(double[] values) {
+            intakeVoltage = values[0];
+            intakeCurrent = values[1];
+        }
+    }
+
+    /**
+     * Updates the given inputs from the intake hardware.
+     *
+     * @param inputs The inputs to update.
+     */
+    default void updateInputs(IntakeIOInputs inputs) {}
+
+    /**
+     * Sets the intake motor to the given voltage.
+     *
+     * @param voltage The voltage to set the intake motor to, in volts.
+     */
+    default void setIntakeVoltage(double voltage) {}
+}
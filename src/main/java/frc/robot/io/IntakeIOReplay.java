@@ -0,0 +1,27 @@
+package frc.robot.io;
+
+/**
+ * The class for the replayed IO layer of the intake, which reads
+ * the intake inputs recorded in a log from the {@link ReplaySource}
+ * and ignores every output.
+ */
+public final class IntakeIOReplay implements IntakeIO {
+    /**
+     * The name that the intake inputs are recorded under.
+     */
+    private final String name;
+
+    /**
+     * The constructor for the {@link IntakeIOReplay} class.
+     *
+     * @param name The name that the intake inputs are recorded under.
+     */
+    public IntakeIOReplay(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public void updateInputs(IntakeIOInputs inputs) {
+        ReplaySource.getInstance().read(name, inputs);
+    }
+}
@@ -0,0 +1,22 @@
+package frc.robot.io;
+
+/**
+ * The class for the simulated IO layer of the intake, which
+ * reports the voltage last set on the intake motor.
+ */
+public final class IntakeIOSim implements IntakeIO {
+    /**
+     * The voltage last set on the intake motor, in volts.
+     */
+    private double intakeVoltage = 0.0;
+
+    @Override
+    public void updateInputs(IntakeIOInputs inputs) {
+        inputs.intakeVoltage = intakeVoltage;
+    }
+
+    @Override
+    public void setIntakeVoltage(double voltage) {
+        intakeVoltage = voltage;
+    }
+}
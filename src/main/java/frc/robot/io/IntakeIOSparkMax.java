@@ -0,0 +1,29 @@
+package frc.robot.io;
+
+import com.revrobotics.CANSparkMax;
+import com.revrobotics.CANSparkLowLevel.MotorType;
+
+import frc.robot.Constants.IntakeConstants;
+
+/**
+ * The class for the hardware IO layer of the intake,
+ * with a SPARK MAX intake motor.
+ */
+public final class IntakeIOSparkMax implements IntakeIO {
+    /**
+     * The intake motor.
+     */
+    private final CANSparkMax intakeMotor = 
+        new CANSparkMax(IntakeConstants.INTAKE_MOTOR_ID, MotorType.kBrushless);
+
+    @Override
+    public void updateInputs(IntakeIOInputs inputs) {
+        inputs.intakeVoltage = intakeMotor.getAppliedOutput() * intakeMotor.getBusVoltage();
+        inputs.intakeCurrent = intakeMotor.getOutputCurrent();
+    }
+
+    @Override
+    public void setIntakeVoltage(double voltage) {
+        intakeMotor.setVoltage(voltage);
+    }
+}
@@ -0,0 +1,137 @@
+package frc.robot.io;
+
+import frc.robot.Constants.LimelightConstants;
+
+/**
+ * The interface for the hardware IO layer of a limelight.
+ */
+public interface LimelightIO {
+    /**
+     * The class for the inputs of a limelight, which hold the frames
+     * and the detector results published since the last loop.
+     */
+    final class LimelightIOInputs implements IOInputs {
+        /**
+         * The number of frames published since the last loop.
+         */
+        public int frameCount = 0;
+
+        /**
+         * Whether or not the limelight had a valid target
+         * in each frame, oldest first.
+         */
+        public final boolean[] frameHasTargets =
+            new boolean[LimelightConstants.FRAME_QUEUE_DEPTH];
+
+        /**
+         * The horizontal angle to the target in each frame, in degrees.
+         */
+        public final double[] frameTXs = new double[LimelightConstants.FRAME_QUEUE_DEPTH];
+
+        /**
+         * The vertical angle to the target in each frame, in degrees.
+         */
+        public final double[] frameTYs = new double[LimelightConstants.FRAME_QUEUE_DEPTH];
+
+        /**
+         * The time that each frame was captured, in seconds.
+         */
+        public final double[] frameCaptureTimestamps =
+            new double[LimelightConstants.FRAME_QUEUE_DEPTH];
+
+        /**
+         * Whether or not there are new detector results since the last
+         * loop. If not, then the rest of the detector inputs are left
+         * from the last detector results.
+         */
+        public boolean hasDetectorResults = false;
+
+        /**
+         * The time that the detector results were captured, in seconds.
+         */
+        public double detectorCaptureTimestamp = 0.0;
+
+        /**
+         * The number of detector targets in the detector results.
+         */
+        public int detectorTargetCount = 0;
+
+        /**
+         * The horizontal angle to each detector target, in degrees.
+         */
+        public final double[] detectorTXs =
+            new double[LimelightConstants.MAX_DETECTOR_TARGETS];
+
+        /**
+         * The vertical angle to each detector target, in degrees.
+         */
+        public final double[] detectorTYs =
+            new double[LimelightConstants.MAX_DETECTOR_TARGETS];
+
+        /**
+         * The confidence of each detector target.
+         */
+        public final double[] detectorConfidences =
+            new double[LimelightConstants.MAX_DETECTOR_TARGETS];
+
+        @Override
+        public int getLength() {
+            return 4 + 4 * LimelightConstants.FRAME_QUEUE_DEPTH
+                + 3 * LimelightConstants.MAX_DETECTOR_TARGETS;
+        }
+
+        @Override
+        public void toArray(double[] values) {
+            values[0] = frameCount;
+            values[1] = hasDetectorResults ? 1.0 : 0.0;
+            values[2] = detectorCaptureTimestamp;
+            values[3] = detectorTargetCount;
+
+            int index = 4;
+
+            for (int i = 0; i < LimelightConstants.FRAME_QUEUE_DEPTH; i++) {
+                values[index++] = frameHasTargets[i] ? 1.0 : 0.0;
+                values[index++] = frameTXs[i];
+                values[index++] = frameTYs[i];
+                values[index++] = frameCaptureTimestamps[i];
+            }
+
+            for (int i = 0; i < LimelightConstants.MAX_DETECTOR_TARGETS; i++) {
+                values[index++] = detectorTXs[i];
+                values[index++] = detectorTYs[i];
+                values[index++] = detectorConfidences[i];
+            }
+        }
+
+        @Override
+        public void fromArray(double[] values) {
+            frameCount = (int) values[0];
+            hasDetectorResults = values[1] != 0.0;
+            detectorCaptureTimestamp = values[2];
+            detectorTargetCount = (int) values[3];
+
+            int index = 4;
+
+            for (int i = 0; i < LimelightConstants.FRAME_QUEUE_DEPTH; i++) {
+                frameHasTargets[i] = values[index++] != 0.0;
+                frameTXs[i] = values[index++];
+                frameTYs[i] = values[index++];
+                frameCaptureTimestamps[i] = values[index++];
+            }
+
+            for (int i = 0; i < LimelightConstants.MAX_DETECTOR_TARGETS; i++) {
+                detectorTXs[i] = values[index++];
+                detectorTYs[i] = values[index++];
+                detectorConfidences[i] = values[index++];
+            }
+        }
+    }
+
+    /**
+     * Updates the given inputs with the frames and the
+     * detector results published since the last loop.
+     *
+     * @param inputs The inputs to update.
+     */
+    default void updateInputs(LimelightIOInputs inputs) {}
+}
@@ -0,0 +1,171 @@
+package frc.robot.io;
+
+import edu.wpi.first.networktables.DoubleArraySubscriber;
+import edu.wpi.first.networktables.NetworkTable;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.networktables.PubSubOption;
+import edu.wpi.first.networktables.StringSubscriber;
+import edu.wpi.first.networktables.TimestampedDoubleArray;
+import frc.robot.Constants.LimelightConstants;
+import frc.robot.helpers.LimelightHelper;
+import frc.robot.helpers.LimelightHelper.LimelightTarget_Detector;
+import frc.robot.helpers.LimelightHelper.Results;
+import frc.robot.helpers.LimelightResultsDecoder;
+
+/**
+ * The class for the IO layer of a limelight that reads the targeting
+ * data that the limelight publishes to NetworkTables.
+ * <br></br>
+ * Creates typed NetworkTables subscribers for the targeting data once,
+ * instead of looking the entries up by name on every read like
+ * {@link LimelightHelper}. The frames are read from the 2D targeting
+ * array, which the limelight publishes as one value per frame, so that
+ * every value of a frame arrives together with one timestamp, and the
+ * queue of every frame published since the last loop is read so that
+ * no frames are dropped between loops. Reading the queue allocates the
+ * array of queued values, which is the only allocation each loop while
+ * no new JSON results dump has been published.
+ */
+public final class LimelightIONetworkTables implements LimelightIO {
+    /**
+     * The index of whether or not the limelight has
+     * a valid target in the 2D targeting array.
+     */
+    private static final int T2D_VALID_INDEX = 0;
+
+    /**
+     * The index of the pipeline latency in the 2D targeting array.
+     */
+    private static final int T2D_PIPELINE_LATENCY_INDEX = 2;
+
+    /**
+     * The index of the capture latency in the 2D targeting array.
+     */
+    private static final int T2D_CAPTURE_LATENCY_INDEX = 3;
+
+    /**
+     * The index of the horizontal angle to the
+     * target in the 2D targeting array.
+     */
+    private static final int T2D_TX_INDEX = 4;
+
+    /**
+     * The index of the vertical angle to the
+     * target in the 2D targeting array.
+     */
+    private static final int T2D_TY_INDEX = 5;
+
+    /**
+     * The subscriber for the 2D targeting array.
+     */
+    private final DoubleArraySubscriber t2dSubscriber;
+
+    /**
+     * The subscriber for the JSON results dump.
+     */
+    private final StringSubscriber jsonSubscriber;
+
+    /**
+     * The time that the last JSON results dump that was
+     * read was received, in microseconds.
+     */
+    private long lastJsonTimestamp = 0;
+
+    /**
+     * The decoder for the JSON results dumps.
+     */
+    private final LimelightResultsDecoder resultsDecoder = new LimelightResultsDecoder();
+
+    /**
+     * The constructor for the {@link LimelightIONetworkTables} class.
+     *
+     * @param limelightName The name of the limelight.
+     */
+    public LimelightIONetworkTables(String limelightName) {
+        NetworkTable table = NetworkTableInstance.getDefault().getTable(
+            LimelightHelper.sanitizeName(limelightName));
+
+        /*
+         * Keep every frame published since the last read, including
+         * frames that are the same as the frame before them, so that
+         * the queue has one value per frame.
+         */
+        t2dSubscriber = table.getDoubleArrayTopic("t2d").subscribe(
+            new double[0],
+            PubSubOption.pollStorage(LimelightConstants.FRAME_QUEUE_DEPTH),
+            PubSubOption.keepDuplicates(true));
+
+        jsonSubscriber = table.getStringTopic("json").subscribe("");
+    }
+
+    @Override
+    public void updateInputs(LimelightIOInputs inputs) {
+        TimestampedDoubleArray[] t2dQueue = t2dSubscriber.readQueue();
+
+        inputs.frameCount = 0;
+
+        for (TimestampedDoubleArray t2d : t2dQueue) {
+            if (t2d.value.length <= T2D_TY_INDEX
+                    || inputs.frameCount == LimelightConstants.FRAME_QUEUE_DEPTH) {
+                continue;
+            }
+
+            int i = inputs.frameCount++;
+
+            /*
+             * Get the time that the frame was captured, which is the
+             * time that the frame was received minus the capture
+             * and pipeline latencies.
+             */
+            inputs.frameCaptureTimestamps[i] = t2d.timestamp / 1.0e6
+                - (t2d.value[T2D_PIPELINE_LATENCY_INDEX] 
+                    + t2d.value[T2D_CAPTURE_LATENCY_INDEX])
+                    / 1000.0;
+
+            inputs.frameHasTargets[i] = t2d.value[T2D_VALID_INDEX] == 1.0;
+            inputs.frameTXs[i] = t2d.value[T2D_TX_INDEX];
+            inputs.frameTYs[i] = t2d.value[T2D_TY_INDEX];
+        }
+
+        inputs.hasDetectorResults = false;
+
+        /*
+         * Only read the JSON results dump when a new one has been
+         * published, as reading it copies the whole string.
+         */
+        long jsonTimestamp = jsonSubscriber.getLastChange();
+
+        if (jsonTimestamp == lastJsonTimestamp) {
+            return;
+        }
+
+        lastJsonTimestamp = jsonTimestamp;
+
+        if (!resultsDecoder.decode(jsonSubscriber.get()) 
+                || resultsDecoder.getDetectorTargetCount() == 0) {
+            return;
+        }
+
+        Results results = resultsDecoder.getResults();
+
+        inputs.hasDetectorResults = true;
+
+        /*
+         * Get the time that the results were captured, which
+         * is the time that the results were received minus
+         * the capture and pipeline latencies.
+         */
+        inputs.detectorCaptureTimestamp = jsonTimestamp / 1.0e6
+            - (results.latency_capture + results.latency_pipeline) / 1000.0;
+
+        inputs.detectorTargetCount = resultsDecoder.getDetectorTargetCount();
+
+        for (int i = 0; i < inputs.detectorTargetCount; i++) {
+            LimelightTarget_Detector detection = resultsDecoder.getDetectorTarget(i);
+
+            inputs.detectorTXs[i] = detection.tx;
+            inputs.detectorTYs[i] = detection.ty;
+            inputs.detectorConfidences[i] = detection.confidence;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package frc.robot.io;
+
+/**
+ * The class for the replayed IO layer of a limelight, which
+ * reads the limelight inputs recorded in a log from the
+ * {@link ReplaySource}.
+ */
+public final class LimelightIOReplay implements LimelightIO {
+    /**
+     * The name that the limelight inputs are recorded under.
+     */
+    private final String name;
+
+    /**
+     * The constructor for the {@link LimelightIOReplay} class.
+     *
+     * @param name The name that the limelight inputs are recorded under.
+     */
+    public LimelightIOReplay(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public void updateInputs(LimelightIOInputs inputs) {
+        /*
+         * Clear the frames and detector results from the last loop
+         * first, so that they are only used once, even if there are
+         * no recorded inputs for this loop.
+         */
+        inputs.frameCount = 0;
+        inputs.hasDetectorResults = false;
+
+        ReplaySource.getInstance().read(name, inputs);
+    }
+}
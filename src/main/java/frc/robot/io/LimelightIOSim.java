@@ -0,0 +1,14 @@
+package frc.robot.io;
+
+/**
+ * The class for the simulated IO layer of a limelight. The limelight
+ * is not simulated, so it never publishes frames or detector results,
+ * and nothing is detected in simulation.
+ */
+public final class LimelightIOSim implements LimelightIO {
+    @Override
+    public void updateInputs(LimelightIOInputs inputs) {
+        inputs.frameCount = 0;
+        inputs.hasDetectorResults = false;
+    }
+}
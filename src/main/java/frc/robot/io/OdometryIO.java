@@ -0,0 +1,129 @@
+package frc.robot.io;
+
+import frc.robot.Constants.SwerveConstants;
+
+/**
+ * The interface for the IO layer of the swerve drive odometry samples,
+ * which are taken at the odometry frequency between loops.
+ */
+public interface OdometryIO {
+    /**
+     * The class for the odometry samples taken since the last loop.
+     */
+    final class OdometryIOInputs implements IOInputs {
+        /**
+         * The number of swerve modules in each sample.
+         */
+        private final int moduleCount;
+
+        /**
+         * The number of samples taken since the last loop.
+         */
+        public int sampleCount = 0;
+
+        /**
+         * The sample timestamps, in seconds.
+         */
+        public final double[] timestamps =
+            new double[SwerveConstants.ODOMETRY_BUFFER_SIZE];
+
+        /**
+         * The sample gyroscope angles, in radians.
+         */
+        public final double[] gyroAngles =
+            new double[SwerveConstants.ODOMETRY_BUFFER_SIZE];
+
+        /**
+         * The sample swerve module drive positions, in meters,
+         * indexed by sample and then by swerve module.
+         */
+        public final double[][] drivePositions;
+
+        /**
+         * The sample swerve module steer angles, in radians,
+         * indexed by sample and then by swerve module.
+         */
+        public final double[][] steerAngles;
+
+        /**
+         * The constructor for the {@link OdometryIOInputs} class.
+         *
+         * @param moduleCount The number of swerve modules in each sample.
+         */
+        public OdometryIOInputs(int moduleCount) {
+            this.moduleCount = moduleCount;
+
+            drivePositions =
+                new double[SwerveConstants.ODOMETRY_BUFFER_SIZE][moduleCount];
+            steerAngles =
+                new double[SwerveConstants.ODOMETRY_BUFFER_SIZE][moduleCount];
+        }
+
+        /**
+         * Only the samples that were taken are flattened,
+         * so the length changes with the number of samples.
+         */
+        @Override
+        public int getLength() {
+            return 1 + sampleCount * (2 + 2 * moduleCount);
+        }
+
+        @Override
+        public void toArray(double[] values) {
+            values[0] = sampleCount;
+
+            int index = 1;
+
+            for (int i = 0; i < sampleCount; i++) {
+                values[index++] = timestamps[i];
+                values[index++] = gyroAngles[i];
+
+                for (int j = 0; j < moduleCount; j++) {
+                    values[index++] = drivePositions[i][j];
+                    values[index++] = steerAngles[i][j];
+                }
+            }
+        }
+
+        @Override
+        public void fromArray(double[] values) {
+            /*
+             * Only read as many samples as the values hold, so
+             * that a short recording never reads past its end.
+             */
+            sampleCount = Math.min(
+                Math.min((int) values[0], SwerveConstants.ODOMETRY_BUFFER_SIZE),
+                (values.length - 1) / (2 + 2 * moduleCount));
+
+            int index = 1;
+
+            for (int i = 0; i < sampleCount; i++) {
+                timestamps[i] = values[index++];
+                gyroAngles[i] = values[index++];
+
+                for (int j = 0; j < moduleCount; j++) {
+                    drivePositions[i][j] = values[index++];
+                    steerAngles[i][j] = values[index++];
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the given inputs with the odometry samples
+     * taken since the last loop.
+     *
+     * @param inputs The inputs to update.
+     */
+    default void updateInputs(OdometryIOInputs inputs) {}
+
+    /**
+     * Starts taking odometry samples.
+     */
+    default void start() {}
+
+    /**
+     * Discards all odometry samples taken since the last loop.
+     */
+    default void clear() {}
+}
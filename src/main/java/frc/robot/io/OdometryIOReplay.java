@@ -0,0 +1,34 @@
+package frc.robot.io;
+
+/**
+ * The class for the replayed IO layer of the swerve drive odometry
+ * samples, which reads the odometry samples recorded in a log from
+ * the {@link ReplaySource}.
+ */
+public final class OdometryIOReplay implements OdometryIO {
+    /**
+     * The name that the odometry samples are recorded under.
+     */
+    private final String name;
+
+    /**
+     * The constructor for the {@link OdometryIOReplay} class.
+     *
+     * @param name The name that the odometry samples are recorded under.
+     */
+    public OdometryIOReplay(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public void updateInputs(OdometryIOInputs inputs) {
+        /*
+         * Clear the samples from the last loop first, so that
+         * if there are no recorded samples for this loop, then
+         * there are no new samples, rather than the same ones.
+         */
+        inputs.sampleCount = 0;
+
+        ReplaySource.getInstance().read(name, inputs);
+    }
+}
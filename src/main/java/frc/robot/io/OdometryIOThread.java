@@ -0,0 +1,255 @@
+package frc.robot.io;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.DoubleSupplier;
+
+import edu.wpi.first.wpilibj.Notifier;
+import edu.wpi.first.wpilibj.Timer;
+import frc.robot.Constants.SwerveConstants;
+import frc.robot.subsystems.SwerveModule;
+
+/**
+ * The class for the real IO layer of the swerve drive odometry,
+ * which is a thread that samples the swerve drive sensors.
+ * <br></br>
+ * Samples the swerve module drive positions, the swerve module
+ * steer angles, and the gyroscope angle at the odometry frequency,
+ * which is independent of the 20 ms main robot loop. The timestamped
+ * samples are stored in a lock protected ring buffer until they are
+ * drained by the swerve drive subsystem through
+ * {@link #updateInputs(OdometryIOInputs)}.
+ */
+public final class OdometryIOThread implements OdometryIO {
+    /**
+     * The swerve modules to sample.
+     */
+    private final SwerveModule[] swerveModules;
+
+    /**
+     * The function that returns the current gyroscope angle, in radians.
+     */
+    private final DoubleSupplier gyroAngleSupplier;
+
+    /**
+     * The notifier that runs the odometry thread.
+     */
+    private final Notifier notifier;
+
+    /**
+     * The lock that protects the sample buffers.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * The sample timestamps, in seconds.
+     */
+    private final double[] timestamps =
+        new double[SwerveConstants.ODOMETRY_BUFFER_SIZE];
+
+    /**
+     * The sample gyroscope angles, in radians.
+     */
+    private final double[] gyroAngles =
+        new double[SwerveConstants.ODOMETRY_BUFFER_SIZE];
+
+    /**
+     * The sample swerve module drive positions, in meters,
+     * indexed by sample and then by swerve module.
+     */
+    private final double[][] drivePositions;
+
+    /**
+     * The sample swerve module steer angles, in radians,
+     * indexed by sample and then by swerve module.
+     */
+    private final double[][] steerAngles;
+
+    /**
+     * The scratch swerve module drive positions that a sample
+     * is read into before the lock is acquired.
+     */
+    private final double[] sampledDrivePositions;
+
+    /**
+     * The scratch swerve module steer angles that a sample
+     * is read into before the lock is acquired.
+     */
+    private final double[] sampledSteerAngles;
+
+    /**
+     * The index of the oldest sample in the sample buffers.
+     */
+    private int head = 0;
+
+    /**
+     * The number of samples in the sample buffers.
+     */
+    private int size = 0;
+
+    /**
+     * The constructor for the {@link OdometryIOThread} class.
+     *
+     * @param swerveModules The swerve modules to sample.
+     * @param gyroAngleSupplier The function that returns the
+     * current gyroscope angle, in radians.
+     */
+    public OdometryIOThread(SwerveModule[] swerveModules, DoubleSupplier gyroAngleSupplier) {
+        this.swerveModules = swerveModules;
+        this.gyroAngleSupplier = gyroAngleSupplier;
+
+        drivePositions =
+            new double[SwerveConstants.ODOMETRY_BUFFER_SIZE][swerveModules.length];
+        steerAngles =
+            new double[SwerveConstants.ODOMETRY_BUFFER_SIZE][swerveModules.length];
+
+        sampledDrivePositions = new double[swerveModules.length];
+        sampledSteerAngles = new double[swerveModules.length];
+
+        notifier = new Notifier(this::sample);
+        notifier.setName("Odometry Thread");
+    }
+
+    /**
+     * Starts the odometry thread at the odometry frequency.
+     */
+    @Override
+    public void start() {
+        notifier.startPeriodic(1.0 / SwerveConstants.ODOMETRY_FREQUENCY);
+    }
+
+    /**
+     * Stops the odometry thread.
+     */
+    public void stop() {
+        notifier.stop();
+    }
+
+    /**
+     * Takes one odometry sample and adds it to the sample buffers.
+     * If the sample buffers are full, then the oldest sample
+     * is overwritten.
+     */
+    private void sample() {
+        /*
+         * Read the sensors before acquiring the lock so that
+         * the main thread is never blocked on a CAN read.
+         */
+        for (int i = 0; i < swerveModules.length; i++) {
+            sampledDrivePositions[i] =
+                swerveModules[i].getOdometryDriveMotorLinearPosition();
+            sampledSteerAngles[i] =
+                swerveModules[i].getOdometrySteerEncoderAngle();
+        }
+
+        double gyroAngle = gyroAngleSupplier.getAsDouble();
+        double timestamp = Timer.getFPGATimestamp();
+
+        lock.lock();
+
+        try {
+            /*
+             * If the sample buffers are full, then drop the
+             * oldest sample to make room for the new sample.
+             */
+            if (size == timestamps.length) {
+                head = (head + 1) % timestamps.length;
+                size--;
+            }
+
+            int index = (head + size) % timestamps.length;
+
+            timestamps[index] = timestamp;
+            gyroAngles[index] = gyroAngle;
+
+            System.arraycopy(
+                sampledDrivePositions, 0, drivePositions[index], 0, swerveModules.length);
+            System.arraycopy(
+                sampledSteerAngles, 0, steerAngles[index], 0, swerveModules.length);
+
+            size++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Copies all buffered samples, oldest first, into the given
+     * arrays and then clears the sample buffers. The given arrays
+     * must be able to hold {@link SwerveConstants#ODOMETRY_BUFFER_SIZE}
+     * samples.
+     *
+     * @param timestamps The array to copy the sample timestamps into.
+     * @param gyroAngles The array to copy the sample gyroscope angles into.
+     * @param drivePositions The array to copy the sample swerve module
+     * drive positions into.
+     * @param steerAngles The array to copy the sample swerve module
+     * steer angles into.
+     *
+     * @return The number of samples copied.
+     */
+    public int drain(
+            double[] timestamps,
+            double[] gyroAngles,
+            double[][] drivePositions,
+            double[][] steerAngles) {
+        lock.lock();
+
+        try {
+            int count = size;
+
+            for (int i = 0; i < count; i++) {
+                int index = (head + i) % this.timestamps.length;
+
+                timestamps[i] = this.timestamps[index];
+                gyroAngles[i] = this.gyroAngles[index];
+
+                System.arraycopy(
+                    this.drivePositions[index], 0,
+                    drivePositions[i], 0,
+                    swerveModules.length);
+                System.arraycopy(
+                    this.steerAngles[index], 0,
+                    steerAngles[i], 0,
+                    swerveModules.length);
+            }
+
+            head = 0;
+            size = 0;
+
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drains all buffered samples into the given inputs.
+     *
+     * @param inputs The inputs to drain the samples into.
+     */
+    @Override
+    public void updateInputs(OdometryIOInputs inputs) {
+        inputs.sampleCount = drain(
+            inputs.timestamps,
+            inputs.gyroAngles,
+            inputs.drivePositions,
+            inputs.steerAngles);
+    }
+
+    /**
+     * Discards all buffered samples. This is done when the
+     * swerve drive position estimator is reset so that samples
+     * taken before the reset are not applied after it.
+     */
+    @Override
+    public void clear() {
+        lock.lock();
+
+        try {
+            head = 0;
+            size = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package frc.robot.io;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The class for the source of the inputs in replay.
+ * <br></br>
+ * Holds the latest flattened inputs of each IO layer by the name
+ * that they are recorded under. In replay, the recorded inputs are
+ * put into the replay source before each loop and cleared after it,
+ * and the replay IO layers read their inputs from it instead of from
+ * the hardware.
+ */
+public final class ReplaySource {
+    /**
+     * The instance of the {@link ReplaySource} class.
+     */
+    private static ReplaySource replaySource = null;
+
+    /**
+     * The latest flattened inputs, by the name that
+     * they are recorded under.
+     */
+    private final Map<String, double[]> inputs = new HashMap<>();
+
+    /**
+     * Gets the instance of the {@link ReplaySource} class.
+     *
+     * @return The instance of the {@link ReplaySource} class.
+     */
+    public static ReplaySource getInstance() {
+        if (replaySource == null) {
+            replaySource = new ReplaySource();
+        }
+
+        return replaySource;
+    }
+
+    /**
+     * The constructor for the {@link ReplaySource} class.
+     */
+    private ReplaySource() {}
+
+    /**
+     * Puts the recorded flattened inputs with the given name.
+     *
+     * @param name The name that the inputs are recorded under.
+     * @param values The recorded flattened inputs.
+     */
+    public void put(String name, double[] values) {
+        inputs.put(name, values);
+    }
+
+    /**
+     * Sets the given inputs from the recorded flattened inputs with
+     * the given name. If there are no recorded inputs with the name,
+     * or if they are too short, then the inputs are left as they are.
+     *
+     * @param name The name that the inputs are recorded under.
+     * @param ioInputs The inputs to set.
+     *
+     * @return Whether or not the inputs were set.
+     */
+    public boolean read(String name, IOInputs ioInputs) {
+        double[] values = inputs.get(name);
+
+        if (values == null || values.length < ioInputs.getLength()) {
+            return false;
+        }
+
+        ioInputs.fromArray(values);
+
+        return true;
+    }
+
+    /**
+     * Removes all of the recorded inputs.
+     */
+    public void clear() {
+        inputs.clear();
+    }
+}
@@ -0,0 +1,131 @@
+package frc.robot.io;
+
+/**
+ * The interface for the hardware IO layer of the shooter.
+ */
+public interface ShooterIO {
+    /**
+     * The class for the inputs of the shooter.
+     */
+    final class ShooterIOInputs implements IOInputs {
+        /**
+         * The velocity of the left shooter motor, in RPM.
+         */
+        public double leftShooterVelocity = 0.0;
+
+        /**
+         * The velocity of the right shooter motor, in RPM.
+         */
+        public double rightShooterVelocity = 0.0;
+
+        /**
+         * The voltage applied to the left shooter motor, in volts.
+         */
+        public double leftShooterVoltage = 0.0;
+
+        /**
+         * The voltage applied to the right shooter motor, in volts.
+         */
+        public double rightShooterVoltage = 0.0;
+
+        /**
+         * The voltage applied to the lift motor, in volts.
+         */
+        public double liftVoltage = 0.0;
+
+        /**
+         * Whether or not the shooter limit switch is being pressed.
+         */
+        public boolean isLimitSwitchPressed = false;
+
+        /**
+         * Whether or not the shooter limit switch was
+         * released since the last loop.
+         */
+        public boolean hasLimitSwitchFallen = false;
+
+        /**
+         * The time that the shooter limit switch was last released,
+         * in seconds, or NaN if it has not been released.
+         */
+        public double limitSwitchFallTimestamp = Double.NaN;
+
+        /**
+         * The output current of the left shooter motor, in amps.
+         */
+        public double leftShooterCurrent = 0.0;
+
+        /**
+         * The output current of the right shooter motor, in amps.
+         */
+        public double rightShooterCurrent = 0.0;
+
+        /**
+         * The output current of the lift motor, in amps.
+         */
+        public double liftCurrent = 0.0;
+
+        @Override
+        public int getLength() {
+            return 11;
+        }
+
+        @Override
+        public void toArray(double[] values) {
+            values[0] = leftShooterVelocity;
+            values[1] = rightShooterVelocity;
+            values[2] = leftShooterVoltage;
+            values[3] = rightShooterVoltage;
+            values[4] = liftVoltage;
+            values[5] = isLimitSwitchPressed ? 1.0 : 0.0;
+            values[6] = hasLimitSwitchFallen ? 1.0 : 0.0;
+            values[7] = limitSwitchFallTimestamp;
+            values[8] = leftShooterCurrent;
+            values[9] = rightShooterCurrent;
+            values[10] = liftCurrent;
+        }
+
+        @Override
+        public void fromArray(double[] values) {
+            leftShooterVelocity = values[0];
+            rightShooterVelocity = values[1];
+            leftShooterVoltage = values[2];
+            rightShooterVoltage = values[3];
+            liftVoltage = values[4];
+            isLimitSwitchPressed = values[5] != 0.0;
+            hasLimitSwitchFallen = values[6] != 0.0;
+            limitSwitchFallTimestamp = values[7];
+            leftShooterCurrent = values[8];
+            rightShooterCurrent = values[9];
+            liftCurrent = values[10];
+        }
+    }
+
+    /**
+     * Updates the given inputs from the shooter hardware.
+     *
+     * @param inputs The inputs to update.
+     */
+    default void updateInputs(ShooterIOInputs inputs) {}
+
+    /**
+     * Sets the lift motor to the given voltage.
+     *
+     * @param voltage The voltage to set the lift motor to, in volts.
+     */
+    default void setLiftVoltage(double voltage) {}
+
+    /**
+     * Sets the left shooter motor to the given voltage.
+     *
+     * @param voltage The voltage to set the left shooter motor to, in volts.
+     */
+    default void setLeftShooterVoltage(double voltage) {}
+
+    /**
+     * Sets the right shooter motor to the given voltage.
+     *
+     * @param voltage The voltage to set the right shooter motor to, in volts.
+     */
+    default void setRightShooterVoltage(double voltage) {}
+}
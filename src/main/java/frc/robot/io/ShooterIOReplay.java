@@ -0,0 +1,27 @@
+package frc.robot.io;
+
+/**
+ * The class for the replayed IO layer of the shooter, which reads
+ * the shooter inputs recorded in a log from the {@link ReplaySource}
+ * and ignores every output.
+ */
+public final class ShooterIOReplay implements ShooterIO {
+    /**
+     * The name that the shooter inputs are recorded under.
+     */
+    private final String name;
+
+    /**
+     * The constructor for the {@link ShooterIOReplay} class.
+     *
+     * @param name The name that the shooter inputs are recorded under.
+     */
+    public ShooterIOReplay(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public void updateInputs(ShooterIOInputs inputs) {
+        ReplaySource.getInstance().read(name, inputs);
+    }
+}
@@ -0,0 +1,181 @@
+package frc.robot.io;
+
+import edu.wpi.first.math.MathUtil;
+import edu.wpi.first.math.system.plant.DCMotor;
+import edu.wpi.first.math.system.plant.LinearSystemId;
+import edu.wpi.first.math.util.Units;
+import edu.wpi.first.wpilibj.RobotController;
+import edu.wpi.first.wpilibj.Timer;
+import edu.wpi.first.wpilibj.simulation.FlywheelSim;
+import frc.robot.Constants.ShooterConstants;
+
+/**
+ * The class for the simulated IO layer of the shooter.
+ * <br></br>
+ * Each shooter motor is modeled as a flywheel simulation from the
+ * shooter feedforward gains, and is stepped forward once per loop by
+ * the {@link SimulationStepper}. The shooter starts with a note on the
+ * shooter limit switch. Once the lift has run forwards for the note
+ * feed time, the note leaves the shooter limit switch, and a new note
+ * is put on the shooter limit switch as soon as the lift stops, as if
+ * the intake always has a note ready.
+ */
+public final class ShooterIOSim implements ShooterIO, SimulatedIO {
+    /**
+     * The left shooter motor simulation.
+     */
+    private final FlywheelSim leftShooterMotorSim = createShooterMotorSim();
+
+    /**
+     * The right shooter motor simulation.
+     */
+    private final FlywheelSim rightShooterMotorSim = createShooterMotorSim();
+
+    /**
+     * The voltage last set on the lift motor, in volts.
+     */
+    private double liftVoltage = 0.0;
+
+    /**
+     * The voltage last set on the left shooter motor, in volts.
+     */
+    private double leftShooterVoltage = 0.0;
+
+    /**
+     * The voltage last set on the right shooter motor, in volts.
+     */
+    private double rightShooterVoltage = 0.0;
+
+    /**
+     * The voltage applied to the left shooter motor in the last
+     * step, limited to the battery voltage, in volts.
+     */
+    private double appliedLeftShooterVoltage = 0.0;
+
+    /**
+     * The voltage applied to the right shooter motor in the last
+     * step, limited to the battery voltage, in volts.
+     */
+    private double appliedRightShooterVoltage = 0.0;
+
+    /**
+     * The voltage applied to the lift motor in the last step,
+     * limited to the battery voltage, in volts.
+     */
+    private double appliedLiftVoltage = 0.0;
+
+    /**
+     * Whether or not there is a simulated note on the shooter limit switch.
+     */
+    private boolean hasNote = true;
+
+    /**
+     * The time that the lift has run forwards for with
+     * the simulated note in it, in seconds.
+     */
+    private double noteFeedTime = 0.0;
+
+    /**
+     * Whether or not the simulated note left the shooter
+     * limit switch in the last step.
+     */
+    private boolean hasLimitSwitchFallen = false;
+
+    /**
+     * The timestamp when the simulated note last left
+     * the shooter limit switch, in seconds, or NaN if
+     * it has not left the shooter limit switch.
+     */
+    private double limitSwitchFallTimestamp = Double.NaN;
+
+    /**
+     * The constructor for the {@link ShooterIOSim} class.
+     */
+    public ShooterIOSim() {
+        SimulationStepper.getInstance().register(this);
+    }
+
+    /**
+     * Creates a shooter motor simulation from the shooter feedforward
+     * gains, converted from RPM to rad/s.
+     *
+     * @return The shooter motor simulation.
+     */
+    private static FlywheelSim createShooterMotorSim() {
+        return new FlywheelSim(
+            LinearSystemId.identifyVelocitySystem(
+                ShooterConstants.SHOOTER_KV / Units.rotationsPerMinuteToRadiansPerSecond(1.0),
+                ShooterConstants.SHOOTER_KA / Units.rotationsPerMinuteToRadiansPerSecond(1.0)),
+            DCMotor.getNEO(1),
+            1.0);
+    }
+
+    @Override
+    public void step(double timeStep) {
+        double batteryVoltage = RobotController.getBatteryVoltage();
+
+        appliedLeftShooterVoltage = 
+            MathUtil.clamp(leftShooterVoltage, -batteryVoltage, batteryVoltage);
+        appliedRightShooterVoltage = 
+            MathUtil.clamp(rightShooterVoltage, -batteryVoltage, batteryVoltage);
+        appliedLiftVoltage = MathUtil.clamp(liftVoltage, -batteryVoltage, batteryVoltage);
+
+        leftShooterMotorSim.setInputVoltage(appliedLeftShooterVoltage);
+        rightShooterMotorSim.setInputVoltage(appliedRightShooterVoltage);
+
+        leftShooterMotorSim.update(timeStep);
+        rightShooterMotorSim.update(timeStep);
+
+        hasLimitSwitchFallen = false;
+
+        /*
+         * Feed the simulated note while the lift runs forwards,
+         * and load a new note once the lift stops.
+         */
+        if (hasNote && liftVoltage > 0.0) {
+            noteFeedTime += timeStep;
+
+            if (noteFeedTime >= ShooterConstants.SIM_NOTE_FEED_TIME) {
+                hasNote = false;
+
+                hasLimitSwitchFallen = true;
+                limitSwitchFallTimestamp = Timer.getFPGATimestamp();
+            }
+        } else if (!hasNote && liftVoltage == 0.0) {
+            hasNote = true;
+            noteFeedTime = 0.0;
+        }
+    }
+
+    @Override
+    public void updateInputs(ShooterIOInputs inputs) {
+        inputs.leftShooterVelocity = leftShooterMotorSim.getAngularVelocityRPM();
+        inputs.rightShooterVelocity = rightShooterMotorSim.getAngularVelocityRPM();
+        inputs.leftShooterVoltage = appliedLeftShooterVoltage;
+        inputs.rightShooterVoltage = appliedRightShooterVoltage;
+        inputs.liftVoltage = appliedLiftVoltage;
+
+        inputs.leftShooterCurrent = leftShooterMotorSim.getCurrentDrawAmps();
+        inputs.rightShooterCurrent = rightShooterMotorSim.getCurrentDrawAmps();
+
+        inputs.hasLimitSwitchFallen = hasLimitSwitchFallen;
+        inputs.limitSwitchFallTimestamp = limitSwitchFallTimestamp;
+
+        inputs.isLimitSwitchPressed = hasNote;
+    }
+
+    @Override
+    public void setLiftVoltage(double voltage) {
+        liftVoltage = voltage;
+    }
+
+    @Override
+    public void setLeftShooterVoltage(double voltage) {
+        leftShooterVoltage = voltage;
+    }
+
+    @Override
+    public void setRightShooterVoltage(double voltage) {
+        rightShooterVoltage = voltage;
+    }
+}
@@ -0,0 +1,103 @@
+package frc.robot.io;
+
+import com.revrobotics.CANSparkMax;
+import com.revrobotics.RelativeEncoder;
+import com.revrobotics.CANSparkBase.IdleMode;
+import com.revrobotics.CANSparkLowLevel.MotorType;
+
+import frc.robot.Constants.ShooterConstants;
+import frc.robot.helpers.DebouncedInput;
+import frc.robot.helpers.DigitalInputService;
+
+/**
+ * The class for the hardware IO layer of the shooter, with SPARK MAX
+ * lift and shooter motors and a shooter limit switch that is sampled
+ * by the {@link DigitalInputService}.
+ */
+public final class ShooterIOSparkMax implements ShooterIO {
+    /**
+     * The lift motor.
+     */
+    private final CANSparkMax liftMotor = 
+        new CANSparkMax(ShooterConstants.LIFT_MOTOR_ID, MotorType.kBrushless);
+
+    /**
+     * The left shooter motor.
+     */
+    private final CANSparkMax leftShooterMotor = 
+        new CANSparkMax(ShooterConstants.LEFT_SHOOTER_MOTOR_ID, MotorType.kBrushless);
+
+    /**
+     * The right shooter motor.
+     */
+    private final CANSparkMax rightShooterMotor = 
+        new CANSparkMax(ShooterConstants.RIGHT_SHOOTER_MOTOR_ID, MotorType.kBrushless);
+
+    /**
+     * The left shooter motor encoder.
+     */
+    private final RelativeEncoder leftShooterEncoder = leftShooterMotor.getEncoder();
+
+    /**
+     * The right shooter motor encoder.
+     */
+    private final RelativeEncoder rightShooterEncoder = rightShooterMotor.getEncoder();
+
+    /**
+     * The shooter limit switch.
+     */
+    private final DebouncedInput shooterLimitSwitch = 
+        DigitalInputService.getInstance().register(
+            ShooterConstants.SHOOTER_LIMIT_SWITCH_ID, 
+            false, 
+            ShooterConstants.SHOOTER_LIMIT_SWITCH_DEBOUNCE_TIME);
+
+    /**
+     * The constructor for the {@link ShooterIOSparkMax} class.
+     */
+    public ShooterIOSparkMax() {
+        rightShooterMotor.setInverted(true);
+
+        /*
+         * Let the shooter motors coast down when they are stopped,
+         * so that they do not brake on a note that is still
+         * between them.
+         */
+        leftShooterMotor.setIdleMode(IdleMode.kCoast);
+        rightShooterMotor.setIdleMode(IdleMode.kCoast);
+    }
+
+    @Override
+    public void updateInputs(ShooterIOInputs inputs) {
+        inputs.leftShooterVelocity = leftShooterEncoder.getVelocity();
+        inputs.rightShooterVelocity = rightShooterEncoder.getVelocity();
+        inputs.leftShooterVoltage = 
+            leftShooterMotor.getAppliedOutput() * leftShooterMotor.getBusVoltage();
+        inputs.rightShooterVoltage = 
+            rightShooterMotor.getAppliedOutput() * rightShooterMotor.getBusVoltage();
+        inputs.liftVoltage = liftMotor.getAppliedOutput() * liftMotor.getBusVoltage();
+
+        inputs.leftShooterCurrent = leftShooterMotor.getOutputCurrent();
+        inputs.rightShooterCurrent = rightShooterMotor.getOutputCurrent();
+        inputs.liftCurrent = liftMotor.getOutputCurrent();
+
+        inputs.isLimitSwitchPressed = shooterLimitSwitch.isActive();
+        inputs.hasLimitSwitchFallen = shooterLimitSwitch.hasFallen();
+        inputs.limitSwitchFallTimestamp = shooterLimitSwitch.getFallTimestamp();
+    }
+
+    @Override
+    public void setLiftVoltage(double voltage) {
+        liftMotor.setVoltage(voltage);
+    }
+
+    @Override
+    public void setLeftShooterVoltage(double voltage) {
+        leftShooterMotor.setVoltage(voltage);
+    }
+
+    @Override
+    public void setRightShooterVoltage(double voltage) {
+        rightShooterMotor.setVoltage(voltage);
+    }
+}
@@ -0,0 +1,20 @@
+package frc.robot.io;
+
+/**
+ * The interface for a simulated IO layer with physics that
+ * are stepped forward in time.
+ * <br></br>
+ * The physics are only stepped by the {@link SimulationStepper}, once
+ * per loop, and reading the inputs of a simulated IO layer only copies
+ * its simulated state, so that the inputs can be read any number of
+ * times without moving the simulation forward.
+ */
+public interface SimulatedIO {
+    /**
+     * Steps the physics of the simulated IO layer forward in time
+     * with the voltages last set on its motors.
+     *
+     * @param timeStep The time to step forward by, in seconds.
+     */
+    void step(double timeStep);
+}
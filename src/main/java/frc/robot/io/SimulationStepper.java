@@ -0,0 +1,81 @@
+package frc.robot.io;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import edu.wpi.first.wpilibj.Timer;
+
+/**
+ * The class for stepping the physics of the simulated IO layers.
+ * <br></br>
+ * Each simulated IO layer registers itself when it is created, and
+ * all of them are stepped forward together once per loop from
+ * simulation periodic, by the time measured since the last loop,
+ * so that the simulation keeps pace with the robot's clock even
+ * when a loop overruns.
+ */
+public final class SimulationStepper {
+    /**
+     * The instance of the {@link SimulationStepper} class.
+     */
+    private static SimulationStepper simulationStepper = null;
+
+    /**
+     * The registered simulated IO layers, in the order
+     * that they are stepped.
+     */
+    private final List<SimulatedIO> simulatedIOs = new ArrayList<>();
+
+    /**
+     * The timestamp of the last step, in seconds,
+     * or NaN if the simulation has not been stepped.
+     */
+    private double lastTimestamp = Double.NaN;
+
+    /**
+     * Gets the instance of the {@link SimulationStepper} class.
+     *
+     * @return The instance of the {@link SimulationStepper} class.
+     */
+    public static SimulationStepper getInstance() {
+        if (simulationStepper == null) {
+            simulationStepper = new SimulationStepper();
+        }
+
+        return simulationStepper;
+    }
+
+    /**
+     * The constructor for the {@link SimulationStepper} class.
+     */
+    private SimulationStepper() {}
+
+    /**
+     * Registers a simulated IO layer to be stepped each loop.
+     *
+     * @param simulatedIO The simulated IO layer.
+     */
+    public void register(SimulatedIO simulatedIO) {
+        simulatedIOs.add(simulatedIO);
+    }
+
+    /**
+     * Steps all of the registered simulated IO layers forward by the
+     * time since the last step. The first step only starts the clock.
+     */
+    public void step() {
+        double timestamp = Timer.getFPGATimestamp();
+        double timeStep = timestamp - lastTimestamp;
+
+        lastTimestamp = timestamp;
+
+        /* The time step is NaN on the first step. */
+        if (!(timeStep > 0.0)) {
+            return;
+        }
+
+        for (int i = 0; i < simulatedIOs.size(); i++) {
+            simulatedIOs.get(i).step(timeStep);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package frc.robot.io;
+
+import com.ctre.phoenix6.BaseStatusSignal;
+
+/**
+ * The interface for the hardware IO layer of a swerve module.
+ */
+public interface SwerveModuleIO {
+    /**
+     * The class for the inputs of a swerve module.
+     */
+    final class SwerveModuleIOInputs implements IOInputs {
+        /**
+         * The linear position of the drive motor, in meters.
+         */
+        public double driveMotorLinearPosition = 0.0;
+
+        /**
+         * The linear velocity of the drive motor, in m/s.
+         */
+        public double driveMotorLinearVelocity = 0.0;
+
+        /**
+         * The voltage applied to the drive motor, in volts.
+         */
+        public double driveMotorVoltage = 0.0;
+
+        /**
+         * The angle of the swerve module from the steer
+         * encoder, in radians, on the interval [0, 2π).
+         */
+        public double steerEncoderAngle = 0.0;
+
+        /**
+         * The angle of the steer encoder before the steer
+         * encoder offset is applied, in radians.
+         */
+        public double steerEncoderRawAngle = 0.0;
+
+        /**
+         * The angular velocity of the swerve module
+         * from the steer encoder, in rad/s.
+         */
+        public double steerEncoderAngularVelocity = 0.0;
+
+        /**
+         * The voltage applied to the steer motor, in volts.
+         */
+        public double steerMotorVoltage = 0.0;
+
+        /**
+         * The output current of the drive motor, in amps.
+         */
+        public double driveMotorCurrent = 0.0;
+
+        /**
+         * The output current of the steer motor, in amps.
+         */
+        public double steerMotorCurrent = 0.0;
+
+        @Override
+        public int getLength() {
+            return 9;
+        }
+
+        @Override
+        public void toArray(double[] values) {
+            values[0] = driveMotorLinearPosition;
+            values[1] = driveMotorLinearVelocity;
+            values[2] = driveMotorVoltage;
+            values[3] = steerEncoderAngle;
+            values[4] = steerEncoderRawAngle;
+            values[5] = steerEncoderAngularVelocity;
+            values[6] = steerMotorVoltage;
+            values[7] = driveMotorCurrent;
+            values[8] = steerMotorCurrent;
+        }
+
+        @Override
+        public void fromArray(double[] values) {
+            driveMotorLinearPosition = values[0];
+            driveMotorLinearVelocity = values[1];
+            driveMotorVoltage = values[2];
+            steerEncoderAngle = values[3];
+            steerEncoderRawAngle = values[4];
+            steerEncoderAngularVelocity = values[5];
+            steerMotorVoltage = values[6];
+            driveMotorCurrent = values[7];
+            steerMotorCurrent = values[8];
+        }
+    }
+
+    /**
+     * Updates the given inputs from the swerve module hardware.
+     * The status signals from {@link #getStatusSignals()} are
+     * refreshed before this is called.
+     *
+     * @param inputs The inputs to update.
+     */
+    default void updateInputs(SwerveModuleIOInputs inputs) {}
+
+    /**
+     * Gets the status signals that must be refreshed before each
+     * call to {@link #updateInputs(SwerveModuleIOInputs)}. These are
+     * refreshed together with the status signals of the other swerve
+     * modules by the swerve drive subsystem.
+     *
+     * @return The status signals.
+     */
+    default BaseStatusSignal[] getStatusSignals() {
+        return new BaseStatusSignal[0];
+    }
+
+    /**
+     * Sets the drive motor to the given voltage.
+     *
+     * @param voltage The voltage to set the drive motor to, in volts.
+     */
+    default void setDriveMotorVoltage(double voltage) {}
+
+    /**
+     * Sets the steer motor to the given voltage.
+     *
+     * @param voltage The voltage to set the steer motor to, in volts.
+     */
+    default void setSteerMotorVoltage(double voltage) {}
+
+    /**
+     * Gets the current linear position of the drive motor for the
+     * odometry thread. This must be safe to call from the odometry
+     * thread.
+     *
+     * @return The linear position of the drive motor, in meters.
+     */
+    default double getOdometryDriveMotorLinearPosition() {
+        return 0.0;
+    }
+
+    /**
+     * Gets the current angle of the swerve module for the odometry
+     * thread. This must be safe to call from the odometry thread.
+     *
+     * @return The angle of the swerve module, in radians,
+     * on the interval [0, 2π).
+     */
+    default double getOdometrySteerEncoderAngle() {
+        return 0.0;
+    }
+}
@@ -0,0 +1,27 @@
+package frc.robot.io;
+
+/**
+ * The class for the replayed IO layer of a swerve module, which
+ * reads the swerve module inputs recorded in a log from the
+ * {@link ReplaySource} and ignores every output.
+ */
+public final class SwerveModuleIOReplay implements SwerveModuleIO {
+    /**
+     * The name that the swerve module inputs are recorded under.
+     */
+    private final String name;
+
+    /**
+     * The constructor for the {@link SwerveModuleIOReplay} class.
+     *
+     * @param name The name that the swerve module inputs are recorded under.
+     */
+    public SwerveModuleIOReplay(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public void updateInputs(SwerveModuleIOInputs inputs) {
+        ReplaySource.getInstance().read(name, inputs);
+    }
+}
@@ -0,0 +1,169 @@
+package frc.robot.io;
+
+import edu.wpi.first.math.MathUtil;
+import edu.wpi.first.math.system.plant.DCMotor;
+import edu.wpi.first.math.system.plant.LinearSystemId;
+import edu.wpi.first.wpilibj.RobotController;
+import edu.wpi.first.wpilibj.simulation.DCMotorSim;
+import frc.robot.Constants.SwerveModuleConstants;
+
+/**
+ * The class for the simulated IO layer of a swerve module.
+ * <br></br>
+ * The drive and steer motors are modeled as DC motor simulations
+ * that are driven by the voltages set on the motors, and are stepped
+ * forward once per loop by the {@link SimulationStepper}. The drive
+ * motor is modeled in wheel radians from the drive feedforward gains,
+ * converted from meters with the wheel radius, and is slowed by the
+ * static friction voltage of the drive feedforward, so that the wheel
+ * coasts to a stop and does not move on less than the static friction
+ * voltage.
+ */
+public final class SwerveModuleIOSim implements SwerveModuleIO, SimulatedIO {
+    /**
+     * The drive motor static friction voltage, in volts.
+     */
+    private final double driveMotorKS;
+
+    /**
+     * The drive motor simulation.
+     */
+    private final DCMotorSim driveMotorSim;
+
+    /**
+     * The steer motor simulation.
+     */
+    private final DCMotorSim steerMotorSim = new DCMotorSim(
+        DCMotor.getNEO(1),
+        SwerveModuleConstants.STEER_GEAR_RATIO,
+        SwerveModuleConstants.SIM_STEER_MOMENT_OF_INERTIA);
+
+    /**
+     * The voltage last set on the drive motor, in volts.
+     */
+    private double driveMotorVoltage = 0.0;
+
+    /**
+     * The voltage last set on the steer motor, in volts.
+     */
+    private double steerMotorVoltage = 0.0;
+
+    /**
+     * The voltage applied to the drive motor in the last step,
+     * limited to the battery voltage, in volts.
+     */
+    private double appliedDriveMotorVoltage = 0.0;
+
+    /**
+     * The voltage applied to the steer motor in the last step,
+     * limited to the battery voltage, in volts.
+     */
+    private double appliedSteerMotorVoltage = 0.0;
+
+    /**
+     * The simulated drive linear position, in meters, which is
+     * written on the main thread and read by the odometry thread.
+     */
+    private volatile double driveMotorLinearPosition = 0.0;
+
+    /**
+     * The simulated swerve module angle, in radians, on the interval
+     * [0, 2π), which is written on the main thread and read by the
+     * odometry thread.
+     */
+    private volatile double steerAngle = 0.0;
+
+    /**
+     * The constructor for the {@link SwerveModuleIOSim} class.
+     *
+     * @param driveMotorKS The drive motor static friction voltage, in volts.
+     * @param driveMotorKV The drive motor velocity gain, in V / m/s.
+     */
+    public SwerveModuleIOSim(double driveMotorKS, double driveMotorKV) {
+        this.driveMotorKS = driveMotorKS;
+
+        driveMotorSim = new DCMotorSim(
+            LinearSystemId.identifyPositionSystem(
+                driveMotorKV * SwerveModuleConstants.WHEEL_RADIUS,
+                SwerveModuleConstants.SIM_DRIVE_MOTOR_KA
+                    * SwerveModuleConstants.WHEEL_RADIUS),
+            DCMotor.getNEO(1),
+            SwerveModuleConstants.DRIVE_GEAR_RATIO);
+
+        SimulationStepper.getInstance().register(this);
+    }
+
+    @Override
+    public void step(double timeStep) {
+        double batteryVoltage = RobotController.getBatteryVoltage();
+
+        double driveVelocity = driveMotorSim.getAngularVelocityRadPerSec();
+
+        /*
+         * If the wheel is moving, then static friction opposes the
+         * motion, and if not, then static friction cancels out up
+         * to the static friction voltage.
+         */
+        double frictionVoltage = Math.abs(driveVelocity) > 1e-3
+            ? Math.copySign(driveMotorKS, driveVelocity)
+            : MathUtil.clamp(driveMotorVoltage, -driveMotorKS, driveMotorKS);
+
+        appliedDriveMotorVoltage =
+            MathUtil.clamp(driveMotorVoltage, -batteryVoltage, batteryVoltage);
+        appliedSteerMotorVoltage =
+            MathUtil.clamp(steerMotorVoltage, -batteryVoltage, batteryVoltage);
+
+        driveMotorSim.setInputVoltage(MathUtil.clamp(
+            appliedDriveMotorVoltage - frictionVoltage,
+            -batteryVoltage,
+            batteryVoltage));
+        steerMotorSim.setInputVoltage(appliedSteerMotorVoltage);
+
+        driveMotorSim.update(timeStep);
+        steerMotorSim.update(timeStep);
+
+        driveMotorLinearPosition =
+            driveMotorSim.getAngularPositionRad() * SwerveModuleConstants.WHEEL_RADIUS;
+        steerAngle = MathUtil.inputModulus(
+            steerMotorSim.getAngularPositionRad(), 0.0, 2.0 * Math.PI);
+    }
+
+    @Override
+    public void updateInputs(SwerveModuleIOInputs inputs) {
+        inputs.driveMotorLinearPosition = driveMotorLinearPosition;
+        inputs.driveMotorLinearVelocity =
+            driveMotorSim.getAngularVelocityRadPerSec() * SwerveModuleConstants.WHEEL_RADIUS;
+        inputs.driveMotorVoltage = appliedDriveMotorVoltage;
+        inputs.driveMotorCurrent = driveMotorSim.getCurrentDrawAmps();
+
+        /*
+         * The simulated steer encoder has no offset,
+         * so the raw angle is the swerve module angle.
+         */
+        inputs.steerEncoderAngle = steerAngle;
+        inputs.steerEncoderRawAngle = steerAngle;
+        inputs.steerEncoderAngularVelocity = steerMotorSim.getAngularVelocityRadPerSec();
+        inputs.steerMotorVoltage = appliedSteerMotorVoltage;
+        inputs.steerMotorCurrent = steerMotorSim.getCurrentDrawAmps();
+    }
+
+    @Override
+    public void setDriveMotorVoltage(double voltage) {
+        driveMotorVoltage = voltage;
+    }
+
+    @Override
+    public void setSteerMotorVoltage(double voltage) {
+        steerMotorVoltage = voltage;
+    }
+
+    @Override
+    public double getOdometryDriveMotorLinearPosition() {
+        return driveMotorLinearPosition;
+    }
+
+    @Override
+    public double getOdometrySteerEncoderAngle() {
+        return steerAngle;
+    }
+}
@@ -0,0 +1,282 @@
+package frc.robot.io;
+
+import com.ctre.phoenix6.BaseStatusSignal;
+import com.ctre.phoenix6.StatusSignal;
+import com.ctre.phoenix6.configs.CANcoderConfiguration;
+import com.ctre.phoenix6.configs.MagnetSensorConfigs;
+import com.ctre.phoenix6.hardware.CANcoder;
+import com.ctre.phoenix6.signals.AbsoluteSensorRangeValue;
+import com.ctre.phoenix6.signals.SensorDirectionValue;
+import com.revrobotics.CANSparkMax;
+import com.revrobotics.RelativeEncoder;
+import com.revrobotics.CANSparkLowLevel.MotorType;
+import com.revrobotics.CANSparkLowLevel.PeriodicFrame;
+
+import frc.robot.Constants.SwerveConstants;
+import frc.robot.Constants.SwerveModuleConstants;
+
+/**
+ * The class for the hardware IO layer of a swerve module with
+ * SPARK MAX drive and steer motors and a CANcoder steer encoder.
+ */
+public final class SwerveModuleIOSparkMax implements SwerveModuleIO {
+    /**
+     * The swerve module drive motor.
+     */
+    private final CANSparkMax driveMotor;
+
+    /**
+     * The swerve module steer motor.
+     */
+    private final CANSparkMax steerMotor;
+
+    /**
+     * The swerve module drive encoder.
+     */
+    private final RelativeEncoder driveEncoder;
+
+    /**
+     * The swerve module steer encoder absolute position signal.
+     */
+    private final StatusSignal<Double> steerEncoderPosition;
+
+    /**
+     * The swerve module steer encoder velocity signal.
+     */
+    private final StatusSignal<Double> steerEncoderVelocity;
+
+    /**
+     * The swerve module steer encoder absolute position
+     * signal used by the odometry thread. This is a separate
+     * copy of the signal so that the odometry thread never
+     * refreshes the same signal object as the main thread.
+     */
+    private final StatusSignal<Double> odometrySteerEncoderPosition;
+
+    /**
+     * The swerve module steer encoder offset.
+     */
+    private final double steerEncoderOffset;
+
+    /**
+     * Whether or not the swerve module
+     * steer encoder is reversed.
+     */
+    private final boolean steerEncoderReversed;
+
+    /**
+     * The constructor for the {@link SwerveModuleIOSparkMax} class.
+     *
+     * @param driveMotorID The swerve module drive motor ID.
+     * @param steerMotorID The swerve module steer motor ID.
+     * @param driveMotorReversed Whether or not the swerve module
+     * drive motor is reversed.
+     * @param steerMotorReversed Whether or not the swerve module
+     * steer motor is reversed.
+     * @param steerEncoderID The swerve module steer encoder ID.
+     * @param steerEncoderOffset The swerve module steer encoder
+     * offset.
+     * @param steerEncoderReversed Whether or not the swerve module
+     * steer encoder is reversed.
+     */
+    public SwerveModuleIOSparkMax(
+            int driveMotorID,
+            int steerMotorID,
+            boolean driveMotorReversed,
+            boolean steerMotorReversed,
+            int steerEncoderID,
+            double steerEncoderOffset,
+            boolean steerEncoderReversed) {
+        // Create the swerve module drive and steer motors.
+        driveMotor = new CANSparkMax(driveMotorID, MotorType.kBrushless);
+        steerMotor = new CANSparkMax(steerMotorID, MotorType.kBrushless);
+
+        // Get the swerve module drive encoder.
+        driveEncoder = driveMotor.getEncoder();
+
+        /*
+         * Set the inversion status of the swerve module
+         * drive and steer motors.
+         */
+        driveMotor.setInverted(driveMotorReversed);
+        steerMotor.setInverted(steerMotorReversed);
+
+        /*
+         * Set the swerve module drive encoder position
+         * conversion factor to convert from rotations
+         * to meters.
+         */
+        driveEncoder.setPositionConversionFactor(
+            SwerveModuleConstants.DRIVE_MOTOR_REVOLUTIONS_TO_METERS);
+
+        /*
+         * Set the swerve module drive encoder velocity
+         * conversion factor to convert from RPM to
+         * meters per second.
+         */
+        driveEncoder.setVelocityConversionFactor(
+            SwerveModuleConstants.DRIVE_MOTOR_RPM_TO_METERS_PER_SECOND);
+
+        /*
+         * Set the swerve module drive motor position status
+         * frame to be sent at the odometry frequency so that
+         * the odometry thread receives a new drive position
+         * for every sample.
+         */
+        driveMotor.setPeriodicFramePeriod(
+            PeriodicFrame.kStatus2,
+            (int) (1000.0 / SwerveConstants.ODOMETRY_FREQUENCY));
+
+        // Create the swerve module steer encoder.
+        CANcoder steerEncoder = new CANcoder(steerEncoderID, "rio");
+
+        /*
+         * Set the swerve module steer encoder to
+         * have a range of [0, 1) for rotations
+         * and for the positive direction to
+         * be counterclockwise.
+         */
+        steerEncoder.getConfigurator().apply(
+            new CANcoderConfiguration().withMagnetSensor(
+                new MagnetSensorConfigs().withAbsoluteSensorRange(
+                    AbsoluteSensorRangeValue.Unsigned_0To1)
+                .withSensorDirection(
+                    SensorDirectionValue.CounterClockwise_Positive)
+            )
+        );
+
+        // Get the swerve module steer encoder signals.
+        steerEncoderPosition = steerEncoder.getAbsolutePosition();
+        steerEncoderVelocity = steerEncoder.getVelocity();
+
+        /*
+         * Get a copy of the swerve module steer encoder absolute
+         * position signal for the odometry thread and set it to
+         * be sent at the odometry frequency.
+         */
+        odometrySteerEncoderPosition = steerEncoder.getAbsolutePosition().clone();
+        odometrySteerEncoderPosition.setUpdateFrequency(SwerveConstants.ODOMETRY_FREQUENCY);
+
+        // Set the swerve module steer encoder offset.
+        this.steerEncoderOffset = steerEncoderOffset;
+
+        /*
+         * Set whether or not the swerve module steer encoder
+         * is reversed.
+         */
+        this.steerEncoderReversed = steerEncoderReversed;
+    }
+
+    @Override
+    public void updateInputs(SwerveModuleIOInputs inputs) {
+        inputs.driveMotorLinearPosition = driveEncoder.getPosition();
+        inputs.driveMotorLinearVelocity = driveEncoder.getVelocity();
+        inputs.driveMotorVoltage = driveMotor.getAppliedOutput() * driveMotor.getBusVoltage();
+        inputs.driveMotorCurrent = driveMotor.getOutputCurrent();
+
+        inputs.steerEncoderRawAngle =
+            convertSteerEncoderRawAngle(steerEncoderPosition.getValueAsDouble());
+        inputs.steerEncoderAngle = convertSteerEncoderAngle(inputs.steerEncoderRawAngle);
+
+        /*
+         * If the swerve module steer encoder is reversed, then reverse
+         * the angular velocity, and then convert the angular velocity
+         * into radians.
+         */
+        inputs.steerEncoderAngularVelocity =
+            steerEncoderVelocity.getValueAsDouble()
+                * (steerEncoderReversed ? -1.0 : 1.0)
+                * (2.0 * Math.PI);
+        inputs.steerMotorVoltage = steerMotor.getAppliedOutput() * steerMotor.getBusVoltage();
+        inputs.steerMotorCurrent = steerMotor.getOutputCurrent();
+    }
+
+    @Override
+    public BaseStatusSignal[] getStatusSignals() {
+        return new BaseStatusSignal[]{
+            steerEncoderPosition,
+            steerEncoderVelocity};
+    }
+
+    @Override
+    public void setDriveMotorVoltage(double voltage) {
+        driveMotor.setVoltage(voltage);
+    }
+
+    @Override
+    public void setSteerMotorVoltage(double voltage) {
+        steerMotor.setVoltage(voltage);
+    }
+
+    @Override
+    public double getOdometryDriveMotorLinearPosition() {
+        return driveEncoder.getPosition();
+    }
+
+    /**
+     * Gets the current angle of the swerve module steer encoder
+     * for the odometry thread. This method is safe to call from
+     * the odometry thread, as it refreshes its own copy of the
+     * steer encoder absolute position signal.
+     *
+     * @return The current angle of the swerve module
+     * steer encoder.
+     */
+    @Override
+    public double getOdometrySteerEncoderAngle() {
+        return convertSteerEncoderAngle(
+            convertSteerEncoderRawAngle(
+                odometrySteerEncoderPosition.refresh().getValueAsDouble()));
+    }
+
+    /**
+     * Converts the given swerve module steer encoder absolute
+     * position into an angle, flipping it if the swerve module
+     * steer encoder is reversed.
+     *
+     * @param angle The swerve module steer encoder absolute
+     * position, in rotations.
+     *
+     * @return The angle, in radians, without the swerve module
+     * steer encoder offset applied.
+     */
+    private double convertSteerEncoderRawAngle(double angle) {
+        // If the swerve module steer encoder is reversed, then flip the angle.
+        if (steerEncoderReversed) {
+            angle = 1.0 - angle;
+        }
+
+        // Convert the angle into radians.
+        return angle * (2.0 * Math.PI);
+    }
+
+    /**
+     * Converts the given swerve module steer encoder raw angle
+     * into the swerve module angle.
+     *
+     * @param angle The swerve module steer encoder raw angle,
+     * in radians.
+     *
+     * @return The swerve module angle, in radians, on the
+     * interval [0, 2π).
+     */
+    private double convertSteerEncoderAngle(double angle) {
+        // Offset the angle by the swerve module steer encoder offset.
+        angle -= steerEncoderOffset;
+
+        /*
+         * If the angle is less than 0, then add 2π.
+         *
+         * This is caused by the swerve module steer encoder
+         * being on a set interval of rotations of [0, 1), which
+         * with an offset causes the interval to start
+         * later and end earlier, causing the need
+         * for adding 2π when negative angles are produced.
+         */
+        if (angle < 0.0) {
+            angle += (2.0 * Math.PI);
+        }
+
+        return angle;
+    }
+}
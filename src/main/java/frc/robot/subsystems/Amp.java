@@ -1,34 +1,34 @@
 package frc.robot.subsystems;
 
-import com.revrobotics.CANSparkMax;
-import com.revrobotics.CANSparkLowLevel.MotorType;
-
-import edu.wpi.first.wpilibj.DigitalInput;
-import edu.wpi.first.wpilibj2.command.SubsystemBase;
 import frc.robot.Constants.AmpConstants;
+import frc.robot.Constants.IOConstants;
 import frc.robot.Constants.AmpConstants.AMP_MOVEMENT_DIRECTION;
 import frc.robot.Constants.AmpConstants.AMP_POSITION;
+import frc.robot.io.AmpIO;
+import frc.robot.io.AmpIO.AmpIOInputs;
+import frc.robot.io.AmpIOReplay;
+import frc.robot.io.AmpIOSim;
+import frc.robot.io.AmpIOSparkMax;
+import frc.robot.io.InputRecorder;
 
 /**
  * The class for the amp subsystem.
  */
-public final class Amp extends SubsystemBase {
+public final class Amp extends TimedSubsystem {
     /**
      * The instance of the {@link Amp} class.
      */
     private static Amp amp = null;
 
     /**
-     * The amp motor.
+     * The amp IO layer.
      */
-    private final CANSparkMax ampMotor = 
-        new CANSparkMax(AmpConstants.AMP_MOTOR_ID, MotorType.kBrushless);
+    private final AmpIO io;
 
     /**
-     * The amp limit switch.
+     * The amp inputs from the current loop.
      */
-    private final DigitalInput ampLimitSwitch = 
-        new DigitalInput(AmpConstants.AMP_LIMIT_SWITCH_ID);
+    private final AmpIOInputs inputs = new AmpIOInputs();
 
     /**
      * The current position of the amp subsystem.
@@ -44,11 +44,6 @@ public final class Amp extends SubsystemBase {
      */
     private AMP_MOVEMENT_DIRECTION ampMovementDirection = AMP_MOVEMENT_DIRECTION.TOWARDS_DROP_POSITION;
 
-    /**
-     * The previous state of the amp limit switch.
-     */
-    private boolean prevAmpLimitSwitchState = false;
-
     /**
      * Gets the instance of the {@link Amp} class.
      * 
@@ -65,27 +60,50 @@ public final class Amp extends SubsystemBase {
     /**
      * The constructor for the {@link Amp} class.
      */
-    private Amp() {}
+    private Amp() {
+        switch (IOConstants.MODE) {
+            case REAL:
+                io = new AmpIOSparkMax();
+                break;
+            case SIM:
+                io = new AmpIOSim();
+                break;
+            default:
+                io = new AmpIOReplay(getName());
+                break;
+        }
+
+        io.updateInputs(inputs);
+    }
+
+    /**
+     * Gets the amp inputs from the current loop.
+     * 
+     * @return The amp inputs.
+     */
+    public AmpIOInputs getInputs() {
+        return inputs;
+    }
 
     /**
      * Runs the amp motor forwards.
      */
     public void runAmpForwards() {
-        ampMotor.setVoltage(AmpConstants.AMP_MOTOR_VOLTAGE);
+        io.setAmpVoltage(AmpConstants.AMP_MOTOR_VOLTAGE);
     }
 
     /**
      * Runs the amp motor backwards.
      */
     public void runAmpBackwards() {
-        ampMotor.setVoltage(-AmpConstants.AMP_MOTOR_VOLTAGE);
+        io.setAmpVoltage(-AmpConstants.AMP_MOTOR_VOLTAGE);
     }
 
     /**
      * Stops the amp motor.
      */
     public void stopAmp() {
-        ampMotor.setVoltage(0.0);
+        io.setAmpVoltage(0.0);
     }
 
     /**
@@ -111,7 +129,7 @@ public final class Amp extends SubsystemBase {
      * is at a magnet.
      */
     public boolean isAmpLimitSwitchAtMagnet() {
-        return !ampLimitSwitch.get();
+        return inputs.isLimitSwitchAtMagnet;
     }
 
     /**
@@ -126,19 +144,24 @@ public final class Amp extends SubsystemBase {
     }
 
     /**
-     * The periodic method for the amp subsystem. This method
+     * The timed periodic method for the amp subsystem. This method
      * is run by the command scheduler every 20 ms.
      */
     @Override
-    public void periodic() {
+    protected void timedPeriodic() {
+        io.updateInputs(inputs);
+
+        InputRecorder.getInstance().recordInputs(getName(), inputs);
+
         /*
-         * If the amp limit switch is at a magnet
-         * and if the amp limit switch previously
-         * was not at a magnet, then check to see
+         * If the amp limit switch reached a magnet
+         * since the last loop, then check to see
          * if the amp subsystem position should 
-         * be updated.
+         * be updated. This also catches magnets
+         * that the amp limit switch passed
+         * between loops.
          */
-        if (isAmpLimitSwitchAtMagnet() && prevAmpLimitSwitchState) {
+        if (inputs.hasLimitSwitchReachedMagnet) {
             /*
              * If the amp subsystem position is the receive position
              * and the amp subsystem movement direction is towards
@@ -156,8 +179,5 @@ public final class Amp extends SubsystemBase {
                 ampPosition = AMP_POSITION.RECEIVE_POSITION;
             }
         }
-
-        // Update the previous amp limit switch state.
-        prevAmpLimitSwitchState = ampLimitSwitch.get();
     }
 }
\ No newline at end of file
@@ -1,34 +1,97 @@
 package frc.robot.subsystems;
 
-import java.util.Optional;
-
-import org.photonvision.EstimatedRobotPose;
-import org.photonvision.PhotonCamera;
-import org.photonvision.PhotonPoseEstimator;
-
-import edu.wpi.first.math.Pair;
 import edu.wpi.first.math.estimator.SwerveDrivePoseEstimator;
-import edu.wpi.first.wpilibj.smartdashboard.SmartDashboard;
-import edu.wpi.first.wpilibj2.command.SubsystemBase;
+import edu.wpi.first.math.geometry.Pose3d;
+import edu.wpi.first.math.geometry.Rotation3d;
+import edu.wpi.first.math.kinematics.ChassisSpeeds;
+import edu.wpi.first.networktables.IntegerPublisher;
+import edu.wpi.first.networktables.NetworkTable;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.wpilibj.DriverStation;
+import edu.wpi.first.wpilibj.Timer;
 import frc.robot.Constants.ApriltagConstants;
+import frc.robot.Constants.DashboardConstants;
+import frc.robot.Constants.IOConstants;
+import frc.robot.Constants.SwerveConstants;
+import frc.robot.Constants.ApriltagConstants.ApriltagCameraConfig;
+import frc.robot.Constants.ApriltagConstants.VISION_REJECTION_REASON;
+import frc.robot.helpers.DashboardPublisher;
+import frc.robot.io.ApriltagCameraIO;
+import frc.robot.io.ApriltagCameraIO.ApriltagCameraIOInputs;
+import frc.robot.io.ApriltagCameraIOPhoton;
+import frc.robot.io.ApriltagCameraIOReplay;
+import frc.robot.io.ApriltagCameraIOSim;
+import frc.robot.io.InputRecorder;
 
 /**
  * The class for the Photonlib pose estimator.
  */
-public final class Apriltag extends SubsystemBase {
+public final class Apriltag extends TimedSubsystem {
     /**
      * The instance of the {@link Apriltag} class.
      */
     private static Apriltag apriltag = null;
 
     /**
-     * Array of Pair<PhotonCamera, PhotonPoseEstimator>
+     * The names of the apriltag cameras.
+     */
+    private final String[] cameraNames;
+
+    /**
+     * The names that the apriltag camera inputs are recorded under.
+     */
+    private final String[] cameraInputsNames;
+
+    /**
+     * The apriltag camera IO layers. On the real robot, each
+     * camera estimates the robot pose on its own worker thread.
+     */
+    private final ApriltagCameraIO[] cameraIOs;
+
+    /**
+     * The apriltag camera inputs from the current loop.
+     */
+    private final ApriltagCameraIOInputs[] cameraInputs;
+
+    /**
+     * The dashboard entries for whether or not
+     * each apriltag camera is connected.
+     */
+    private final DashboardPublisher.BooleanEntry[] cameraConnectedEntries;
+
+    /**
+     * The number of vision measurements rejected
+     * for each rejection reason.
+     */
+    private final long[] rejectionCounts =
+        new long[VISION_REJECTION_REASON.values().length];
+
+    /**
+     * The publishers for the number of vision measurements
+     * rejected for each rejection reason.
      */
-    private static Pair<PhotonCamera, PhotonPoseEstimator>[] estimators;
+    private final IntegerPublisher[] rejectionCountPublishers =
+        new IntegerPublisher[VISION_REJECTION_REASON.values().length];
+
+    /**
+     * The number of vision measurements accepted.
+     */
+    private long acceptedCount = 0;
+
+    /**
+     * The number of single-tag vision measurements in a row that
+     * disagreed with the current estimated position.
+     */
+    private int consecutiveDisagreementCount = 0;
+
+    /**
+     * The publisher for the number of vision measurements accepted.
+     */
+    private final IntegerPublisher acceptedCountPublisher;
 
     /**
      * Gets the instance of the {@link Apriltag} class.
-     * 
+     *
      * @return The instance of the {@link Apriltag} class.
      */
     public static Apriltag getInstance() {
@@ -40,70 +103,222 @@ public final class Apriltag extends SubsystemBase {
     }
 
     /**
-     * The constructor for the {@link Amp} class.
+     * The constructor for the {@link Apriltag} class.
      */
     private Apriltag() {
-        estimators = createEstimatorsArray(ApriltagConstants.PHOTON_CAMERAS.length);
-
-        for (int i = 0; i < estimators.length; i++) {
-            PhotonCamera camera = 
-                new PhotonCamera(ApriltagConstants.PHOTON_CAMERAS[i].getName());
-            
-            PhotonPoseEstimator estimator = 
-                new PhotonPoseEstimator(
-                    ApriltagConstants.FIELD_LAYOUT,
-                    ApriltagConstants.PHOTON_CAMERAS[i].getStrategy(), 
-                    camera,
-                    ApriltagConstants.PHOTON_CAMERAS[i].getTransform());
-            
-            estimators[i] = 
-                new Pair<PhotonCamera, PhotonPoseEstimator>(camera, estimator);
-
-            if (!camera.isConnected()) {
-                System.out.println(
-                    "PhotonCamera " 
-                        + camera.getName() 
-                        + " is not connected!");
-            }
+        cameraNames = new String[ApriltagConstants.PHOTON_CAMERAS.length];
+        cameraInputsNames = new String[ApriltagConstants.PHOTON_CAMERAS.length];
+        cameraIOs = new ApriltagCameraIO[ApriltagConstants.PHOTON_CAMERAS.length];
+        cameraInputs = new ApriltagCameraIOInputs[ApriltagConstants.PHOTON_CAMERAS.length];
+        cameraConnectedEntries =
+            new DashboardPublisher.BooleanEntry[ApriltagConstants.PHOTON_CAMERAS.length];
 
-            SmartDashboard.putBoolean(
-                camera.getName() 
-                    + " Connected", 
-                camera.isConnected());
+        for (int i = 0; i < cameraIOs.length; i++) {
+            cameraNames[i] = ApriltagConstants.PHOTON_CAMERAS[i].getName();
+            cameraInputsNames[i] = getCameraInputsName(cameraNames[i]);
+
+            // Create the camera, which starts estimating the robot pose.
+            cameraIOs[i] = createCameraIO(ApriltagConstants.PHOTON_CAMERAS[i]);
+            cameraInputs[i] = new ApriltagCameraIOInputs();
+
+            cameraConnectedEntries[i] = DashboardPublisher.getInstance().createBooleanEntry(
+                cameraNames[i] + " Connected",
+                DashboardConstants.CAMERA_CONNECTED_PUBLISH_PERIOD,
+                false);
+        }
+
+        NetworkTable table = NetworkTableInstance.getDefault().getTable("Vision");
+
+        for (VISION_REJECTION_REASON reason : VISION_REJECTION_REASON.values()) {
+            rejectionCountPublishers[reason.ordinal()] =
+                table.getIntegerTopic("Rejected/" + reason.name()).publish();
+            rejectionCountPublishers[reason.ordinal()].set(0);
         }
+
+        acceptedCountPublisher = table.getIntegerTopic("Accepted").publish();
+        acceptedCountPublisher.set(0);
     }
 
-    @SuppressWarnings("unchecked")
-    private Pair<PhotonCamera, PhotonPoseEstimator>[] createEstimatorsArray(int length) {
-        return (Pair<PhotonCamera, PhotonPoseEstimator>[]) new Pair<?, ?>[length];
+    /**
+     * Creates the IO layer of an apriltag camera for the current IO mode.
+     *
+     * @param config The configuration of the camera.
+     *
+     * @return The apriltag camera IO layer.
+     */
+    private ApriltagCameraIO createCameraIO(ApriltagCameraConfig config) {
+        switch (IOConstants.MODE) {
+            case REAL:
+                return new ApriltagCameraIOPhoton(config);
+            case SIM:
+                return new ApriltagCameraIOSim();
+            default:
+                return new ApriltagCameraIOReplay(getCameraInputsName(config.getName()));
+        }
     }
 
     /**
-     * The periodic method for the apriltag subsystem. This method
+     * Gets the name that the inputs of the apriltag
+     * camera with the given name are recorded under.
+     *
+     * @param cameraName The name of the camera.
+     *
+     * @return The name that the camera inputs are recorded under.
+     */
+    private String getCameraInputsName(String cameraName) {
+        return getName() + "/" + cameraName;
+    }
+
+    /**
+     * Gets the apriltag camera inputs from the current loop.
+     *
+     * @return The apriltag camera inputs, in the same order
+     * as {@link ApriltagConstants#PHOTON_CAMERAS}.
+     */
+    public ApriltagCameraIOInputs[] getCameraInputs() {
+        return cameraInputs;
+    }
+
+    /**
+     * Gets the reason that the given vision measurement should not be
+     * fused into the swerve drive position estimator.
+     * <br></br>
+     * A vision measurement is rejected if it is too low quality, if it
+     * is outside of the field, if it is above the floor or tilted by
+     * more than the robot could be, if it is older than the swerve
+     * drive position estimator history, or if it disagrees with the
+     * current estimated position by more than a threshold that grows
+     * with the robot speed. The odometry disagreement check is skipped
+     * while the robot is disabled, so that vision can correct the
+     * estimated position before the match starts.
+     * <br></br>
+     * So that the estimated position can recover after it has drifted,
+     * such as after a collision or a wrong starting pose, multi-tag
+     * vision measurements are never rejected for disagreeing with it,
+     * and a single-tag vision measurement is accepted once too many
+     * single-tag vision measurements in a row have disagreed with it.
+     *
+     * @param measurement The vision measurement.
+     * @param robotEstimator The swerve drive position estimator.
+     * @param robotSpeed The current robot speed, in m/s.
+     *
+     * @return The reason that the vision measurement is rejected,
+     * or null if it should be fused.
+     */
+    private VISION_REJECTION_REASON getRejectionReason(
+            VisionMeasurement measurement,
+            SwerveDrivePoseEstimator robotEstimator,
+            double robotSpeed) {
+        if (!measurement.isUsable()) {
+            return VISION_REJECTION_REASON.LOW_QUALITY;
+        }
+
+        Pose3d pose = measurement.getPose();
+
+        if (pose.getX() < -ApriltagConstants.FIELD_BOUNDS_MARGIN
+                || pose.getX() > ApriltagConstants.FIELD_LAYOUT.getFieldLength()
+                    + ApriltagConstants.FIELD_BOUNDS_MARGIN
+                || pose.getY() < -ApriltagConstants.FIELD_BOUNDS_MARGIN
+                || pose.getY() > ApriltagConstants.FIELD_LAYOUT.getFieldWidth()
+                    + ApriltagConstants.FIELD_BOUNDS_MARGIN) {
+            return VISION_REJECTION_REASON.OUT_OF_FIELD;
+        }
+
+        if (Math.abs(pose.getZ()) > ApriltagConstants.MAX_POSE_HEIGHT) {
+            return VISION_REJECTION_REASON.IMPLAUSIBLE_HEIGHT;
+        }
+
+        if (Math.abs(pose.getRotation().getX()) > ApriltagConstants.MAX_POSE_TILT
+                || Math.abs(pose.getRotation().getY()) > ApriltagConstants.MAX_POSE_TILT) {
+            return VISION_REJECTION_REASON.IMPLAUSIBLE_TILT;
+        }
+
+        if (Timer.getFPGATimestamp() - measurement.getTimestampSeconds()
+                > SwerveConstants.POSE_HISTORY_DURATION) {
+            return VISION_REJECTION_REASON.TOO_OLD;
+        }
+
+        double disagreement = robotEstimator.getEstimatedPosition()
+            .getTranslation()
+            .getDistance(pose.toPose2d().getTranslation());
+
+        if (DriverStation.isEnabled()
+                && measurement.getTagCount() < 2
+                && disagreement > ApriltagConstants.ODOMETRY_DISAGREEMENT_THRESHOLD
+                    + robotSpeed * ApriltagConstants.ODOMETRY_DISAGREEMENT_SPEED_SCALE) {
+            consecutiveDisagreementCount++;
+
+            if (consecutiveDisagreementCount < ApriltagConstants.MAX_CONSECUTIVE_DISAGREEMENTS) {
+                return VISION_REJECTION_REASON.ODOMETRY_DISAGREEMENT;
+            }
+        }
+
+        consecutiveDisagreementCount = 0;
+
+        return null;
+    }
+
+    /**
+     * The timed periodic method for the apriltag subsystem. This method
      * is run by the command scheduler every 20 ms.
+     * <br></br>
+     * The pose estimation is done by the camera worker threads, so
+     * this only reads the latest vision measurement from each camera
+     * inputs, gates it, and fuses it into the swerve drive position
+     * estimator with the standard deviations of the vision measurement.
      */
     @Override
-    public void periodic() {
+    protected void timedPeriodic() {
         SwerveDrivePoseEstimator robotEstimator = Swerve.getInstance().getPoseEstimator();
 
-        for (Pair<PhotonCamera, PhotonPoseEstimator> estimator : estimators) {
-            PhotonCamera camera = estimator.getFirst();
+        ChassisSpeeds chassisSpeeds = Swerve.getInstance().getChassisSpeeds();
+
+        double robotSpeed = Math.hypot(
+            chassisSpeeds.vxMetersPerSecond,
+            chassisSpeeds.vyMetersPerSecond);
+
+        for (int i = 0; i < cameraIOs.length; i++) {
+            ApriltagCameraIOInputs inputs = cameraInputs[i];
 
-            SmartDashboard.putBoolean(
-                camera.getName() + " Connected", 
-                camera.isConnected());
-            
-            if (!camera.isConnected()) continue;
+            cameraIOs[i].updateInputs(inputs);
 
-            PhotonPoseEstimator poseEstimator = estimator.getSecond();
+            InputRecorder.getInstance().recordInputs(cameraInputsNames[i], inputs);
 
-            Optional<EstimatedRobotPose> pose = poseEstimator.update();
-            
-            if (pose.isPresent()) {
-                robotEstimator.addVisionMeasurement(
-                    pose.get().estimatedPose.toPose2d(), 
-                    pose.get().timestampSeconds);
+            cameraConnectedEntries[i].set(inputs.isConnected);
+
+            if (!inputs.hasMeasurement) {
+                continue;
             }
+
+            VisionMeasurement measurement = new VisionMeasurement(
+                new Pose3d(
+                    inputs.x,
+                    inputs.y,
+                    inputs.z,
+                    new Rotation3d(inputs.roll, inputs.pitch, inputs.yaw)),
+                inputs.timestampSeconds,
+                inputs.tagCount,
+                inputs.averageTagDistance,
+                inputs.maxAmbiguity);
+
+            VISION_REJECTION_REASON rejectionReason =
+                getRejectionReason(measurement, robotEstimator, robotSpeed);
+
+            Telemetry.getInstance().recordVisionMeasurement(measurement, rejectionReason);
+
+            if (rejectionReason != null) {
+                rejectionCountPublishers[rejectionReason.ordinal()].set(
+                    ++rejectionCounts[rejectionReason.ordinal()]);
+
+                continue;
+            }
+
+            robotEstimator.addVisionMeasurement(
+                measurement.getPose2d(),
+                measurement.getTimestampSeconds(),
+                measurement.getStandardDeviations());
+
+            acceptedCountPublisher.set(++acceptedCount);
         }
     }
-}
\ No newline at end of file
+}
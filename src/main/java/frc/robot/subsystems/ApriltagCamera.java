@@ -0,0 +1,143 @@
+package frc.robot.subsystems;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.photonvision.EstimatedRobotPose;
+import org.photonvision.PhotonCamera;
+import org.photonvision.PhotonPoseEstimator;
+
+import edu.wpi.first.wpilibj.Notifier;
+import frc.robot.Constants.ApriltagConstants;
+import frc.robot.Constants.ApriltagConstants.ApriltagCameraConfig;
+
+/**
+ * The class for an apriltag camera.
+ * <br></br>
+ * Fetches the camera results and runs the pose estimation on its
+ * own worker thread, so that the cost of each camera is kept off of
+ * the main robot loop. The latest vision measurement is posted to
+ * a single-slot mailbox, which is drained by the apriltag subsystem.
+ */
+public final class ApriltagCamera {
+    /**
+     * The camera.
+     */
+    private final PhotonCamera camera;
+
+    /**
+     * The camera pose estimator, which is only used
+     * by the worker thread.
+     */
+    private final PhotonPoseEstimator poseEstimator;
+
+    /**
+     * The notifier that runs the worker thread.
+     */
+    private final Notifier notifier;
+
+    /**
+     * The mailbox that holds the latest vision measurement
+     * that has not yet been taken by the main thread.
+     */
+    private final AtomicReference<VisionMeasurement> latestMeasurement =
+        new AtomicReference<>();
+
+    /**
+     * Whether or not the camera was connected the
+     * last time that the worker thread ran.
+     */
+    private volatile boolean isConnected = false;
+
+    /**
+     * The constructor for the {@link ApriltagCamera} class.
+     *
+     * @param config The configuration of the camera.
+     */
+    public ApriltagCamera(ApriltagCameraConfig config) {
+        camera = new PhotonCamera(config.getName());
+
+        poseEstimator = new PhotonPoseEstimator(
+            ApriltagConstants.FIELD_LAYOUT,
+            config.getStrategy(),
+            camera,
+            config.getTransform());
+
+        isConnected = camera.isConnected();
+
+        if (!isConnected) {
+            System.out.println(
+                "PhotonCamera "
+                    + camera.getName()
+                    + " is not connected!");
+        }
+
+        notifier = new Notifier(this::update);
+        notifier.setName(camera.getName() + " Vision Thread");
+    }
+
+    /**
+     * Starts the worker thread at the vision thread frequency.
+     */
+    public void start() {
+        notifier.startPeriodic(1.0 / ApriltagConstants.VISION_THREAD_FREQUENCY);
+    }
+
+    /**
+     * Stops the worker thread.
+     */
+    public void stop() {
+        notifier.stop();
+    }
+
+    /**
+     * Fetches the latest camera result and, if it produces an
+     * estimated robot pose, posts it as a vision measurement to
+     * the mailbox, replacing any vision measurement that has
+     * not been taken yet. The vision measurement standard
+     * deviations are computed here so that the cost is also
+     * kept off of the main robot loop.
+     */
+    private void update() {
+        isConnected = camera.isConnected();
+
+        if (!isConnected) {
+            return;
+        }
+
+        Optional<EstimatedRobotPose> pose = poseEstimator.update();
+
+        if (pose.isPresent()) {
+            latestMeasurement.set(new VisionMeasurement(pose.get()));
+        }
+    }
+
+    /**
+     * Gets the name of the camera.
+     *
+     * @return The name of the camera.
+     */
+    public String getName() {
+        return camera.getName();
+    }
+
+    /**
+     * Gets whether or not the camera was connected the
+     * last time that the worker thread ran.
+     *
+     * @return Whether or not the camera is connected.
+     */
+    public boolean isConnected() {
+        return isConnected;
+    }
+
+    /**
+     * Takes the latest vision measurement out of the mailbox.
+     *
+     * @return The latest vision measurement, or null if there
+     * is no new vision measurement since the last call.
+     */
+    public VisionMeasurement pollVisionMeasurement() {
+        return latestMeasurement.getAndSet(null);
+    }
+}
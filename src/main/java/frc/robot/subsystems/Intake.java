@@ -1,25 +1,32 @@
 package frc.robot.subsystems;
 
-import com.revrobotics.CANSparkMax;
-import com.revrobotics.CANSparkLowLevel.MotorType;
-
-import edu.wpi.first.wpilibj2.command.SubsystemBase;
+import frc.robot.Constants.IOConstants;
 import frc.robot.Constants.IntakeConstants;
+import frc.robot.io.InputRecorder;
+import frc.robot.io.IntakeIO;
+import frc.robot.io.IntakeIO.IntakeIOInputs;
+import frc.robot.io.IntakeIOReplay;
+import frc.robot.io.IntakeIOSim;
+import frc.robot.io.IntakeIOSparkMax;
 
 /**
  * The class for the intake subsystem.
  */
-public final class Intake extends SubsystemBase {
+public final class Intake extends TimedSubsystem {
     /**
      * The instance of the {@link Intake} class.
      */
     private static Intake intake = null;
 
     /**
-     * The intake motor.
+     * The intake IO layer.
      */
-    private final CANSparkMax intakeMotor = 
-        new CANSparkMax(IntakeConstants.INTAKE_MOTOR_ID, MotorType.kBrushless);
+    private final IntakeIO io;
+
+    /**
+     * The intake inputs from the current loop.
+     */
+    private final IntakeIOInputs inputs = new IntakeIOInputs();
 
     /**
      * Gets the instance of the {@link Intake} class.
@@ -37,26 +44,60 @@ public final class Intake extends SubsystemBase {
     /**
      * The constructor for the {@link Intake} class.
      */
-    private Intake() {}
+    private Intake() {
+        switch (IOConstants.MODE) {
+            case REAL:
+                io = new IntakeIOSparkMax();
+                break;
+            case SIM:
+                io = new IntakeIOSim();
+                break;
+            default:
+                io = new IntakeIOReplay(getName());
+                break;
+        }
+
+        io.updateInputs(inputs);
+    }
+
+    /**
+     * Gets the intake inputs from the current loop.
+     * 
+     * @return The intake inputs.
+     */
+    public IntakeIOInputs getInputs() {
+        return inputs;
+    }
 
     /**
      * Runs the intake motor forwards.
      */
     public void runIntakeForwards() {
-        intakeMotor.setVoltage(IntakeConstants.INTAKE_MOTOR_VOLTAGE);
+        io.setIntakeVoltage(IntakeConstants.INTAKE_MOTOR_VOLTAGE);
     }
 
     /**
      * Runs the intake motor backwards.
      */
     public void runIntakeBackwards() {
-        intakeMotor.setVoltage(-IntakeConstants.INTAKE_MOTOR_VOLTAGE);
+        io.setIntakeVoltage(-IntakeConstants.INTAKE_MOTOR_VOLTAGE);
     }
 
     /**
      * Stops the intake motor.
      */
     public void stopIntake() {
-        intakeMotor.setVoltage(0.0);
+        io.setIntakeVoltage(0.0);
+    }
+
+    /**
+     * The timed periodic method for the intake subsystem. This method
+     * is run by the command scheduler every 20 ms.
+     */
+    @Override
+    protected void timedPeriodic() {
+        io.updateInputs(inputs);
+
+        InputRecorder.getInstance().recordInputs(getName(), inputs);
     }
 }
@@ -1,32 +1,32 @@
 package frc.robot.subsystems;
 
-import com.revrobotics.CANSparkLowLevel.MotorType;
-import com.revrobotics.CANSparkMax;
-
-import edu.wpi.first.wpilibj.DigitalInput;
-import edu.wpi.first.wpilibj2.command.SubsystemBase;
 import frc.robot.Constants.ClimbConstants;
+import frc.robot.Constants.IOConstants;
+import frc.robot.io.ClimbIO;
+import frc.robot.io.ClimbIO.ClimbIOInputs;
+import frc.robot.io.ClimbIOReplay;
+import frc.robot.io.ClimbIOSim;
+import frc.robot.io.ClimbIOSparkMax;
+import frc.robot.io.InputRecorder;
 
 /**
  * The class for the left climb subsystem.
  */
-public class LeftClimb extends SubsystemBase {
+public class LeftClimb extends TimedSubsystem {
     /**
      * The instance of the {@link LeftClimb} class.
      */
     private static LeftClimb leftClimb = null;
 
     /**
-     * The left climb motor.
+     * The left climb IO layer.
      */
-    private final CANSparkMax leftClimbMotor = 
-        new CANSparkMax(ClimbConstants.LEFT_CLIMB_MOTOR_ID, MotorType.kBrushed);
+    private final ClimbIO io;
 
     /**
-     * The left climb limit switch.
+     * The left climb inputs from the current loop.
      */
-    private final DigitalInput leftClimbLimitSwitch = 
-        new DigitalInput(ClimbConstants.LEFT_CLIMB_LIMIT_SWITCH_ID);
+    private final ClimbIOInputs inputs = new ClimbIOInputs();
 
     /**
      * Gets the instance of the {@link LeftClimb} class.
@@ -44,27 +44,52 @@ public class LeftClimb extends SubsystemBase {
     /**
      * The constructor for the {@link LeftClimb} class.
      */
-    private LeftClimb() {}
+    private LeftClimb() {
+        switch (IOConstants.MODE) {
+            case REAL:
+                io = new ClimbIOSparkMax(
+                    ClimbConstants.LEFT_CLIMB_MOTOR_ID, 
+                    ClimbConstants.LEFT_CLIMB_LIMIT_SWITCH_ID);
+                break;
+            case SIM:
+                io = new ClimbIOSim();
+                break;
+            default:
+                io = new ClimbIOReplay(getName());
+                break;
+        }
+
+        io.updateInputs(inputs);
+    }
+
+    /**
+     * Gets the left climb inputs from the current loop.
+     * 
+     * @return The left climb inputs.
+     */
+    public ClimbIOInputs getInputs() {
+        return inputs;
+    }
 
     /**
      * Runs the left climb motor up.
      */
     public void runLeftClimbUp() {
-        leftClimbMotor.setVoltage(ClimbConstants.CLIMB_MOTOR_VOLTAGE);
+        io.setClimbVoltage(ClimbConstants.CLIMB_MOTOR_VOLTAGE);
     }
 
     /**
      * Runs the left climb motor down.
      */
     public void runLeftClimbDown() {
-        leftClimbMotor.setVoltage(-ClimbConstants.CLIMB_MOTOR_VOLTAGE);
+        io.setClimbVoltage(-ClimbConstants.CLIMB_MOTOR_VOLTAGE);
     }
 
     /**
      * Stops the left climb motor.
      */
     public void stopLeftClimb() {
-        leftClimbMotor.setVoltage(0.0);
+        io.setClimbVoltage(0.0);
     }
 
     /**
@@ -75,6 +100,17 @@ public class LeftClimb extends SubsystemBase {
      * is at a magnet.
      */
     public boolean isLeftClimbLimitSwitchAtMagnet() {
-        return !leftClimbLimitSwitch.get();
+        return inputs.isLimitSwitchAtMagnet;
+    }
+
+    /**
+     * The timed periodic method for the left climb subsystem. This
+     * method is run by the command scheduler every 20 ms.
+     */
+    @Override
+    protected void timedPeriodic() {
+        io.updateInputs(inputs);
+
+        InputRecorder.getInstance().recordInputs(getName(), inputs);
     }
 }
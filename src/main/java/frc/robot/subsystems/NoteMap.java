@@ -0,0 +1,362 @@
+package frc.robot.subsystems;
+
+import java.util.Optional;
+
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Translation2d;
+import edu.wpi.first.networktables.IntegerPublisher;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.wpilibj.Timer;
+import frc.robot.Constants.ApriltagConstants;
+import frc.robot.Constants.NoteMapConstants;
+import frc.robot.helpers.LimelightClient;
+import frc.robot.helpers.LimelightFrame;
+import frc.robot.helpers.NoteProjection;
+
+/**
+ * The class for the note map subsystem.
+ * <br></br>
+ * Projects every note detection of the note detector frames read each
+ * loop onto the field from the robot pose at the time that the frame
+ * was captured, and merges the detections into a fixed number of note
+ * tracks. Each track gains confidence when it is detected again and
+ * loses confidence over time, and is dropped once its confidence is
+ * too low, so that the note map holds where the notes on the field
+ * are believed to be even when they are out of view.
+ */
+public final class NoteMap extends TimedSubsystem {
+    /**
+     * The instance of the {@link NoteMap} class.
+     */
+    private static NoteMap noteMap = null;
+
+    /**
+     * The note tracks, which are preallocated and
+     * reused as notes are detected and dropped.
+     */
+    private final NoteTrack[] tracks = new NoteTrack[NoteMapConstants.MAX_TRACKS];
+
+    /**
+     * Whether or not the note detector has published detector results
+     * that could be parsed. Until it has, the primary target of each
+     * note detector frame is used instead.
+     */
+    private boolean hasDetectorResults = false;
+
+    /**
+     * The time that the note tracks were last decayed, in seconds.
+     */
+    private double lastDecayTime = Timer.getFPGATimestamp();
+
+    /**
+     * The publisher for the number of active note tracks.
+     */
+    private final IntegerPublisher trackCountPublisher =
+        NetworkTableInstance.getDefault()
+            .getTable("Note Map")
+            .getIntegerTopic("Track Count")
+            .publish();
+
+    /**
+     * Gets the instance of the {@link NoteMap} class.
+     *
+     * @return The instance of the {@link NoteMap} class.
+     */
+    public static NoteMap getInstance() {
+        if (noteMap == null) {
+            noteMap = new NoteMap();
+        }
+
+        return noteMap;
+    }
+
+    /**
+     * The constructor for the {@link NoteMap} class.
+     */
+    private NoteMap() {
+        for (int i = 0; i < tracks.length; i++) {
+            tracks[i] = new NoteTrack();
+        }
+
+        trackCountPublisher.set(0);
+    }
+
+    /**
+     * Gets the position of the nearest reachable note to the given
+     * position. A note is reachable if its track is confident enough
+     * and it is within the max reachable distance.
+     *
+     * @param position The position to find the nearest note to.
+     *
+     * @return The position of the nearest reachable note, or an
+     * empty optional if there is no reachable note.
+     */
+    public Optional<Translation2d> getNearestNote(Translation2d position) {
+        NoteTrack nearestTrack = null;
+        double nearestDistance = NoteMapConstants.MAX_REACHABLE_DISTANCE;
+
+        for (NoteTrack track : tracks) {
+            if (!track.isActive || track.confidence < NoteMapConstants.REACHABLE_CONFIDENCE) {
+                continue;
+            }
+
+            double distance = Math.hypot(
+                track.x - position.getX(),
+                track.y - position.getY());
+
+            if (distance <= nearestDistance) {
+                nearestTrack = track;
+                nearestDistance = distance;
+            }
+        }
+
+        return nearestTrack == null
+            ? Optional.empty()
+            : Optional.of(new Translation2d(nearestTrack.x, nearestTrack.y));
+    }
+
+    /**
+     * Drops all of the note tracks.
+     */
+    public void clear() {
+        for (NoteTrack track : tracks) {
+            track.isActive = false;
+        }
+    }
+
+    /**
+     * Drops the note track nearest to the given position, if there
+     * is one within the intaken note distance. This is done when a
+     * note is intaken, so that the note map does not keep sending
+     * the robot back to a note that it is already holding.
+     *
+     * @param position The position of the robot on the field.
+     */
+    private void dropIntakenNote(Translation2d position) {
+        NoteTrack nearestTrack = null;
+        double nearestDistance = NoteMapConstants.INTAKEN_NOTE_DISTANCE;
+
+        for (NoteTrack track : tracks) {
+            if (!track.isActive) {
+                continue;
+            }
+
+            double distance = Math.hypot(
+                track.x - position.getX(),
+                track.y - position.getY());
+
+            if (distance <= nearestDistance) {
+                nearestTrack = track;
+                nearestDistance = distance;
+            }
+        }
+
+        if (nearestTrack != null) {
+            nearestTrack.isActive = false;
+        }
+    }
+
+    /**
+     * Adds the detections of the note detector frames read this loop
+     * to the note tracks. If the note detector publishes detector
+     * results, then every detector target of the results read this
+     * loop is added, and if not, then the primary target of each
+     * frame is added.
+     */
+    private void addFrames() {
+        LimelightClient limelightClient = LimelightClient.getInstance();
+
+        if (limelightClient.hasDetectorResults()) {
+            hasDetectorResults = true;
+
+            Optional<Pose2d> captureRobotPose = Swerve.getInstance().getRobotPoseAt(
+                limelightClient.getDetectorCaptureTimestamp());
+
+            if (captureRobotPose.isEmpty()) {
+                return;
+            }
+
+            for (int i = 0; i < limelightClient.getDetectorTargetCount(); i++) {
+                if (limelightClient.getDetectorTargetConfidence(i)
+                        < NoteMapConstants.MIN_DETECTION_CONFIDENCE) {
+                    continue;
+                }
+
+                addDetection(
+                    NoteProjection.getFieldNotePosition(
+                        captureRobotPose.get(),
+                        limelightClient.getDetectorTargetTX(i),
+                        limelightClient.getDetectorTargetTY(i)));
+            }
+
+            return;
+        }
+
+        if (hasDetectorResults) {
+            return;
+        }
+
+        for (int i = 0; i < limelightClient.getFrameCount(); i++) {
+            LimelightFrame frame = limelightClient.getFrame(i);
+
+            if (!frame.hasTarget()) {
+                continue;
+            }
+
+            Optional<Pose2d> captureRobotPose =
+                Swerve.getInstance().getRobotPoseAt(frame.getCaptureTimestamp());
+
+            if (captureRobotPose.isEmpty()) {
+                continue;
+            }
+
+            addDetection(
+                NoteProjection.getFieldNotePosition(
+                    captureRobotPose.get(),
+                    frame.getTX(),
+                    frame.getTY()));
+        }
+    }
+
+    /**
+     * Merges a note detection into the note tracks.
+     * <br></br>
+     * If there is a track within the merge distance of the detection,
+     * then the nearest such track is moved towards the detection and
+     * gains confidence, and if not, then a new track is started in an
+     * unused track, or in place of the least confident track.
+     *
+     * @param position The position of the detected note on the field.
+     */
+    private void addDetection(Translation2d position) {
+        // Ignore detections that are not on the field.
+        if (position.getX() < 0.0
+                || position.getX() > ApriltagConstants.FIELD_LAYOUT.getFieldLength()
+                || position.getY() < 0.0
+                || position.getY() > ApriltagConstants.FIELD_LAYOUT.getFieldWidth()) {
+            return;
+        }
+
+        NoteTrack nearestTrack = null;
+        double nearestDistance = NoteMapConstants.MERGE_DISTANCE;
+
+        NoteTrack weakestTrack = tracks[0];
+
+        for (NoteTrack track : tracks) {
+            if (!track.isActive) {
+                weakestTrack = weakestTrack.isActive ? track : weakestTrack;
+
+                continue;
+            }
+
+            if (weakestTrack.isActive && track.confidence < weakestTrack.confidence) {
+                weakestTrack = track;
+            }
+
+            double distance = Math.hypot(
+                track.x - position.getX(),
+                track.y - position.getY());
+
+            if (distance <= nearestDistance) {
+                nearestTrack = track;
+                nearestDistance = distance;
+            }
+        }
+
+        if (nearestTrack != null) {
+            nearestTrack.x += (position.getX() - nearestTrack.x)
+                * NoteMapConstants.POSITION_SMOOTHING;
+            nearestTrack.y += (position.getY() - nearestTrack.y)
+                * NoteMapConstants.POSITION_SMOOTHING;
+
+            nearestTrack.confidence = Math.min(
+                nearestTrack.confidence + NoteMapConstants.CONFIDENCE_GAIN,
+                NoteMapConstants.MAX_CONFIDENCE);
+
+            return;
+        }
+
+        weakestTrack.x = position.getX();
+        weakestTrack.y = position.getY();
+        weakestTrack.confidence = NoteMapConstants.INITIAL_CONFIDENCE;
+        weakestTrack.isActive = true;
+    }
+
+    /**
+     * Decays the confidence of every note track by the given
+     * time, and drops the tracks that are no longer confident.
+     *
+     * @param deltaTime The time since the last decay, in seconds.
+     */
+    private void decayTracks(double deltaTime) {
+        for (NoteTrack track : tracks) {
+            if (!track.isActive) {
+                continue;
+            }
+
+            track.confidence -= NoteMapConstants.CONFIDENCE_DECAY_RATE * deltaTime;
+
+            if (track.confidence < NoteMapConstants.MIN_CONFIDENCE) {
+                track.isActive = false;
+            }
+        }
+    }
+
+    /**
+     * The timed periodic method for the note map subsystem. This method
+     * is run by the command scheduler every 20 ms.
+     * <br></br>
+     * Decays the note tracks, drops the note that was just intaken
+     * if a note was intaken this loop, and then adds the detections
+     * of the note detector frames read this loop.
+     */
+    @Override
+    protected void timedPeriodic() {
+        double timestamp = Timer.getFPGATimestamp();
+
+        decayTracks(timestamp - lastDecayTime);
+
+        lastDecayTime = timestamp;
+
+        if (Shooter.getInstance().hasLimitSwitchBeenPressed()) {
+            dropIntakenNote(Swerve.getInstance().getRobotPose().getTranslation());
+        }
+
+        addFrames();
+
+        int trackCount = 0;
+
+        for (NoteTrack track : tracks) {
+            trackCount += track.isActive ? 1 : 0;
+        }
+
+        trackCountPublisher.set(trackCount);
+    }
+
+    /**
+     * The class for a note track, which is the believed
+     * position of a note on the field.
+     */
+    private static final class NoteTrack {
+        /**
+         * The x position of the note on the field, in meters.
+         */
+        private double x = 0.0;
+
+        /**
+         * The y position of the note on the field, in meters.
+         */
+        private double y = 0.0;
+
+        /**
+         * The confidence that the note is there,
+         * on the interval [0, 1].
+         */
+        private double confidence = 0.0;
+
+        /**
+         * Whether or not the track is in use.
+         */
+        private boolean isActive = false;
+    }
+}
@@ -1,32 +1,32 @@
 package frc.robot.subsystems;
 
-import com.revrobotics.CANSparkMax;
-import com.revrobotics.CANSparkLowLevel.MotorType;
-
-import edu.wpi.first.wpilibj.DigitalInput;
-import edu.wpi.first.wpilibj2.command.SubsystemBase;
 import frc.robot.Constants.ClimbConstants;
+import frc.robot.Constants.IOConstants;
+import frc.robot.io.ClimbIO;
+import frc.robot.io.ClimbIO.ClimbIOInputs;
+import frc.robot.io.ClimbIOReplay;
+import frc.robot.io.ClimbIOSim;
+import frc.robot.io.ClimbIOSparkMax;
+import frc.robot.io.InputRecorder;
 
 /**
  * The class for the right climb subsystem.
  */
-public class RightClimb extends SubsystemBase {
+public class RightClimb extends TimedSubsystem {
     /**
      * The instance of the {@link RightClimb} class.
      */
     private static RightClimb rightClimb = null;
 
     /**
-     * The right climb motor.
+     * The right climb IO layer.
      */
-    private final CANSparkMax rightClimbMotor = 
-        new CANSparkMax(ClimbConstants.RIGHT_CLIMB_MOTOR_ID, MotorType.kBrushed);
+    private final ClimbIO io;
 
     /**
-     * The right climb limit switch.
+     * The right climb inputs from the current loop.
      */
-    private final DigitalInput rightClimbLimitSwitch = 
-        new DigitalInput(ClimbConstants.RIGHT_CLIMB_LIMIT_SWITCH_ID);
+    private final ClimbIOInputs inputs = new ClimbIOInputs();
 
     /**
      * Gets the instance of the {@link RightClimb} class.
@@ -44,27 +44,52 @@ public class RightClimb extends SubsystemBase {
     /**
      * The constructor for the {@link RightClimb} class.
      */
-    private RightClimb() {}
+    private RightClimb() {
+        switch (IOConstants.MODE) {
+            case REAL:
+                io = new ClimbIOSparkMax(
+                    ClimbConstants.RIGHT_CLIMB_MOTOR_ID, 
+                    ClimbConstants.RIGHT_CLIMB_LIMIT_SWITCH_ID);
+                break;
+            case SIM:
+                io = new ClimbIOSim();
+                break;
+            default:
+                io = new ClimbIOReplay(getName());
+                break;
+        }
+
+        io.updateInputs(inputs);
+    }
+
+    /**
+     * Gets the right climb inputs from the current loop.
+     * 
+     * @return The right climb inputs.
+     */
+    public ClimbIOInputs getInputs() {
+        return inputs;
+    }
 
     /**
      * Runs the right climb motor up.
      */
     public void runRightClimbUp() {
-        rightClimbMotor.setVoltage(ClimbConstants.CLIMB_MOTOR_VOLTAGE);
+        io.setClimbVoltage(ClimbConstants.CLIMB_MOTOR_VOLTAGE);
     }
 
     /**
      * Runs the right climb motor down.
      */
     public void runRightClimbDown() {
-        rightClimbMotor.setVoltage(-ClimbConstants.CLIMB_MOTOR_VOLTAGE);
+        io.setClimbVoltage(-ClimbConstants.CLIMB_MOTOR_VOLTAGE);
     }
 
     /**
      * Stops the right climb motor.
      */
     public void stopRightClimb() {
-        rightClimbMotor.setVoltage(0.0);
+        io.setClimbVoltage(0.0);
     }
 
     /**
@@ -75,6 +100,17 @@ public class RightClimb extends SubsystemBase {
      * is at a magnet.
      */
     public boolean isRightClimbLimitSwitchAtMagnet() {
-        return !rightClimbLimitSwitch.get();
+        return inputs.isLimitSwitchAtMagnet;
+    }
+
+    /**
+     * The timed periodic method for the right climb subsystem. This
+     * method is run by the command scheduler every 20 ms.
+     */
+    @Override
+    protected void timedPeriodic() {
+        io.updateInputs(inputs);
+
+        InputRecorder.getInstance().recordInputs(getName(), inputs);
     }
 }
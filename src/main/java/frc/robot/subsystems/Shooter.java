@@ -1,45 +1,139 @@
 package frc.robot.subsystems;
 
-import com.revrobotics.CANSparkMax;
-import com.revrobotics.CANSparkLowLevel.MotorType;
-
-import edu.wpi.first.wpilibj.DigitalInput;
-import edu.wpi.first.wpilibj.smartdashboard.SmartDashboard;
-import edu.wpi.first.wpilibj2.command.SubsystemBase;
+import edu.wpi.first.math.MathUtil;
+import edu.wpi.first.math.controller.PIDController;
+import edu.wpi.first.math.controller.SimpleMotorFeedforward;
+import edu.wpi.first.wpilibj.Timer;
+import frc.robot.Constants.DashboardConstants;
+import frc.robot.Constants.IOConstants;
 import frc.robot.Constants.ShooterConstants;
+import frc.robot.helpers.DashboardPublisher;
+import frc.robot.io.InputRecorder;
+import frc.robot.io.ShooterIO;
+import frc.robot.io.ShooterIO.ShooterIOInputs;
+import frc.robot.io.ShooterIOReplay;
+import frc.robot.io.ShooterIOSim;
+import frc.robot.io.ShooterIOSparkMax;
 
 /**
  * The class for the shooter subsystem.
+ * <br></br>
+ * The shooter motors are run at a velocity setpoint with a
+ * feedforward and PID controller for each shooter motor, and the
+ * feedforward model is used to predict how long the shooter motors
+ * will take to reach the velocity setpoint, so that the lift can
+ * start feeding a note just before the shooter is ready. Until the
+ * shooter velocity control gains are tuned, the shooter motors are
+ * instead run at full voltage for every velocity setpoint, and the
+ * shooter is ready once the slower shooter motor is above the
+ * shooter ready velocity.
+ * <br></br>
+ * While a note is being fed, the shooter watches for the note leaving
+ * the shooter limit switch and for the dip in shooter velocity as the
+ * note passes through the shooter motors, so that a shot can end soon
+ * after the note has left instead of after a fixed time. The dip starts
+ * while the note is still squeezed between the shooter motors, so it is
+ * only taken as a sign that the note is on its way out, and the shot
+ * is not over until a short hold time after it.
  */
-public final class Shooter extends SubsystemBase {
+public final class Shooter extends TimedSubsystem {
     /**
      * The instance of the {@link Shooter} class.
      */
     private static Shooter shooter = null;
 
     /**
-     * The lift motor.
+     * The shooter IO layer.
+     */
+    private final ShooterIO io;
+
+    /**
+     * The shooter inputs from the current loop.
+     */
+    private final ShooterIOInputs inputs = new ShooterIOInputs();
+
+    /**
+     * The shooter motor feedforward, which is shared by both
+     * shooter motors since they are the same mechanism.
+     */
+    private final SimpleMotorFeedforward shooterFeedforward = new SimpleMotorFeedforward(
+        ShooterConstants.SHOOTER_KS, 
+        ShooterConstants.SHOOTER_KV, 
+        ShooterConstants.SHOOTER_KA);
+
+    /**
+     * The left shooter motor PID controller.
      */
-    private final CANSparkMax liftMotor = 
-        new CANSparkMax(ShooterConstants.LIFT_MOTOR_ID, MotorType.kBrushless);
+    private final PIDController leftShooterPIDController = new PIDController(
+        ShooterConstants.SHOOTER_KP, 
+        ShooterConstants.SHOOTER_KI, 
+        ShooterConstants.SHOOTER_KD);
 
     /**
-     * The left shooter motor.
+     * The right shooter motor PID controller.
      */
-    private final CANSparkMax leftShooterMotor = 
-        new CANSparkMax(ShooterConstants.LEFT_SHOOTER_MOTOR_ID, MotorType.kBrushless);
+    private final PIDController rightShooterPIDController = new PIDController(
+        ShooterConstants.SHOOTER_KP, 
+        ShooterConstants.SHOOTER_KI, 
+        ShooterConstants.SHOOTER_KD);
 
     /**
-     * The right shooter motor.
+     * The shooter velocity setpoint, in RPM.
      */
-    private final CANSparkMax rightShooterMotor = 
-        new CANSparkMax(ShooterConstants.RIGHT_SHOOTER_MOTOR_ID, MotorType.kBrushless);
+    private double shooterVelocitySetpoint = 0.0;
 
     /**
-     * The shooter limit switch.
+     * Whether or not the shooter motors are being run at
+     * the shooter velocity setpoint.
      */
-    private final DigitalInput shooterLimitSwitch = 
-        new DigitalInput(ShooterConstants.SHOOTER_LIMIT_SWITCH_ID);
+    private boolean isShooterVelocityControlled = false;
+
+    /**
+     * The time that the lift started feeding a note, in seconds,
+     * or NaN if the lift is not feeding a note.
+     */
+    private double feedStartTime = Double.NaN;
+
+    /**
+     * The time that the note being fed left the shooter limit switch,
+     * in seconds, or NaN if it has not left the shooter limit switch.
+     */
+    private double limitSwitchReleaseTime = Double.NaN;
+
+    /**
+     * The highest shooter velocity since the lift started
+     * feeding the note being fed, in RPM.
+     */
+    private double feedPeakShooterVelocity = 0.0;
+
+    /**
+     * The time that the shooter velocity dipped from the note being
+     * fed passing through the shooter motors, in seconds, or NaN if
+     * the shooter velocity has not dipped.
+     */
+    private double shooterVelocityDipTime = Double.NaN;
+
+    /**
+     * Whether or not the shooter limit switch was
+     * being pressed during the last loop.
+     */
+    private boolean wasLimitSwitchPressed = false;
+
+    /**
+     * Whether or not the shooter limit switch
+     * started being pressed this loop.
+     */
+    private boolean hasLimitSwitchBeenPressed = false;
+
+    /**
+     * The dashboard entry for whether or not
+     * the shooter limit switch is pressed.
+     */
+    private final DashboardPublisher.BooleanEntry limitSwitchEntry =
+        DashboardPublisher.getInstance().createBooleanEntry(
+            "Lift Limit Switch",
+            DashboardConstants.LIMIT_SWITCH_PUBLISH_PERIOD,
+            false);
 
     /**
      * Gets the instance of the {@link Shooter} class.
@@ -58,37 +152,128 @@ public final class Shooter extends SubsystemBase {
      * The constructor for the {@link Shooter} class.
      */
     private Shooter() {
-        rightShooterMotor.setInverted(true);
+        switch (IOConstants.MODE) {
+            case REAL:
+                io = new ShooterIOSparkMax();
+                break;
+            case SIM:
+                io = new ShooterIOSim();
+                break;
+            default:
+                io = new ShooterIOReplay(getName());
+                break;
+        }
+
+        io.updateInputs(inputs);
+    }
+
+    /**
+     * Gets the shooter inputs from the current loop.
+     * 
+     * @return The shooter inputs.
+     */
+    public ShooterIOInputs getInputs() {
+        return inputs;
     }
 
     /**
      * Runs the lift motor forwards.
      */
     public void runLiftForwards() {
-        liftMotor.setVoltage(ShooterConstants.LIFT_MOTOR_VOLTAGE);
+        io.setLiftVoltage(ShooterConstants.LIFT_MOTOR_VOLTAGE);
     }
 
     /**
      * Runs the lift motor backwards.
      */
     public void runLiftBackwards() {
-        liftMotor.setVoltage(-ShooterConstants.LIFT_MOTOR_VOLTAGE);
+        io.setLiftVoltage(-ShooterConstants.LIFT_MOTOR_VOLTAGE);
     }
 
     /**
      * Stops the lift motor.
      */
     public void stopLift() {
-        liftMotor.setVoltage(0.0);
+        feedStartTime = Double.NaN;
+
+        io.setLiftVoltage(0.0);
+    }
+
+    /**
+     * Runs the lift motor forwards to feed a note into the
+     * shooter motors, and starts watching for the note to
+     * leave the shooter.
+     */
+    public void feedNote() {
+        feedStartTime = Timer.getFPGATimestamp();
+        limitSwitchReleaseTime = Double.NaN;
+        feedPeakShooterVelocity = getShooterVelocity();
+        shooterVelocityDipTime = Double.NaN;
+
+        runLiftForwards();
+    }
+
+    /**
+     * Gets whether or not the note being fed has been shot.
+     * <br></br>
+     * The note has been shot once the note exit time has passed
+     * since the note left the shooter limit switch, or once the
+     * dip hold time has passed since the shooter velocity dipped
+     * from the note passing through the shooter motors, in case
+     * the note was never seen leaving the shooter limit switch.
+     * The shooter velocity dips while the note is still between
+     * the shooter motors, so the dip alone does not mean that
+     * the note has left.
+     * 
+     * @return Whether or not the note being fed has been shot,
+     * which is false if the lift is not feeding a note.
+     */
+    public boolean isNoteShot() {
+        if (Double.isNaN(feedStartTime)) {
+            return false;
+        }
+
+        double timestamp = Timer.getFPGATimestamp();
+
+        /*
+         * NaN times never compare as passed, so a signal
+         * that has not been seen does not end the shot.
+         */
+        return timestamp - limitSwitchReleaseTime
+                >= ShooterConstants.SHOOTER_NOTE_EXIT_TIME
+            || timestamp - shooterVelocityDipTime
+                >= ShooterConstants.SHOOTER_VELOCITY_DIP_HOLD_TIME;
     }
 
     /**
      * Runs the left shooter motor and the
-     * right shooter motor forwards.
+     * right shooter motor forwards at the
+     * speaker shooter velocity.
      */
     public void runShooterForwards() {
-        leftShooterMotor.setVoltage(ShooterConstants.SHOOTER_MOTOR_VOLTAGE);
-        rightShooterMotor.setVoltage(ShooterConstants.SHOOTER_MOTOR_VOLTAGE);
+        setShooterVelocity(ShooterConstants.SHOOTER_SPEAKER_VELOCITY);
+    }
+
+    /**
+     * Runs the left shooter motor and the
+     * right shooter motor at the given
+     * velocity setpoint.
+     * 
+     * @param velocity The shooter velocity setpoint, in RPM.
+     */
+    public void setShooterVelocity(double velocity) {
+        /*
+         * Reset the PID controllers if the shooter motors
+         * were not already being run at a velocity setpoint,
+         * so that stale error is not carried over.
+         */
+        if (!isShooterVelocityControlled) {
+            leftShooterPIDController.reset();
+            rightShooterPIDController.reset();
+        }
+
+        shooterVelocitySetpoint = velocity;
+        isShooterVelocityControlled = true;
     }
 
     /**
@@ -96,17 +281,46 @@ public final class Shooter extends SubsystemBase {
      * right shooter motor backwards.
      */
     public void runShooterBackwards() {
-        leftShooterMotor.setVoltage(-ShooterConstants.SHOOTER_MOTOR_VOLTAGE);
-        rightShooterMotor.setVoltage(-ShooterConstants.SHOOTER_MOTOR_VOLTAGE);
+        isShooterVelocityControlled = false;
+        shooterVelocitySetpoint = 0.0;
+
+        io.setLeftShooterVoltage(-ShooterConstants.SHOOTER_MOTOR_VOLTAGE);
+        io.setRightShooterVoltage(-ShooterConstants.SHOOTER_MOTOR_VOLTAGE);
     }
 
     /**
      * Stops the left shooter motor and the
-     * right shooter motor.
+     * right shooter motor. The shooter motors
+     * are left to coast down instead of
+     * being driven to zero velocity.
      */
     public void stopShooter() {
-        leftShooterMotor.setVoltage(0.0);
-        rightShooterMotor.setVoltage(0.0);
+        isShooterVelocityControlled = false;
+        shooterVelocitySetpoint = 0.0;
+
+        io.setLeftShooterVoltage(0.0);
+        io.setRightShooterVoltage(0.0);
+    }
+
+    /**
+     * Gets the shooter velocity setpoint.
+     * 
+     * @return The shooter velocity setpoint, in RPM, or 0 if
+     * the shooter motors are not being run at a velocity setpoint.
+     */
+    public double getShooterVelocitySetpoint() {
+        return shooterVelocitySetpoint;
+    }
+
+    /**
+     * Gets the velocity of the slower shooter motor.
+     * 
+     * @return The velocity of the slower shooter motor, in RPM.
+     */
+    public double getShooterVelocity() {
+        return Math.min(
+            inputs.leftShooterVelocity,
+            inputs.rightShooterVelocity);
     }
     
     /**
@@ -117,33 +331,204 @@ public final class Shooter extends SubsystemBase {
      * switch is being pressed.
      */
     public boolean isLimitSwitchPressed() {
-        return shooterLimitSwitch.get();
+        return inputs.isLimitSwitchPressed;
+    }
+
+    /**
+     * Gets whether or not the shooter limit switch started
+     * being pressed this loop, which is when a note has
+     * just been intaken.
+     * 
+     * @return Whether or not the shooter limit switch
+     * started being pressed this loop.
+     */
+    public boolean hasLimitSwitchBeenPressed() {
+        return hasLimitSwitchBeenPressed;
     }
 
     /**
      * Gets whether or not the shooter is ready to shoot,
-     * which is determined by if the slower shooter motor
-     * is above the required shooter velocity.
+     * which is determined by if both shooter motors are
+     * within the shooter velocity tolerance of the
+     * shooter velocity setpoint, or if the shooter velocity
+     * control is not tuned, by if the slower shooter motor
+     * is above the shooter ready velocity.
      * 
      * @return Whether or not the shooter is ready to shoot.
      */
     public boolean isShooterReady() {
-        return Math.min(
-                leftShooterMotor.getEncoder().getVelocity(),
-                rightShooterMotor.getEncoder().getVelocity()) 
-            > ShooterConstants.SHOOTER_VELOCITY;
+        if (!ShooterConstants.IS_SHOOTER_VELOCITY_CONTROL_TUNED) {
+            return isShooterVelocityControlled
+                && shooterVelocitySetpoint > 0.0
+                && getShooterVelocity() > ShooterConstants.SHOOTER_READY_VELOCITY;
+        }
+
+        return isShooterVelocityControlled
+            && shooterVelocitySetpoint > 0.0
+            && Math.abs(inputs.leftShooterVelocity - shooterVelocitySetpoint)
+                <= ShooterConstants.SHOOTER_VELOCITY_TOLERANCE
+            && Math.abs(inputs.rightShooterVelocity - shooterVelocitySetpoint)
+                <= ShooterConstants.SHOOTER_VELOCITY_TOLERANCE;
     }
 
     /**
-     * The periodic method for the shooter subsystem. This method
+     * Gets the predicted time until the shooter is ready to shoot.
+     * <br></br>
+     * Each shooter motor is modeled as spinning up at full voltage
+     * along the first order response of the shooter feedforward,
+     * and the prediction is the time for the slower shooter motor
+     * to come within the shooter velocity tolerance of the shooter
+     * velocity setpoint.
+     * 
+     * If the shooter velocity control is not tuned, then there is no
+     * model to predict with, so the shooter is only predicted to be
+     * ready once it is ready.
+     * 
+     * @return The predicted time until the shooter is ready to shoot,
+     * in seconds, which is 0 if the shooter is already within the
+     * shooter velocity tolerance, and infinity if the shooter motors
+     * are not being run at a velocity setpoint that they can reach.
+     */
+    public double getTimeUntilShooterReady() {
+        if (!isShooterVelocityControlled || shooterVelocitySetpoint <= 0.0) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        if (!ShooterConstants.IS_SHOOTER_VELOCITY_CONTROL_TUNED) {
+            return isShooterReady() ? 0.0 : Double.POSITIVE_INFINITY;
+        }
+
+        return Math.max(
+            getTimeToReachVelocity(inputs.leftShooterVelocity),
+            getTimeToReachVelocity(inputs.rightShooterVelocity));
+    }
+
+    /**
+     * Gets whether or not the shooter is predicted to be ready to
+     * shoot by the time the lift has fed a note into the shooter.
+     * 
+     * @return Whether or not the shooter is predicted to be
+     * ready by the time the lift has fed a note.
+     */
+    public boolean isShooterReadyToFeed() {
+        return getTimeUntilShooterReady() <= ShooterConstants.SHOOTER_FEED_LEAD_TIME;
+    }
+
+    /**
+     * Gets the predicted time for a shooter motor at the given
+     * velocity to come within the shooter velocity tolerance of
+     * the shooter velocity setpoint, spinning up at full voltage.
+     * 
+     * @param velocity The velocity of the shooter motor, in RPM.
+     * 
+     * @return The predicted time, in seconds.
+     */
+    private double getTimeToReachVelocity(double velocity) {
+        double readyVelocity = 
+            shooterVelocitySetpoint - ShooterConstants.SHOOTER_VELOCITY_TOLERANCE;
+
+        if (velocity >= readyVelocity) {
+            return 0.0;
+        }
+
+        // Get the velocity that the shooter motor would settle at with full voltage.
+        double maxVelocity = 
+            (ShooterConstants.SHOOTER_MOTOR_VOLTAGE - ShooterConstants.SHOOTER_KS)
+                / ShooterConstants.SHOOTER_KV;
+
+        if (readyVelocity >= maxVelocity) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        /*
+         * The velocity approaches the max velocity exponentially
+         * with the time constant kA / kV, so solve for the time
+         * that it reaches the ready velocity.
+         */
+        return (ShooterConstants.SHOOTER_KA / ShooterConstants.SHOOTER_KV)
+            * Math.log((maxVelocity - Math.max(velocity, 0.0)) / (maxVelocity - readyVelocity));
+    }
+
+    /**
+     * Gets the voltage to run a shooter motor at to
+     * reach the shooter velocity setpoint, which is full
+     * voltage if the shooter velocity control is not tuned.
+     * 
+     * @param pidController The PID controller of the shooter motor.
+     * @param velocity The velocity of the shooter motor, in RPM.
+     * 
+     * @return The voltage to run the shooter motor at, in volts.
+     */
+    private double getShooterVoltage(PIDController pidController, double velocity) {
+        if (!ShooterConstants.IS_SHOOTER_VELOCITY_CONTROL_TUNED) {
+            return ShooterConstants.SHOOTER_MOTOR_VOLTAGE;
+        }
+
+        return MathUtil.clamp(
+            shooterFeedforward.calculate(shooterVelocitySetpoint)
+                + pidController.calculate(velocity, shooterVelocitySetpoint),
+            -ShooterConstants.SHOOTER_MOTOR_VOLTAGE,
+            ShooterConstants.SHOOTER_MOTOR_VOLTAGE);
+    }
+
+    /**
+     * Watches the note being fed for it leaving the shooter limit
+     * switch, and for the shooter velocity dipping below the highest
+     * shooter velocity since the lift started feeding, which does not
+     * happen while the shooter motors are still spinning up.
+     */
+    private void updateFeed() {
+        if (Double.isNaN(feedStartTime)) {
+            return;
+        }
+
+        if (inputs.hasLimitSwitchFallen
+                && inputs.limitSwitchFallTimestamp >= feedStartTime) {
+            limitSwitchReleaseTime = inputs.limitSwitchFallTimestamp;
+        }
+
+        double shooterVelocity = getShooterVelocity();
+
+        feedPeakShooterVelocity = Math.max(feedPeakShooterVelocity, shooterVelocity);
+
+        if (Double.isNaN(shooterVelocityDipTime)
+                && shooterVelocity 
+                    <= feedPeakShooterVelocity - ShooterConstants.SHOOTER_VELOCITY_DIP) {
+            shooterVelocityDipTime = Timer.getFPGATimestamp();
+        }
+    }
+
+    /**
+     * The timed periodic method for the shooter subsystem. This method
      * is run by the command scheduler every 20 ms.
+     * <br></br>
+     * This reads the shooter inputs for the loop. Then, if the shooter
+     * motors are being run at a velocity setpoint, this updates the
+     * shooter motor voltages to track it, and if the lift is feeding
+     * a note, this watches for the note to leave.
      */
     @Override
-    public void periodic() {
+    protected void timedPeriodic() {
+        io.updateInputs(inputs);
+
+        InputRecorder.getInstance().recordInputs(getName(), inputs);
+
+        hasLimitSwitchBeenPressed = inputs.isLimitSwitchPressed && !wasLimitSwitchPressed;
+        wasLimitSwitchPressed = inputs.isLimitSwitchPressed;
+
+        if (isShooterVelocityControlled) {
+            io.setLeftShooterVoltage(
+                getShooterVoltage(leftShooterPIDController, inputs.leftShooterVelocity));
+            io.setRightShooterVoltage(
+                getShooterVoltage(rightShooterPIDController, inputs.rightShooterVelocity));
+        }
+
+        updateFeed();
+
         /*
          * Send whether or not the limit switch is being pressed
          * to Shuffleboard.
          */
-        SmartDashboard.putBoolean("Lift Limit Switch", isLimitSwitchPressed());
+        limitSwitchEntry.set(isLimitSwitchPressed());
     }
 }
@@ -2,7 +2,7 @@ package frc.robot.subsystems;
 
 import java.util.Optional;
 
-import com.kauailabs.navx.frc.AHRS;
+import com.ctre.phoenix6.BaseStatusSignal;
 
 import edu.wpi.first.math.controller.HolonomicDriveController;
 import edu.wpi.first.math.controller.PIDController;
@@ -11,7 +11,9 @@ import edu.wpi.first.math.controller.SimpleMotorFeedforward;
 import edu.wpi.first.math.estimator.SwerveDrivePoseEstimator;
 import edu.wpi.first.math.geometry.Pose2d;
 import edu.wpi.first.math.geometry.Rotation2d;
+import edu.wpi.first.math.interpolation.TimeInterpolatableBuffer;
 import edu.wpi.first.math.kinematics.ChassisSpeeds;
+import edu.wpi.first.math.kinematics.SwerveDriveOdometry;
 import edu.wpi.first.math.kinematics.SwerveModulePosition;
 import edu.wpi.first.math.kinematics.SwerveModuleState;
 import edu.wpi.first.math.trajectory.TrapezoidProfile.Constraints;
@@ -20,32 +22,67 @@ import edu.wpi.first.units.Units;
 import edu.wpi.first.units.Voltage;
 import edu.wpi.first.wpilibj.DriverStation;
 import edu.wpi.first.wpilibj.DriverStation.Alliance;
-import edu.wpi.first.wpilibj.SPI;
 import edu.wpi.first.wpilibj.sysid.SysIdRoutineLog;
-import edu.wpi.first.wpilibj2.command.SubsystemBase;
+import frc.robot.Constants.IOConstants;
 import frc.robot.Constants.SwerveConstants;
-import frc.robot.Constants.SwerveModuleConstants;
+import frc.robot.helpers.SwerveKinematicsSolver;
+import frc.robot.io.GyroIO;
+import frc.robot.io.GyroIO.GyroIOInputs;
+import frc.robot.io.GyroIONavX;
+import frc.robot.io.GyroIOReplay;
+import frc.robot.io.GyroIOSim;
+import frc.robot.io.InputRecorder;
+import frc.robot.io.OdometryIO;
+import frc.robot.io.OdometryIO.OdometryIOInputs;
+import frc.robot.io.OdometryIOReplay;
+import frc.robot.io.OdometryIOThread;
+import frc.robot.io.SwerveModuleIO;
+import frc.robot.io.SwerveModuleIOReplay;
+import frc.robot.io.SwerveModuleIOSim;
+import frc.robot.io.SwerveModuleIOSparkMax;
 
 /**
  * The class for the swerve drive subsystem.
+ * <br></br>
+ * The swerve modules, the gyroscope, and the odometry samples are
+ * read through IO layers, which are the real hardware, a simulation,
+ * or a log being replayed, depending on {@link IOConstants#MODE}. In
+ * simulation, each swerve module simulates its own motors, and the
+ * gyroscope yaw is simulated by integrating the rotational velocity
+ * of the swerve module states.
  */
-public final class Swerve extends SubsystemBase {
+public final class Swerve extends TimedSubsystem {
     /**
      * The instance of the {@link Swerve} class.
      */
     private static Swerve swerve = null;
 
+    /**
+     * The name that the gyroscope inputs are recorded under.
+     */
+    private static final String GYRO_INPUTS_NAME = "Swerve/Gyro";
+
+    /**
+     * The name that the odometry samples are recorded under.
+     */
+    private static final String ODOMETRY_INPUTS_NAME = "Swerve/Odometry";
+
     /**
      * The front left swerve module.
      */
     private final SwerveModule frontLeftSwerveModule = new SwerveModule(
-        SwerveConstants.FRONT_LEFT_DRIVE_MOTOR_ID, 
-        SwerveConstants.FRONT_LEFT_STEER_MOTOR_ID, 
-        SwerveConstants.FRONT_LEFT_DRIVE_MOTOR_REVERSED, 
-        SwerveConstants.FRONT_LEFT_STEER_MOTOR_REVERSED,
-        SwerveConstants.FRONT_LEFT_STEER_ABSOLUTE_ENCODER_ID, 
-        SwerveConstants.FRONT_LEFT_STEER_ABSOLUTE_ENCODER_OFFSET, 
-        SwerveConstants.FRONT_LEFT_STEER_ABSOLUTE_ENCODER_REVERSED,
+        "Swerve/FrontLeft",
+        createSwerveModuleIO(
+            "Swerve/FrontLeft",
+            SwerveConstants.FRONT_LEFT_DRIVE_MOTOR_ID, 
+            SwerveConstants.FRONT_LEFT_STEER_MOTOR_ID, 
+            SwerveConstants.FRONT_LEFT_DRIVE_MOTOR_REVERSED, 
+            SwerveConstants.FRONT_LEFT_STEER_MOTOR_REVERSED,
+            SwerveConstants.FRONT_LEFT_STEER_ABSOLUTE_ENCODER_ID, 
+            SwerveConstants.FRONT_LEFT_STEER_ABSOLUTE_ENCODER_OFFSET, 
+            SwerveConstants.FRONT_LEFT_STEER_ABSOLUTE_ENCODER_REVERSED,
+            SwerveConstants.FRONT_LEFT_DRIVE_MOTOR_KS, 
+            SwerveConstants.FRONT_LEFT_DRIVE_MOTOR_KV),
         new SimpleMotorFeedforward(
             SwerveConstants.FRONT_LEFT_DRIVE_MOTOR_KS, 
             SwerveConstants.FRONT_LEFT_DRIVE_MOTOR_KV),
@@ -53,25 +90,27 @@ public final class Swerve extends SubsystemBase {
             SwerveConstants.FRONT_LEFT_DRIVE_MOTOR_KP, 
             SwerveConstants.FRONT_LEFT_DRIVE_MOTOR_KI, 
             SwerveConstants.FRONT_LEFT_DRIVE_MOTOR_KD),
-        new ProfiledPIDController(
+        new PIDController(
             SwerveConstants.FRONT_LEFT_STEER_MOTOR_KP, 
             SwerveConstants.FRONT_LEFT_STEER_MOTOR_KI, 
-            SwerveConstants.FRONT_LEFT_STEER_MOTOR_KD, 
-            new Constraints(
-                SwerveModuleConstants.STEER_MOTOR_MAX_VELOCITY, 
-                SwerveModuleConstants.STEER_MOTOR_MAX_ACCELERATION)));
+            SwerveConstants.FRONT_LEFT_STEER_MOTOR_KD));
 
     /**
      * The front right swerve module.
      */
     private final SwerveModule frontRightSwerveModule = new SwerveModule(
-        SwerveConstants.FRONT_RIGHT_DRIVE_MOTOR_ID, 
-        SwerveConstants.FRONT_RIGHT_STEER_MOTOR_ID, 
-        SwerveConstants.FRONT_RIGHT_DRIVE_MOTOR_REVERSED, 
-        SwerveConstants.FRONT_RIGHT_STEER_MOTOR_REVERSED,
-        SwerveConstants.FRONT_RIGHT_STEER_ABSOLUTE_ENCODER_ID, 
-        SwerveConstants.FRONT_RIGHT_STEER_ABSOLUTE_ENCODER_OFFSET, 
-        SwerveConstants.FRONT_RIGHT_STEER_ABSOLUTE_ENCODER_REVERSED,
+        "Swerve/FrontRight",
+        createSwerveModuleIO(
+            "Swerve/FrontRight",
+            SwerveConstants.FRONT_RIGHT_DRIVE_MOTOR_ID, 
+            SwerveConstants.FRONT_RIGHT_STEER_MOTOR_ID, 
+            SwerveConstants.FRONT_RIGHT_DRIVE_MOTOR_REVERSED, 
+            SwerveConstants.FRONT_RIGHT_STEER_MOTOR_REVERSED,
+            SwerveConstants.FRONT_RIGHT_STEER_ABSOLUTE_ENCODER_ID, 
+            SwerveConstants.FRONT_RIGHT_STEER_ABSOLUTE_ENCODER_OFFSET, 
+            SwerveConstants.FRONT_RIGHT_STEER_ABSOLUTE_ENCODER_REVERSED,
+            SwerveConstants.FRONT_RIGHT_DRIVE_MOTOR_KS, 
+            SwerveConstants.FRONT_RIGHT_DRIVE_MOTOR_KV),
         new SimpleMotorFeedforward(
             SwerveConstants.FRONT_RIGHT_DRIVE_MOTOR_KS, 
             SwerveConstants.FRONT_RIGHT_DRIVE_MOTOR_KV),
@@ -79,25 +118,27 @@ public final class Swerve extends SubsystemBase {
             SwerveConstants.FRONT_RIGHT_DRIVE_MOTOR_KP, 
             SwerveConstants.FRONT_RIGHT_DRIVE_MOTOR_KI, 
             SwerveConstants.FRONT_RIGHT_DRIVE_MOTOR_KD),
-        new ProfiledPIDController(
+        new PIDController(
             SwerveConstants.FRONT_RIGHT_STEER_MOTOR_KP, 
             SwerveConstants.FRONT_RIGHT_STEER_MOTOR_KI, 
-            SwerveConstants.FRONT_RIGHT_STEER_MOTOR_KD, 
-            new Constraints(
-                SwerveModuleConstants.STEER_MOTOR_MAX_VELOCITY, 
-                SwerveModuleConstants.STEER_MOTOR_MAX_ACCELERATION)));
+            SwerveConstants.FRONT_RIGHT_STEER_MOTOR_KD));
 
     /**
      * The back left swerve module.
      */
     private final SwerveModule backLeftSwerveModule = new SwerveModule(
-        SwerveConstants.BACK_LEFT_DRIVE_MOTOR_ID, 
-        SwerveConstants.BACK_LEFT_STEER_MOTOR_ID, 
-        SwerveConstants.BACK_LEFT_DRIVE_MOTOR_REVERSED, 
-        SwerveConstants.BACK_LEFT_STEER_MOTOR_REVERSED,
-        SwerveConstants.BACK_LEFT_STEER_ABSOLUTE_ENCODER_ID, 
-        SwerveConstants.BACK_LEFT_STEER_ABSOLUTE_ENCODER_OFFSET, 
-        SwerveConstants.BACK_LEFT_STEER_ABSOLUTE_ENCODER_REVERSED,
+        "Swerve/BackLeft",
+        createSwerveModuleIO(
+            "Swerve/BackLeft",
+            SwerveConstants.BACK_LEFT_DRIVE_MOTOR_ID, 
+            SwerveConstants.BACK_LEFT_STEER_MOTOR_ID, 
+            SwerveConstants.BACK_LEFT_DRIVE_MOTOR_REVERSED, 
+            SwerveConstants.BACK_LEFT_STEER_MOTOR_REVERSED,
+            SwerveConstants.BACK_LEFT_STEER_ABSOLUTE_ENCODER_ID, 
+            SwerveConstants.BACK_LEFT_STEER_ABSOLUTE_ENCODER_OFFSET, 
+            SwerveConstants.BACK_LEFT_STEER_ABSOLUTE_ENCODER_REVERSED,
+            SwerveConstants.BACK_LEFT_DRIVE_MOTOR_KS, 
+            SwerveConstants.BACK_LEFT_DRIVE_MOTOR_KV),
         new SimpleMotorFeedforward(
             SwerveConstants.BACK_LEFT_DRIVE_MOTOR_KS, 
             SwerveConstants.BACK_LEFT_DRIVE_MOTOR_KV),
@@ -105,25 +146,27 @@ public final class Swerve extends SubsystemBase {
             SwerveConstants.BACK_LEFT_DRIVE_MOTOR_KP, 
             SwerveConstants.BACK_LEFT_DRIVE_MOTOR_KI, 
             SwerveConstants.BACK_LEFT_DRIVE_MOTOR_KD),
-        new ProfiledPIDController(
+        new PIDController(
             SwerveConstants.BACK_LEFT_STEER_MOTOR_KP, 
             SwerveConstants.BACK_LEFT_STEER_MOTOR_KI, 
-            SwerveConstants.BACK_LEFT_STEER_MOTOR_KD, 
-            new Constraints(
-                SwerveModuleConstants.STEER_MOTOR_MAX_VELOCITY, 
-                SwerveModuleConstants.STEER_MOTOR_MAX_ACCELERATION)));
+            SwerveConstants.BACK_LEFT_STEER_MOTOR_KD));
 
     /**
      * The back right swerve module.
      */
     private final SwerveModule backRightSwerveModule = new SwerveModule(
-        SwerveConstants.BACK_RIGHT_DRIVE_MOTOR_ID, 
-        SwerveConstants.BACK_RIGHT_STEER_MOTOR_ID, 
-        SwerveConstants.BACK_RIGHT_DRIVE_MOTOR_REVERSED, 
-        SwerveConstants.BACK_RIGHT_STEER_MOTOR_REVERSED,
-        SwerveConstants.BACK_RIGHT_STEER_ABSOLUTE_ENCODER_ID, 
-        SwerveConstants.BACK_RIGHT_STEER_ABSOLUTE_ENCODER_OFFSET, 
-        SwerveConstants.BACK_RIGHT_STEER_ABSOLUTE_ENCODER_REVERSED,
+        "Swerve/BackRight",
+        createSwerveModuleIO(
+            "Swerve/BackRight",
+            SwerveConstants.BACK_RIGHT_DRIVE_MOTOR_ID, 
+            SwerveConstants.BACK_RIGHT_STEER_MOTOR_ID, 
+            SwerveConstants.BACK_RIGHT_DRIVE_MOTOR_REVERSED, 
+            SwerveConstants.BACK_RIGHT_STEER_MOTOR_REVERSED,
+            SwerveConstants.BACK_RIGHT_STEER_ABSOLUTE_ENCODER_ID, 
+            SwerveConstants.BACK_RIGHT_STEER_ABSOLUTE_ENCODER_OFFSET, 
+            SwerveConstants.BACK_RIGHT_STEER_ABSOLUTE_ENCODER_REVERSED,
+            SwerveConstants.BACK_RIGHT_DRIVE_MOTOR_KS, 
+            SwerveConstants.BACK_RIGHT_DRIVE_MOTOR_KV),
         new SimpleMotorFeedforward(
             SwerveConstants.BACK_RIGHT_DRIVE_MOTOR_KS, 
             SwerveConstants.BACK_RIGHT_DRIVE_MOTOR_KV),
@@ -131,13 +174,10 @@ public final class Swerve extends SubsystemBase {
             SwerveConstants.BACK_RIGHT_DRIVE_MOTOR_KP, 
             SwerveConstants.BACK_RIGHT_DRIVE_MOTOR_KI, 
             SwerveConstants.BACK_RIGHT_DRIVE_MOTOR_KD),
-        new ProfiledPIDController(
+        new PIDController(
             SwerveConstants.BACK_RIGHT_STEER_MOTOR_KP, 
             SwerveConstants.BACK_RIGHT_STEER_MOTOR_KI, 
-            SwerveConstants.BACK_RIGHT_STEER_MOTOR_KD, 
-            new Constraints(
-                SwerveModuleConstants.STEER_MOTOR_MAX_VELOCITY, 
-                SwerveModuleConstants.STEER_MOTOR_MAX_ACCELERATION)));
+            SwerveConstants.BACK_RIGHT_STEER_MOTOR_KD));
 
     /**
      * The array that contains the swerve modules.
@@ -150,6 +190,61 @@ public final class Swerve extends SubsystemBase {
         backLeftSwerveModule,
         backRightSwerveModule};
     
+    /**
+     * The status signals of all of the swerve modules, which
+     * are refreshed together once per loop.
+     */
+    private final BaseStatusSignal[] swerveModuleStatusSignals = 
+        getSwerveModuleStatusSignals();
+
+    /**
+     * The allocation-free swerve drive kinematics solver,
+     * which is reused by every call to drive the swerve
+     * drive subsystem.
+     */
+    private final SwerveKinematicsSolver kinematicsSolver = 
+        new SwerveKinematicsSolver(SwerveConstants.MODULE_LOCATIONS);
+
+    /**
+     * The swerve module speeds that the current swerve module
+     * velocities are copied into for forward kinematics.
+     */
+    private final double[] swerveModuleSpeeds = new double[swerveModules.length];
+
+    /**
+     * The swerve module angles that the current swerve module
+     * angles are copied into for forward kinematics.
+     */
+    private final double[] swerveModuleAngles = new double[swerveModules.length];
+
+    /**
+     * The chassis speeds that are filled in and
+     * returned by {@link #getChassisSpeeds()}.
+     */
+    private final ChassisSpeeds chassisSpeeds = new ChassisSpeeds();
+
+    /**
+     * The swerve module states that are filled in and
+     * returned by {@link #getSwerveModuleStates()}.
+     */
+    private final SwerveModuleState[] swerveModuleStates = 
+        new SwerveModuleState[]{
+            new SwerveModuleState(),
+            new SwerveModuleState(),
+            new SwerveModuleState(),
+            new SwerveModuleState()};
+
+    /**
+     * The swerve module positions that are filled in and
+     * returned by {@link #getSwerveModulePositions()}.
+     */
+    private final SwerveModulePosition[] swerveModulePositions = 
+        new SwerveModulePosition[]{
+            new SwerveModulePosition(),
+            new SwerveModulePosition(),
+            new SwerveModulePosition(),
+            new SwerveModulePosition()};
+
     /**
      * Whether or not the swerve drive subsystem
      * is in slow mode.
@@ -163,9 +258,21 @@ public final class Swerve extends SubsystemBase {
     private boolean isRobotRelative = false;
 
     /**
-     * The robot's gyroscope.
+     * Whether or not the robot is on the red alliance, which is read
+     * from driver station once per loop so that driving does not
+     * allocate a new optional alliance every time it is called.
+     */
+    private boolean isRedAlliance = false;
+
+    /**
+     * The robot's gyroscope IO layer.
      */
-    private final AHRS gyro = new AHRS(SPI.Port.kMXP);
+    private final GyroIO gyroIO = createGyroIO();
+
+    /**
+     * The robot's gyroscope inputs from the current loop.
+     */
+    private final GyroIOInputs gyroInputs = new GyroIOInputs();
 
     /**
      * The swerve drive position estimator.
@@ -176,6 +283,58 @@ public final class Swerve extends SubsystemBase {
         getSwerveModulePositions(),
         new Pose2d());
 
+    /**
+     * The swerve drive odometry, which is updated with the same
+     * odometry samples as the swerve drive position estimator,
+     * but never with vision measurements.
+     */
+    private final SwerveDriveOdometry odometry = new SwerveDriveOdometry(
+        SwerveConstants.SWERVE_DRIVE_KINEMATICS, 
+        getGyroAngle(), 
+        getSwerveModulePositions(),
+        new Pose2d());
+
+    /**
+     * The swerve drive odometry IO layer, which is the odometry
+     * thread that samples the swerve modules and gyroscope at
+     * the odometry frequency, unless a log is being replayed.
+     */
+    private final OdometryIO odometryIO = createOdometryIO();
+
+    /**
+     * The odometry samples taken since the last loop.
+     */
+    private final OdometryIOInputs odometryInputs = 
+        new OdometryIOInputs(swerveModules.length);
+
+    /**
+     * The swerve module positions that each odometry sample
+     * is copied into before updating the swerve drive
+     * position estimator.
+     */
+    private final SwerveModulePosition[] odometryModulePositions = 
+        new SwerveModulePosition[]{
+            new SwerveModulePosition(),
+            new SwerveModulePosition(),
+            new SwerveModulePosition(),
+            new SwerveModulePosition()};
+
+    /**
+     * The gyroscope angle of the last odometry sample, which
+     * is reused for the next sample if the angle has not changed.
+     */
+    private Rotation2d odometryGyroAngle = new Rotation2d();
+
+    /**
+     * The history of the robot poses from the swerve drive odometry,
+     * by the timestamp of the odometry sample that each was found
+     * from. The history is kept from odometry alone, as the poses
+     * in it cannot be moved when a vision measurement corrects the
+     * swerve drive position estimator.
+     */
+    private final TimeInterpolatableBuffer<Pose2d> poseHistory =
+        TimeInterpolatableBuffer.createBuffer(SwerveConstants.POSE_HISTORY_DURATION);
+
     /**
      * The swerve drive holonomic drive controller.
      */
@@ -218,6 +377,97 @@ public final class Swerve extends SubsystemBase {
             .enableContinuousInput(
                 0.0, 
                 2.0 * Math.PI);
+
+        // Read the initial gyroscope inputs.
+        gyroIO.updateInputs(gyroInputs);
+
+        // Start sampling the swerve modules and gyroscope.
+        odometryIO.start();
+    }
+
+    /**
+     * Creates the IO layer of a swerve module for the current IO mode.
+     * 
+     * @param name The name that the swerve module inputs are recorded under.
+     * @param driveMotorID The swerve module drive motor ID.
+     * @param steerMotorID The swerve module steer motor ID.
+     * @param driveMotorReversed Whether or not the swerve module
+     * drive motor is reversed.
+     * @param steerMotorReversed Whether or not the swerve module
+     * steer motor is reversed.
+     * @param steerEncoderID The swerve module steer encoder ID.
+     * @param steerEncoderOffset The swerve module steer encoder
+     * offset.
+     * @param steerEncoderReversed Whether or not the swerve module
+     * steer encoder is reversed.
+     * @param driveMotorKS The swerve module drive motor static
+     * friction voltage, which is used by the simulation.
+     * @param driveMotorKV The swerve module drive motor velocity
+     * gain, which is used by the simulation.
+     * 
+     * @return The swerve module IO layer.
+     */
+    private static SwerveModuleIO createSwerveModuleIO(
+            String name,
+            int driveMotorID, 
+            int steerMotorID, 
+            boolean driveMotorReversed, 
+            boolean steerMotorReversed, 
+            int steerEncoderID, 
+            double steerEncoderOffset, 
+            boolean steerEncoderReversed,
+            double driveMotorKS,
+            double driveMotorKV) {
+        switch (IOConstants.MODE) {
+            case REAL:
+                return new SwerveModuleIOSparkMax(
+                    driveMotorID, 
+                    steerMotorID, 
+                    driveMotorReversed, 
+                    steerMotorReversed, 
+                    steerEncoderID, 
+                    steerEncoderOffset, 
+                    steerEncoderReversed);
+            case SIM:
+                return new SwerveModuleIOSim(driveMotorKS, driveMotorKV);
+            default:
+                return new SwerveModuleIOReplay(name);
+        }
+    }
+
+    /**
+     * Creates the robot's gyroscope IO layer for the current IO mode.
+     * 
+     * @return The robot's gyroscope IO layer.
+     */
+    private GyroIO createGyroIO() {
+        switch (IOConstants.MODE) {
+            case REAL:
+                return new GyroIONavX();
+            case SIM:
+                /*
+                 * Simulate the gyroscope with the rotational velocity
+                 * of the swerve module states, which have already been
+                 * read this loop when the gyroscope inputs are updated.
+                 */
+                return new GyroIOSim(() -> getChassisSpeeds().omegaRadiansPerSecond);
+            default:
+                return new GyroIOReplay(GYRO_INPUTS_NAME);
+        }
+    }
+
+    /**
+     * Creates the swerve drive odometry IO layer for the current IO mode.
+     * 
+     * @return The swerve drive odometry IO layer.
+     */
+    private OdometryIO createOdometryIO() {
+        switch (IOConstants.MODE) {
+            case REPLAY:
+                return new OdometryIOReplay(ODOMETRY_INPUTS_NAME);
+            default:
+                return new OdometryIOThread(swerveModules, gyroIO::getOdometryYaw);
+        }
     }
 
     /**
@@ -241,29 +491,79 @@ public final class Swerve extends SubsystemBase {
         return swerveModules[index];
     }
 
+    /**
+     * Gets the status signals of all of the swerve modules
+     * combined into one array.
+     * 
+     * @return The status signals of all of the swerve modules.
+     */
+    private BaseStatusSignal[] getSwerveModuleStatusSignals() {
+        BaseStatusSignal[][] moduleStatusSignals = 
+            new BaseStatusSignal[swerveModules.length][];
+
+        int length = 0;
+
+        for (int i = 0; i < swerveModules.length; i++) {
+            moduleStatusSignals[i] = swerveModules[i].getStatusSignals();
+            length += moduleStatusSignals[i].length;
+        }
+
+        BaseStatusSignal[] statusSignals = new BaseStatusSignal[length];
+
+        int index = 0;
+
+        for (BaseStatusSignal[] signals : moduleStatusSignals) {
+            System.arraycopy(signals, 0, statusSignals, index, signals.length);
+            index += signals.length;
+        }
+
+        return statusSignals;
+    }
+
     /**
      * Gets the current chassis speeds of the swerve drive subsystem.
+     * <br></br>
+     * The returned chassis speeds are reused by every call, so they
+     * must not be stored or modified by the caller.
      * 
      * @return The current chassis speeds of the swerve drive subsystem.
      */
     public ChassisSpeeds getChassisSpeeds() {
-        return SwerveConstants.SWERVE_DRIVE_KINEMATICS
-            .toChassisSpeeds(getSwerveModuleStates());
+        for (int i = 0; i < swerveModules.length; i++) {
+            swerveModuleSpeeds[i] = swerveModules[i].getDriveMotorLinearVelocity();
+            swerveModuleAngles[i] = swerveModules[i].getSteerEncoderAngle();
+        }
+
+        kinematicsSolver.toChassisSpeeds(swerveModuleSpeeds, swerveModuleAngles);
+
+        chassisSpeeds.vxMetersPerSecond = kinematicsSolver.getChassisXVelocity();
+        chassisSpeeds.vyMetersPerSecond = kinematicsSolver.getChassisYVelocity();
+        chassisSpeeds.omegaRadiansPerSecond = kinematicsSolver.getChassisRotationalVelocity();
+
+        return chassisSpeeds;
     }
 
     /**
      * Gets the current swerve module states of the
      * swerve drive subsystem swerve modules.
+     * <br></br>
+     * The returned array is reused by every call, so it
+     * must not be stored or modified by the caller. A new
+     * rotation is allocated for each swerve module whose
+     * angle has changed since the last call, so code that
+     * runs every loop should read the swerve module speeds
+     * and angles from the swerve modules instead.
      * 
      * @return The current swerve module states of the
      * swerve drive subsystem swerve modules.
      */
     public SwerveModuleState[] getSwerveModuleStates() {
-        SwerveModuleState[] swerveModuleStates = 
-            new SwerveModuleState[swerveModules.length];
-
         for (int i = 0; i < swerveModules.length; i++) {
-            swerveModuleStates[i] = swerveModules[i].getSwerveModuleState();
+            swerveModuleStates[i].speedMetersPerSecond = 
+                swerveModules[i].getDriveMotorLinearVelocity();
+            swerveModuleStates[i].angle = toRotation2d(
+                swerveModuleStates[i].angle, 
+                swerveModules[i].getSteerEncoderAngle());
         }
 
         return swerveModuleStates;
@@ -272,21 +572,48 @@ public final class Swerve extends SubsystemBase {
     /**
      * Gets the current swerve module positions of the 
      * swerve drive subsystem swerve modules.
+     * <br></br>
+     * The returned array is reused by every call, so it
+     * must not be stored or modified by the caller. A new
+     * rotation is allocated for each swerve module whose
+     * angle has changed since the last call, so code that
+     * runs every loop should read the swerve module positions
+     * and angles from the swerve modules instead.
      * 
      * @return The current swerve module positions of the 
      * swerve drive subsystem swerve modules.
      */
     public SwerveModulePosition[] getSwerveModulePositions() {
-        SwerveModulePosition[] swerveModulePositions = 
-            new SwerveModulePosition[swerveModules.length];
-
         for (int i = 0; i < swerveModules.length; i++) {
-            swerveModulePositions[i] = swerveModules[i].getSwerveModulePosition();
+            swerveModulePositions[i].distanceMeters = 
+                swerveModules[i].getDriveMotorLinearPosition();
+            swerveModulePositions[i].angle = toRotation2d(
+                swerveModulePositions[i].angle, 
+                swerveModules[i].getSteerEncoderAngle());
         }
 
         return swerveModulePositions;
     }
 
+    /**
+     * Gets a rotation with the given angle, reusing the given
+     * rotation if it already has the angle. Rotations cannot be
+     * modified, so this only saves the allocation while an angle
+     * is holding still, such as while the robot is disabled, and
+     * a new rotation is still allocated whenever the angle changes.
+     * 
+     * @param rotation The rotation to reuse.
+     * @param angle The angle, in radians.
+     * 
+     * @return The given rotation if it has the given angle, or
+     * a new rotation with the given angle if it does not.
+     */
+    private static Rotation2d toRotation2d(Rotation2d rotation, double angle) {
+        return rotation.getRadians() == angle 
+            ? rotation 
+            : Rotation2d.fromRadians(angle);
+    }
+
     /**
      * Gets the swerve drive holonomic drive controller.
      * 
@@ -300,7 +627,13 @@ public final class Swerve extends SubsystemBase {
      * Resets the robot's gyroscope yaw to zero.
      */
     public void resetGyro() {
-        gyro.reset();
+        gyroIO.reset();
+
+        /*
+         * Zero the gyroscope inputs for the rest of this loop
+         * so that nothing reads the yaw from before the reset.
+         */
+        gyroInputs.yaw = 0.0;
     }
 
     /**
@@ -311,11 +644,25 @@ public final class Swerve extends SubsystemBase {
      * @param initialPose The initial position of the robot.
      */
     public void resetPoseEstimator(Pose2d initialPose) {
+        /*
+         * Discard any odometry samples taken before the reset
+         * so that they are not applied on top of the new pose.
+         */
+        odometryIO.clear();
+
+        // Discard the pose history from before the reset.
+        poseHistory.clear();
+
         poseEstimator.resetPosition(
             getGyroAngle(), 
             getSwerveModulePositions(), 
             initialPose
         );
+
+        odometry.resetPosition(
+            getGyroAngle(), 
+            getSwerveModulePositions(), 
+            initialPose);
     }
 
     /**
@@ -324,7 +671,7 @@ public final class Swerve extends SubsystemBase {
      * @return The robot's accumulated yaw angle.
      */
     public Rotation2d getGyroAngle() {
-        return Rotation2d.fromDegrees(-gyro.getAngle());
+        return Rotation2d.fromRadians(gyroInputs.yaw);
     }
 
     /**
@@ -338,6 +685,38 @@ public final class Swerve extends SubsystemBase {
         return poseEstimator.getEstimatedPosition();
     }
 
+    /**
+     * Returns the robot position at the given time, which is the
+     * swerve drive odometry pose at the given time, interpolated
+     * between the odometry samples around it, moved by the current
+     * correction of the swerve drive position estimator to the
+     * swerve drive odometry. This way, a pose looked up just after
+     * a vision measurement is on the same field frame as the
+     * estimated robot position.
+     * 
+     * @param timestamp The time, in seconds, on the same timebase 
+     * as {@link edu.wpi.first.wpilibj.Timer#getFPGATimestamp()}.
+     * 
+     * @return The robot position at the given time, or an empty 
+     * optional if there is no pose history.
+     */
+    public Optional<Pose2d> getRobotPoseAt(double timestamp) {
+        Optional<Pose2d> odometryPose = poseHistory.getSample(timestamp);
+
+        if (odometryPose.isEmpty()) {
+            return odometryPose;
+        }
+
+        /*
+         * Move the odometry pose by the transform from the current
+         * odometry pose to the current estimated robot position,
+         * which is the correction that the vision measurements
+         * have made to the swerve drive odometry.
+         */
+        return Optional.of(
+            getRobotPose().plus(odometryPose.get().minus(odometry.getPoseMeters())));
+    }
+
     /**
      * Returns the Pose Estimator
      * 
@@ -368,19 +747,27 @@ public final class Swerve extends SubsystemBase {
      * @param rotation The rotational velocity factor.
      */
     public void drive(double x, double y, double rotation) {
-        // Get the current alliance from driver station.
-        Optional<Alliance> driverStationAlliance = DriverStation.getAlliance();
-
-        /*
-         * If the current alliance from driver station is
-         * not present, then set the alliance to blue
-         * alliance, and if it is, set the alliance
-         * to the current alliance from driver station.
-         */
-        Alliance alliance = !driverStationAlliance.isPresent() 
-            ? Alliance.Blue
-            : driverStationAlliance.get(); 
+        driveWithRotationalVelocity(
+            x, 
+            y, 
+            rotation * SwerveConstants.MAX_ROTATIONAL_VELOCITY);
+    }
 
+    /**
+     * This method is used for driving the swerve drive subsystem
+     * during the teleoperated period of the match while something
+     * other than the driver controls the robot heading.
+     * <br></br>
+     * It takes in x and y velocity factors, which are handled
+     * the same as in {@link #drive(double, double, double)}, and
+     * a rotational velocity, and sets the swerve drive subsystem
+     * to drive at the resulting velocities.
+     * 
+     * @param x The x velocity factor.
+     * @param y The y velocity factor.
+     * @param rotationalVelocity The rotational velocity, in rad/s.
+     */
+    public void driveWithRotationalVelocity(double x, double y, double rotationalVelocity) {
         /*
          * If the swerve drive subsystem is in slow mode,
          * then set the velocity to the slow mode velocity,
@@ -394,42 +781,88 @@ public final class Swerve extends SubsystemBase {
          * If the alliance is the red alliance, then reverse
          * the velocity, and if it is not, keep it the same.
          */
-        velocity *= (alliance == Alliance.Red && !isRobotRelative) 
+        velocity *= (isRedAlliance && !isRobotRelative) 
             ? -1.0 
             : 1.0;
 
         /*
-         * Get the velocities as the x, y, and rotation velocity factors
-         * multiplied by their respective velocities.
+         * Get the velocities as the x and y velocity factors
+         * multiplied by the velocity.
          */
         double xVelocity = x * velocity;
         double yVelocity = y * velocity;
-        double rotationalVelocity = rotation * SwerveConstants.MAX_ROTATIONAL_VELOCITY;
 
         /*
-         * If the swerve drive subsystem is in robot relative mode,
-         * then get the robot relative chassis speeds from the velocities
-         * and current robot angle, and if it is not, then get the field 
-         * relative chassis speeds from the velocities and 
-         * current robot angle.
+         * If the swerve drive subsystem is not in robot relative
+         * mode, then rotate the field relative velocities by the
+         * negative of the current robot angle to get the robot
+         * relative velocities, which is the same conversion as
+         * ChassisSpeeds.fromFieldRelativeSpeeds.
          */
-        ChassisSpeeds chassisSpeeds = isRobotRelative
-            ? new ChassisSpeeds(
-                xVelocity, 
-                yVelocity, 
-                rotationalVelocity)
-            : ChassisSpeeds.fromFieldRelativeSpeeds(
-                xVelocity, 
-                yVelocity, 
-                rotationalVelocity, 
-                getRobotPose().getRotation());
+        if (!isRobotRelative) {
+            Rotation2d robotAngle = getRobotPose().getRotation();
 
-        // Convert the chassis speeds to swerve module states.
-        SwerveModuleState[] swerveModuleStates = 
-            SwerveConstants.SWERVE_DRIVE_KINEMATICS.toSwerveModuleStates(chassisSpeeds);
+            double cos = robotAngle.getCos();
+            double sin = robotAngle.getSin();
+
+            double fieldXVelocity = xVelocity;
+            double fieldYVelocity = yVelocity;
+
+            xVelocity = fieldXVelocity * cos + fieldYVelocity * sin;
+            yVelocity = -fieldXVelocity * sin + fieldYVelocity * cos;
+        }
+
+        // Set the swerve drive subsystem to drive at the robot relative velocities.
+        driveRobotRelative(xVelocity, yVelocity, rotationalVelocity);
+    }
+
+    /**
+     * Sets the swerve drive subsystem to drive at the given
+     * robot relative velocities. This does not allocate,
+     * so it is safe to call every loop.
+     * 
+     * @param xVelocity The robot relative x velocity, in m/s.
+     * @param yVelocity The robot relative y velocity, in m/s.
+     * @param rotationalVelocity The rotational velocity, in rad/s.
+     */
+    public void driveRobotRelative(
+            double xVelocity, 
+            double yVelocity, 
+            double rotationalVelocity) {
+        // Solve for the swerve module speeds and angles.
+        kinematicsSolver.toSwerveModuleStates(xVelocity, yVelocity, rotationalVelocity);
 
-        // Set the swerve drive subsystem to drive at the swerve module states.
-        setSwerveModuleStates(swerveModuleStates);
+        /*
+         * Loop over the swerve modules and set the corresponding
+         * swerve module speeds and angles.
+         */
+        for (int i = 0; i < swerveModules.length; i++) {
+            swerveModules[i].setState(
+                kinematicsSolver.getModuleSpeed(i), 
+                kinematicsSolver.getModuleAngle(i));
+        }
+    }
+
+    /**
+     * Sets the swerve drive subsystem to drive at the given
+     * robot relative chassis speeds.
+     * 
+     * @param chassisSpeeds The robot relative chassis speeds for
+     * the swerve drive subsystem to drive at.
+     */
+    public void setChassisSpeeds(ChassisSpeeds chassisSpeeds) {
+        driveRobotRelative(
+            chassisSpeeds.vxMetersPerSecond, 
+            chassisSpeeds.vyMetersPerSecond, 
+            chassisSpeeds.omegaRadiansPerSecond);
+    }
+
+    /**
+     * Stops the swerve drive subsystem, keeping the swerve
+     * modules at their current target angles.
+     */
+    public void stop() {
+        driveRobotRelative(0.0, 0.0, 0.0);
     }
 
     /**
@@ -575,16 +1008,68 @@ public final class Swerve extends SubsystemBase {
     }
 
     /**
-     * The periodic method for the swerve drive subsystem. This method
+     * The timed periodic method for the swerve drive subsystem. This method
      * is run by the command scheduler every 20 ms.
      */
     @Override
-    public void periodic() {
+    protected void timedPeriodic() {
         /*
-         * Update the swerve drive position estimator 
-         * with the current robot angle and the current
-         * swerve module positions.
+         * Read the current alliance from driver station, which
+         * is the blue alliance if it is not present, for the
+         * drive methods to use for the rest of this loop.
          */
-        poseEstimator.update(getGyroAngle(), getSwerveModulePositions());
+        isRedAlliance = DriverStation.getAlliance().orElse(Alliance.Blue) == Alliance.Red;
+
+        /*
+         * Refresh the status signals of all of the swerve modules
+         * in one batch and then update each swerve module inputs,
+         * which are read by everything else this loop.
+         */
+        if (swerveModuleStatusSignals.length > 0) {
+            BaseStatusSignal.refreshAll(swerveModuleStatusSignals);
+        }
+
+        InputRecorder inputRecorder = InputRecorder.getInstance();
+
+        for (SwerveModule swerveModule : swerveModules) {
+            swerveModule.updateInputs();
+
+            inputRecorder.recordInputs(swerveModule.getName(), swerveModule.getInputs());
+        }
+
+        gyroIO.updateInputs(gyroInputs);
+
+        inputRecorder.recordInputs(GYRO_INPUTS_NAME, gyroInputs);
+
+        // Get the odometry samples taken since the last loop.
+        odometryIO.updateInputs(odometryInputs);
+
+        inputRecorder.recordInputs(ODOMETRY_INPUTS_NAME, odometryInputs);
+
+        /*
+         * Update the swerve drive position estimator and the
+         * swerve drive odometry with each odometry sample,
+         * oldest first, at the time that the sample was taken.
+         */
+        for (int i = 0; i < odometryInputs.sampleCount; i++) {
+            for (int j = 0; j < swerveModules.length; j++) {
+                odometryModulePositions[j].distanceMeters = 
+                    odometryInputs.drivePositions[i][j];
+                odometryModulePositions[j].angle = toRotation2d(
+                    odometryModulePositions[j].angle, 
+                    odometryInputs.steerAngles[i][j]);
+            }
+
+            odometryGyroAngle = toRotation2d(odometryGyroAngle, odometryInputs.gyroAngles[i]);
+
+            poseEstimator.updateWithTime(
+                odometryInputs.timestamps[i], 
+                odometryGyroAngle, 
+                odometryModulePositions);
+
+            Pose2d odometryPose = odometry.update(odometryGyroAngle, odometryModulePositions);
+
+            poseHistory.addSample(odometryInputs.timestamps[i], odometryPose);
+        }
     }
 }
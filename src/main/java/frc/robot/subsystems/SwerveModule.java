@@ -1,96 +1,81 @@
 package frc.robot.subsystems;
 
-import com.ctre.phoenix6.configs.CANcoderConfiguration;
-import com.ctre.phoenix6.configs.MagnetSensorConfigs;
-import com.ctre.phoenix6.hardware.CANcoder;
-import com.ctre.phoenix6.signals.AbsoluteSensorRangeValue;
-import com.ctre.phoenix6.signals.SensorDirectionValue;
-import com.revrobotics.CANSparkMax;
-import com.revrobotics.RelativeEncoder;
-import com.revrobotics.CANSparkLowLevel.MotorType;
+import com.ctre.phoenix6.BaseStatusSignal;
 
 import edu.wpi.first.math.controller.PIDController;
-import edu.wpi.first.math.controller.ProfiledPIDController;
 import edu.wpi.first.math.controller.SimpleMotorFeedforward;
-import edu.wpi.first.math.geometry.Rotation2d;
-import edu.wpi.first.math.kinematics.SwerveModulePosition;
 import edu.wpi.first.math.kinematics.SwerveModuleState;
 import edu.wpi.first.units.Measure;
 import edu.wpi.first.units.Voltage;
 import frc.robot.Constants.SwerveModuleConstants;
+import frc.robot.helpers.SwerveKinematicsSolver;
+import frc.robot.io.SwerveModuleIO;
+import frc.robot.io.SwerveModuleIO.SwerveModuleIOInputs;
 
 /**
  * The class for a swerve module.
+ * <br></br>
+ * The swerve module reads its motors and steer encoder through a
+ * {@link SwerveModuleIO}, which is the real hardware, a simulation,
+ * or a log being replayed. The inputs are read once per loop, and
+ * everything else reads the swerve module from the inputs.
  */
 public final class SwerveModule {
     /**
-     * The swerve module drive motor.
+     * The name that the swerve module inputs are recorded under.
      */
-    private CANSparkMax driveMotor;
+    private final String name;
 
     /**
-     * The swerve module steer motor.
+     * The swerve module IO layer.
      */
-    private CANSparkMax steerMotor;
+    private final SwerveModuleIO io;
 
     /**
-     * The swerve module drive encoder.
+     * The swerve module inputs from the current loop.
      */
-    private RelativeEncoder driveEncoder;
+    private final SwerveModuleIOInputs inputs = new SwerveModuleIOInputs();
 
     /**
-     * The swerve module steer encoder.
+     * The swerve module drive feedforward.
      */
-    private CANcoder steerEncoder;
+    private SimpleMotorFeedforward driveFeedforward;
 
     /**
-     * The swerve module steer encoder offset.
+     * The swerve module drive PID controller.
      */
-    private double steerEncoderOffset;
+    private PIDController drivePIDController;
 
     /**
-     * Whether or not the swerve module
-     * steer encoder is reversed.
+     * The swerve module steer PID controller, which has no motion
+     * profile, so that it keeps no profile states that would be
+     * allocated every time it is calculated.
      */
-    private boolean steerEncoderReversed;
+    private PIDController steerPIDController;
 
     /**
-     * The swerve module drive feedforward.
+     * The speed that the swerve module was last set to, in m/s,
+     * after the swerve module state was optimized.
      */
-    private SimpleMotorFeedforward driveFeedforward;
+    private double setpointSpeed = 0.0;
 
     /**
-     * The swerve module drive PID controller.
+     * The angle that the swerve module was last set to, in radians,
+     * after the swerve module state was optimized.
      */
-    private PIDController drivePIDController;
-
-    /**
-     * The swerve module steer PID controller.
-     */
-    private ProfiledPIDController steerPIDController;
+    private double setpointAngle = 0.0;
 
     /**
      * The constructor for the {@link SwerveModule} class.
-     * Constructs a swerve module given swerve module drive 
-     * and steer motor IDs, whether or not the swerve module 
-     * drive and steer motors are reversed, the swerve module 
-     * steer encoder ID, the swerve module steer encoder
-     * offset, whether or not the swerve module steer 
-     * encoder is reversed, the swerve module drive
-     * feedfoward, the swerve module drive PID controller,
-     * and the swerve module steer PID controller.
+     * Constructs a swerve module given the name that its
+     * inputs are recorded under, the swerve module IO layer,
+     * the swerve module drive feedfoward, the swerve module
+     * drive PID controller, and the swerve module steer
+     * PID controller.
      * 
-     * @param driveMotorID The swerve module drive motor ID.
-     * @param steerMotorID The swerve module steer motor ID.
-     * @param driveMotorReversed Whether or not the swerve module
-     * drive motor is reversed.
-     * @param steerMotorReversed Whether or not the swerve module
-     * steer motor is reversed.
-     * @param steerEncoderID The swerve module steer encoder ID.
-     * @param steerEncoderOffset The swerve module steer encoder
-     * offset.
-     * @param steerEncoderReversed Whether or not the swerve module
-     * steer encoder is reversed.
+     * @param name The name that the swerve module inputs
+     * are recorded under.
+     * @param io The swerve module IO layer.
      * @param driveFeedforward The swerve module drive feedforward.
      * @param drivePIDController The swerve module drive PID
      * controller.
@@ -98,72 +83,13 @@ public final class SwerveModule {
      * controller.
      */
     public SwerveModule(
-            int driveMotorID, 
-            int steerMotorID, 
-            boolean driveMotorReversed, 
-            boolean steerMotorReversed, 
-            int steerEncoderID, 
-            double steerEncoderOffset, 
-            boolean steerEncoderReversed,
+            String name,
+            SwerveModuleIO io,
             SimpleMotorFeedforward driveFeedforward,
             PIDController drivePIDController,
-            ProfiledPIDController steerPIDController) {
-        // Create the swerve module drive and steer motors.
-        driveMotor = new CANSparkMax(driveMotorID, MotorType.kBrushless);
-        steerMotor = new CANSparkMax(steerMotorID, MotorType.kBrushless);
-        
-        // Get the swerve module drive encoder.
-        driveEncoder = driveMotor.getEncoder();
-
-        /*
-         * Set the inversion status of the swerve module
-         * drive and steer motors.
-         */
-        driveMotor.setInverted(driveMotorReversed);
-        steerMotor.setInverted(steerMotorReversed);
-
-        /*
-         * Set the swerve module drive encoder position
-         * conversion factor to convert from rotations
-         * to meters.
-         */
-        driveEncoder.setPositionConversionFactor(
-            SwerveModuleConstants.DRIVE_MOTOR_REVOLUTIONS_TO_METERS);
-
-        /*
-         * Set the swerve module drive encoder velocity
-         * conversion factor to convert from RPM to
-         * meters per second.
-         */
-        driveEncoder.setVelocityConversionFactor(
-            SwerveModuleConstants.DRIVE_MOTOR_RPM_TO_METERS_PER_SECOND);
-        
-        // Create the swerve module steer encoder.
-        steerEncoder = new CANcoder(steerEncoderID, "rio");
-
-        /*
-         * Set the swerve module steer encoder to
-         * have a range of [0, 1) for rotations
-         * and for the positive direction to
-         * be counterclockwise.
-         */
-        steerEncoder.getConfigurator().apply(
-            new CANcoderConfiguration().withMagnetSensor(
-                new MagnetSensorConfigs().withAbsoluteSensorRange(
-                    AbsoluteSensorRangeValue.Unsigned_0To1)
-                .withSensorDirection(
-                    SensorDirectionValue.CounterClockwise_Positive)
-            )
-        );
-
-        // Set the swerve module steer encoder offset.
-        this.steerEncoderOffset = steerEncoderOffset;
-
-        /*
-         * Set whether or not the swerve module steer encoder
-         * is reversed.
-         */
-        this.steerEncoderReversed = steerEncoderReversed;
+            PIDController steerPIDController) {
+        this.name = name;
+        this.io = io;
 
         // Set the swerve module drive feedforward.
         this.driveFeedforward = driveFeedforward;
@@ -180,6 +106,55 @@ public final class SwerveModule {
          * 2pi radians being at the same point.
          */
         steerPIDController.enableContinuousInput(0.0, (2.0 * Math.PI));
+
+        // Read the initial inputs.
+        BaseStatusSignal[] statusSignals = getStatusSignals();
+
+        if (statusSignals.length > 0) {
+            BaseStatusSignal.refreshAll(statusSignals);
+        }
+
+        updateInputs();
+    }
+
+    /**
+     * Gets the name that the swerve module inputs are recorded under.
+     * 
+     * @return The name that the swerve module inputs are recorded under.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the swerve module inputs from the current loop.
+     * 
+     * @return The swerve module inputs.
+     */
+    public SwerveModuleIOInputs getInputs() {
+        return inputs;
+    }
+
+    /**
+     * Gets the swerve module status signals that must be
+     * refreshed before each call to {@link #updateInputs()}.
+     * These are refreshed together with the status signals of
+     * the other swerve modules by the swerve drive subsystem.
+     * 
+     * @return The swerve module status signals.
+     */
+    public BaseStatusSignal[] getStatusSignals() {
+        return io.getStatusSignals();
+    }
+
+    /**
+     * Updates the swerve module inputs from the swerve module
+     * IO layer. This is done once per loop so that every reader
+     * of the swerve module sensors during a loop sees the same
+     * sample without reading the CAN bus again.
+     */
+    public void updateInputs() {
+        io.updateInputs(inputs);
     }
 
     /**
@@ -190,7 +165,7 @@ public final class SwerveModule {
      * drive motor.
      */
     public double getDriveMotorVoltage() {
-        return driveMotor.getAppliedOutput() * driveMotor.getBusVoltage();
+        return inputs.driveMotorVoltage;
     }
 
     /**
@@ -201,7 +176,49 @@ public final class SwerveModule {
      * steer motor.
      */
     public double getSteerMotorVoltage() {
-        return steerMotor.getAppliedOutput() * steerMotor.getBusVoltage();
+        return inputs.steerMotorVoltage;
+    }
+
+    /**
+     * Gets the current output current of the swerve module
+     * drive motor.
+     * 
+     * @return The current output current of the swerve module
+     * drive motor, in amps.
+     */
+    public double getDriveMotorCurrent() {
+        return inputs.driveMotorCurrent;
+    }
+
+    /**
+     * Gets the current output current of the swerve module
+     * steer motor.
+     * 
+     * @return The current output current of the swerve module
+     * steer motor, in amps.
+     */
+    public double getSteerMotorCurrent() {
+        return inputs.steerMotorCurrent;
+    }
+
+    /**
+     * Gets the speed that the swerve module was last set to.
+     * 
+     * @return The speed that the swerve module was last set
+     * to, in m/s.
+     */
+    public double getSetpointSpeed() {
+        return setpointSpeed;
+    }
+
+    /**
+     * Gets the angle that the swerve module was last set to.
+     * 
+     * @return The angle that the swerve module was last set
+     * to, in radians.
+     */
+    public double getSetpointAngle() {
+        return setpointAngle;
     }
 
     /**
@@ -212,7 +229,7 @@ public final class SwerveModule {
      * drive encoder.
      */
     public double getDriveMotorLinearPosition() {
-        return driveEncoder.getPosition();
+        return inputs.driveMotorLinearPosition;
     }
 
     /**
@@ -223,7 +240,7 @@ public final class SwerveModule {
      * drive encoder.
      */
     public double getDriveMotorLinearVelocity() {
-        return driveEncoder.getVelocity();
+        return inputs.driveMotorLinearVelocity;
     }
 
     /**
@@ -234,34 +251,31 @@ public final class SwerveModule {
      * steer encoder.
      */
     public double getSteerEncoderAngle() {
-        // Get the angle reading from the swerve module steer encoder in rotations.
-        double angle = steerEncoder.getAbsolutePosition().getValueAsDouble();
-
-        // If the swerve module steer encoder is reversed, then flip the angle.
-        if (steerEncoderReversed) {
-            angle = 1.0 - angle;
-        }
-        
-        // Convert the angle into radians.
-        angle *= (2.0 * Math.PI);
-
-        // Offset the angle by the swerve module steer encoder offset.
-        angle -= steerEncoderOffset;
+        return inputs.steerEncoderAngle;
+    }
 
-        /*
-         * If the angle is less than 0, then add 2π.
-         * 
-         * This is caused by the swerve module steer encoder 
-         * being on a set interval of rotations of [0, 1), which
-         * with an offset causes the interval to start
-         * later and end earlier, causing the need
-         * for adding 2π when negative angles are produced.
-         */
-        if (angle < 0.0) {
-            angle += (2.0 * Math.PI);
-        }
+    /**
+     * Gets the current linear position of the swerve module
+     * drive encoder for the odometry thread. This method
+     * is safe to call from the odometry thread.
+     * 
+     * @return The current linear position of the swerve module
+     * drive encoder.
+     */
+    public double getOdometryDriveMotorLinearPosition() {
+        return io.getOdometryDriveMotorLinearPosition();
+    }
 
-        return angle;
+    /**
+     * Gets the current angle of the swerve module steer encoder
+     * for the odometry thread. This method is safe to call from
+     * the odometry thread.
+     * 
+     * @return The current angle of the swerve module
+     * steer encoder.
+     */
+    public double getOdometrySteerEncoderAngle() {
+        return io.getOdometrySteerEncoderAngle();
     }
 
     /**
@@ -272,19 +286,7 @@ public final class SwerveModule {
      * steer encoder.
      */
     public double getSteerEncoderAngularVelocity() {
-        // Get the angular velocity reading from the swerve module steer encoder.
-        double angularVelocity = steerEncoder.getVelocity().getValueAsDouble();
-
-        /*
-         * If the swerve module steer encoder is reversed, then reverse 
-         * the angular velocity.
-         */
-        angularVelocity *= steerEncoderReversed ? -1.0 : 1.0;
-
-        // Convert the angular velocity into radians.
-        angularVelocity *= (2.0 * Math.PI);
-
-        return angularVelocity;
+        return inputs.steerEncoderAngularVelocity;
     }
 
     /**
@@ -296,18 +298,7 @@ public final class SwerveModule {
      * steer encoder.
      */
     public double getSteerEncoderOffset() {
-        // Get the angle reading from the swerve module steer encoder in rotations.
-        double angle = steerEncoder.getAbsolutePosition().getValueAsDouble();
-
-        // If the swerve module steer encoder is reversed, then flip the angle.
-        if (steerEncoderReversed) {
-            angle = 1.0 - angle;
-        }
-        
-        // Convert the angle into radians.
-        angle *= (2.0 * Math.PI);
-
-        return angle;
+        return inputs.steerEncoderRawAngle;
     }
 
     public PIDController getDrivePIDController() {
@@ -318,54 +309,60 @@ public final class SwerveModule {
      * 
      * @return The swerve module steer PID controller.
      */
-    public ProfiledPIDController getSteerPIDController() {
+    public PIDController getSteerPIDController() {
         return steerPIDController;
     }
 
-    public SwerveModuleState getSwerveModuleState() {
-        return new SwerveModuleState(
-            getDriveMotorLinearVelocity(),
-            new Rotation2d(getSteerEncoderAngle()));
-    }
-
     /**
-     * Gets the current swerve module position.
+     * Sets the swerve module to the given 
+     * swerve module state. This only reads the
+     * speed and the angle of the state, so it
+     * does not allocate.
      * 
-     * @return The current swerve module position.
+     * @param state The swerve module state to set
+     * the swerve module to.
      */
-    public SwerveModulePosition getSwerveModulePosition() {
-        return new SwerveModulePosition(
-            driveEncoder.getPosition(),
-            Rotation2d.fromRadians(getSteerEncoderAngle()));
+    public void setState(SwerveModuleState state) {
+        setState(state.speedMetersPerSecond, state.angle.getRadians());
     }
 
     /**
-     * Sets the swerve module to the given 
-     * swerve module state.
+     * Sets the swerve module to the given speed and angle.
+     * This is the form of {@link #setState(SwerveModuleState)}
+     * that needs no swerve module state, which is used by the
+     * swerve drive subsystem every loop.
      * 
-     * @param state The swerve module state to set
-     * the swerve module to.
+     * @param speed The speed to set the swerve module
+     * to, in m/s.
+     * @param angle The angle to set the swerve module
+     * to, in radians.
      */
-    public void setState(SwerveModuleState state) {
+    public void setState(double speed, double angle) {
         /*
-         * Optimize the swerve module state so that
-         * it will only ever have to turn a maximum
-         * of π/2 radians.
+         * Optimize the swerve module speed and angle so that
+         * it will only ever have to turn a maximum of π/2 radians.
+         * The optimized angle is on the interval [0, 2π), which
+         * matches the swerve module steer encoder angle.
          */
-        state = SwerveModuleState.optimize(
-            state, 
-            Rotation2d.fromRadians(getSteerEncoderAngle()));
+        if (SwerveKinematicsSolver.isOptimizedAngleFlipped(angle, getSteerEncoderAngle())) {
+            speed = -speed;
+        }
+
+        angle = SwerveKinematicsSolver.optimizeModuleAngle(angle, getSteerEncoderAngle());
+
+        setpointSpeed = speed;
+        setpointAngle = angle;
 
         /*
-         * If the swerve module state speed is less than
-         * or equal to the drive motor velocity deadband,
-         * then set the speed to zero, and if not, then
-         * keep the speed as it is.
+         * If the swerve module speed is less than or equal
+         * to the drive motor velocity deadband, then set
+         * the speed to zero, and if not, then keep the 
+         * speed as it is.
          */
-        double speed = Math.abs(state.speedMetersPerSecond) 
+        double deadbandedSpeed = Math.abs(speed) 
                 <= SwerveModuleConstants.DRIVE_MOTOR_VELOCITY_DEADBAND 
             ? 0.0 
-            : state.speedMetersPerSecond;
+            : speed;
         
         /*
          * Set the drive motor voltage. If the speed is zero,
@@ -374,26 +371,18 @@ public final class SwerveModule {
          * feedforward calculation plus the drive PID controller
          * calculation. 
          */
-        driveMotor.setVoltage(
-            state.speedMetersPerSecond == 0.0 
+        setDriveMotorVoltage(
+            speed == 0.0 
                 ? 0.0
-                : driveFeedforward.calculate(speed) 
-                  + drivePIDController.calculate(driveEncoder.getVelocity(), speed));
-
-        /*
-         * If the swerve module state angle is less
-         * than zero, then add 2π to the angle, and
-         * if not, then keep the angle as it is.
-         */
-        double angle = state.angle.getRadians() < 0.0 
-            ? state.angle.getRadians() + (2.0 * Math.PI) 
-            : state.angle.getRadians();
+                : driveFeedforward.calculate(deadbandedSpeed) 
+                  + drivePIDController.calculate(
+                      getDriveMotorLinearVelocity(), deadbandedSpeed));
 
         /*
          * Set the steer motor voltage to the steer PID
          * controller calculation.
          */
-        steerMotor.setVoltage(
+        setSteerMotorVoltage(
             steerPIDController.calculate(getSteerEncoderAngle(), angle));
     }
 
@@ -407,11 +396,14 @@ public final class SwerveModule {
      * to, in radians.
      */
     public void setAngle(double angle) {
+        setpointSpeed = 0.0;
+        setpointAngle = angle;
+
         /*
          * Set the steer motor voltage to the steer PID
          * controller calculation.
          */
-        steerMotor.setVoltage(
+        setSteerMotorVoltage(
             steerPIDController.calculate(getSteerEncoderAngle(), angle));
     }
 
@@ -422,7 +414,17 @@ public final class SwerveModule {
      * drive motor to.
      */
     public void setDriveMotorVoltage(Measure<Voltage> voltage) {
-        driveMotor.setVoltage(voltage.magnitude());
+        setDriveMotorVoltage(voltage.magnitude());
+    }
+
+    /**
+     * Sets the swerve module drive motor to the given voltage.
+     * 
+     * @param voltage The voltage to set the swerve module
+     * drive motor to, in volts.
+     */
+    private void setDriveMotorVoltage(double voltage) {
+        io.setDriveMotorVoltage(voltage);
     }
 
     /**
@@ -432,6 +434,16 @@ public final class SwerveModule {
      * steer motor to.
      */
     public void setSteerMotorVoltage(Measure<Voltage> voltage) {
-        steerMotor.setVoltage(voltage.magnitude());
+        setSteerMotorVoltage(voltage.magnitude());
+    }
+
+    /**
+     * Sets the swerve module steer motor to the given voltage.
+     * 
+     * @param voltage The voltage to set the swerve module
+     * steer motor to, in volts.
+     */
+    private void setSteerMotorVoltage(double voltage) {
+        io.setSteerMotorVoltage(voltage);
     }
 }
@@ -0,0 +1,467 @@
+package frc.robot.subsystems;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.kinematics.SwerveModuleState;
+import edu.wpi.first.util.datalog.DataLog;
+import edu.wpi.first.util.datalog.DoubleArrayLogEntry;
+import edu.wpi.first.util.datalog.DoubleLogEntry;
+import edu.wpi.first.util.datalog.RawLogEntry;
+import edu.wpi.first.util.datalog.StringLogEntry;
+import edu.wpi.first.util.datalog.StructLogEntry;
+import edu.wpi.first.wpilibj.DataLogManager;
+import edu.wpi.first.wpilibj2.command.CommandScheduler;
+import frc.robot.Constants.IOConstants;
+import frc.robot.Constants.ApriltagConstants.VISION_REJECTION_REASON;
+import frc.robot.io.AmpIO.AmpIOInputs;
+import frc.robot.io.ClimbIO.ClimbIOInputs;
+import frc.robot.io.IntakeIO.IntakeIOInputs;
+import frc.robot.io.ShooterIO.ShooterIOInputs;
+
+/**
+ * The class for the telemetry subsystem.
+ * <br></br>
+ * Records the swerve module states and setpoints, the applied motor
+ * voltages and output currents, the estimated robot pose, the vision
+ * measurements, and the command lifecycle events to the data log as
+ * typed entries, which can be extracted with the data log tool. The
+ * robot pose and the swerve module states are struct-serialized, so
+ * they can be viewed as poses and swerve module states directly.
+ * <br></br>
+ * Every entry is created up front, and every value is written from
+ * a preallocated buffer, so recording does not allocate in the loop.
+ * Appending to the data log only copies the value into the log buffer,
+ * which is written to disk by the data log writer thread, so recording
+ * never blocks the loop on disk writes.
+ */
+public final class Telemetry extends TimedSubsystem {
+    /**
+     * The instance of the {@link Telemetry} class.
+     */
+    private static Telemetry telemetry = null;
+
+    /**
+     * The number of swerve modules.
+     */
+    private final int swerveModuleCount =
+        Swerve.getInstance().getSwerveModules().length;
+
+    /**
+     * The log entry for the estimated robot pose.
+     */
+    private final StructLogEntry<Pose2d> robotPoseEntry;
+
+    /**
+     * The log entry for the measured swerve module states.
+     */
+    private final RawLogEntry measuredStatesEntry;
+
+    /**
+     * The log entry for the swerve module state setpoints.
+     */
+    private final RawLogEntry setpointStatesEntry;
+
+    /**
+     * The struct-serialized swerve module states.
+     */
+    private final byte[] swerveModuleStatesBytes =
+        new byte[SwerveModuleState.struct.getSize() * swerveModuleCount];
+
+    /**
+     * The buffer that the swerve module states are
+     * struct-serialized into, which is backed by
+     * {@link #swerveModuleStatesBytes}.
+     */
+    private final ByteBuffer swerveModuleStatesBuffer =
+        ByteBuffer.wrap(swerveModuleStatesBytes).order(ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * The log entry for the swerve module drive motor voltages.
+     */
+    private final DoubleArrayLogEntry driveMotorVoltagesEntry;
+
+    /**
+     * The log entry for the swerve module steer motor voltages.
+     */
+    private final DoubleArrayLogEntry steerMotorVoltagesEntry;
+
+    /**
+     * The log entry for the swerve module drive motor currents.
+     */
+    private final DoubleArrayLogEntry driveMotorCurrentsEntry;
+
+    /**
+     * The log entry for the swerve module steer motor currents.
+     */
+    private final DoubleArrayLogEntry steerMotorCurrentsEntry;
+
+    /**
+     * The swerve module drive motor voltages, in volts.
+     */
+    private final double[] driveMotorVoltages = new double[swerveModuleCount];
+
+    /**
+     * The swerve module steer motor voltages, in volts.
+     */
+    private final double[] steerMotorVoltages = new double[swerveModuleCount];
+
+    /**
+     * The swerve module drive motor currents, in amps.
+     */
+    private final double[] driveMotorCurrents = new double[swerveModuleCount];
+
+    /**
+     * The swerve module steer motor currents, in amps.
+     */
+    private final double[] steerMotorCurrents = new double[swerveModuleCount];
+
+    /**
+     * The log entry for the shooter velocity setpoint.
+     */
+    private final DoubleLogEntry shooterVelocitySetpointEntry;
+
+    /**
+     * The log entry for the left shooter motor velocity.
+     */
+    private final DoubleLogEntry leftShooterVelocityEntry;
+
+    /**
+     * The log entry for the right shooter motor velocity.
+     */
+    private final DoubleLogEntry rightShooterVelocityEntry;
+
+    /**
+     * The log entry for the left shooter motor voltage.
+     */
+    private final DoubleLogEntry leftShooterVoltageEntry;
+
+    /**
+     * The log entry for the right shooter motor voltage.
+     */
+    private final DoubleLogEntry rightShooterVoltageEntry;
+
+    /**
+     * The log entry for the lift motor voltage.
+     */
+    private final DoubleLogEntry liftVoltageEntry;
+
+    /**
+     * The log entry for the left shooter motor current.
+     */
+    private final DoubleLogEntry leftShooterCurrentEntry;
+
+    /**
+     * The log entry for the right shooter motor current.
+     */
+    private final DoubleLogEntry rightShooterCurrentEntry;
+
+    /**
+     * The log entry for the lift motor current.
+     */
+    private final DoubleLogEntry liftCurrentEntry;
+
+    /**
+     * The log entry for the intake motor voltage.
+     */
+    private final DoubleLogEntry intakeVoltageEntry;
+
+    /**
+     * The log entry for the intake motor current.
+     */
+    private final DoubleLogEntry intakeCurrentEntry;
+
+    /**
+     * The log entry for the amp motor voltage.
+     */
+    private final DoubleLogEntry ampVoltageEntry;
+
+    /**
+     * The log entry for the amp motor current.
+     */
+    private final DoubleLogEntry ampCurrentEntry;
+
+    /**
+     * The log entry for the left climb motor voltage.
+     */
+    private final DoubleLogEntry leftClimbVoltageEntry;
+
+    /**
+     * The log entry for the left climb motor current.
+     */
+    private final DoubleLogEntry leftClimbCurrentEntry;
+
+    /**
+     * The log entry for the right climb motor voltage.
+     */
+    private final DoubleLogEntry rightClimbVoltageEntry;
+
+    /**
+     * The log entry for the right climb motor current.
+     */
+    private final DoubleLogEntry rightClimbCurrentEntry;
+
+    /**
+     * The log entry for the poses of the vision measurements
+     * that were fused into the swerve drive position estimator.
+     */
+    private final StructLogEntry<Pose2d> acceptedVisionPoseEntry;
+
+    /**
+     * The log entry for the standard deviations of the vision
+     * measurements that were fused into the swerve drive
+     * position estimator.
+     */
+    private final DoubleArrayLogEntry visionStandardDeviationsEntry;
+
+    /**
+     * The log entry for the poses of the vision measurements
+     * that were rejected.
+     */
+    private final StructLogEntry<Pose2d> rejectedVisionPoseEntry;
+
+    /**
+     * The log entry for the reasons that the vision
+     * measurements were rejected.
+     */
+    private final StringLogEntry visionRejectionReasonEntry;
+
+    /**
+     * The standard deviations of the vision measurement
+     * being recorded, in meters, meters, and radians.
+     */
+    private final double[] visionStandardDeviations = new double[3];
+
+    /**
+     * The log entry for the names of the commands that were initialized.
+     */
+    private final StringLogEntry commandInitializedEntry;
+
+    /**
+     * The log entry for the names of the commands that finished.
+     */
+    private final StringLogEntry commandFinishedEntry;
+
+    /**
+     * The log entry for the names of the commands that were interrupted.
+     */
+    private final StringLogEntry commandInterruptedEntry;
+
+    /**
+     * Gets the instance of the {@link Telemetry} class.
+     *
+     * @return The instance of the {@link Telemetry} class.
+     */
+    public static Telemetry getInstance() {
+        if (telemetry == null) {
+            telemetry = new Telemetry();
+        }
+
+        return telemetry;
+    }
+
+    /**
+     * The constructor for the {@link Telemetry} class.
+     */
+    private Telemetry() {
+        DataLog log = DataLogManager.getLog();
+
+        String prefix = IOConstants.OUTPUTS_LOG_PREFIX;
+
+        robotPoseEntry =
+            StructLogEntry.create(log, prefix + "Swerve/RobotPose", Pose2d.struct);
+
+        /*
+         * The swerve module states are struct-serialized by hand, since
+         * swerve module states hold an immutable rotation, so building
+         * them every loop would allocate.
+         */
+        log.addSchema(SwerveModuleState.struct);
+
+        String swerveModuleStatesType = SwerveModuleState.struct.getTypeString() + "[]";
+
+        measuredStatesEntry = new RawLogEntry(
+            log, prefix + "Swerve/MeasuredStates", "", swerveModuleStatesType);
+        setpointStatesEntry = new RawLogEntry(
+            log, prefix + "Swerve/SetpointStates", "", swerveModuleStatesType);
+
+        driveMotorVoltagesEntry =
+            new DoubleArrayLogEntry(log, prefix + "Swerve/DriveMotorVoltages");
+        steerMotorVoltagesEntry =
+            new DoubleArrayLogEntry(log, prefix + "Swerve/SteerMotorVoltages");
+        driveMotorCurrentsEntry =
+            new DoubleArrayLogEntry(log, prefix + "Swerve/DriveMotorCurrents");
+        steerMotorCurrentsEntry =
+            new DoubleArrayLogEntry(log, prefix + "Swerve/SteerMotorCurrents");
+
+        shooterVelocitySetpointEntry =
+            new DoubleLogEntry(log, prefix + "Shooter/VelocitySetpoint");
+        leftShooterVelocityEntry =
+            new DoubleLogEntry(log, prefix + "Shooter/LeftVelocity");
+        rightShooterVelocityEntry =
+            new DoubleLogEntry(log, prefix + "Shooter/RightVelocity");
+
+        leftShooterVoltageEntry = new DoubleLogEntry(log, prefix + "Shooter/LeftVoltage");
+        rightShooterVoltageEntry = new DoubleLogEntry(log, prefix + "Shooter/RightVoltage");
+        liftVoltageEntry = new DoubleLogEntry(log, prefix + "Shooter/LiftVoltage");
+        intakeVoltageEntry = new DoubleLogEntry(log, prefix + "Intake/Voltage");
+        ampVoltageEntry = new DoubleLogEntry(log, prefix + "Amp/Voltage");
+        leftClimbVoltageEntry = new DoubleLogEntry(log, prefix + "LeftClimb/Voltage");
+        rightClimbVoltageEntry = new DoubleLogEntry(log, prefix + "RightClimb/Voltage");
+
+        leftShooterCurrentEntry = new DoubleLogEntry(log, prefix + "Shooter/LeftCurrent");
+        rightShooterCurrentEntry = new DoubleLogEntry(log, prefix + "Shooter/RightCurrent");
+        liftCurrentEntry = new DoubleLogEntry(log, prefix + "Shooter/LiftCurrent");
+        intakeCurrentEntry = new DoubleLogEntry(log, prefix + "Intake/Current");
+        ampCurrentEntry = new DoubleLogEntry(log, prefix + "Amp/Current");
+        leftClimbCurrentEntry = new DoubleLogEntry(log, prefix + "LeftClimb/Current");
+        rightClimbCurrentEntry = new DoubleLogEntry(log, prefix + "RightClimb/Current");
+
+        acceptedVisionPoseEntry =
+            StructLogEntry.create(log, prefix + "Vision/AcceptedPose", Pose2d.struct);
+        rejectedVisionPoseEntry =
+            StructLogEntry.create(log, prefix + "Vision/RejectedPose", Pose2d.struct);
+        visionRejectionReasonEntry =
+            new StringLogEntry(log, prefix + "Vision/RejectionReason");
+        visionStandardDeviationsEntry =
+            new DoubleArrayLogEntry(log, prefix + "Vision/StandardDeviations");
+
+        commandInitializedEntry =
+            new StringLogEntry(log, prefix + "Commands/Initialized");
+        commandFinishedEntry =
+            new StringLogEntry(log, prefix + "Commands/Finished");
+        commandInterruptedEntry =
+            new StringLogEntry(log, prefix + "Commands/Interrupted");
+
+        // Record the command lifecycle events as they happen.
+        CommandScheduler commandScheduler = CommandScheduler.getInstance();
+
+        commandScheduler.onCommandInitialize(
+            command -> commandInitializedEntry.append(command.getName()));
+        commandScheduler.onCommandFinish(
+            command -> commandFinishedEntry.append(command.getName()));
+        commandScheduler.onCommandInterrupt(
+            command -> commandInterruptedEntry.append(command.getName()));
+    }
+
+    /**
+     * Records a vision measurement, together with whether or not it was
+     * fused into the swerve drive position estimator, at the timestamp
+     * of the vision measurement.
+     *
+     * @param measurement The vision measurement.
+     * @param rejectionReason The reason that the vision measurement
+     * was rejected, or null if it was fused.
+     */
+    public void recordVisionMeasurement(
+            VisionMeasurement measurement,
+            VISION_REJECTION_REASON rejectionReason) {
+        long timestamp = (long) (measurement.getTimestampSeconds() * 1e6);
+
+        if (rejectionReason == null) {
+            acceptedVisionPoseEntry.append(measurement.getPose2d(), timestamp);
+
+            for (int i = 0; i < visionStandardDeviations.length; i++) {
+                visionStandardDeviations[i] = measurement.getStandardDeviations().get(i, 0);
+            }
+
+            visionStandardDeviationsEntry.append(visionStandardDeviations, timestamp);
+        } else {
+            rejectedVisionPoseEntry.append(measurement.getPose2d(), timestamp);
+            visionRejectionReasonEntry.append(rejectionReason.name(), timestamp);
+        }
+    }
+
+    /**
+     * Struct-serializes the given swerve module speeds and angles as an
+     * array of swerve module states and appends them to the given entry.
+     *
+     * @param entry The log entry to append the swerve module states to.
+     * @param swerveModules The swerve modules.
+     * @param isSetpoint Whether to serialize the swerve module setpoints
+     * instead of the measured swerve module states.
+     */
+    private void appendSwerveModuleStates(
+            RawLogEntry entry,
+            SwerveModule[] swerveModules,
+            boolean isSetpoint) {
+        int size = SwerveModuleState.struct.getSize();
+
+        for (int i = 0; i < swerveModuleCount; i++) {
+            SwerveModule swerveModule = swerveModules[i];
+
+            // A swerve module state is its speed followed by its angle.
+            swerveModuleStatesBuffer.putDouble(
+                i * size,
+                isSetpoint
+                    ? swerveModule.getSetpointSpeed()
+                    : swerveModule.getDriveMotorLinearVelocity());
+            swerveModuleStatesBuffer.putDouble(
+                i * size + Double.BYTES,
+                isSetpoint
+                    ? swerveModule.getSetpointAngle()
+                    : swerveModule.getSteerEncoderAngle());
+        }
+
+        entry.append(swerveModuleStatesBytes);
+    }
+
+    /**
+     * The timed periodic method for the telemetry subsystem. This method
+     * is run by the command scheduler every 20 ms, after every other
+     * subsystem, so that it records the values from the current loop.
+     */
+    @Override
+    protected void timedPeriodic() {
+        Swerve swerve = Swerve.getInstance();
+        SwerveModule[] swerveModules = swerve.getSwerveModules();
+
+        robotPoseEntry.append(swerve.getRobotPose());
+
+        appendSwerveModuleStates(measuredStatesEntry, swerveModules, false);
+        appendSwerveModuleStates(setpointStatesEntry, swerveModules, true);
+
+        for (int i = 0; i < swerveModuleCount; i++) {
+            driveMotorVoltages[i] = swerveModules[i].getDriveMotorVoltage();
+            steerMotorVoltages[i] = swerveModules[i].getSteerMotorVoltage();
+            driveMotorCurrents[i] = swerveModules[i].getDriveMotorCurrent();
+            steerMotorCurrents[i] = swerveModules[i].getSteerMotorCurrent();
+        }
+
+        driveMotorVoltagesEntry.append(driveMotorVoltages);
+        steerMotorVoltagesEntry.append(steerMotorVoltages);
+        driveMotorCurrentsEntry.append(driveMotorCurrents);
+        steerMotorCurrentsEntry.append(steerMotorCurrents);
+
+        ShooterIOInputs shooterInputs = Shooter.getInstance().getInputs();
+
+        shooterVelocitySetpointEntry.append(Shooter.getInstance().getShooterVelocitySetpoint());
+        leftShooterVelocityEntry.append(shooterInputs.leftShooterVelocity);
+        rightShooterVelocityEntry.append(shooterInputs.rightShooterVelocity);
+        leftShooterVoltageEntry.append(shooterInputs.leftShooterVoltage);
+        rightShooterVoltageEntry.append(shooterInputs.rightShooterVoltage);
+        liftVoltageEntry.append(shooterInputs.liftVoltage);
+        leftShooterCurrentEntry.append(shooterInputs.leftShooterCurrent);
+        rightShooterCurrentEntry.append(shooterInputs.rightShooterCurrent);
+        liftCurrentEntry.append(shooterInputs.liftCurrent);
+
+        IntakeIOInputs intakeInputs = Intake.getInstance().getInputs();
+
+        intakeVoltageEntry.append(intakeInputs.intakeVoltage);
+        intakeCurrentEntry.append(intakeInputs.intakeCurrent);
+
+        AmpIOInputs ampInputs = Amp.getInstance().getInputs();
+
+        ampVoltageEntry.append(ampInputs.ampVoltage);
+        ampCurrentEntry.append(ampInputs.ampCurrent);
+
+        ClimbIOInputs leftClimbInputs = LeftClimb.getInstance().getInputs();
+        ClimbIOInputs rightClimbInputs = RightClimb.getInstance().getInputs();
+
+        leftClimbVoltageEntry.append(leftClimbInputs.climbVoltage);
+        leftClimbCurrentEntry.append(leftClimbInputs.climbCurrent);
+        rightClimbVoltageEntry.append(rightClimbInputs.climbVoltage);
+        rightClimbCurrentEntry.append(rightClimbInputs.climbCurrent);
+    }
+}
@@ -0,0 +1,40 @@
+package frc.robot.subsystems;
+
+import edu.wpi.first.wpilibj2.command.SubsystemBase;
+import frc.robot.helpers.LoopTimer;
+
+/**
+ * The base class for a subsystem whose periodic method is timed
+ * by the {@link LoopTimer}.
+ * <br></br>
+ * Subsystems override {@link #timedPeriodic()} instead of
+ * {@link #periodic()}, and the time it takes is recorded
+ * under the name of the subsystem.
+ */
+public abstract class TimedSubsystem extends SubsystemBase {
+    /**
+     * The loop timer channel for the subsystem periodic method.
+     */
+    private final LoopTimer.Channel periodicChannel =
+        LoopTimer.getInstance().getChannel("Subsystems/" + getName());
+
+    /**
+     * The periodic method for the subsystem. This method is run
+     * by the command scheduler every 20 ms, and it times
+     * {@link #timedPeriodic()}.
+     */
+    @Override
+    public final void periodic() {
+        periodicChannel.start();
+
+        timedPeriodic();
+
+        periodicChannel.stop();
+    }
+
+    /**
+     * The timed periodic method for the subsystem. This method is
+     * run by {@link #periodic()} every 20 ms.
+     */
+    protected void timedPeriodic() {}
+}
@@ -0,0 +1,225 @@
+package frc.robot.subsystems;
+
+import org.photonvision.EstimatedRobotPose;
+import org.photonvision.targeting.PhotonTrackedTarget;
+
+import edu.wpi.first.math.Matrix;
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Pose3d;
+import edu.wpi.first.math.numbers.N1;
+import edu.wpi.first.math.numbers.N3;
+import frc.robot.Constants.ApriltagConstants;
+
+/**
+ * The class for a vision measurement of the robot pose.
+ * <br></br>
+ * Holds an estimated robot pose together with the standard deviations
+ * that it should be fused into the swerve drive position estimator with.
+ * The standard deviations are computed from the number of tags used,
+ * the average distance to the tags, and the pose ambiguity, so that
+ * single-tag solves at long range are trusted much less than
+ * close multi-tag solves.
+ */
+public final class VisionMeasurement {
+    /**
+     * The estimated robot pose.
+     */
+    private final Pose3d pose;
+
+    /**
+     * The timestamp of the estimated robot pose, in seconds.
+     */
+    private final double timestampSeconds;
+
+    /**
+     * The number of tags used to estimate the robot pose.
+     */
+    private final int tagCount;
+
+    /**
+     * The average distance from the camera to the tags, in meters.
+     */
+    private final double averageTagDistance;
+
+    /**
+     * The largest pose ambiguity of the tags.
+     */
+    private final double maxAmbiguity;
+
+    /**
+     * The standard deviations of the x, y, and rotation of the
+     * estimated robot pose, in meters, meters, and radians.
+     */
+    private final Matrix<N3, N1> standardDeviations;
+
+    /**
+     * The constructor for the {@link VisionMeasurement} class.
+     * Constructs a vision measurement from an estimated robot pose
+     * and computes its standard deviations.
+     *
+     * @param estimatedPose The estimated robot pose.
+     */
+    public VisionMeasurement(EstimatedRobotPose estimatedPose) {
+        pose = estimatedPose.estimatedPose;
+        timestampSeconds = estimatedPose.timestampSeconds;
+
+        tagCount = estimatedPose.targetsUsed.size();
+
+        double totalTagDistance = 0.0;
+        double largestAmbiguity = 0.0;
+
+        for (PhotonTrackedTarget target : estimatedPose.targetsUsed) {
+            totalTagDistance += target.getBestCameraToTarget().getTranslation().getNorm();
+
+            /*
+             * The pose ambiguity is -1 when it is not computed,
+             * which is the case for multi-tag solves.
+             */
+            largestAmbiguity = Math.max(largestAmbiguity, target.getPoseAmbiguity());
+        }
+
+        averageTagDistance = tagCount == 0 ? 0.0 : totalTagDistance / tagCount;
+        maxAmbiguity = largestAmbiguity;
+
+        standardDeviations = computeStandardDeviations();
+    }
+
+    /**
+     * The constructor for the {@link VisionMeasurement} class.
+     * Constructs a vision measurement from an estimated robot pose
+     * and the tags that it was estimated from, which is how vision
+     * measurements are rebuilt from the apriltag camera inputs, and
+     * computes its standard deviations.
+     *
+     * @param pose The estimated robot pose.
+     * @param timestampSeconds The timestamp of the estimated robot
+     * pose, in seconds.
+     * @param tagCount The number of tags used to estimate the robot pose.
+     * @param averageTagDistance The average distance from the camera
+     * to the tags, in meters.
+     * @param maxAmbiguity The largest pose ambiguity of the tags.
+     */
+    public VisionMeasurement(
+            Pose3d pose,
+            double timestampSeconds,
+            int tagCount,
+            double averageTagDistance,
+            double maxAmbiguity) {
+        this.pose = pose;
+        this.timestampSeconds = timestampSeconds;
+        this.tagCount = tagCount;
+        this.averageTagDistance = averageTagDistance;
+        this.maxAmbiguity = maxAmbiguity;
+
+        standardDeviations = computeStandardDeviations();
+    }
+
+    /**
+     * Computes the standard deviations of the estimated robot pose.
+     * <br></br>
+     * Starts from the single-tag or multi-tag standard deviations,
+     * scales them up with the square of the average tag distance,
+     * and, for single-tag solves, scales them up with the pose
+     * ambiguity. Single-tag solves that are too far away or too
+     * ambiguous are given infinite standard deviations, so that
+     * they are not fused at all (see {@link #isUsable()}).
+     *
+     * @return The standard deviations of the estimated robot pose.
+     */
+    private Matrix<N3, N1> computeStandardDeviations() {
+        if (tagCount == 0) {
+            return ApriltagConstants.SINGLE_TAG_STD_DEVS.times(Double.POSITIVE_INFINITY);
+        }
+
+        if (tagCount == 1) {
+            if (averageTagDistance > ApriltagConstants.MAX_SINGLE_TAG_DISTANCE
+                    || maxAmbiguity > ApriltagConstants.MAX_SINGLE_TAG_AMBIGUITY) {
+                return ApriltagConstants.SINGLE_TAG_STD_DEVS.times(Double.POSITIVE_INFINITY);
+            }
+
+            return ApriltagConstants.SINGLE_TAG_STD_DEVS.times(
+                (1.0 + averageTagDistance * averageTagDistance
+                    * ApriltagConstants.DISTANCE_STD_DEV_SCALE)
+                * (1.0 + maxAmbiguity * ApriltagConstants.AMBIGUITY_STD_DEV_SCALE));
+        }
+
+        return ApriltagConstants.MULTI_TAG_STD_DEVS.times(
+            1.0 + averageTagDistance * averageTagDistance
+                * ApriltagConstants.DISTANCE_STD_DEV_SCALE);
+    }
+
+    /**
+     * Gets the estimated robot pose.
+     *
+     * @return The estimated robot pose.
+     */
+    public Pose3d getPose() {
+        return pose;
+    }
+
+    /**
+     * Gets the estimated robot pose projected onto the field.
+     *
+     * @return The estimated robot pose projected onto the field.
+     */
+    public Pose2d getPose2d() {
+        return pose.toPose2d();
+    }
+
+    /**
+     * Gets the timestamp of the estimated robot pose.
+     *
+     * @return The timestamp of the estimated robot pose, in seconds.
+     */
+    public double getTimestampSeconds() {
+        return timestampSeconds;
+    }
+
+    /**
+     * Gets the number of tags used to estimate the robot pose.
+     *
+     * @return The number of tags used to estimate the robot pose.
+     */
+    public int getTagCount() {
+        return tagCount;
+    }
+
+    /**
+     * Gets the average distance from the camera to the tags.
+     *
+     * @return The average distance from the camera to the tags, in meters.
+     */
+    public double getAverageTagDistance() {
+        return averageTagDistance;
+    }
+
+    /**
+     * Gets the largest pose ambiguity of the tags.
+     *
+     * @return The largest pose ambiguity of the tags.
+     */
+    public double getMaxAmbiguity() {
+        return maxAmbiguity;
+    }
+
+    /**
+     * Gets whether or not the vision measurement has finite standard
+     * deviations, which means that it should be fused into the swerve
+     * drive position estimator at all.
+     *
+     * @return Whether or not the vision measurement should be fused.
+     */
+    public boolean isUsable() {
+        return Double.isFinite(standardDeviations.get(0, 0));
+    }
+
+    /**
+     * Gets the standard deviations of the estimated robot pose.
+     *
+     * @return The standard deviations of the x, y, and rotation of the
+     * estimated robot pose, in meters, meters, and radians.
+     */
+    public Matrix<N3, N1> getStandardDeviations() {
+        return standardDeviations;
+    }
+}
@@ -0,0 +1,219 @@
+package frc.robot.subsystems;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+import edu.wpi.first.hal.HAL;
+import edu.wpi.first.math.geometry.Rotation2d;
+import edu.wpi.first.math.kinematics.SwerveModuleState;
+import frc.robot.Constants.IOConstants;
+import frc.robot.Constants.SwerveConstants;
+import frc.robot.io.ReplaySource;
+import frc.robot.io.SwerveModuleIO.SwerveModuleIOInputs;
+
+/**
+ * The tests for the allocations of the swerve drive subsystem.
+ * <br></br>
+ * Builds the real swerve drive subsystem with its replay IO layers,
+ * and feeds it sensor readings that change every loop, so that every
+ * angle, position, and velocity is new each loop, the same as on the
+ * robot. Each loop is run enough times first for every class to be
+ * loaded, and then the loops are checked not to allocate at all, as
+ * measured by the thread allocation counter.
+ */
+public class SwerveAllocationTest {
+    /**
+     * The number of loops that are run before checking.
+     */
+    private static final int WARMUP_LOOPS = 20_000;
+
+    /**
+     * The number of loops that are checked.
+     */
+    private static final int CHECK_LOOPS = 20_000;
+
+    /**
+     * The number of loops that the sensor readings,
+     * the joystick inputs, and the swerve module
+     * states cycle through.
+     */
+    private static final int INPUT_PERIOD = 1024;
+
+    /**
+     * The swerve drive subsystem.
+     */
+    private static Swerve swerve;
+
+    /**
+     * The swerve modules of the swerve drive subsystem.
+     */
+    private static SwerveModule[] swerveModules;
+
+    /**
+     * The flattened swerve module inputs of each loop, by loop
+     * and then by swerve module.
+     */
+    private static double[][][] inputValues;
+
+    /**
+     * The swerve module states of each loop.
+     */
+    private static SwerveModuleState[][] swerveModuleStates;
+
+    /**
+     * The loop counter used to vary the inputs.
+     */
+    private static int loop = 0;
+
+    /**
+     * The sum of the values read by the loops, which is kept so
+     * that the reads cannot be optimized away.
+     */
+    private static double sink = 0.0;
+
+    /**
+     * Starts the simulated HAL in replay, builds the swerve drive
+     * subsystem, and builds the inputs of each loop up front.
+     */
+    @BeforeAll
+    public static void setup() {
+        System.setProperty(IOConstants.REPLAY_LOG_PROPERTY, "");
+
+        HAL.initialize(500, 0);
+
+        swerve = Swerve.getInstance();
+        swerveModules = swerve.getSwerveModules();
+
+        SwerveModuleIOInputs inputs = new SwerveModuleIOInputs();
+
+        inputValues = new double[INPUT_PERIOD][swerveModules.length][inputs.getLength()];
+        swerveModuleStates = new SwerveModuleState[INPUT_PERIOD][swerveModules.length];
+
+        for (int i = 0; i < INPUT_PERIOD; i++) {
+            for (int j = 0; j < swerveModules.length; j++) {
+                inputs.driveMotorLinearPosition = 0.02 * i + 1.5 * j;
+                inputs.driveMotorLinearVelocity = 2.0 * Math.sin(i * 0.01 + j);
+                inputs.steerEncoderAngle = Math.PI + Math.PI * Math.cos(i * 0.013 + j);
+                inputs.steerEncoderRawAngle = inputs.steerEncoderAngle;
+
+                inputs.toArray(inputValues[i][j]);
+
+                swerveModuleStates[i][j] = new SwerveModuleState(
+                    3.0 * Math.cos(i * 0.017 + j),
+                    Rotation2d.fromRadians(Math.PI * Math.sin(i * 0.011 + j)));
+            }
+        }
+    }
+
+    /**
+     * Gets the next joystick input on the interval [-1, 1].
+     *
+     * @param phase The phase offset of the input.
+     *
+     * @return The next joystick input.
+     */
+    private static double getInput(int phase) {
+        return Math.sin(2.0 * Math.PI * ((loop + phase) % INPUT_PERIOD) / INPUT_PERIOD);
+    }
+
+    /**
+     * Updates the swerve module inputs with the
+     * next sensor readings and reads them back.
+     */
+    private static void updateInputs() {
+        loop++;
+
+        ReplaySource replaySource = ReplaySource.getInstance();
+
+        for (int i = 0; i < swerveModules.length; i++) {
+            replaySource.put(swerveModules[i].getName(), inputValues[loop % INPUT_PERIOD][i]);
+
+            swerveModules[i].updateInputs();
+        }
+
+        sink += swerve.getChassisSpeeds().omegaRadiansPerSecond;
+
+        for (SwerveModule swerveModule : swerveModules) {
+            sink += swerveModule.getDriveMotorLinearVelocity()
+                + swerveModule.getDriveMotorLinearPosition()
+                + swerveModule.getSteerEncoderAngle();
+        }
+    }
+
+    /**
+     * Runs the given loop for the warmup loops, and then gets the
+     * number of bytes that it allocates over the checked loops.
+     *
+     * @param runnable The loop.
+     *
+     * @return The number of bytes allocated over the checked loops.
+     */
+    private static long getAllocatedBytes(Runnable runnable) {
+        for (int i = 0; i < WARMUP_LOOPS; i++) {
+            runnable.run();
+        }
+
+        ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        long startBytes = threadBean.getCurrentThreadAllocatedBytes();
+
+        for (int i = 0; i < CHECK_LOOPS; i++) {
+            runnable.run();
+        }
+
+        return threadBean.getCurrentThreadAllocatedBytes() - startBytes;
+    }
+
+    /**
+     * Checks that reading the swerve drive state does not allocate.
+     */
+    @Test
+    public void stateLoopDoesNotAllocate() {
+        assertEquals(0, getAllocatedBytes(SwerveAllocationTest::updateInputs));
+    }
+
+    /**
+     * Checks that driving field relative with the joysticks does not allocate.
+     */
+    @Test
+    public void driveLoopDoesNotAllocate() {
+        assertEquals(0, getAllocatedBytes(() -> {
+            updateInputs();
+
+            swerve.drive(getInput(0), getInput(256), getInput(512));
+        }));
+    }
+
+    /**
+     * Checks that driving robot relative does not allocate.
+     */
+    @Test
+    public void driveRobotRelativeLoopDoesNotAllocate() {
+        assertEquals(0, getAllocatedBytes(() -> {
+            updateInputs();
+
+            swerve.driveRobotRelative(
+                getInput(0) * SwerveConstants.MAX_VELOCITY,
+                getInput(256) * SwerveConstants.MAX_VELOCITY,
+                getInput(512) * SwerveConstants.MAX_ROTATIONAL_VELOCITY);
+        }));
+    }
+
+    /**
+     * Checks that setting the swerve module states does not allocate.
+     */
+    @Test
+    public void swerveModuleStatesLoopDoesNotAllocate() {
+        assertEquals(0, getAllocatedBytes(() -> {
+            updateInputs();
+
+            swerve.setSwerveModuleStates(swerveModuleStates[loop % INPUT_PERIOD]);
+        }));
+    }
+}